@@ -282,6 +282,10 @@ public class DefaultTokenSearch implements TokenSearch {
      */
     @Override
     public void getTokenWords(String input, String zone, Collection<String> synonyms) {
+        if (!hasTokenWordSeparator(input)) {
+            // the only word would be the input itself, so avoid splitting most terms
+            return;
+        }
         // Now treat it as a bucket of words so that double quotes phrases can work too
         for (String word : getTokenWords(input)) {
             if (!word.isEmpty() && !isStop(word) && !word.equals(input)) {
@@ -300,6 +304,20 @@ public class DefaultTokenSearch implements TokenSearch {
         return tokenWordPtrn.split(input, 0);
     }
     
+    /**
+     * @param input
+     * @return true if the input contains a char matched by the token word pattern, which are all of the ASCII chars other than letters and digits
+     */
+    static boolean hasTokenWordSeparator(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c < 0x80 && !((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9'))) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     /*
      * (non-Javadoc)
      * 
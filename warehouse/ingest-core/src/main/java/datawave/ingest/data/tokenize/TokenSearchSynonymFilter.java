@@ -2,6 +2,8 @@ package datawave.ingest.data.tokenize;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Queue;
 
@@ -32,6 +34,9 @@ public class TokenSearchSynonymFilter extends TokenFilter {
     private final Queue<OutputTuple> output = new PriorityQueue<>(24);
     private final String[] zw = {"", ""};
     
+    /** the synonym type for each term type */
+    private final Map<String,String> synonymTypes = new HashMap<>();
+    
     public TokenSearchSynonymFilter(TokenStream input, TokenSearch searchUtil) {
         super(input);
         this.searchUtil = searchUtil;
@@ -73,11 +78,8 @@ public class TokenSearchSynonymFilter extends TokenFilter {
                 return false;
             }
             
-            State baseState = captureState();
-            
             int synonymCount = generateSynonyms();
             
-            restoreState(baseState);
             if (synonymCount > 0 && synonymPositionsEnabled) {
                 int currentLength = posLenAtt.getPositionLength();
                 posLenAtt.setPositionLength(Math.max(synonymCount, currentLength));
@@ -86,6 +88,11 @@ public class TokenSearchSynonymFilter extends TokenFilter {
         }
     }
     
+    /**
+     * Buffer the synonyms of the current term, leaving the attributes of the current term as they were
+     * 
+     * @return the number of synonyms
+     */
     protected int generateSynonyms() {
         String type = typeAtt.type();
         
@@ -93,14 +100,16 @@ public class TokenSearchSynonymFilter extends TokenFilter {
         zw[1] = ""; // placeholder for zone, unused in DefaultTokenSearch
         
         Collection<String> synonyms = searchUtil.getSynonyms(zw, type, false);
+        if (synonyms.isEmpty()) {
+            // most terms have no synonyms, so don't capture their state
+            return 0;
+        }
+        
+        State baseState = captureState();
         int position = 0;
         
         // create output type for synonyms
-        if (type.startsWith("<") && type.endsWith(">")) {
-            type = "<" + type.substring(1, type.length() - 1) + "_SYNONYM>";
-        } else {
-            type = type + "_SYNONYM";
-        }
+        type = synonymTypes.computeIfAbsent(type, TokenSearchSynonymFilter::getSynonymType);
         
         // TODO: it would be nice to capture proper character offset
         // information here, but that would require a significant change in
@@ -108,8 +117,7 @@ public class TokenSearchSynonymFilter extends TokenFilter {
         // is that of the term from which it is derived.
         
         for (String synonym : synonyms) {
-            char[] cc = synonym.toCharArray();
-            termAtt.copyBuffer(cc, 0, cc.length);
+            termAtt.setEmpty().append(synonym);
             typeAtt.setType(type);
             
             posLenAtt.setPositionLength(1);
@@ -122,14 +130,29 @@ public class TokenSearchSynonymFilter extends TokenFilter {
                 posLenAtt.setPositionLength(1);
             }
             
-            captureTuple(position++);
+            captureTuple(synonym, position++);
         }
+        
+        restoreState(baseState);
         return position;
     }
     
+    private static String getSynonymType(String type) {
+        if (type.startsWith("<") && type.endsWith(">")) {
+            return "<" + type.substring(1, type.length() - 1) + "_SYNONYM>";
+        } else {
+            return type + "_SYNONYM";
+        }
+    }
+    
     /** Capture information about the tuple to the output buffer */
     protected void captureTuple(int position) {
-        output.add(new OutputTuple(termAtt.toString(), position, offsetAtt.startOffset(), offsetAtt.endOffset() - offsetAtt.startOffset(), captureState()));
+        captureTuple(termAtt.toString(), position);
+    }
+    
+    /** Capture information about the tuple, whose term is already known, to the output buffer */
+    protected void captureTuple(String term, int position) {
+        output.add(new OutputTuple(term, position, offsetAtt.startOffset(), offsetAtt.endOffset() - offsetAtt.startOffset(), captureState()));
     }
     
     /** Restore captured state to the Lucene attributes */
@@ -27,6 +27,7 @@ import datawave.ingest.mapreduce.job.metrics.MetricsConfiguration;
 import datawave.ingest.mapreduce.job.metrics.MetricsService;
 import datawave.ingest.mapreduce.job.metrics.ReusableMetricsLabels;
 import datawave.ingest.mapreduce.job.statsd.StatsDEnabledMapper;
+import datawave.ingest.mapreduce.job.writer.BufferingContextWriter;
 import datawave.ingest.mapreduce.job.writer.BulkContextWriter;
 import datawave.ingest.mapreduce.job.writer.ContextWriter;
 import datawave.ingest.mapreduce.job.writer.LiveContextWriter;
@@ -44,6 +45,8 @@ import datawave.util.time.TraceStopwatch;
 import org.apache.accumulo.core.data.Mutation;
 import org.apache.accumulo.core.data.Value;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.Writable;
+import org.apache.hadoop.io.WritableUtils;
 import org.apache.hadoop.mapreduce.Counter;
 import org.apache.hadoop.mapreduce.CounterGroup;
 import org.apache.hadoop.mapreduce.Counters;
@@ -53,9 +56,11 @@ import org.apache.log4j.Logger;
 import org.apache.log4j.NDC;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -66,7 +71,12 @@ import java.util.Set;
 import java.util.SortedMap;
 import java.util.Stack;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  *
@@ -78,9 +88,13 @@ import java.util.concurrent.TimeUnit;
  * is within the window, then the map will parse the Event into a map of field names and field values, the map method will call the process() method on each
  * DataTypeHandler implementation that has been configured for the Type of Event.
  *
- * This class no longer supports processing events in a multi-threaded fashion as that was proven to NOT be beneficial in the long run (i.e. The bulk of the
- * time is spent in the ContextWriter which is synchronized. Also multithreading mean potentially more memory use which we should already be maximizing per
- * machine in the hadoop map-reduce cluster.)
+ * By default events are processed on the mapper thread, as the bulk of the time is often spent in the ContextWriter, and multithreading means more memory use
+ * which we should already be maximizing per machine in the hadoop map-reduce cluster. When the EVENT_PROCESSING_THREADS parameter is greater than one, each
+ * event is instead processed on a pool of worker threads, each with its own instances of the DataTypeHandlers. The output of each event is held until it has
+ * been processed and is then written to the ContextWriter from the mapper thread, in the order the events were read, so the ContextWriter is not shared
+ * between threads. At most MAX_PENDING_EVENTS events are read ahead of the oldest event still being processed. This lets a single map task use the cores of a
+ * machine rather than running more map tasks, each with their own configuration and caches. Events are processed on the mapper thread when metrics are
+ * enabled, as the metrics service is not shared between threads. Each worker writes the metadata of its handlers when the mapper is cleaned up.
  *
  *
  *
@@ -127,6 +141,16 @@ public class EventMapper<K1,V1 extends RawRecordContainer,K2,V2> extends StatsDE
     
     public static final String ID_FILTER_FSTS = "ingest.event.mapper.id.filter.fsts";
     
+    /**
+     * The number of threads to process events on. Events are processed on the mapper thread unless greater than one.
+     */
+    public static final String EVENT_PROCESSING_THREADS = "ingest.event.mapper.threads";
+    
+    /**
+     * The max number of events read ahead of the oldest event still being processed, defaulting to ten per thread.
+     */
+    public static final String MAX_PENDING_EVENTS = "ingest.event.mapper.max.pending.events";
+    
     protected Map<String,List<DataTypeHandler<K1>>> typeMap = new HashMap<>();
     
     /**
@@ -160,6 +184,13 @@ public class EventMapper<K1,V1 extends RawRecordContainer,K2,V2> extends StatsDE
     private MetricsService<K2,V2> metricsService;
     private ReusableMetricsLabels metricsLabels;
     
+    // the threads processing events, or null if processed on the mapper thread
+    private ExecutorService workerPool = null;
+    private int maxPendingEvents = 0;
+    private final ArrayDeque<Future<BufferingContextWriter<K2,V2>>> pendingEvents = new ArrayDeque<>();
+    private final ThreadLocal<EventMapper<K1,V1,K2,V2>> worker = new ThreadLocal<>();
+    private final List<EventMapper<K1,V1,K2,V2>> workers = Collections.synchronizedList(new ArrayList<>());
+    
     /**
      * Set up the datatype handlers
      */
@@ -275,13 +306,61 @@ public class EventMapper<K1,V1 extends RawRecordContainer,K2,V2> extends StatsDE
         
         offset = 0;
         
+        int threads = context.getConfiguration().getInt(EVENT_PROCESSING_THREADS, 1);
+        if (threads > 1) {
+            if (metricsEnabled) {
+                log.warn("Processing events on the mapper thread rather than " + threads + " threads as metrics are enabled");
+            } else {
+                maxPendingEvents = context.getConfiguration().getInt(MAX_PENDING_EVENTS, threads * 10);
+                AtomicInteger threadNum = new AtomicInteger(1);
+                workerPool = Executors.newFixedThreadPool(threads, r -> {
+                    Thread thread = new Thread(r, "EventMapper worker " + threadNum.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+        }
+        
         if (log.isInfoEnabled()) {
             log.info("EventMapper configured. Bulk Ingest = true");
             log.info("EventMapper configured with the following filters: " + getDataTypeFilterClassNames());
+            if (workerPool != null) {
+                log.info("EventMapper configured to process events on " + threads + " threads with up to " + maxPendingEvents + " pending events");
+            }
         }
         
     }
     
+    /**
+     * Create a mapper to process events on a worker thread. It shares the configuration of this mapper, but loads its own handlers and validators as they are
+     * not thread safe, and its context writer is set for each event.
+     *
+     * @return the worker
+     */
+    protected EventMapper<K1,V1,K2,V2> createWorker() {
+        EventMapper<K1,V1,K2,V2> eventWorker = new EventMapper<>();
+        eventWorker.helper = helper;
+        eventWorker.split = split;
+        eventWorker.splitStart = splitStart;
+        eventWorker.markingFunctions = markingFunctions;
+        eventWorker.interval = interval;
+        eventWorker.createSequenceFileName = createSequenceFileName;
+        eventWorker.trimSequenceFileName = trimSequenceFileName;
+        eventWorker.createRawFileName = createRawFileName;
+        eventWorker.validators = ArrayListMultimap.create();
+        return eventWorker;
+    }
+    
+    private EventMapper<K1,V1,K2,V2> getWorker() {
+        EventMapper<K1,V1,K2,V2> eventWorker = worker.get();
+        if (eventWorker == null) {
+            eventWorker = createWorker();
+            worker.set(eventWorker);
+            workers.add(eventWorker);
+        }
+        return eventWorker;
+    }
+    
     /**
      * Get the data type handlers for a given type name. This will also fill the dataTypeDiscardIntervalCache and the validators as a side effect.
      *
@@ -379,6 +458,123 @@ public class EventMapper<K1,V1 extends RawRecordContainer,K2,V2> extends StatsDE
     }
     
     public void map(K1 key, V1 value, Context context) throws IOException, InterruptedException {
+        countRawDataBytes(value, context);
+        
+        if (workerPool != null) {
+            submitEvent(key, value, context);
+        } else {
+            processRecord(key, value, context);
+        }
+    }
+    
+    private void countRawDataBytes(V1 value, Context context) {
+        byte[] rawData = value.getRawData();
+        if (rawData != null) {
+            long rawDataBytes = rawData.length;
+            getCounter(context, IngestInput.LINE_BYTES.toString(), "TOTAL").increment(rawDataBytes);
+            long minBytes = getCounter(context, IngestInput.LINE_BYTES.toString(), "MIN").getValue();
+            if (rawDataBytes < minBytes) {
+                getCounter(context, IngestInput.LINE_BYTES.toString(), "MIN").setValue(rawDataBytes);
+            }
+            long maxBytes = getCounter(context, IngestInput.LINE_BYTES.toString(), "MAX").getValue();
+            if (rawDataBytes > maxBytes) {
+                getCounter(context, IngestInput.LINE_BYTES.toString(), "MAX").setValue(rawDataBytes);
+            }
+        }
+    }
+    
+    /**
+     * Process an event on a worker thread. The events which have been processed are then written out in the order they were read, waiting on the oldest event
+     * if too many are pending.
+     *
+     * @param key
+     * @param value
+     * @param context
+     * @throws IOException
+     * @throws InterruptedException
+     */
+    @SuppressWarnings("unchecked")
+    private void submitEvent(K1 key, V1 value, Context context) throws IOException, InterruptedException {
+        // the record reader may reuse the key and value
+        final K1 eventKey = (key instanceof Writable ? (K1) WritableUtils.clone((Writable) key, context.getConfiguration()) : key);
+        final V1 event = (V1) value.copy();
+        
+        // the offset is only advanced by events which are not too old, as when processed on the mapper thread
+        final long eventOffset = offset;
+        Long myInterval = dataTypeDiscardIntervalCache.computeIfAbsent(value.getDataType().typeName(),
+                        typeStr -> context.getConfiguration().getLong(typeStr + "." + DISCARD_INTERVAL, interval));
+        if (!isOldEvent(value, myInterval)) {
+            offset++;
+        }
+        
+        pendingEvents.add(workerPool.submit(() -> {
+            EventMapper<K1,V1,K2,V2> eventWorker = getWorker();
+            BufferingContextWriter<K2,V2> buffer = new BufferingContextWriter<>();
+            eventWorker.contextWriter = buffer;
+            eventWorker.offset = eventOffset;
+            // the sequence file name is taken from the NDC of the thread
+            if (null != split) {
+                NDC.push(split.getPath().toString());
+            }
+            try {
+                eventWorker.processRecord(eventKey, event, context);
+            } finally {
+                if (null != split) {
+                    NDC.pop();
+                }
+            }
+            return buffer;
+        }));
+        
+        while (!pendingEvents.isEmpty() && (pendingEvents.peek().isDone() || pendingEvents.size() > maxPendingEvents)) {
+            writePendingEvent(pendingEvents.poll(), context);
+        }
+    }
+    
+    /**
+     * Write the output of an event processed on a worker thread, waiting for it if need be. If processing the event failed then the map fails, as it would have
+     * on the mapper thread.
+     *
+     * @param pendingEvent
+     * @param context
+     * @throws IOException
+     * @throws InterruptedException
+     */
+    private void writePendingEvent(Future<BufferingContextWriter<K2,V2>> pendingEvent, Context context) throws IOException, InterruptedException {
+        BufferingContextWriter<K2,V2> buffer;
+        try {
+            buffer = pendingEvent.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof InterruptedException) {
+                throw (InterruptedException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException("Failed to process event", cause);
+        }
+        buffer.writeTo(contextWriter, context);
+        context.progress();
+    }
+    
+    private boolean isOldEvent(RawRecordContainer value, Long myInterval) {
+        return !value.fatalError() && null != myInterval && 0L != myInterval && (value.getDate() < (now.get() - myInterval));
+    }
+    
+    /**
+     * Process an event, writing its output to the context writer
+     *
+     * @param key
+     * @param value
+     * @param context
+     * @throws IOException
+     * @throws InterruptedException
+     */
+    protected void processRecord(K1 key, V1 value, Context context) throws IOException, InterruptedException {
         
         TraceStopwatch eventMapperTimer = null;
         
@@ -404,20 +600,6 @@ public class EventMapper<K1,V1 extends RawRecordContainer,K2,V2> extends StatsDE
         // Flag to control whether a reprocessed event caused an NDC.push
         boolean reprocessedNDCPush = false;
         
-        byte[] rawData = value.getRawData();
-        if (rawData != null) {
-            long rawDataBytes = rawData.length;
-            getCounter(context, IngestInput.LINE_BYTES.toString(), "TOTAL").increment(rawDataBytes);
-            long minBytes = getCounter(context, IngestInput.LINE_BYTES.toString(), "MIN").getValue();
-            if (rawDataBytes < minBytes) {
-                getCounter(context, IngestInput.LINE_BYTES.toString(), "MIN").setValue(rawDataBytes);
-            }
-            long maxBytes = getCounter(context, IngestInput.LINE_BYTES.toString(), "MAX").getValue();
-            if (rawDataBytes > maxBytes) {
-                getCounter(context, IngestInput.LINE_BYTES.toString(), "MAX").setValue(rawDataBytes);
-            }
-        }
-        
         // First lets clear this event from the error table if we are reprocessing a previously errored event
         if (value.getAuxData() instanceof EventErrorSummary) {
             EventErrorSummary errorSummary = (EventErrorSummary) (value.getAuxData());
@@ -458,7 +640,7 @@ public class EventMapper<K1,V1 extends RawRecordContainer,K2,V2> extends StatsDE
         }
         
         // Determine whether the event date is greater than the interval. Excluding fatal error events.
-        if (!value.fatalError() && null != myInterval && 0L != myInterval && (value.getDate() < (now.get() - myInterval))) {
+        if (isOldEvent(value, myInterval)) {
             if (log.isInfoEnabled())
                 log.info("Event with time " + value.getDate() + " older than specified interval of " + (now.get() - myInterval) + ", skipping...");
             getCounter(context, IngestInput.OLD_EVENT).increment(1);
@@ -613,18 +795,30 @@ public class EventMapper<K1,V1 extends RawRecordContainer,K2,V2> extends StatsDE
     @Override
     public void cleanup(Context context) throws IOException, InterruptedException {
         
-        // Write the metadata to the output
-        for (List<DataTypeHandler<K1>> handlers : typeMap.values()) {
-            for (DataTypeHandler<K1> h : handlers)
-                if (h.getMetadata() != null) {
-                    try {
-                        contextWriter.write(h.getMetadata().getBulkMetadata(), context);
-                    } finally {
-                        contextWriter.commit(context);
+        if (workerPool != null) {
+            try {
+                // write out the remaining events, and then the metadata of the handlers of each worker
+                while (!pendingEvents.isEmpty()) {
+                    writePendingEvent(pendingEvents.poll(), context);
+                }
+                synchronized (workers) {
+                    for (EventMapper<K1,V1,K2,V2> eventWorker : workers) {
+                        BufferingContextWriter<K2,V2> buffer = new BufferingContextWriter<>();
+                        eventWorker.contextWriter = buffer;
+                        eventWorker.writeMetadata(context);
+                        buffer.writeTo(contextWriter, context);
+                        eventWorker.closeHandlers(context);
                     }
+                    workers.clear();
                 }
+            } finally {
+                workerPool.shutdownNow();
+                workerPool = null;
+            }
         }
         
+        writeMetadata(context);
+        
         // dump any unflushed metrics
         if (metricsEnabled) {
             metricsService.close();
@@ -633,6 +827,44 @@ public class EventMapper<K1,V1 extends RawRecordContainer,K2,V2> extends StatsDE
         // cleanup the context writer
         contextWriter.cleanup(context);
         
+        closeHandlers(context);
+        
+        super.cleanup(context);
+        
+        // we pushed the filename on the NDC if split is non null, so pop it here.
+        if (null != split) {
+            NDC.pop();
+        }
+    }
+    
+    /**
+     * Write the metadata of the handlers to the output
+     *
+     * @param context
+     * @throws IOException
+     * @throws InterruptedException
+     */
+    private void writeMetadata(Context context) throws IOException, InterruptedException {
+        for (List<DataTypeHandler<K1>> handlers : typeMap.values()) {
+            for (DataTypeHandler<K1> h : handlers)
+                if (h.getMetadata() != null) {
+                    try {
+                        contextWriter.write(h.getMetadata().getBulkMetadata(), context);
+                    } finally {
+                        contextWriter.commit(context);
+                    }
+                }
+        }
+    }
+    
+    /**
+     * Close the handlers, and add the counters they recorded to the context
+     *
+     * @param context
+     * @throws IOException
+     * @throws InterruptedException
+     */
+    private void closeHandlers(Context context) throws IOException, InterruptedException {
         for (List<DataTypeHandler<K1>> handlers : typeMap.values()) {
             for (DataTypeHandler<K1> h : handlers)
                 h.close(context);
@@ -646,13 +878,6 @@ public class EventMapper<K1,V1 extends RawRecordContainer,K2,V2> extends StatsDE
                 getCounter(context, cg.getName(), c.getName()).increment(c.getValue());
             }
         }
-        
-        super.cleanup(context);
-        
-        // we pushed the filename on the NDC if split is non null, so pop it here.
-        if (null != split) {
-            NDC.pop();
-        }
     }
     
     /**
@@ -30,7 +30,8 @@ public class ContentIndexCounters {
                     TOKENIZER_OFFSET_CACHE_POSITIONS_OVERFLOWED = "Tokenizer Offset Cache Positions Overflowed",
                     CONTENT_RECORDS_CREATED = "Content Records Created", TRUNCATION_COUNTER = "Truncated Tokens",
                     LENGTH_WARNING_COUNTER = "Term Length Warnings", CONTENT_RECORDS_LIVE = "Content Records Live Ingest",
-                    CONTENT_RECORDS_BULK = "Content Records Bulk Ingest";
+                    CONTENT_RECORDS_BULK = "Content Records Bulk Ingest", TOKENIZER_CONTENT_BYTES = "Tokenizer Content Bytes",
+                    TOKENIZER_CONTENT_MSEC = "Tokenizer Content Time (ms)";
     
     public static final String COUNTER_GROUP_NAME = "Content Index Counters";
     public static final String TOKENIZER_TIME_GROUP_NAME = "Tokenizer Time Counters";
@@ -63,6 +64,8 @@ public class ContentIndexCounters {
         group.put(TOKEN_OFFSET_CACHE_EXISTS, new AtomicInteger(0));
         group.put(TRUNCATION_COUNTER, new AtomicInteger(0));
         group.put(LENGTH_WARNING_COUNTER, new AtomicInteger(0));
+        group.put(TOKENIZER_CONTENT_BYTES, new AtomicInteger(0));
+        group.put(TOKENIZER_CONTENT_MSEC, new AtomicInteger(0));
     }
     
     /**
@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.zip.GZIPOutputStream;
@@ -119,6 +120,20 @@ public abstract class ExtendedContentIndexingColumnBasedHandler<KEYIN,KEYOUT,VAL
      * base64.dcolumn allows you to turn off base64 gzipped content and store gzipped bytes. If not set, base64 encoding is on by default.
      */
     public static final String OPT_BASE64 = "content.ingest.base64.dcolumn";
+    /*
+     * The number of threads writing documents to Accumulo when documents are not written to the context.
+     */
+    public static final String OPT_DOC_WRITER_THREADS = "content.ingest.documents.writer.threads";
+    /*
+     * The max bytes of documents waiting to be written to Accumulo. Once reached, processing blocks until documents have been written rather than holding more
+     * of them in memory.
+     */
+    public static final String OPT_DOC_WRITER_MAX_PENDING_BYTES = "content.ingest.documents.writer.max.pending.bytes";
+    
+    public static final int DEFAULT_DOC_WRITER_THREADS = 1;
+    public static final int DEFAULT_DOC_WRITER_MAX_PENDING_BYTES = 100000000;
+    
+    private static final double BYTES_PER_MB = 1024 * 1024;
     
     private static final Logger log = Logger.getLogger(ExtendedContentIndexingColumnBasedHandler.class);
     
@@ -139,9 +154,21 @@ public abstract class ExtendedContentIndexingColumnBasedHandler<KEYIN,KEYOUT,VAL
     protected boolean disableDCol = false;
     protected ExecutorService docWriterService;
     protected BatchWriter docWriter;
+    protected Semaphore docWriterPendingBytes;
+    protected int docWriterMaxPendingBytes = DEFAULT_DOC_WRITER_MAX_PENDING_BYTES;
     
     protected boolean tokenizerTimeWarned = false;
     
+    // tracks the time spent tokenizing the current document against the tokenizer time thresholds
+    protected int tokenizerHeartBeatCount = 0;
+    protected int tokenizerBeats = 0;
+    protected long tokenizerStart = 0;
+    protected long tokenizerContentBytes = 0;
+    
+    // the totals over all documents, used to report the tokenizer throughput
+    protected long totalContentBytesTokenized = 0;
+    protected long totalTokenizerMsec = 0;
+    
     protected boolean useBase64Encoding = true;
     
     protected Set<String> termTypeBlacklist = Collections.emptySet();
@@ -174,32 +201,7 @@ public abstract class ExtendedContentIndexingColumnBasedHandler<KEYIN,KEYOUT,VAL
         }
         
         if (!offlineDocProcessing) {
-            docWriterService = Executors.newSingleThreadExecutor();
-            try {
-                AccumuloHelper accumuloHelper = new AccumuloHelper();
-                accumuloHelper.setup(conf);
-                
-                log.debug("Attempting to create Accumulo connection.");
-                docWriter = accumuloHelper.getConnector().createBatchWriter(conf.get("shard.table.name"),
-                                new BatchWriterConfig().setMaxLatency(60, TimeUnit.SECONDS).setMaxMemory(100000000L).setMaxWriteThreads(10));
-                log.debug("Created connection to Accumulo for asynchronous document storage.");
-            } catch (Exception e) {
-                log.warn("No document payloads will be written to Accumulo.", e);
-                // giving a stub batchwriter means I don't have a bunch of "if(writer != null)"s lying around
-                docWriter = new BatchWriter() {
-                    @Override
-                    public void addMutation(Mutation m) {}
-                    
-                    @Override
-                    public void addMutations(Iterable<Mutation> iterable) throws MutationsRejectedException {}
-                    
-                    @Override
-                    public void flush() throws MutationsRejectedException {}
-                    
-                    @Override
-                    public void close() throws MutationsRejectedException {}
-                };
-            }
+            setupDocWriter(conf);
         }
         // The tokens offsets queue is a bounded priority queue that will allow us to cache the
         // highest cardinality offsets up to a predetermined max size
@@ -214,6 +216,47 @@ public abstract class ExtendedContentIndexingColumnBasedHandler<KEYIN,KEYOUT,VAL
         log.info("ExtendedContentIndexingColumnBasedHandler configured.");
     }
     
+    /**
+     * Create the threads and the batch writer used to write documents directly to Accumulo
+     * 
+     * @param conf
+     */
+    protected void setupDocWriter(Configuration conf) {
+        int threads = conf.getInt(OPT_DOC_WRITER_THREADS, DEFAULT_DOC_WRITER_THREADS);
+        if (threads <= 0) {
+            log.warn("Bad value: (" + threads + ") for " + OPT_DOC_WRITER_THREADS + ", using " + DEFAULT_DOC_WRITER_THREADS);
+            threads = DEFAULT_DOC_WRITER_THREADS;
+        }
+        docWriterService = Executors.newFixedThreadPool(threads);
+        docWriterMaxPendingBytes = Math.max(1, conf.getInt(OPT_DOC_WRITER_MAX_PENDING_BYTES, DEFAULT_DOC_WRITER_MAX_PENDING_BYTES));
+        docWriterPendingBytes = new Semaphore(docWriterMaxPendingBytes);
+        try {
+            AccumuloHelper accumuloHelper = new AccumuloHelper();
+            accumuloHelper.setup(conf);
+            
+            log.debug("Attempting to create Accumulo connection.");
+            docWriter = accumuloHelper.getConnector().createBatchWriter(conf.get("shard.table.name"),
+                            new BatchWriterConfig().setMaxLatency(60, TimeUnit.SECONDS).setMaxMemory(100000000L).setMaxWriteThreads(10));
+            log.debug("Created connection to Accumulo for asynchronous document storage.");
+        } catch (Exception e) {
+            log.warn("No document payloads will be written to Accumulo.", e);
+            // giving a stub batchwriter means I don't have a bunch of "if(writer != null)"s lying around
+            docWriter = new BatchWriter() {
+                @Override
+                public void addMutation(Mutation m) {}
+                
+                @Override
+                public void addMutations(Iterable<Mutation> iterable) throws MutationsRejectedException {}
+                
+                @Override
+                public void flush() throws MutationsRejectedException {}
+                
+                @Override
+                public void close() throws MutationsRejectedException {}
+            };
+        }
+    }
+    
     /**
      * This method will block until all of the documents have been written to Accumulo, or a timeout has been reached.
      * 
@@ -232,6 +275,11 @@ public abstract class ExtendedContentIndexingColumnBasedHandler<KEYIN,KEYOUT,VAL
                 log.error("Unable to terminate document writing service!", e);
             }
         }
+        if (totalContentBytesTokenized > 0) {
+            double mb = totalContentBytesTokenized / BYTES_PER_MB;
+            log.info("Tokenized " + String.format("%.2f", mb) + " MB of content in " + totalTokenizerMsec + " ms ("
+                            + String.format("%.1f", totalTokenizerMsec / mb) + " ms per MB)");
+        }
     }
     
     @Override
@@ -283,6 +331,99 @@ public abstract class ExtendedContentIndexingColumnBasedHandler<KEYIN,KEYOUT,VAL
     protected abstract long tokenizeEvent(RawRecordContainer event, TaskInputOutputContext<KEYIN,? extends RawRecordContainer,KEYOUT,VALUEOUT> context,
                     ContextWriter<KEYOUT,VALUEOUT> contextWriter, StatusReporter reporter) throws IOException, InterruptedException;
     
+    /**
+     * Start tracking the time spent tokenizing the content of a document. The content is expected to be tokenized as a stream, with
+     * {@link #checkTokenizerTime(String, StatusReporter)} called for each token, so that keys are written as the tokens are produced and a document which
+     * takes too long is abandoned rather than stalling the task.
+     * 
+     * @param contentBytes
+     *            the size of the content to be tokenized
+     */
+    protected void startTokenizing(long contentBytes) {
+        tokenizerHeartBeatCount = HeartBeatThread.counter;
+        tokenizerBeats = 0;
+        tokenizerStart = System.currentTimeMillis();
+        tokenizerContentBytes = contentBytes;
+        tokenizerTimeWarned = false;
+    }
+    
+    /**
+     * Check the time spent tokenizing the current document against the tokenizer time thresholds. This is cheap enough to call for each token as the time is
+     * estimated from the {@link HeartBeatThread}.
+     * 
+     * @param fieldName
+     *            the field being tokenized
+     * @param reporter
+     * @throws TokenizerTimeoutException
+     *             if the time exceeds the error threshold
+     */
+    protected void checkTokenizerTime(String fieldName, StatusReporter reporter) throws TokenizerTimeoutException {
+        if (tokenizerHeartBeatCount != HeartBeatThread.counter) {
+            tokenizerBeats += HeartBeatThread.counter - tokenizerHeartBeatCount;
+            tokenizerHeartBeatCount = HeartBeatThread.counter;
+            
+            // warn once on exceeding the warn threshold
+            long elapsedEstimateMsec = tokenizerBeats * HeartBeatThread.INTERVAL;
+            if (elapsedEstimateMsec > tokenHelper.getTokenizerTimeWarnThresholdMsec() && !tokenizerTimeWarned) {
+                long realDelta = System.currentTimeMillis() - tokenizerStart;
+                counters.incrementValue(ContentIndexCounters.TOKENIZER_TIME_WARNINGS, 1, reporter);
+                log.warn("Tokenization of field " + fieldName + " has exceeded warning threshold " + tokenHelper.getTokenizerTimeWarnThresholdMsec() + "ms ("
+                                + realDelta + "ms)");
+                tokenizerTimeWarned = true;
+            }
+            
+            // error when we exceed the error threshold
+            if (elapsedEstimateMsec > tokenHelper.getTokenizerTimeErrorThresholdMsec()) {
+                long realDelta = System.currentTimeMillis() - tokenizerStart;
+                counters.incrementValue(ContentIndexCounters.TOKENIZER_TIME_ERRORS, 1, reporter);
+                throw new TokenizerTimeoutException("Tokenization of field " + fieldName + " has exceeded error threshold "
+                                + tokenHelper.getTokenizerTimeErrorThresholdMsec() + "ms (" + realDelta + "ms), aborting");
+            }
+        }
+        
+        if (reporter != null) {
+            reporter.progress();
+        }
+    }
+    
+    /**
+     * Finish tracking the time spent tokenizing the current document, counting the time against the tokenizer time thresholds and the content tokenized
+     * 
+     * @param reporter
+     */
+    protected void finishTokenizing(StatusReporter reporter) {
+        long tokenizerMsec = System.currentTimeMillis() - tokenizerStart;
+        totalTokenizerMsec += tokenizerMsec;
+        totalContentBytesTokenized += tokenizerContentBytes;
+        counters.incrementValue(ContentIndexCounters.TOKENIZER_CONTENT_BYTES, (int) Math.min(tokenizerContentBytes, Integer.MAX_VALUE), reporter);
+        counters.incrementValue(ContentIndexCounters.TOKENIZER_CONTENT_MSEC, (int) Math.min(tokenizerMsec, Integer.MAX_VALUE), reporter);
+        
+        final long tokenizerDeltaMsec = tokenizerBeats * HeartBeatThread.INTERVAL;
+        final long[] tokenizerThresholds = tokenHelper.getTokenizerTimeThresholds();
+        final String[] tokenizerThresholdNames = tokenHelper.getTokenizerTimeThresholdNames();
+        boolean counted = false;
+        for (int i = 0; i < tokenizerThresholds.length; i++) {
+            if (tokenizerDeltaMsec < tokenizerThresholds[i]) {
+                counters.incrementValue(ContentIndexCounters.TOKENIZER_TIME_GROUP_NAME, ContentIndexCounters.TOKENIZER_TIME_PREFIX + "<"
+                                + tokenizerThresholdNames[i], 1, reporter);
+                counted = true;
+                break;
+            }
+        }
+        
+        // catch times outside of the max threshold if we're counting
+        if (!counted && tokenizerThresholdNames.length > 0) {
+            counters.incrementValue(ContentIndexCounters.TOKENIZER_TIME_GROUP_NAME, ContentIndexCounters.TOKENIZER_TIME_PREFIX + ">="
+                            + tokenizerThresholdNames[tokenizerThresholdNames.length - 1], 1, reporter);
+        }
+        
+        if (log.isDebugEnabled() && tokenizerContentBytes > 0) {
+            log.debug("Tokenized " + tokenizerContentBytes + " bytes in " + tokenizerMsec + " ms ("
+                            + String.format("%.1f", tokenizerMsec / (tokenizerContentBytes / BYTES_PER_MB)) + " ms per MB)");
+        }
+        tokenizerContentBytes = 0;
+    }
+    
     /**
      * Process a term and zone by writting all applicable keys to the context.
      * 
@@ -575,7 +716,15 @@ public abstract class ExtendedContentIndexingColumnBasedHandler<KEYIN,KEYOUT,VAL
                 dw.shardId = shardId;
                 dw.visibility = visibility;
                 dw.value = value;
-                this.docWriterService.execute(dw);
+                // bound the documents held in memory waiting to be written
+                dw.pendingBytes = Math.min(value.getSize(), docWriterMaxPendingBytes);
+                docWriterPendingBytes.acquire(dw.pendingBytes);
+                try {
+                    this.docWriterService.execute(dw);
+                } catch (RuntimeException e) {
+                    docWriterPendingBytes.release(dw.pendingBytes);
+                    throw e;
+                }
             }
         }
     }
@@ -645,6 +794,7 @@ public abstract class ExtendedContentIndexingColumnBasedHandler<KEYIN,KEYOUT,VAL
         byte[] shardId;
         byte[] visibility;
         Value value;
+        int pendingBytes;
         
         @Override
         public void run() {
@@ -655,6 +805,8 @@ public abstract class ExtendedContentIndexingColumnBasedHandler<KEYIN,KEYOUT,VAL
                 docWriter.addMutation(m);
             } catch (MutationsRejectedException e) {
                 log.error("Could not write document payload to Accumulo!", e);
+            } finally {
+                docWriterPendingBytes.release(pendingBytes);
             }
         }
     }
@@ -61,18 +61,28 @@ import java.util.List;
 import java.util.Map;
 import java.util.Observer;
 import java.util.Stack;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A processor whose job is to watch for completed Bulk Ingest jobs and bring the map files produced by them online in accumulo. This class attempts to bring
  * multiple map files online at once if many jobs have completed, and also attempts to throttle itself to prevent queuing up too many major compactions on the
  * various tablet servers.
+ * 
+ * Several job directories may be loaded at once. Each job directory is first staged on the destination file system (copying it with distcp if needed) and is
+ * then loaded, such that the next job directories are staged while the current ones are being imported. The number of job directories imported into a table
+ * at once is limited, and the loader backs off while the tablet servers have too many major compactions running or queued.
  */
-public final class BulkIngestMapFileLoader implements Runnable {
+public class BulkIngestMapFileLoader implements Runnable {
     private static Logger log = Logger.getLogger(BulkIngestMapFileLoader.class);
     private static int SLEEP_TIME = 30000;
     private static int FAILURE_SLEEP_TIME = 10 * 60 * 1000; // 10 minutes
@@ -80,6 +90,9 @@ public final class BulkIngestMapFileLoader implements Runnable {
     private static int MAJC_CHECK_INTERVAL = 1;
     private static int MAJC_THRESHOLD = 3000;
     private static int MAJC_WAIT_TIMEOUT = 0;// 2 * 60 * 1000;
+    private static int MAX_BACKOFF_TIME = 10 * 60 * 1000; // 10 minutes
+    private static int JOB_THREADS = 1;
+    private static int MAX_TABLE_IMPORTS = 1;
     private static int SHUTDOWN_PORT = 24111;
     private static boolean FIFO = true;
     private static boolean INGEST_METRICS = true;
@@ -102,9 +115,14 @@ public final class BulkIngestMapFileLoader implements Runnable {
     private URI srcHdfs;
     private URI destHdfs;
     private String jobtracker;
-    private StandaloneStatusReporter reporter = new StandaloneStatusReporter();
     private volatile boolean running;
     private ExecutorService executor;
+    private ThreadPoolExecutor stagingExecutor;
+    private ThreadPoolExecutor loadExecutor;
+    private final BlockingQueue<JobLoad> completedLoads = new LinkedBlockingQueue<>();
+    private final Map<String,Semaphore> tableImportPermits = new ConcurrentHashMap<>();
+    private volatile int majorCompactions = 0;
+    private int fsAccessFailures = 0;
     private JobObservable jobObservable;
     
     public static void main(String[] args) throws AccumuloSecurityException, IOException {
@@ -120,6 +138,7 @@ public final class BulkIngestMapFileLoader implements Runnable {
             log.error("usage: BulkIngestMapFileLoader hdfsWorkDir jobDirPattern instanceName zooKeepers username password "
                             + "[-sleepTime sleepTime] [-majcThreshold threshold] [-majcCheckInterval count] [-majcDelay majcDelay] "
                             + " [-seqFileHdfs seqFileSystemUri] [-srcHdfs srcFileSystemURI] [-destHdfs destFileSystemURI] [-jt jobTracker] "
+                            + "[-numJobThreads count] [-maxTableImports count] [-maxBackoffTime ms] "
                             + "[-ingestMetricsDisabled] [-jobObservers jobObserverClasses] [-shutdownPort portNum] confFile [{confFile}]");
             System.exit(-1);
         }
@@ -198,6 +217,39 @@ public final class BulkIngestMapFileLoader implements Runnable {
                         log.error("-numThreads must be followed by the number of bulk import threads", e);
                         System.exit(-2);
                     }
+                } else if ("-numJobThreads".equalsIgnoreCase(args[i])) {
+                    if (i + 2 > args.length) {
+                        log.error("-numJobThreads must be followed by the number of job directories to load at once");
+                        System.exit(-2);
+                    }
+                    try {
+                        JOB_THREADS = Integer.parseInt(args[++i]);
+                    } catch (NumberFormatException e) {
+                        log.error("-numJobThreads must be followed by the number of job directories to load at once", e);
+                        System.exit(-2);
+                    }
+                } else if ("-maxTableImports".equalsIgnoreCase(args[i])) {
+                    if (i + 2 > args.length) {
+                        log.error("-maxTableImports must be followed by the number of job directories to import into a table at once");
+                        System.exit(-2);
+                    }
+                    try {
+                        MAX_TABLE_IMPORTS = Integer.parseInt(args[++i]);
+                    } catch (NumberFormatException e) {
+                        log.error("-maxTableImports must be followed by the number of job directories to import into a table at once", e);
+                        System.exit(-2);
+                    }
+                } else if ("-maxBackoffTime".equalsIgnoreCase(args[i])) {
+                    if (i + 2 > args.length) {
+                        log.error("-maxBackoffTime must be followed by the maximum number of ms to wait for the major compactions to decrease");
+                        System.exit(-2);
+                    }
+                    try {
+                        MAX_BACKOFF_TIME = Integer.parseInt(args[++i]);
+                    } catch (NumberFormatException e) {
+                        log.error("-maxBackoffTime must be followed by the maximum number of ms to wait for the major compactions to decrease", e);
+                        System.exit(-2);
+                    }
                 } else if ("-numHdfsThreads".equalsIgnoreCase(args[i])) {
                     if (i + 2 > args.length) {
                         log.error("-numHdfsThreads must be followed by the number of threads to use for concurrent HDFS operations");
@@ -327,8 +379,11 @@ public final class BulkIngestMapFileLoader implements Runnable {
         log.info("Will wait to bring map files online if there are more than " + MAJC_THRESHOLD + " running or queued major compactions.");
         log.info("Will not bring map files online unless at least " + MAJC_WAIT_TIMEOUT + "ms have passed since last time.");
         log.info("Will check the majcThreshold and majcDelay every " + MAJC_CHECK_INTERVAL + " bulk loads.");
+        log.info("Will wait up to " + MAX_BACKOFF_TIME + "ms between checks while there are too many major compactions.");
         log.info("Processing a max of " + MAX_DIRECTORIES + " directories");
         log.info("Using " + numBulkThreads + " bulk load threads");
+        log.info("Loading " + JOB_THREADS + " job directories at once");
+        log.info("Importing " + MAX_TABLE_IMPORTS + " job directories into a table at once");
         log.info("Using " + numHdfsThreads + " HDFS operation threads");
         log.info("Using " + numBulkAssignThreads + " bulk assign threads");
         log.info("Using " + seqFileHdfs + " as the file system containing the original sequence files");
@@ -397,6 +452,9 @@ public final class BulkIngestMapFileLoader implements Runnable {
         this.jobtracker = jobtracker;
         this.running = true;
         this.executor = Executors.newFixedThreadPool(numHdfsThreads > 0 ? numHdfsThreads : 1);
+        int jobThreads = (JOB_THREADS > 0 ? JOB_THREADS : 1);
+        this.stagingExecutor = new ThreadPoolExecutor(jobThreads, jobThreads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        this.loadExecutor = new ThreadPoolExecutor(jobThreads, jobThreads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
         try {
             this.jobObservable = new JobObservable(seqFileHdfs != null ? getFileSystem(seqFileHdfs) : null);
         } catch (IOException e) {
@@ -430,7 +488,10 @@ public final class BulkIngestMapFileLoader implements Runnable {
         log.info("Starting process to monitor map files.");
         long lastOnlineTime = 0;
         long lastLoadMessageTime = 0;
-        int fsAccessFailures = 0;
+        long sleepTime = SLEEP_TIME;
+        // staged job directories wait for the load threads, so that the next job directories are staged while the current ones are loaded
+        int maxPendingLoads = 2 * loadExecutor.getMaximumPoolSize();
+        int pendingLoads = 0;
         Path[] jobDirectories = new Path[0];
         int nextJobIndex = 0;
         try {
@@ -438,89 +499,57 @@ public final class BulkIngestMapFileLoader implements Runnable {
                 try {
                     if (!running)
                         break;
-                    sleep();
+                    List<JobLoad> loads = waitForLoads(sleepTime);
+                    if (!loads.isEmpty()) {
+                        pendingLoads -= loads.size();
+                        finishLoads(loads);
+                        lastOnlineTime = System.currentTimeMillis();
+                        // now that we actually processed something, reset the last load message time to force a message on the next round
+                        lastLoadMessageTime = 0;
+                    }
                     if (!running)
                         break;
                     long loadMessageDelta = System.currentTimeMillis() - lastLoadMessageTime;
                     boolean logMessages = (loadMessageDelta > (5 * 60 * 1000));
                     if (logMessages) {
                         lastLoadMessageTime = System.currentTimeMillis();
+                        log.info(pendingLoads + " job directories are being loaded: " + getStagingQueueDepth() + " waiting to be staged, "
+                                        + getLoadQueueDepth() + " staged and waiting to be loaded");
+                    }
+                    if (pendingLoads >= maxPendingLoads) {
+                        // wait for a load to complete
+                        continue;
                     }
                     if (!canBringMapFilesOnline(lastOnlineTime, logMessages)) {
+                        sleepTime = getBackoffTime(sleepTime, majorCompactions);
                         if (logMessages) {
-                            log.info("Waiting for load to decrease before bringing more map files online.");
+                            log.info("Waiting for load to decrease before bringing more map files online, checking again in " + sleepTime + "ms.");
                         }
                         continue;
                     }
-                    List<Path> processedDirectories = new ArrayList<>();
-                    if (nextJobIndex >= jobDirectories.length) {
-                        jobDirectories = getJobDirectories();
-                        nextJobIndex = 0;
-                    }
-                    if (jobDirectories.length > 0) {
-                        while (processedDirectories.size() < MAJC_CHECK_INTERVAL && jobDirectories.length > 0) {
-                            Path srcJobDirectory = jobDirectories[nextJobIndex++];
-                            if (!running)
+                    sleepTime = SLEEP_TIME;
+                    int startedLoads = 0;
+                    boolean listed = false;
+                    while (running && startedLoads < MAJC_CHECK_INTERVAL && pendingLoads < maxPendingLoads) {
+                        if (nextJobIndex >= jobDirectories.length) {
+                            if (listed) {
                                 break;
-                            // take ownership of the job directory if we can
-                            if (takeOwnershipJobDirectory(srcJobDirectory)) {
-                                processedDirectories.add(srcJobDirectory);
-                                Path mapFilesDir = new Path(srcJobDirectory, "mapFiles");
-                                reporter.getCounter("MapFileLoader.StartTimes", srcJobDirectory.getName()).increment(System.currentTimeMillis());
-                                Path dstJobDirectory = srcJobDirectory;
-                                URI workingHdfs = srcHdfs;
-                                
-                                try {
-                                    log.info("Started processing " + mapFilesDir);
-                                    long start = System.currentTimeMillis();
-                                    
-                                    // copy the data if needed
-                                    dstJobDirectory = distCpDirectory(srcJobDirectory);
-                                    workingHdfs = destHdfs;
-                                    
-                                    // recreate the map files directory reference in case it moved filesystems
-                                    mapFilesDir = new Path(dstJobDirectory, "mapFiles");
-                                    
-                                    // now if we have a destination work directory, then move then move the files
-                                    bringMapFilesOnline(mapFilesDir);
-                                    
-                                    // ensure everything got loaded
-                                    verifyNothingLeftBehind(mapFilesDir);
-                                    
-                                    cleanUpJobDirectory(mapFilesDir);
-                                    long end = System.currentTimeMillis();
-                                    log.info("Finished processing " + mapFilesDir + ", duration (sec): " + ((end - start) / 1000));
-                                    
-                                    // now that we actually processed something, reset the last load message time to force a message on the next round
-                                    lastLoadMessageTime = 0;
-                                } catch (Exception e) {
-                                    log.error("Failed to process " + mapFilesDir, e);
-                                    boolean marked = markJobDirectoryFailed(workingHdfs, dstJobDirectory);
-                                    if (!marked) {
-                                        ++fsAccessFailures;
-                                        if (fsAccessFailures >= 3) {
-                                            log.error("Too many failures updating marker files.  Exiting...");
-                                            shutdown();
-                                        } else {
-                                            log.warn("Failed to mark " + dstJobDirectory + " as failed. Sleeping in case this was a transient failure.");
-                                            try {
-                                                Thread.sleep(FAILURE_SLEEP_TIME);
-                                            } catch (InterruptedException ie) {
-                                                log.warn("Interrupted while sleeping.", ie);
-                                            }
-                                        }
-                                    }
-                                }
                             }
-                            if (nextJobIndex >= jobDirectories.length) {
-                                jobDirectories = getJobDirectories();
-                                nextJobIndex = 0;
+                            jobDirectories = getJobDirectories();
+                            nextJobIndex = 0;
+                            listed = true;
+                            if (jobDirectories.length == 0) {
+                                break;
                             }
-                            
                         }
-                        if (!processedDirectories.isEmpty()) {
-                            writeStats(processedDirectories.toArray(new Path[processedDirectories.size()]));
-                            lastOnlineTime = System.currentTimeMillis();
+                        Path srcJobDirectory = jobDirectories[nextJobIndex++];
+                        // take ownership of the job directory if we can
+                        if (takeOwnershipJobDirectory(srcJobDirectory)) {
+                            JobLoad load = new JobLoad(srcJobDirectory);
+                            incrementCounter(load.reporter, "MapFileLoader.StartTimes", srcJobDirectory.getName(), System.currentTimeMillis());
+                            stagingExecutor.execute(load::stage);
+                            pendingLoads++;
+                            startedLoads++;
                         }
                     }
                 } catch (Exception e) {
@@ -528,12 +557,174 @@ public final class BulkIngestMapFileLoader implements Runnable {
                 }
             }
         } finally {
+            // let the job directories we took ownership of finish loading rather than leaving them marked as loading
+            if (pendingLoads > 0) {
+                log.info("Waiting for " + pendingLoads + " job directories to finish loading");
+            }
+            while (pendingLoads > 0) {
+                List<JobLoad> loads = waitForLoads(SLEEP_TIME);
+                pendingLoads -= loads.size();
+                try {
+                    finishLoads(loads);
+                } catch (Exception e) {
+                    log.error("Error: " + e.getMessage(), e);
+                }
+            }
             log.info("Shutting down executor service");
+            stagingExecutor.shutdown();
+            loadExecutor.shutdown();
             executor.shutdown();
         }
         log.info("Bulk map file loader shutting down.");
     }
     
+    /**
+     * Get the time to wait before checking again whether map files can be brought online
+     * 
+     * @param sleepTime
+     *            the time waited before the last check
+     * @param majorCompactions
+     *            the number of major compactions running or queued at the last check
+     * @return double the last wait, up to the max backoff time, while there are too many major compactions, otherwise the last wait
+     */
+    static long getBackoffTime(long sleepTime, int majorCompactions) {
+        if (majorCompactions >= MAJC_THRESHOLD) {
+            // back off while the tablet servers work off their major compactions
+            return Math.min(2 * sleepTime, Math.max(MAX_BACKOFF_TIME, SLEEP_TIME));
+        }
+        return sleepTime;
+    }
+    
+    /**
+     * Wait for job directories to finish loading
+     * 
+     * @param timeout
+     *            the maximum number of ms to wait
+     * @return the loads which completed, which is empty if none completed before the timeout
+     */
+    private List<JobLoad> waitForLoads(long timeout) {
+        List<JobLoad> loads = new ArrayList<>();
+        try {
+            JobLoad load = completedLoads.poll(timeout, TimeUnit.MILLISECONDS);
+            if (load != null) {
+                loads.add(load);
+                completedLoads.drainTo(loads);
+            }
+        } catch (InterruptedException e) {
+            log.warn("Interrupted while sleeping.", e);
+        }
+        return loads;
+    }
+    
+    /**
+     * Mark the job directories which failed to load, and write the stats for the completed loads. Only the counters of the completed loads are written, as
+     * the loads still being staged or loaded write theirs once they complete.
+     * 
+     * @param loads
+     * @throws IOException
+     */
+    private void finishLoads(List<JobLoad> loads) throws IOException {
+        if (loads.isEmpty()) {
+            return;
+        }
+        List<Path> processedDirectories = new ArrayList<>();
+        StandaloneStatusReporter stats = new StandaloneStatusReporter();
+        for (JobLoad load : loads) {
+            processedDirectories.add(load.srcJobDirectory);
+            stats.getCounters().incrAllCounters(load.reporter.getCounters());
+            if (load.exception != null) {
+                log.error("Failed to process " + new Path(load.dstJobDirectory, "mapFiles"), load.exception);
+                boolean marked = markJobDirectoryFailed(load.workingHdfs, load.dstJobDirectory);
+                if (!marked) {
+                    ++fsAccessFailures;
+                    if (fsAccessFailures >= 3) {
+                        log.error("Too many failures updating marker files.  Exiting...");
+                        shutdown();
+                    } else {
+                        log.warn("Failed to mark " + load.dstJobDirectory + " as failed. Sleeping in case this was a transient failure.");
+                        try {
+                            Thread.sleep(FAILURE_SLEEP_TIME);
+                        } catch (InterruptedException ie) {
+                            log.warn("Interrupted while sleeping.", ie);
+                        }
+                    }
+                }
+            }
+        }
+        writeStats(processedDirectories.toArray(new Path[processedDirectories.size()]), stats);
+    }
+    
+    /**
+     * A job directory being brought online. The job directory is staged on the destination file system by the staging threads, and then its map files are
+     * brought online by the load threads. The counters of the load are kept apart from those of the other loads until it completes.
+     */
+    private class JobLoad {
+        private final StandaloneStatusReporter reporter = new StandaloneStatusReporter();
+        private final Path srcJobDirectory;
+        private Path dstJobDirectory;
+        private URI workingHdfs = srcHdfs;
+        private long startTime;
+        private long stagedTime;
+        private Exception exception = null;
+        
+        private JobLoad(Path srcJobDirectory) {
+            this.srcJobDirectory = srcJobDirectory;
+            this.dstJobDirectory = srcJobDirectory;
+        }
+        
+        private void stage() {
+            startTime = System.currentTimeMillis();
+            log.info("Started processing " + new Path(srcJobDirectory, "mapFiles"));
+            try {
+                // copy the data if needed
+                dstJobDirectory = distCpDirectory(srcJobDirectory);
+                workingHdfs = destHdfs;
+                stagedTime = System.currentTimeMillis();
+                loadExecutor.execute(this::load);
+            } catch (Exception e) {
+                exception = e;
+                completedLoads.add(this);
+            }
+        }
+        
+        private void load() {
+            // recreate the map files directory reference in case it moved filesystems
+            Path mapFilesDir = new Path(dstJobDirectory, "mapFiles");
+            try {
+                long loadTime = System.currentTimeMillis();
+                incrementCounter(reporter, "MapFileLoader.LoadWaitTimes", srcJobDirectory.getName(), loadTime - stagedTime);
+                
+                bringMapFilesOnline(mapFilesDir, reporter);
+                
+                // ensure everything got loaded
+                verifyNothingLeftBehind(mapFilesDir);
+                
+                cleanUpJobDirectory(mapFilesDir);
+                long end = System.currentTimeMillis();
+                incrementCounter(reporter, "MapFileLoader.LoadTimes", srcJobDirectory.getName(), end - loadTime);
+                log.info("Finished processing " + mapFilesDir + ", duration (sec): " + ((end - startTime) / 1000));
+            } catch (Exception e) {
+                exception = e;
+            } finally {
+                completedLoads.add(this);
+            }
+        }
+    }
+    
+    /**
+     * @return the number of job directories waiting to be staged
+     */
+    public int getStagingQueueDepth() {
+        return stagingExecutor.getQueue().size();
+    }
+    
+    /**
+     * @return the number of staged job directories waiting to be loaded
+     */
+    public int getLoadQueueDepth() {
+        return loadExecutor.getQueue().size();
+    }
+    
     protected void shutdown() {
         running = false;
     }
@@ -577,7 +768,7 @@ public final class BulkIngestMapFileLoader implements Runnable {
         return (uri == null ? FileSystem.get(conf) : FileSystem.get(uri, conf));
     }
     
-    private Path distCpDirectory(Path jobDirectory) throws Exception {
+    protected Path distCpDirectory(Path jobDirectory) throws Exception {
         // if the src filesystem is not the same as our local file system, then move the files using distcp
         FileSystem src = getFileSystem(srcHdfs);
         FileSystem dest = getFileSystem(destHdfs);
@@ -641,6 +832,7 @@ public final class BulkIngestMapFileLoader implements Runnable {
     public boolean canBringMapFilesOnline(long lastOnlineTime, boolean logInfo) {
         Level level = (logInfo ? Level.INFO : Level.DEBUG);
         int majC = getMajorCompactionCount();
+        majorCompactions = majC;
         log.log(level, "There are " + majC + " compactions currently running or queued.");
         
         long delta = System.currentTimeMillis() - lastOnlineTime;
@@ -649,7 +841,7 @@ public final class BulkIngestMapFileLoader implements Runnable {
         return (delta > MAJC_WAIT_TIMEOUT) && (majC < MAJC_THRESHOLD);
     }
     
-    private int getMajorCompactionCount() {
+    protected int getMajorCompactionCount() {
         int majC = 0;
         
         ZooKeeperInstance instance = new ZooKeeperInstance(ClientConfiguration.loadDefault().withInstance(instanceName).withZkHosts(zooKeepers));
@@ -681,7 +873,7 @@ public final class BulkIngestMapFileLoader implements Runnable {
      * Gets a list of job directories that are marked as completed. That is, these are job directories for which the MapReduce jobs have completed and there are
      * map files ready to be loaded.
      */
-    private Path[] getJobDirectories() throws IOException {
+    protected Path[] getJobDirectories() throws IOException {
         log.debug("Checking for completed job directories.");
         FileSystem fs = getFileSystem(srcHdfs);
         FileStatus[] files = fs.globStatus(new Path(workDir, jobDirPattern + '/' + COMPLETE_FILE_MARKER));
@@ -709,6 +901,14 @@ public final class BulkIngestMapFileLoader implements Runnable {
      * tables for which map files are to be loaded. Under those directories should be "part-XXXXX" directories which in turn contain the map/index files.
      */
     public void bringMapFilesOnline(Path mapFilesDir) throws IOException, AccumuloException, AccumuloSecurityException, TableNotFoundException {
+        bringMapFilesOnline(mapFilesDir, new StandaloneStatusReporter());
+    }
+    
+    /**
+     * Brings all map files in {@code mapFilesDir} online in accumulo, recording the import times of the tables in {@code reporter}.
+     */
+    public void bringMapFilesOnline(Path mapFilesDir, StandaloneStatusReporter reporter) throws IOException, AccumuloException, AccumuloSecurityException,
+                    TableNotFoundException {
         log.info("Bringing all mapFiles under " + mapFilesDir + " online.");
         
         // By now the map files should be on the local filesystem
@@ -783,7 +983,7 @@ public final class BulkIngestMapFileLoader implements Runnable {
                 
                 priority = tablePriorities.get(stat.getPath().getName());
             }
-            imports.push(startImport(mapFilesDir, tableName, tableDir, tops));
+            imports.push(startImport(mapFilesDir, tableName, tableDir, tops, reporter));
         }
         
         Exception e = null;
@@ -805,23 +1005,37 @@ public final class BulkIngestMapFileLoader implements Runnable {
     }
     
     public ImportRunnable startImport(Path mapFilesDir, String tableName, Path tableDir, TableOperations tops) {
-        ImportRunnable runnable = new ImportRunnable(mapFilesDir, tableName, tableDir, tops);
+        return startImport(mapFilesDir, tableName, tableDir, tops, new StandaloneStatusReporter());
+    }
+    
+    public ImportRunnable startImport(Path mapFilesDir, String tableName, Path tableDir, TableOperations tops, StandaloneStatusReporter reporter) {
+        ImportRunnable runnable = new ImportRunnable(mapFilesDir, tableName, tableDir, tops, reporter);
         Thread thread = new Thread(runnable);
         runnable.setThread(thread);
         thread.start();
         return runnable;
     }
     
+    /**
+     * @param tableName
+     * @return the permits limiting the number of job directories imported into the table at once
+     */
+    protected Semaphore getTableImportPermits(String tableName) {
+        return tableImportPermits.computeIfAbsent(tableName, t -> new Semaphore(MAX_TABLE_IMPORTS > 0 ? MAX_TABLE_IMPORTS : 1));
+    }
+    
     public class ImportRunnable implements Runnable {
         private boolean complete = false;
         private String tableName;
         private Path tableDir;
         private TableOperations tops;
         private Path mapFilesDir;
+        private StandaloneStatusReporter reporter;
         private Exception exception = null;
         private Thread thread = null;
         
-        private ImportRunnable(Path mapFilesDir, String tableName, Path tableDir, TableOperations tops) {
+        private ImportRunnable(Path mapFilesDir, String tableName, Path tableDir, TableOperations tops, StandaloneStatusReporter reporter) {
+            this.reporter = reporter;
             this.tableName = tableName;
             this.tableDir = tableDir;
             this.tops = tops;
@@ -869,10 +1083,22 @@ public final class BulkIngestMapFileLoader implements Runnable {
                 }
                 fileSystem.mkdirs(failuresPath);
                 
-                // import the directory
-                log.info("Bringing Map Files online for " + tableName);
-                tops.importDirectory(tableName, tableDir.toString(), failuresDir, false);
-                log.info("Completed bringing map files online for " + tableName);
+                // import the directory, limiting the number of job directories imported into the table at once
+                Semaphore permits = getTableImportPermits(tableName);
+                long waitStart = System.currentTimeMillis();
+                permits.acquire();
+                try {
+                    long importStart = System.currentTimeMillis();
+                    incrementCounter(reporter, "MapFileLoader.ImportWaitTimes", tableName, importStart - waitStart);
+                    log.info("Bringing Map Files online for " + tableName);
+                    tops.importDirectory(tableName, tableDir.toString(), failuresDir, false);
+                    long importTime = System.currentTimeMillis() - importStart;
+                    log.info("Completed bringing map files online for " + tableName + " in " + importTime + "ms");
+                    incrementCounter(reporter, "MapFileLoader.ImportTimes", tableName, importTime);
+                    incrementCounter(reporter, "MapFileLoader.Imports", tableName, 1);
+                } finally {
+                    permits.release();
+                }
                 validateComplete();
             } catch (Exception e) {
                 log.error("Error importing files into table " + tableName + " from directory " + mapFilesDir, e);
@@ -1192,7 +1418,23 @@ public final class BulkIngestMapFileLoader implements Runnable {
         }
     }
     
-    private void writeStats(Path[] jobDirectories) throws IOException {
+    private static void incrementCounter(StandaloneStatusReporter reporter, String group, String name, long amount) {
+        // the tables of a job directory are imported concurrently
+        synchronized (reporter) {
+            reporter.getCounter(group, name).increment(amount);
+        }
+    }
+    
+    /**
+     * Write the stats of completed job directories
+     * 
+     * @param jobDirectories
+     *            the completed job directories
+     * @param reporter
+     *            the counters of the completed job directories
+     * @throws IOException
+     */
+    protected void writeStats(Path[] jobDirectories, StandaloneStatusReporter reporter) throws IOException {
         if (!INGEST_METRICS) {
             log.info("ingest metrics disabled");
         } else {
@@ -1234,9 +1476,6 @@ public final class BulkIngestMapFileLoader implements Runnable {
                     // If an error occurs in the copy, then we will leave in the local metrics directory.
                     log.error("Error copying metrics file into HDFS, will remain in metrics directory.");
                 }
-                
-                // reset reporter so that old metrics don't persist over time
-                this.reporter = new StandaloneStatusReporter();
             }
         }
     }
@@ -1245,13 +1484,4 @@ public final class BulkIngestMapFileLoader implements Runnable {
         return new Path(path.getParent(), "." + path.getName() + ".crc");
     }
     
-    private void sleep() {
-        try {
-            System.gc();
-            Thread.sleep(SLEEP_TIME);
-        } catch (InterruptedException e) {
-            log.warn("Interrupted while sleeping.", e);
-        }
-    }
-    
 }
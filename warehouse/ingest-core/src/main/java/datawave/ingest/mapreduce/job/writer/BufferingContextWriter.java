@@ -0,0 +1,77 @@
+package datawave.ingest.mapreduce.job.writer;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Multimap;
+import datawave.ingest.mapreduce.job.BulkIngestKey;
+import org.apache.accumulo.core.data.Value;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.mapreduce.TaskInputOutputContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A context writer which holds what is written in memory rather than writing to the context. Entries are held as written until committed, and are discarded
+ * if rolled back, so that the committed entries can later be written to another context writer as they would have been written to it directly. This is used
+ * to process events on other threads while writing their output from the mapper thread.
+ * 
+ * @param <OK>
+ *            The output key
+ * @param <OV>
+ *            The output value
+ */
+public class BufferingContextWriter<OK,OV> implements ContextWriter<OK,OV> {
+    
+    private Multimap<BulkIngestKey,Value> uncommitted = ArrayListMultimap.create();
+    private final List<Multimap<BulkIngestKey,Value>> committed = new ArrayList<>();
+    
+    @Override
+    public void setup(Configuration conf, boolean outputTableCounters) throws IOException, InterruptedException {}
+    
+    @Override
+    public void write(BulkIngestKey key, Value value, TaskInputOutputContext<?,?,OK,OV> context) throws IOException, InterruptedException {
+        uncommitted.put(key, value);
+    }
+    
+    @Override
+    public void write(Multimap<BulkIngestKey,Value> entries, TaskInputOutputContext<?,?,OK,OV> context) throws IOException, InterruptedException {
+        uncommitted.putAll(entries);
+    }
+    
+    @Override
+    public void commit(TaskInputOutputContext<?,?,OK,OV> context) throws IOException, InterruptedException {
+        if (!uncommitted.isEmpty()) {
+            committed.add(uncommitted);
+            uncommitted = ArrayListMultimap.create();
+        }
+    }
+    
+    @Override
+    public void rollback() throws IOException, InterruptedException {
+        uncommitted = ArrayListMultimap.create();
+    }
+    
+    @Override
+    public void cleanup(TaskInputOutputContext<?,?,OK,OV> context) throws IOException, InterruptedException {
+        commit(context);
+    }
+    
+    /**
+     * Write the committed entries to another context writer, in the order they were committed, and commit them there
+     * 
+     * @param writer
+     * @param context
+     * @throws IOException
+     * @throws InterruptedException
+     */
+    public void writeTo(ContextWriter<OK,OV> writer, TaskInputOutputContext<?,?,OK,OV> context) throws IOException, InterruptedException {
+        if (!committed.isEmpty()) {
+            for (Multimap<BulkIngestKey,Value> entries : committed) {
+                writer.write(entries, context);
+            }
+            committed.clear();
+            writer.commit(context);
+        }
+    }
+}
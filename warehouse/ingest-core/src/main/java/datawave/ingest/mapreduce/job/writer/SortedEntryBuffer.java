@@ -0,0 +1,252 @@
+package datawave.ingest.mapreduce.job.writer;
+
+import org.apache.accumulo.core.data.ByteSequence;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Value;
+import org.apache.hadoop.util.IndexedSortable;
+import org.apache.hadoop.util.QuickSort;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A buffer of key/value entries held serialized in a byte buffer, typically a direct (off-heap) buffer, rather than as Key and Value objects on the heap. The
+ * entries are appended as written, and are sorted by key in place by sorting an index of their offsets into the buffer, in the same order as
+ * {@link Key#compareTo(Key)}.
+ * 
+ * Each entry is serialized as the lengths of the row, column family, column qualifier, column visibility and value, followed by their bytes with the timestamp
+ * and delete flag between the column visibility and the value.
+ */
+public class SortedEntryBuffer implements IndexedSortable {
+    
+    private static final int HEADER_LENGTH = 5 * Integer.BYTES;
+    private static final int ROW = 0;
+    private static final int COLUMN_FAMILY = 1;
+    private static final int COLUMN_QUALIFIER = 2;
+    private static final int COLUMN_VISIBILITY = 3;
+    private static final int VALUE = 4;
+    
+    private final ByteBuffer buffer;
+    private int[] offsets = new int[1024];
+    private int size = 0;
+    
+    /**
+     * @param buffer
+     *            the buffer to hold the entries, which is cleared
+     */
+    public SortedEntryBuffer(ByteBuffer buffer) {
+        this.buffer = buffer;
+        buffer.clear();
+    }
+    
+    /**
+     * Append an entry to the buffer
+     * 
+     * @param key
+     * @param value
+     * @return false if there is not enough room left in the buffer for the entry
+     */
+    public boolean add(Key key, Value value) {
+        ByteSequence row = key.getRowData();
+        ByteSequence cf = key.getColumnFamilyData();
+        ByteSequence cq = key.getColumnQualifierData();
+        ByteSequence cv = key.getColumnVisibilityData();
+        int length = HEADER_LENGTH + row.length() + cf.length() + cq.length() + cv.length() + Long.BYTES + 1 + value.getSize();
+        if (length > buffer.remaining()) {
+            return false;
+        }
+        addOffset(buffer.position());
+        buffer.putInt(row.length()).putInt(cf.length()).putInt(cq.length()).putInt(cv.length()).putInt(value.getSize());
+        put(row);
+        put(cf);
+        put(cq);
+        put(cv);
+        buffer.putLong(key.getTimestamp());
+        buffer.put((byte) (key.isDeleted() ? 1 : 0));
+        buffer.put(value.get(), 0, value.getSize());
+        return true;
+    }
+    
+    /**
+     * Append an entry of another buffer to this one, without deserializing it
+     * 
+     * @param other
+     * @param index
+     *            the index of the entry in the other buffer
+     * @return false if there is not enough room left in the buffer for the entry
+     */
+    public boolean add(SortedEntryBuffer other, int index) {
+        int offset = other.offsets[index];
+        int length = other.entryLength(offset);
+        if (length > buffer.remaining()) {
+            return false;
+        }
+        addOffset(buffer.position());
+        ByteBuffer entry = other.buffer.duplicate();
+        entry.limit(offset + length).position(offset);
+        buffer.put(entry);
+        return true;
+    }
+    
+    private void put(ByteSequence bytes) {
+        buffer.put(bytes.getBackingArray(), bytes.offset(), bytes.length());
+    }
+    
+    private void addOffset(int offset) {
+        if (size == offsets.length) {
+            offsets = Arrays.copyOf(offsets, size * 2);
+        }
+        offsets[size++] = offset;
+    }
+    
+    /**
+     * Sort the entries by key
+     */
+    public void sort() {
+        new QuickSort().sort(this, 0, size);
+    }
+    
+    @Override
+    public int compare(int i, int j) {
+        return compareKeys(offsets[i], offsets[j]);
+    }
+    
+    @Override
+    public void swap(int i, int j) {
+        int offset = offsets[i];
+        offsets[i] = offsets[j];
+        offsets[j] = offset;
+    }
+    
+    /**
+     * @param i
+     * @param j
+     * @return true if the entries at the two indices have equal keys
+     */
+    public boolean sameKey(int i, int j) {
+        return compareKeys(offsets[i], offsets[j]) == 0;
+    }
+    
+    private int compareKeys(int a, int b) {
+        int aData = a + HEADER_LENGTH;
+        int bData = b + HEADER_LENGTH;
+        for (int part = ROW; part <= COLUMN_VISIBILITY; part++) {
+            int aLength = length(a, part);
+            int bLength = length(b, part);
+            int result = compareBytes(aData, aLength, bData, bLength);
+            if (result != 0) {
+                return result;
+            }
+            aData += aLength;
+            bData += bLength;
+        }
+        // the most recent timestamp first
+        int result = Long.compare(buffer.getLong(bData), buffer.getLong(aData));
+        if (result != 0) {
+            return result;
+        }
+        // deleted keys first
+        return Byte.compare(buffer.get(bData + Long.BYTES), buffer.get(aData + Long.BYTES));
+    }
+    
+    private int compareBytes(int a, int aLength, int b, int bLength) {
+        int length = Math.min(aLength, bLength);
+        for (int i = 0; i < length; i++) {
+            int result = (buffer.get(a + i) & 0xff) - (buffer.get(b + i) & 0xff);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return aLength - bLength;
+    }
+    
+    private int length(int offset, int part) {
+        return buffer.getInt(offset + part * Integer.BYTES);
+    }
+    
+    private int entryLength(int offset) {
+        int length = HEADER_LENGTH + Long.BYTES + 1;
+        for (int part = ROW; part <= VALUE; part++) {
+            length += length(offset, part);
+        }
+        return length;
+    }
+    
+    /**
+     * Deserialize the key of an entry
+     * 
+     * @param index
+     * @return the key
+     */
+    public Key getKey(int index) {
+        int offset = offsets[index];
+        int data = offset + HEADER_LENGTH;
+        byte[][] parts = new byte[COLUMN_VISIBILITY + 1][];
+        for (int part = ROW; part <= COLUMN_VISIBILITY; part++) {
+            parts[part] = get(data, length(offset, part));
+            data += parts[part].length;
+        }
+        return new Key(parts[ROW], parts[COLUMN_FAMILY], parts[COLUMN_QUALIFIER], parts[COLUMN_VISIBILITY], buffer.getLong(data),
+                        buffer.get(data + Long.BYTES) != 0);
+    }
+    
+    /**
+     * Deserialize the value of an entry
+     * 
+     * @param index
+     * @return the value
+     */
+    public Value getValue(int index) {
+        int offset = offsets[index];
+        int data = offset + HEADER_LENGTH + Long.BYTES + 1;
+        for (int part = ROW; part <= COLUMN_VISIBILITY; part++) {
+            data += length(offset, part);
+        }
+        return new Value(get(data, length(offset, VALUE)));
+    }
+    
+    private byte[] get(int offset, int length) {
+        byte[] bytes = new byte[length];
+        ByteBuffer source = buffer.duplicate();
+        source.position(offset);
+        source.get(bytes);
+        return bytes;
+    }
+    
+    /**
+     * @return the number of entries in the buffer
+     */
+    public int size() {
+        return size;
+    }
+    
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /**
+     * @return the number of bytes used by the entries
+     */
+    public int getBytesUsed() {
+        return buffer.position();
+    }
+    
+    public int getCapacity() {
+        return buffer.capacity();
+    }
+    
+    /**
+     * @return the underlying buffer, to be reused once this buffer is no longer used
+     */
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+    
+    /**
+     * Remove all of the entries
+     */
+    public void clear() {
+        buffer.clear();
+        size = 0;
+    }
+}
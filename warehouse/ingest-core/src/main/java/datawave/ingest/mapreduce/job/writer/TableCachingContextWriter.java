@@ -3,8 +3,11 @@ package datawave.ingest.mapreduce.job.writer;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +24,9 @@ import org.apache.hadoop.mapreduce.TaskInputOutputContext;
  * aggregated as the entries are received. This cache will cache values across calls to commit, which means that entries are aggregated across events (see
  * EventMapper contextWriter commit calls).
  * 
+ * The cached entries of each table are held serialized in an off-heap {@link SortedEntryBuffer}, taken from a pool of buffers reused across tables and
+ * flushes. Entries are appended as they are received. When the cache of a table is full, its entries are sorted and the entries with equal keys are combined
+ * into another buffer, and only if the combined entries still fill most of the cache are they flushed, in sorted order, to the chained context writer.
  */
 public class TableCachingContextWriter extends AbstractContextWriter<BulkIngestKey,Value> implements ChainedContextWriter<BulkIngestKey,Value> {
     
@@ -34,6 +40,16 @@ public class TableCachingContextWriter extends AbstractContextWriter<BulkIngestK
     public static final String FLUSHED_BUFFER_COUNTER = "TABLE_CACHE_FLUSHES";
     public static final String FLUSHED_BUFFER_TOTAL = "TABLE_CACHE_FLUSHED_ENTRIES";
     
+    // a counter to keep track of how often the buffer for a table gets combined
+    public static final String COMBINED_BUFFER_COUNTER = "TABLE_CACHE_COMBINES";
+    
+    // The property used to configure the size in bytes of the buffers holding the cached entries of a table
+    public static final String BUFFER_SIZE = "ingest.table.caching.context.writer.buffer.size";
+    public static final int DEFAULT_BUFFER_SIZE = 8 * 1024 * 1024;
+    
+    // the cache of a table is flushed when its combined entries still fill this fraction of the max entries or of the buffer
+    private static final double FLUSH_THRESHOLD = 0.75;
+    
     // This is the cache configuration
     private static final Map<Text,Integer> tableCacheConf = new HashMap<>();
     
@@ -42,7 +58,11 @@ public class TableCachingContextWriter extends AbstractContextWriter<BulkIngestK
     public static final String TABLES_TO_CACHE_SUFFIX = ".table.context.writer.cache";
     
     // This is the cache
-    private final Map<Text,Multimap<BulkIngestKey,Value>> aggregatedCache = new HashMap<>();
+    private final Map<Text,SortedEntryBuffer> aggregatedCache = new HashMap<>();
+    
+    // The buffers not currently holding the cache of a table
+    private final Deque<ByteBuffer> bufferPool = new ArrayDeque<>();
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
     
     // This is the combiner used to aggregate values
     private CachingContextWriter combinerCache = new CachingContextWriter();
@@ -68,6 +88,8 @@ public class TableCachingContextWriter extends AbstractContextWriter<BulkIngestK
         // Configure the combiner
         combiner.setup(conf);
         
+        bufferSize = conf.getInt(BUFFER_SIZE, DEFAULT_BUFFER_SIZE);
+        
         // get the tables to cache configuration
         for (Map.Entry<String,String> prop : conf) {
             if (prop.getKey().endsWith(TABLES_TO_CACHE_SUFFIX)) {
@@ -126,51 +148,128 @@ public class TableCachingContextWriter extends AbstractContextWriter<BulkIngestK
     public void cleanup(TaskInputOutputContext<?,?,BulkIngestKey,Value> context) throws IOException, InterruptedException {
         super.cleanup(context);
         flushAll(context);
+        bufferPool.clear();
         contextWriter.cleanup(context);
     }
     
     private void flushAll(TaskInputOutputContext<?,?,BulkIngestKey,Value> context) throws IOException, InterruptedException {
         // pass all of the data through the delegate and clear the cache
-        for (Map.Entry<Text,Multimap<BulkIngestKey,Value>> entries : aggregatedCache.entrySet()) {
-            if (!entries.getValue().isEmpty()) {
-                getCounter(context, FLUSHED_BUFFER_TOTAL, entries.getKey().toString()).increment(entries.getValue().size());
-                getCounter(context, FLUSHED_BUFFER_COUNTER, entries.getKey().toString()).increment(1);
-                contextWriter.write(entries.getValue(), context);
+        for (Map.Entry<Text,SortedEntryBuffer> entries : aggregatedCache.entrySet()) {
+            SortedEntryBuffer combined = entries.getValue();
+            if (!combined.isEmpty()) {
+                combined = combine(entries.getKey(), combined, context);
+                flushCache(entries.getKey(), combined, context);
             }
+            release(combined);
         }
         aggregatedCache.clear();
     }
     
     private void cache(BulkIngestKey key, Collection<Value> values, TaskInputOutputContext<?,?,BulkIngestKey,Value> context) throws IOException,
                     InterruptedException {
-        List<Value> valueList = new ArrayList<>();
-        valueList.addAll(values);
+        Text tableName = key.getTableName();
+        int maxCacheSize = tableCacheConf.get(tableName);
         
-        Multimap<BulkIngestKey,Value> entries = aggregatedCache.get(key.getTableName());
-        if (entries != null) {
-            valueList.addAll(entries.removeAll(key));
-        } else {
-            entries = HashMultimap.create();
-            aggregatedCache.put(key.getTableName(), entries);
+        SortedEntryBuffer entries = aggregatedCache.get(tableName);
+        if (entries == null) {
+            entries = new SortedEntryBuffer(borrowBuffer());
+            aggregatedCache.put(tableName, entries);
         }
         
-        // reduce the entries as needed
-        if (valueList.size() > 1) {
-            entries.putAll(key, reduceValues(key, valueList, context));
-        } else {
-            entries.putAll(key, valueList);
+        for (Value value : values) {
+            if (entries.size() >= maxCacheSize || !entries.add(key.getKey(), value)) {
+                // the cache is full, so combine the entries to make room and flush them if too few were combined
+                entries = combine(tableName, entries, context);
+                if (entries.size() >= maxCacheSize * FLUSH_THRESHOLD || entries.getBytesUsed() >= entries.getCapacity() * FLUSH_THRESHOLD) {
+                    flushCache(tableName, entries, context);
+                }
+                aggregatedCache.put(tableName, entries);
+                
+                if (entries.size() >= maxCacheSize || !entries.add(key.getKey(), value)) {
+                    // too large to cache at all
+                    contextWriter.write(key, value, context);
+                }
+            }
         }
-        
-        // now flush this tables cache if needed
-        if (entries.size() >= tableCacheConf.get(key.getTableName())) {
+    }
+    
+    /**
+     * Sort the cached entries of a table and combine the entries with equal keys. The combined entries are written to another buffer as combining may grow
+     * the values, and the buffer of the given entries is returned to the pool.
+     * 
+     * @param tableName
+     * @param entries
+     * @param context
+     * @return the combined entries, in sorted order
+     * @throws IOException
+     * @throws InterruptedException
+     */
+    private SortedEntryBuffer combine(Text tableName, SortedEntryBuffer entries, TaskInputOutputContext<?,?,BulkIngestKey,Value> context)
+                    throws IOException, InterruptedException {
+        entries.sort();
+        SortedEntryBuffer combined = new SortedEntryBuffer(borrowBuffer());
+        int start = 0;
+        while (start < entries.size()) {
+            int end = start + 1;
+            while (end < entries.size() && entries.sameKey(start, end)) {
+                end++;
+            }
+            
+            if (end - start == 1) {
+                if (!combined.add(entries, start)) {
+                    contextWriter.write(new BulkIngestKey(tableName, entries.getKey(start)), entries.getValue(start), context);
+                }
+            } else {
+                BulkIngestKey key = new BulkIngestKey(tableName, entries.getKey(start));
+                List<Value> valueList = new ArrayList<>(end - start);
+                for (int i = start; i < end; i++) {
+                    valueList.add(entries.getValue(i));
+                }
+                for (Value value : reduceValues(key, valueList, context)) {
+                    if (!combined.add(key.getKey(), value)) {
+                        // the combined values outgrew the buffer, so pass the remainder through
+                        contextWriter.write(key, value, context);
+                    }
+                }
+            }
+            start = end;
+        }
+        getCounter(context, COMBINED_BUFFER_COUNTER, tableName.toString()).increment(1);
+        release(entries);
+        return combined;
+    }
+    
+    /**
+     * Pass the cached entries of a table through the delegate in order and clear them
+     * 
+     * @param tableName
+     * @param entries
+     * @param context
+     * @throws IOException
+     * @throws InterruptedException
+     */
+    private void flushCache(Text tableName, SortedEntryBuffer entries, TaskInputOutputContext<?,?,BulkIngestKey,Value> context) throws IOException,
+                    InterruptedException {
+        if (!entries.isEmpty()) {
             // register that we overran the cache for this table
-            getCounter(context, FLUSHED_BUFFER_TOTAL, key.getTableName().toString()).increment(entries.size());
-            getCounter(context, FLUSHED_BUFFER_COUNTER, key.getTableName().toString()).increment(1);
-            contextWriter.write(entries, context);
-            aggregatedCache.remove(key.getTableName());
+            getCounter(context, FLUSHED_BUFFER_TOTAL, tableName.toString()).increment(entries.size());
+            getCounter(context, FLUSHED_BUFFER_COUNTER, tableName.toString()).increment(1);
+            for (int i = 0; i < entries.size(); i++) {
+                contextWriter.write(new BulkIngestKey(tableName, entries.getKey(i)), entries.getValue(i), context);
+            }
+            entries.clear();
         }
     }
     
+    private ByteBuffer borrowBuffer() {
+        ByteBuffer buffer = bufferPool.poll();
+        return (buffer != null ? buffer : ByteBuffer.allocateDirect(bufferSize));
+    }
+    
+    private void release(SortedEntryBuffer entries) {
+        bufferPool.push(entries.getBuffer());
+    }
+    
     /**
      * Reduce the list of values for a key.
      * 
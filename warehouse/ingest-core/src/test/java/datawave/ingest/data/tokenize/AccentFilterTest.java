@@ -0,0 +1,35 @@
+package datawave.ingest.data.tokenize;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class AccentFilterTest {
+    
+    @Test
+    public void testStrip() {
+        assertEquals("cafe", AccentFilter.strip("café"));
+        assertEquals("AEsir", AccentFilter.strip("Æsir"));
+        assertEquals("Aa", AccentFilter.strip("Ａạ"));
+        // arabic vowels are removed
+        assertEquals("كتب", AccentFilter.strip("كَتَبَ"));
+        
+        // unchanged tokens are returned as is
+        String token = "plain";
+        assertSame(token, AccentFilter.strip(token));
+        token = "中文";
+        assertSame(token, AccentFilter.strip(token));
+    }
+    
+    @Test
+    public void testRemoveAccents() {
+        char[] input = "naïve œuvre".toCharArray();
+        char[] output = new char[input.length * AccentFilter.MAX_FOLDING_LENGTH];
+        int length = AccentFilter.removeAccents(input, output, input.length);
+        assertEquals("naive oeuvre", new String(output, 0, length));
+        
+        input = "nothing to do".toCharArray();
+        assertEquals(0, AccentFilter.removeAccents(input, output, input.length));
+    }
+}
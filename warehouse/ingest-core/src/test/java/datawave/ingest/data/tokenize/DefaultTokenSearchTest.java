@@ -0,0 +1,38 @@
+package datawave.ingest.data.tokenize;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.lucene.analysis.CharArraySet;
+import org.junit.Test;
+
+public class DefaultTokenSearchTest {
+    
+    @Test
+    public void testTokenWordSeparator() {
+        assertFalse(DefaultTokenSearch.hasTokenWordSeparator("word"));
+        assertFalse(DefaultTokenSearch.hasTokenWordSeparator("W0rdé"));
+        assertFalse(DefaultTokenSearch.hasTokenWordSeparator(""));
+        assertTrue(DefaultTokenSearch.hasTokenWordSeparator("two_words"));
+        assertTrue(DefaultTokenSearch.hasTokenWordSeparator("a.b"));
+        assertTrue(DefaultTokenSearch.hasTokenWordSeparator("tab\there"));
+    }
+    
+    @Test
+    public void testGetTokenWords() {
+        DefaultTokenSearch searchUtil = new DefaultTokenSearch(CharArraySet.EMPTY_SET);
+        
+        // a term without separators is its only word, so no words are added
+        List<String> words = new ArrayList<>();
+        searchUtil.getTokenWords("Word", ":zone", words);
+        assertTrue(words.isEmpty());
+        
+        searchUtil.getTokenWords("Two_Words.here", ":zone", words);
+        assertEquals(Arrays.asList("two:zone", "words:zone", "here:zone"), words);
+    }
+}
@@ -0,0 +1,172 @@
+package datawave.ingest.data.tokenize;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.FlagsAttribute;
+import org.apache.lucene.analysis.tokenattributes.OffsetAttribute;
+import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
+import org.apache.lucene.analysis.tokenattributes.PositionLengthAttribute;
+import org.apache.lucene.analysis.tokenattributes.TypeAttribute;
+import org.junit.Test;
+
+public class TokenSearchSynonymFilterTest {
+    
+    private final TokenSearch searchUtil = new DefaultTokenSearch(CharArraySet.EMPTY_SET);
+    
+    // the flags are not touched by the filter, so they show whether the whole state of a token is kept
+    private final TokenAttributes email = new TokenAttributes("First.Last@Example.com", "<EMAIL>", 4, 26, 3, 2, 7);
+    private final TokenAttributes plain = new TokenAttributes("plain", "<ALPHANUM>", 27, 32, 1, 1, 5);
+    
+    private List<String> getSynonyms(TokenAttributes token) {
+        return new ArrayList<>(searchUtil.getSynonyms(new String[] {token.term, ""}, token.type, false));
+    }
+    
+    private List<TokenAttributes> filter(boolean synonymPositionsEnabled, TokenAttributes... tokens) throws IOException {
+        List<TokenAttributes> output = new ArrayList<>();
+        try (TokenSearchSynonymFilter filter = new TokenSearchSynonymFilter(new TokenListStream(Arrays.asList(tokens)), searchUtil)) {
+            filter.setSynonymPositionsEnabled(synonymPositionsEnabled);
+            filter.reset();
+            while (filter.incrementToken()) {
+                output.add(TokenAttributes.of(filter));
+            }
+            filter.end();
+        }
+        return output;
+    }
+    
+    @Test
+    public void testBaseTokenKeepsItsAttributes() throws IOException {
+        List<String> synonyms = getSynonyms(email);
+        assertTrue(synonyms.size() > 1);
+        assertTrue(getSynonyms(plain).isEmpty());
+        
+        List<TokenAttributes> output = filter(false, email, plain);
+        assertEquals(synonyms.size() + 2, output.size());
+        
+        // the base token is emitted first, as it was, followed by its synonyms at the same position and offsets
+        assertEquals(email, output.get(0));
+        for (int i = 0; i < synonyms.size(); i++) {
+            assertEquals(new TokenAttributes(synonyms.get(i), "<EMAIL_SYNONYM>", 4, 26, 0, 1, 7), output.get(i + 1));
+        }
+        
+        // a token without synonyms passes through untouched
+        assertEquals(plain, output.get(output.size() - 1));
+    }
+    
+    @Test
+    public void testBaseTokenWithSynonymPositions() throws IOException {
+        List<String> synonyms = getSynonyms(email);
+        
+        List<TokenAttributes> output = filter(true, email, plain);
+        assertEquals(synonyms.size() + 2, output.size());
+        
+        // the base token spans its synonyms, which follow one another from its position
+        assertEquals(new TokenAttributes(email.term, email.type, 4, 26, 3, Math.max(2, synonyms.size()), 7), output.get(0));
+        for (int i = 0; i < synonyms.size(); i++) {
+            assertEquals(new TokenAttributes(synonyms.get(i), "<EMAIL_SYNONYM>", 4, 26, i == 0 ? 0 : 1, 1, 7), output.get(i + 1));
+        }
+        assertEquals(plain, output.get(output.size() - 1));
+    }
+    
+    /**
+     * The attributes of a token
+     */
+    private static class TokenAttributes {
+        private final String term;
+        private final String type;
+        private final int startOffset;
+        private final int endOffset;
+        private final int positionIncrement;
+        private final int positionLength;
+        private final int flags;
+        
+        private TokenAttributes(String term, String type, int startOffset, int endOffset, int positionIncrement, int positionLength, int flags) {
+            this.term = term;
+            this.type = type;
+            this.startOffset = startOffset;
+            this.endOffset = endOffset;
+            this.positionIncrement = positionIncrement;
+            this.positionLength = positionLength;
+            this.flags = flags;
+        }
+        
+        private static TokenAttributes of(TokenStream stream) {
+            OffsetAttribute offsetAtt = stream.getAttribute(OffsetAttribute.class);
+            return new TokenAttributes(stream.getAttribute(CharTermAttribute.class).toString(), stream.getAttribute(TypeAttribute.class).type(),
+                            offsetAtt.startOffset(), offsetAtt.endOffset(), stream.getAttribute(PositionIncrementAttribute.class).getPositionIncrement(),
+                            stream.getAttribute(PositionLengthAttribute.class).getPositionLength(), stream.getAttribute(FlagsAttribute.class).getFlags());
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof TokenAttributes)) {
+                return false;
+            }
+            TokenAttributes other = (TokenAttributes) o;
+            return term.equals(other.term) && type.equals(other.type) && startOffset == other.startOffset && endOffset == other.endOffset
+                            && positionIncrement == other.positionIncrement && positionLength == other.positionLength && flags == other.flags;
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(term, type, startOffset, endOffset, positionIncrement, positionLength, flags);
+        }
+        
+        @Override
+        public String toString() {
+            return term + " " + type + " [" + startOffset + "," + endOffset + ") +" + positionIncrement + " len " + positionLength + " flags " + flags;
+        }
+    }
+    
+    /**
+     * Emits a list of tokens with their attributes, as a tokenizer would
+     */
+    private static class TokenListStream extends TokenStream {
+        private final CharTermAttribute termAtt = addAttribute(CharTermAttribute.class);
+        private final TypeAttribute typeAtt = addAttribute(TypeAttribute.class);
+        private final OffsetAttribute offsetAtt = addAttribute(OffsetAttribute.class);
+        private final PositionIncrementAttribute posIncrAtt = addAttribute(PositionIncrementAttribute.class);
+        private final PositionLengthAttribute posLenAtt = addAttribute(PositionLengthAttribute.class);
+        private final FlagsAttribute flagsAtt = addAttribute(FlagsAttribute.class);
+        
+        private final List<TokenAttributes> tokens;
+        private Iterator<TokenAttributes> iterator;
+        
+        private TokenListStream(List<TokenAttributes> tokens) {
+            this.tokens = tokens;
+        }
+        
+        @Override
+        public void reset() throws IOException {
+            super.reset();
+            iterator = tokens.iterator();
+        }
+        
+        @Override
+        public boolean incrementToken() {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            clearAttributes();
+            TokenAttributes token = iterator.next();
+            termAtt.setEmpty().append(token.term);
+            typeAtt.setType(token.type);
+            offsetAtt.setOffset(token.startOffset, token.endOffset);
+            posIncrAtt.setPositionIncrement(token.positionIncrement);
+            posLenAtt.setPositionLength(token.positionLength);
+            flagsAtt.setFlags(token.flags);
+            return true;
+        }
+    }
+}
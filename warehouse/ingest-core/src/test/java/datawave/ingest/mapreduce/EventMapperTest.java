@@ -28,7 +28,9 @@ import static org.easymock.EasyMock.*;
 import static org.junit.Assert.*;
 
 import java.io.IOException;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 public class EventMapperTest {
     
@@ -204,6 +206,36 @@ public class EventMapperTest {
         assertEquals(4, written.size());
     }
     
+    @Test
+    public void shouldProcessEventsOnWorkerThreads() throws IOException, InterruptedException {
+        conf.setInt(EventMapper.EVENT_PROCESSING_THREADS, 4);
+        conf.setInt(EventMapper.MAX_PENDING_EVENTS, 3);
+        
+        eventMapper.setup(mapContext);
+        for (int i = 0; i < 20; i++) {
+            eventMapper.map(new LongWritable(i), record, mapContext);
+        }
+        eventMapper.cleanup(mapContext);
+        
+        Multimap<BulkIngestKey,Value> written = TestContextWriter.getWritten();
+        
+        // each event is numbered by the order it was read
+        Set<String> origFiles = new HashSet<>();
+        for (Map.Entry<BulkIngestKey,Value> entry : written.entries()) {
+            if (entry.getKey().getKey().getColumnFamily().toString().equals(EventMapper.SEQUENCE_FILE_FIELDNAME)) {
+                String origFile = entry.getKey().getKey().getColumnQualifier().toString();
+                origFiles.add(origFile.substring(origFile.lastIndexOf('|')));
+            }
+        }
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            expected.add("|" + i);
+        }
+        assertEquals(expected, origFiles);
+        
+        assertNotNull(getRawFileName(written));
+    }
+    
     private Map.Entry<BulkIngestKey,Value> getMetric(Multimap<BulkIngestKey,Value> written) {
         return getFieldEntry(written, Metric.EVENT_COUNT.toString());
     }
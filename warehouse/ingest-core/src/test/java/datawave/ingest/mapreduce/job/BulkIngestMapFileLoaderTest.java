@@ -12,9 +12,16 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import datawave.common.test.integration.IntegrationTest;
 import datawave.common.test.logging.CommonTestAppender;
@@ -24,7 +31,9 @@ import datawave.ingest.data.config.NormalizedContentInterface;
 import datawave.ingest.data.config.ingest.BaseIngestHelper;
 import datawave.ingest.input.reader.EventRecordReader;
 import datawave.ingest.input.reader.LongLineEventRecordReader;
+import datawave.ingest.mapreduce.StandaloneStatusReporter;
 
+import org.apache.accumulo.core.client.admin.TableOperations;
 import org.apache.accumulo.core.client.security.tokens.PasswordToken;
 import org.apache.accumulo.core.client.impl.Credentials;
 import org.apache.hadoop.conf.Configuration;
@@ -36,11 +45,14 @@ import org.apache.hadoop.fs.PositionedReadable;
 import org.apache.hadoop.fs.RawLocalFileSystem;
 import org.apache.hadoop.fs.Seekable;
 import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapreduce.Counter;
+import org.apache.hadoop.mapreduce.Counters;
 import org.apache.hadoop.mapreduce.InputSplit;
 import org.apache.hadoop.mapreduce.RecordReader;
 import org.apache.hadoop.mapreduce.TaskAttemptContext;
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
+import org.easymock.EasyMock;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -48,6 +60,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.contrib.java.lang.system.ExpectedSystemExit;
 import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
 import org.powermock.api.easymock.PowerMock;
 import org.powermock.reflect.Whitebox;
 
@@ -68,6 +81,9 @@ public class BulkIngestMapFileLoaderTest {
     @Rule
     public final ExpectedSystemExit exit = ExpectedSystemExit.none();
     
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
     @Test
     public void testShutdownPortAlreadyInUse() throws IOException {
         exit.expectSystemExitWithStatus(-3);
@@ -1027,6 +1043,47 @@ public class BulkIngestMapFileLoaderTest {
         }
     }
     
+    @Test
+    public void testMainWithBadNumJobThreads() throws IOException, InterruptedException {
+        
+        BulkIngestMapFileLoaderTest.logger.info("testMainWithBadNumJobThreads called...");
+        
+        try {
+            
+            List<String> cmdList = ProcessUtils.buildApplicationCommandLine(BulkIngestMapFileLoader.class.getName(), systemProperties, false);
+            
+            for (int counter = 0; counter < 6; counter++) {
+                
+                cmdList.add(String.format("%d", counter));
+            }
+            
+            cmdList.add("-numJobThreads");
+            cmdList.add("hello, world");
+            
+            String[] cmdArray = ProcessUtils.convertCommandLine(cmdList);
+            
+            Map<String,String> newEnvironment = new HashMap<>();
+            List<String> dropFromEnvironment = new ArrayList<>();
+            File workingDirectory = new File(System.getProperty("user.dir"));
+            
+            Process proc = ProcessUtils.runInstance(cmdArray, newEnvironment, dropFromEnvironment, workingDirectory);
+            
+            int procResults = proc.waitFor();
+            
+            Assert.assertEquals("BulkIngestMapLoader#main failed to return the expected value.", ProcessUtils.SYSTEM_EXIT_MINUS_TWO, procResults);
+            
+            List<String> stdOut = ProcessUtils.getStandardOutDumps(proc);
+            
+            Assert.assertTrue("BulkIngestMapLoader#main failed to generate the expected error message",
+                            processOutputContains(stdOut, "-numJobThreads must be followed by the number of job directories to load at once"));
+            
+        } finally {
+            
+            BulkIngestMapFileLoaderTest.logger.info("testMainWithBadNumJobThreads completed.");
+            
+        }
+    }
+    
     @Test
     public void testMainWithBadNumAssignThreads() throws IOException, InterruptedException {
         
@@ -2696,4 +2753,272 @@ public class BulkIngestMapFileLoaderTest {
         }
         
     }
+    
+    /**
+     * Stages and loads job directories without a cluster, recording what the pipeline does with them
+     */
+    protected static class PipelineMapFileLoader extends BulkIngestMapFileLoader {
+        
+        protected Path[] jobDirectories;
+        protected final AtomicInteger majorCompactionCount = new AtomicInteger();
+        protected final CountDownLatch staged;
+        protected final List<Path> stagedDirectories = Collections.synchronizedList(new ArrayList<>());
+        protected final List<Path> stagedWhileLoading = Collections.synchronizedList(new ArrayList<>());
+        protected final List<Path[]> writtenJobDirectories = Collections.synchronizedList(new ArrayList<>());
+        protected final List<Counters> writtenStats = Collections.synchronizedList(new ArrayList<>());
+        
+        public PipelineMapFileLoader(URI hdfs, Path... jobDirectories) {
+            super(".", "jobs/", "localhost", "localhost", new Credentials("user", new PasswordToken("pass")), hdfs, hdfs, hdfs, "localhost",
+                            new HashMap<>(), new Configuration(), 0);
+            this.jobDirectories = jobDirectories;
+            this.staged = new CountDownLatch(jobDirectories.length);
+        }
+        
+        @Override
+        protected Path[] getJobDirectories() {
+            // hand out the job directories once
+            Path[] jobDirectories = this.jobDirectories;
+            this.jobDirectories = new Path[0];
+            return jobDirectories;
+        }
+        
+        @Override
+        protected int getMajorCompactionCount() {
+            return majorCompactionCount.get();
+        }
+        
+        @Override
+        public boolean takeOwnershipJobDirectory(Path jobDirectory) {
+            return true;
+        }
+        
+        @Override
+        protected Path distCpDirectory(Path jobDirectory) {
+            stagedDirectories.add(jobDirectory);
+            staged.countDown();
+            return jobDirectory;
+        }
+        
+        @Override
+        public void bringMapFilesOnline(Path mapFilesDir, StandaloneStatusReporter reporter) throws IOException {
+            // wait for the other job directories to be staged while this one is loaded
+            try {
+                if (staged.await(10, TimeUnit.SECONDS)) {
+                    stagedWhileLoading.add(mapFilesDir.getParent());
+                }
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            reporter.getCounter("MapFileLoader.ImportTimes", mapFilesDir.getParent().getName()).increment(1);
+        }
+        
+        @Override
+        public void verifyNothingLeftBehind(Path mapFilesDir) {}
+        
+        @Override
+        public void cleanUpJobDirectory(Path mapFilesDir) {}
+        
+        @Override
+        protected void writeStats(Path[] jobDirectories, StandaloneStatusReporter reporter) {
+            writtenJobDirectories.add(jobDirectories);
+            writtenStats.add(reporter.getCounters());
+        }
+    }
+    
+    protected static Set<String> getCounterNames(Counters counters, String group) {
+        Set<String> names = new HashSet<>();
+        for (Counter counter : counters.getGroup(group)) {
+            names.add(counter.getName());
+        }
+        return names;
+    }
+    
+    protected static void setStatic(String field, Object value) {
+        Whitebox.setInternalState(BulkIngestMapFileLoader.class, field, value);
+    }
+    
+    /**
+     * Save the static settings of the loader, as the main tests change them, and reset those the pipeline tests rely on
+     */
+    protected static Map<String,Object> saveStatics() {
+        Map<String,Object> statics = new HashMap<>();
+        for (String field : Arrays.asList("SLEEP_TIME", "MAJC_CHECK_INTERVAL", "MAJC_THRESHOLD", "MAJC_WAIT_TIMEOUT", "MAX_BACKOFF_TIME", "JOB_THREADS",
+                        "MAX_TABLE_IMPORTS")) {
+            statics.put(field, Whitebox.getInternalState(BulkIngestMapFileLoader.class, field));
+        }
+        setStatic("SLEEP_TIME", 10);
+        setStatic("MAJC_CHECK_INTERVAL", 1);
+        setStatic("MAJC_THRESHOLD", 3000);
+        setStatic("MAJC_WAIT_TIMEOUT", 0);
+        setStatic("MAX_BACKOFF_TIME", 80);
+        setStatic("JOB_THREADS", 1);
+        setStatic("MAX_TABLE_IMPORTS", 1);
+        return statics;
+    }
+    
+    protected static void restoreStatics(Map<String,Object> statics) {
+        statics.forEach(BulkIngestMapFileLoaderTest::setStatic);
+    }
+    
+    @Test
+    public void testStagingOverlapsLoading() throws Exception {
+        
+        BulkIngestMapFileLoaderTest.logger.info("testStagingOverlapsLoading called...");
+        
+        Map<String,Object> statics = saveStatics();
+        try {
+            Path job1 = new Path(temporaryFolder.getRoot().toURI().toString(), "job1");
+            Path job2 = new Path(temporaryFolder.getRoot().toURI().toString(), "job2");
+            PipelineMapFileLoader uut = new PipelineMapFileLoader(temporaryFolder.getRoot().toURI(), job1, job2);
+            
+            Thread thread = new Thread(uut);
+            thread.start();
+            try {
+                // the first job directory is loaded while the second one is staged
+                Assert.assertTrue("BulkIngestMapFileLoader failed to stage the job directories", uut.staged.await(10, TimeUnit.SECONDS));
+            } finally {
+                // the pending job directories finish loading before the loader shuts down
+                uut.shutdown();
+                thread.join(10000);
+            }
+            Assert.assertFalse("BulkIngestMapFileLoader failed to shut down", thread.isAlive());
+            
+            Assert.assertEquals(Arrays.asList(job1, job2), uut.stagedDirectories);
+            Assert.assertTrue("BulkIngestMapFileLoader failed to stage the second job directory while loading the first one",
+                            uut.stagedWhileLoading.contains(job1));
+            
+            // only the counters of the completed job directories are written with them
+            Assert.assertEquals(2, uut.writtenJobDirectories.size());
+            Assert.assertArrayEquals(new Path[] {job1}, uut.writtenJobDirectories.get(0));
+            Assert.assertArrayEquals(new Path[] {job2}, uut.writtenJobDirectories.get(1));
+            for (String group : Arrays.asList("MapFileLoader.StartTimes", "MapFileLoader.LoadWaitTimes", "MapFileLoader.ImportTimes",
+                            "MapFileLoader.LoadTimes")) {
+                Assert.assertEquals(group, Collections.singleton("job1"), getCounterNames(uut.writtenStats.get(0), group));
+                Assert.assertEquals(group, Collections.singleton("job2"), getCounterNames(uut.writtenStats.get(1), group));
+            }
+            
+        } finally {
+            restoreStatics(statics);
+            
+            BulkIngestMapFileLoaderTest.logger.info("testStagingOverlapsLoading completed.");
+        }
+    }
+    
+    @Test
+    public void testCompactionBackoff() throws Exception {
+        
+        BulkIngestMapFileLoaderTest.logger.info("testCompactionBackoff called...");
+        
+        Map<String,Object> statics = saveStatics();
+        try {
+            // double the wait while there are too many major compactions, up to the max backoff time
+            Assert.assertEquals(20, BulkIngestMapFileLoader.getBackoffTime(10, 3000));
+            Assert.assertEquals(40, BulkIngestMapFileLoader.getBackoffTime(20, 5000));
+            Assert.assertEquals(80, BulkIngestMapFileLoader.getBackoffTime(40, 5000));
+            Assert.assertEquals(80, BulkIngestMapFileLoader.getBackoffTime(80, 5000));
+            Assert.assertEquals(10, BulkIngestMapFileLoader.getBackoffTime(10, 2999));
+            
+            // never wait less than the sleep time
+            setStatic("MAX_BACKOFF_TIME", 5);
+            Assert.assertEquals(10, BulkIngestMapFileLoader.getBackoffTime(10, 5000));
+            setStatic("MAX_BACKOFF_TIME", 80);
+            
+            // no job directories are staged until the major compactions are worked off
+            Path job1 = new Path(temporaryFolder.getRoot().toURI().toString(), "job1");
+            PipelineMapFileLoader uut = new PipelineMapFileLoader(temporaryFolder.getRoot().toURI(), job1);
+            uut.majorCompactionCount.set(5000);
+            
+            Thread thread = new Thread(uut);
+            thread.start();
+            try {
+                Assert.assertFalse("BulkIngestMapFileLoader staged a job directory while there were too many major compactions",
+                                uut.staged.await(500, TimeUnit.MILLISECONDS));
+                uut.majorCompactionCount.set(0);
+                Assert.assertTrue("BulkIngestMapFileLoader failed to stage the job directory after the major compactions were worked off",
+                                uut.staged.await(10, TimeUnit.SECONDS));
+            } finally {
+                uut.shutdown();
+                thread.join(10000);
+            }
+            Assert.assertFalse("BulkIngestMapFileLoader failed to shut down", thread.isAlive());
+            Assert.assertEquals(1, uut.writtenJobDirectories.size());
+            
+        } finally {
+            restoreStatics(statics);
+            
+            BulkIngestMapFileLoaderTest.logger.info("testCompactionBackoff completed.");
+        }
+    }
+    
+    /**
+     * Import a job directory into each of the tables at once, recording the most imports running at once in each table
+     */
+    protected Map<String,Integer> runImports(String... tableNames) throws Exception {
+        Map<String,AtomicInteger> running = new HashMap<>();
+        Map<String,AtomicInteger> maxRunning = new HashMap<>();
+        for (String tableName : tableNames) {
+            running.putIfAbsent(tableName, new AtomicInteger());
+            maxRunning.putIfAbsent(tableName, new AtomicInteger());
+        }
+        // imports into different tables wait for each other, so that they are known to run at once
+        Set<String> distinctTables = new HashSet<>(Arrays.asList(tableNames));
+        CountDownLatch tablesImporting = new CountDownLatch(distinctTables.size());
+        Set<String> tablesCounted = Collections.synchronizedSet(new HashSet<>());
+        AtomicInteger tablesNotImportedAtOnce = new AtomicInteger();
+        
+        TableOperations tops = EasyMock.createMock(TableOperations.class);
+        tops.importDirectory(EasyMock.anyString(), EasyMock.anyString(), EasyMock.anyString(), EasyMock.anyBoolean());
+        EasyMock.expectLastCall().andAnswer(() -> {
+            String tableName = (String) EasyMock.getCurrentArguments()[0];
+            int imports = running.get(tableName).incrementAndGet();
+            maxRunning.get(tableName).accumulateAndGet(imports, Math::max);
+            if (tablesCounted.add(tableName)) {
+                tablesImporting.countDown();
+            }
+            if (!tablesImporting.await(10, TimeUnit.SECONDS)) {
+                tablesNotImportedAtOnce.incrementAndGet();
+            }
+            Thread.sleep(50);
+            running.get(tableName).decrementAndGet();
+            return null;
+        }).times(tableNames.length);
+        EasyMock.replay(tops);
+        
+        PipelineMapFileLoader uut = new PipelineMapFileLoader(temporaryFolder.getRoot().toURI());
+        List<BulkIngestMapFileLoader.ImportRunnable> imports = new ArrayList<>();
+        for (int i = 0; i < tableNames.length; i++) {
+            Path tableDir = new Path(temporaryFolder.newFolder("job" + i, "mapFiles", tableNames[i]).toURI().toString());
+            Path mapFilesDir = tableDir.getParent();
+            imports.add(uut.startImport(mapFilesDir, tableNames[i], tableDir, tops, new StandaloneStatusReporter()));
+        }
+        for (BulkIngestMapFileLoader.ImportRunnable runnable : imports) {
+            runnable.waitForCompletion();
+            Assert.assertNull(runnable.getException());
+        }
+        EasyMock.verify(tops);
+        Assert.assertEquals("BulkIngestMapFileLoader failed to import into different tables at once", 0, tablesNotImportedAtOnce.get());
+        
+        Map<String,Integer> results = new HashMap<>();
+        maxRunning.forEach((tableName, max) -> results.put(tableName, max.get()));
+        return results;
+    }
+    
+    @Test
+    public void testTableImportLimit() throws Exception {
+        
+        BulkIngestMapFileLoaderTest.logger.info("testTableImportLimit called...");
+        
+        Map<String,Object> statics = saveStatics();
+        try {
+            // one job directory is imported into a table at once, while other tables are imported alongside it
+            Map<String,Integer> maxRunning = runImports("shard", "shard", "shard", "shardIndex");
+            Assert.assertEquals(1, maxRunning.get("shard").intValue());
+            Assert.assertEquals(1, maxRunning.get("shardIndex").intValue());
+            
+        } finally {
+            restoreStatics(statics);
+            
+            BulkIngestMapFileLoaderTest.logger.info("testTableImportLimit completed.");
+        }
+    }
 }
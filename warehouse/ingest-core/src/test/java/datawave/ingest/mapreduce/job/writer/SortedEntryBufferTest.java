@@ -0,0 +1,72 @@
+package datawave.ingest.mapreduce.job.writer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Value;
+import org.junit.Test;
+
+public class SortedEntryBufferTest {
+    
+    @Test
+    public void testSortMatchesKeyOrder() {
+        Random random = new Random(42);
+        List<Key> keys = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Key key = new Key("row" + random.nextInt(5), "cf" + random.nextInt(3), "cq" + random.nextInt(4), "cv" + random.nextInt(2), random.nextInt(3));
+            key.setDeleted(random.nextBoolean());
+            keys.add(key);
+        }
+        // prefixes of each other and bytes above 0x7f
+        keys.add(new Key("row", "cf", "cq", "cv", 1));
+        keys.add(new Key("row\u00ff", "cf", "cq", "cv", 1));
+        keys.add(new Key("ro", "cf", "cq", "cv", 1));
+        
+        SortedEntryBuffer buffer = new SortedEntryBuffer(ByteBuffer.allocateDirect(64 * 1024));
+        for (Key key : keys) {
+            assertTrue(buffer.add(key, new Value(key.getRowData().toArray())));
+        }
+        buffer.sort();
+        
+        Collections.sort(keys);
+        assertEquals(keys.size(), buffer.size());
+        for (int i = 0; i < keys.size(); i++) {
+            assertEquals(keys.get(i), buffer.getKey(i));
+            assertEquals(keys.get(i).isDeleted(), buffer.getKey(i).isDeleted());
+            assertEquals(new Value(buffer.getKey(i).getRowData().toArray()), buffer.getValue(i));
+            if (i > 0) {
+                assertEquals(keys.get(i - 1).equals(keys.get(i)), buffer.sameKey(i - 1, i));
+            }
+        }
+    }
+    
+    @Test
+    public void testCopyAndCapacity() {
+        Key key = new Key("row", "cf", "cq", "cv", 10);
+        Value value = new Value("value".getBytes());
+        
+        SortedEntryBuffer buffer = new SortedEntryBuffer(ByteBuffer.allocate(1024));
+        assertTrue(buffer.add(key, value));
+        int entryLength = buffer.getBytesUsed();
+        
+        SortedEntryBuffer small = new SortedEntryBuffer(ByteBuffer.allocate(entryLength + 1));
+        assertTrue(small.add(buffer, 0));
+        assertFalse(small.add(buffer, 0));
+        assertFalse(small.add(key, value));
+        assertEquals(1, small.size());
+        assertEquals(key, small.getKey(0));
+        assertEquals(value, small.getValue(0));
+        
+        small.clear();
+        assertTrue(small.isEmpty());
+        assertTrue(small.add(key, value));
+    }
+}
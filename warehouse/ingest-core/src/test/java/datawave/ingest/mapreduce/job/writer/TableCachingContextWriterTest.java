@@ -0,0 +1,297 @@
+package datawave.ingest.mapreduce.job.writer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import datawave.TestBaseIngestHelper;
+import datawave.ingest.data.TypeRegistry;
+import datawave.ingest.data.config.DataTypeHelper.Properties;
+import datawave.ingest.mapreduce.StandaloneStatusReporter;
+import datawave.ingest.mapreduce.StandaloneTaskAttemptContext;
+import datawave.ingest.mapreduce.handler.dateindex.DateIndexDataTypeHandler;
+import datawave.ingest.mapreduce.job.BulkIngestKey;
+import datawave.ingest.mapreduce.job.reduce.BulkIngestKeyDedupeCombiner;
+import datawave.policy.IngestPolicyEnforcer;
+
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.iterators.Combiner;
+import org.apache.accumulo.core.iterators.IteratorEnvironment;
+import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapreduce.TaskInputOutputContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Multimap;
+
+public class TableCachingContextWriterTest {
+    
+    private static final String TABLE = "dateIndex";
+    
+    private Configuration conf;
+    private StandaloneTaskAttemptContext<?,?,BulkIngestKey,Value> context;
+    private TableCachingContextWriter writer;
+    
+    // the entries written, for the reference of caching them all in a multimap and combining them at once
+    private Multimap<BulkIngestKey,Value> written = ArrayListMultimap.create();
+    
+    @Before
+    public void setup() {
+        conf = new Configuration();
+        conf.set("data.name", "testdatatype");
+        conf.set("testdatatype.ingest.helper.class", TestBaseIngestHelper.class.getName());
+        conf.set("testdatatype.handler.classes", DateIndexDataTypeHandler.class.getName());
+        conf.set(DateIndexDataTypeHandler.DATEINDEX_TNAME, TABLE);
+        conf.set("all" + Properties.INGEST_POLICY_ENFORCER_CLASS, IngestPolicyEnforcer.NoOpIngestPolicyEnforcer.class.getName());
+        
+        // combine the values of the table with a union of their tokens
+        conf.setBoolean(BulkIngestKeyDedupeCombiner.USING_COMBINER, true);
+        conf.set("combiner." + TABLE + ".1.iterClazz", UnionCombiner.class.getName());
+        conf.setClass(TableCachingContextWriter.CONTEXT_WRITER_CLASS, RecordingContextWriter.class, ContextWriter.class);
+        
+        TypeRegistry.reset();
+        TypeRegistry.getInstance(conf);
+        
+        context = new StandaloneTaskAttemptContext<>(conf, new StandaloneStatusReporter());
+    }
+    
+    @After
+    public void cleanup() {
+        TypeRegistry.reset();
+    }
+    
+    private void setupWriter(int maxCacheSize, int bufferSize, int combinedWidth) throws Exception {
+        conf.setInt(TABLE + TableCachingContextWriter.TABLES_TO_CACHE_SUFFIX, maxCacheSize);
+        conf.setInt(TableCachingContextWriter.BUFFER_SIZE, bufferSize);
+        conf.setInt("combiner." + TABLE + ".1." + UnionCombiner.WIDTH_OPTION, combinedWidth);
+        writer = new TableCachingContextWriter();
+        writer.setup(conf, false);
+    }
+    
+    private void write(String row, String... tokens) throws Exception {
+        for (String token : tokens) {
+            BulkIngestKey key = new BulkIngestKey(new Text(TABLE), new Key(row, "cf", "cq"));
+            Value value = new Value(token.getBytes());
+            written.put(key, value);
+            writer.write(key, value, context);
+        }
+        writer.commit(context);
+    }
+    
+    private List<Map.Entry<BulkIngestKey,Value>> getOutput() {
+        RecordingContextWriter output = Whitebox.getInternalState(writer, "contextWriter");
+        return output.entries;
+    }
+    
+    private long getCounter(String group) {
+        return context.getCounter(group, TABLE).getValue();
+    }
+    
+    /**
+     * Verify that the output combines to the same tokens for each key as combining all of the written values at once, as when they were all cached in a
+     * multimap
+     */
+    private void assertSameAsCombiningAll() {
+        Map<Key,Set<String>> expected = new HashMap<>();
+        for (BulkIngestKey key : written.keySet()) {
+            expected.put(key.getKey(), UnionCombiner.tokens(new UnionCombiner().reduce(key.getKey(), written.get(key).iterator())));
+        }
+        Map<Key,Set<String>> actual = new HashMap<>();
+        for (Map.Entry<BulkIngestKey,Value> entry : getOutput()) {
+            assertEquals(new Text(TABLE), entry.getKey().getTableName());
+            actual.computeIfAbsent(entry.getKey().getKey(), k -> new TreeSet<>()).addAll(UnionCombiner.tokens(entry.getValue()));
+        }
+        assertEquals(expected, actual);
+    }
+    
+    @Test
+    public void testCombinedRunsKeptBelowThreshold() throws Exception {
+        setupWriter(10, 64 * 1024, 0);
+        
+        // the cache fills up, but combines into two entries so it is not flushed until cleanup
+        for (int i = 0; i < 15; i++) {
+            write("row1", "a" + i);
+            write("row2", "b" + i);
+        }
+        assertEquals(0, getOutput().size());
+        assertEquals(3, getCounter(TableCachingContextWriter.COMBINED_BUFFER_COUNTER));
+        assertEquals(0, getCounter(TableCachingContextWriter.FLUSHED_BUFFER_COUNTER));
+        
+        writer.cleanup(context);
+        assertEquals(2, getOutput().size());
+        assertEquals(1, getCounter(TableCachingContextWriter.FLUSHED_BUFFER_COUNTER));
+        assertSameAsCombiningAll();
+    }
+    
+    @Test
+    public void testCombinedRunsFlushedAboveThreshold() throws Exception {
+        setupWriter(10, 64 * 1024, 0);
+        
+        // distinct keys do not combine, so each full cache is flushed in sorted order
+        for (int i = 29; i >= 0; i--) {
+            write(String.format("row%02d", i), "a" + i);
+        }
+        assertEquals(20, getOutput().size());
+        assertEquals(2, getCounter(TableCachingContextWriter.FLUSHED_BUFFER_COUNTER));
+        
+        writer.cleanup(context);
+        assertEquals(30, getOutput().size());
+        assertEquals(3, getCounter(TableCachingContextWriter.FLUSHED_BUFFER_COUNTER));
+        assertEquals(30, getCounter(TableCachingContextWriter.FLUSHED_BUFFER_TOTAL));
+        for (int flush = 0; flush < 3; flush++) {
+            for (int i = 1; i < 10; i++) {
+                Key previous = getOutput().get(flush * 10 + i - 1).getKey().getKey();
+                assertTrue(previous.compareTo(getOutput().get(flush * 10 + i).getKey().getKey()) < 0);
+            }
+        }
+        assertSameAsCombiningAll();
+    }
+    
+    @Test
+    public void testEntryTooLargeToCacheIsPassedThrough() throws Exception {
+        setupWriter(10, 256, 0);
+        
+        write("row1", "a");
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            large.append('x');
+        }
+        write("row2", large.toString());
+        
+        // the large entry is written as is, while the small one stays cached
+        assertEquals(1, getOutput().size());
+        assertEquals(new Key("row2", "cf", "cq"), getOutput().get(0).getKey().getKey());
+        assertEquals(0, getCounter(TableCachingContextWriter.FLUSHED_BUFFER_COUNTER));
+        
+        writer.cleanup(context);
+        assertEquals(2, getOutput().size());
+        assertSameAsCombiningAll();
+    }
+    
+    @Test
+    public void testCombinedEntriesOutgrowingTheBuffer() throws Exception {
+        // the combined values are padded well beyond the size of the values they combine
+        setupWriter(12, 512, 300);
+        
+        for (int i = 0; i < 6; i++) {
+            write("row" + i, "a" + i, "b" + i);
+        }
+        assertEquals(0, getOutput().size());
+        
+        // the cache is full, and only the first combined entry fits in the combined buffer so the rest are passed through
+        write("row6", "a6");
+        assertEquals(1, getCounter(TableCachingContextWriter.COMBINED_BUFFER_COUNTER));
+        assertEquals(0, getCounter(TableCachingContextWriter.FLUSHED_BUFFER_COUNTER));
+        assertEquals(5, getOutput().size());
+        for (Map.Entry<BulkIngestKey,Value> entry : getOutput()) {
+            assertTrue(entry.getValue().getSize() >= 300);
+        }
+        
+        writer.cleanup(context);
+        assertEquals(7, getOutput().size());
+        assertSameAsCombiningAll();
+    }
+    
+    @Test
+    public void testCleanupFlushesAll() throws Exception {
+        setupWriter(10, 64 * 1024, 0);
+        
+        write("row1", "a", "b");
+        write("row2", "c");
+        write("row1", "d");
+        assertEquals(0, getOutput().size());
+        
+        writer.cleanup(context);
+        assertEquals(2, getOutput().size());
+        assertEquals(1, getCounter(TableCachingContextWriter.COMBINED_BUFFER_COUNTER));
+        assertEquals(1, getCounter(TableCachingContextWriter.FLUSHED_BUFFER_COUNTER));
+        assertEquals(new Key("row1", "cf", "cq"), getOutput().get(0).getKey().getKey());
+        assertEquals(new Key("row2", "cf", "cq"), getOutput().get(1).getKey().getKey());
+        assertSameAsCombiningAll();
+    }
+    
+    /**
+     * Combines values of comma separated tokens into the sorted union of their tokens, padded to a configured width
+     */
+    public static class UnionCombiner extends Combiner {
+        public static final String WIDTH_OPTION = "width";
+        
+        private int width = 0;
+        
+        @Override
+        public void init(SortedKeyValueIterator<Key,Value> source, Map<String,String> options, IteratorEnvironment env) throws IOException {
+            super.init(source, options, env);
+            if (options.containsKey(WIDTH_OPTION)) {
+                width = Integer.parseInt(options.get(WIDTH_OPTION));
+            }
+        }
+        
+        @Override
+        public Value reduce(Key key, Iterator<Value> iter) {
+            Set<String> tokens = new TreeSet<>();
+            while (iter.hasNext()) {
+                tokens.addAll(tokens(iter.next()));
+            }
+            StringBuilder value = new StringBuilder(String.join(",", tokens));
+            while (value.length() < width) {
+                value.append(' ');
+            }
+            return new Value(value.toString().getBytes());
+        }
+        
+        public static Set<String> tokens(Value value) {
+            Set<String> tokens = new TreeSet<>();
+            for (String token : Splitter.on(',').trimResults().omitEmptyStrings().split(new String(value.get()))) {
+                tokens.add(token);
+            }
+            return tokens;
+        }
+    }
+    
+    /**
+     * Records the entries written to it in order
+     */
+    public static class RecordingContextWriter implements ContextWriter<BulkIngestKey,Value> {
+        private final List<Map.Entry<BulkIngestKey,Value>> entries = new ArrayList<>();
+        
+        @Override
+        public void setup(Configuration conf, boolean outputTableCounters) {}
+        
+        @Override
+        public void write(BulkIngestKey key, Value value, TaskInputOutputContext<?,?,BulkIngestKey,Value> context) {
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(key, value));
+        }
+        
+        @Override
+        public void write(Multimap<BulkIngestKey,Value> entries, TaskInputOutputContext<?,?,BulkIngestKey,Value> context) {
+            for (Map.Entry<BulkIngestKey,Value> entry : entries.entries()) {
+                write(entry.getKey(), entry.getValue(), context);
+            }
+        }
+        
+        @Override
+        public void commit(TaskInputOutputContext<?,?,BulkIngestKey,Value> context) {}
+        
+        @Override
+        public void rollback() {}
+        
+        @Override
+        public void cleanup(TaskInputOutputContext<?,?,BulkIngestKey,Value> context) {}
+    }
+}
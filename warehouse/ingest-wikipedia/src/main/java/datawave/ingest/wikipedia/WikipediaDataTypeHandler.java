@@ -5,8 +5,6 @@ import java.io.IOException;
 import java.io.StringReader;
 import java.util.Arrays;
 import java.util.Set;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 import java.util.zip.GZIPOutputStream;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -16,7 +14,6 @@ import javax.xml.parsers.ParserConfigurationException;
 import datawave.ingest.data.RawRecordContainer;
 import datawave.ingest.data.config.NormalizedContentInterface;
 import datawave.ingest.data.config.NormalizedFieldAndValue;
-import datawave.ingest.data.config.ingest.AccumuloHelper;
 import datawave.ingest.mapreduce.ContextWrappedStatusReporter;
 import datawave.ingest.mapreduce.handler.DataTypeHandler;
 import datawave.ingest.mapreduce.handler.ExtendedDataTypeHandler;
@@ -29,11 +26,7 @@ import datawave.ingest.mapreduce.job.BulkIngestKey;
 import datawave.ingest.mapreduce.job.writer.ContextWriter;
 import datawave.util.TextUtil;
 
-import org.apache.accumulo.core.client.BatchWriter;
-import org.apache.accumulo.core.client.BatchWriterConfig;
-import org.apache.accumulo.core.client.MutationsRejectedException;
 import org.apache.accumulo.core.data.Key;
-import org.apache.accumulo.core.data.Mutation;
 import org.apache.accumulo.core.data.Value;
 import org.apache.accumulo.core.security.ColumnVisibility;
 import org.apache.commons.io.output.ByteArrayOutputStream;
@@ -99,32 +92,7 @@ public class WikipediaDataTypeHandler<KEYIN,KEYOUT,VALUEOUT> extends ExtendedCon
         this.counters = new ContentIndexCounters();
         disableDCol = conf.getBoolean(OPT_NO_D_COL, disableDCol);
         
-        docWriterService = Executors.newSingleThreadExecutor();
-        try {
-            AccumuloHelper accumuloHelper = new AccumuloHelper();
-            accumuloHelper.setup(conf);
-            
-            log.debug("Attempting to create Accumulo connection.");
-            docWriter = accumuloHelper.getConnector().createBatchWriter(conf.get("shard.table.name"),
-                            new BatchWriterConfig().setMaxLatency(60, TimeUnit.SECONDS).setMaxMemory(100000000L).setMaxWriteThreads(10));
-            log.debug("Created connection to Accumulo for asynchronous document storage.");
-        } catch (Exception e) {
-            log.warn("No document payloads will be written to Accumulo.", e);
-            // giving a stub batchwriter means I don't have a bunch of "if(writer != null)"s lying around
-            docWriter = new BatchWriter() {
-                @Override
-                public void addMutation(Mutation m) {}
-                
-                @Override
-                public void addMutations(Iterable<Mutation> iterable) throws MutationsRejectedException {}
-                
-                @Override
-                public void flush() throws MutationsRejectedException {}
-                
-                @Override
-                public void close() throws MutationsRejectedException {}
-            };
-        }
+        setupDocWriter(conf);
     }
     
     @Override
@@ -207,6 +175,7 @@ public class WikipediaDataTypeHandler<KEYIN,KEYOUT,VALUEOUT> extends ExtendedCon
                     String fieldName, String fieldNameToken, StatusReporter reporter) throws IOException, InterruptedException {
         
         StringReader contentReader = new StringReader(content);
+        byte[] contentBytes = content.getBytes();
         
         int position = 0;
         try {
@@ -227,7 +196,7 @@ public class WikipediaDataTypeHandler<KEYIN,KEYOUT,VALUEOUT> extends ExtendedCon
                 
                 // Create the full content record
                 if (!content.isEmpty()) {
-                    createContentRecord(event, contextWriter, context, reporter, colf, visibility, this.shardId, content.getBytes());
+                    createContentRecord(event, contextWriter, context, reporter, colf, visibility, this.shardId, contentBytes);
                     
                     norm = new NormalizedFieldAndValue(contentPresenceFieldName, "true");
                     byte[] fieldVisibility = getVisibility(event, norm);
@@ -238,6 +207,7 @@ public class WikipediaDataTypeHandler<KEYIN,KEYOUT,VALUEOUT> extends ExtendedCon
                 }
             }
             
+            startTokenizing(contentBytes.length);
             try (WikipediaTokenizer wikiTokenizer = new WikipediaTokenizer()) {
                 wikiTokenizer.setReader(contentReader);
                 CharTermAttribute termAttr = wikiTokenizer.addAttribute(CharTermAttribute.class);
@@ -247,9 +217,8 @@ public class WikipediaDataTypeHandler<KEYIN,KEYOUT,VALUEOUT> extends ExtendedCon
                     String term = termAttr.toString();
                     
                     // getting the next token can take a long time depending on the compexity of the data...
-                    // so lets report progress to hadoop on each round
-                    if (context != null)
-                        context.progress();
+                    // so lets report progress to hadoop on each round, and give up on documents which take too long
+                    checkTokenizerTime(fieldName, reporter);
                     
                     if (StringUtils.isBlank(term)) {
                         context.getCounter("Tokenization", "Blank tokens (null, empty, or whitespace)").increment(1l);
@@ -262,6 +231,7 @@ public class WikipediaDataTypeHandler<KEYIN,KEYOUT,VALUEOUT> extends ExtendedCon
                     position++;
                 }
             }
+            finishTokenizing(reporter);
             
             // now flush out the offset queue
             if (tokenOffsetCache != null) {
@@ -1,20 +1,31 @@
 package datawave.ingest.wikipedia;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import datawave.ingest.data.RawRecordContainer;
 import datawave.ingest.data.config.NormalizedContentInterface;
 import datawave.ingest.data.config.ingest.VirtualIngest;
+import datawave.ingest.data.tokenize.TokenizationHelper;
+import datawave.ingest.mapreduce.handler.shard.content.ContentIndexCounters;
+import datawave.ingest.mapreduce.handler.tokenize.ExtendedContentIndexingColumnBasedHandler;
+import datawave.ingest.mapreduce.handler.tokenize.ExtendedContentIndexingColumnBasedHandler.TokenizerTimeoutException;
 import datawave.ingest.mapreduce.job.BulkIngestKey;
 import datawave.ingest.mapreduce.job.writer.AbstractContextWriter;
+import datawave.ingest.mapreduce.job.writer.ContextWriter;
 import datawave.ingest.mapreduce.StandaloneStatusReporter;
 import datawave.ingest.mapreduce.StandaloneTaskAttemptContext;
 
 import datawave.util.TableName;
+import org.apache.accumulo.core.client.BatchWriter;
+import org.apache.accumulo.core.data.Mutation;
 import org.apache.accumulo.core.data.Value;
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapreduce.StatusReporter;
 import org.apache.hadoop.mapreduce.TaskInputOutputContext;
 import org.junit.Assert;
 import org.junit.BeforeClass;
@@ -49,6 +60,62 @@ public class WikipediaDataTypeHandlerTest extends WikipediaTestBed {
         }
     }
     
+    /**
+     * A handler which starts its tokenizer clock a number of heart beats in the past, so that the tokenizer time thresholds are crossed without waiting on
+     * them, and which records the documents written directly to Accumulo
+     */
+    public static class TokenizerTestHandler extends WikipediaDataTypeHandler<Text,BulkIngestKey,Value> {
+        private final int beats;
+        private int fieldsTokenized = 0;
+        private int documents = 0;
+        private long contentChars = 0;
+        private long contentBytes = 0;
+        private List<Integer> permitsWhileWriting = new ArrayList<>();
+        
+        public TokenizerTestHandler(int beats) {
+            this.beats = beats;
+        }
+        
+        @Override
+        protected void setupDocWriter(Configuration conf) {
+            super.setupDocWriter(conf);
+            docWriter = new BatchWriter() {
+                @Override
+                public void addMutation(Mutation m) {
+                    permitsWhileWriting.add(docWriterPendingBytes.availablePermits());
+                }
+                
+                @Override
+                public void addMutations(Iterable<Mutation> iterable) {}
+                
+                @Override
+                public void flush() {}
+                
+                @Override
+                public void close() {}
+            };
+        }
+        
+        @Override
+        protected long tokenizeTextNode(String content, RawRecordContainer event, byte[] visibility,
+                        TaskInputOutputContext<Text,? extends RawRecordContainer,BulkIngestKey,Value> context, ContextWriter<BulkIngestKey,Value> contextWriter,
+                        String fieldName, String fieldNameToken, StatusReporter reporter) throws IOException, InterruptedException {
+            fieldsTokenized++;
+            if (!content.isEmpty()) {
+                documents++;
+            }
+            contentChars += content.length();
+            contentBytes += content.getBytes().length;
+            return super.tokenizeTextNode(content, event, visibility, context, contextWriter, fieldName, fieldNameToken, reporter);
+        }
+        
+        @Override
+        protected void startTokenizing(long bytes) {
+            super.startTokenizing(bytes);
+            tokenizerHeartBeatCount -= beats;
+        }
+    }
+    
     @BeforeClass
     public static void before() throws Exception {
         handler = new WikipediaDataTypeHandler<>();
@@ -150,4 +217,119 @@ public class WikipediaDataTypeHandlerTest extends WikipediaTestBed {
         Assert.assertEquals(22766 + numberOfDatawaveMetadataEntries + numberOfLoadDateEntries, results.size());
     }
     
+    private StandaloneTaskAttemptContext<Text,RawRecordContainer,BulkIngestKey,Value> newContext() {
+        return new StandaloneTaskAttemptContext<>(conf, new StandaloneStatusReporter());
+    }
+    
+    private void process(TokenizerTestHandler tokenizerHandler, StandaloneTaskAttemptContext<Text,RawRecordContainer,BulkIngestKey,Value> context,
+                    int records) throws Exception {
+        WikipediaRecordReader reader = new WikipediaRecordReader();
+        reader.initialize(split, context);
+        reader.setInputDate(System.currentTimeMillis());
+        
+        tokenizerHandler.setup(context);
+        
+        WikipediaIngestHelper helper = new WikipediaIngestHelper();
+        helper.setup(conf);
+        
+        for (int i = 0; i < records; i++) {
+            Assert.assertTrue(reader.nextKeyValue());
+            RawRecordContainer e = reader.getEvent();
+            
+            Multimap<String,NormalizedContentInterface> eventFields = helper.getEventFields(e);
+            Multimap<String,NormalizedContentInterface> virtualFields = ((VirtualIngest) helper).getVirtualFields(eventFields);
+            for (Entry<String,NormalizedContentInterface> v : virtualFields.entries()) {
+                eventFields.put(v.getKey(), v.getValue());
+            }
+            
+            tokenizerHandler.process(new Text(Integer.toString(i)), e, eventFields, context, new MyCachingContextWriter());
+        }
+    }
+    
+    private void setTokenizerTimeThresholds() {
+        conf.set("wikipedia" + TokenizationHelper.TOKENIZER_TIME_THRESHOLDS_MSEC, "1000,10000");
+        conf.set("wikipedia" + TokenizationHelper.TOKENIZER_TIME_THRESHOLD_NAMES, "1s,10s");
+    }
+    
+    private long getTimeCounter(StandaloneTaskAttemptContext<?,?,?,?> context, String name) {
+        return context.getCounter(ContentIndexCounters.TOKENIZER_TIME_GROUP_NAME, ContentIndexCounters.TOKENIZER_TIME_PREFIX + name).getValue();
+    }
+    
+    @Test
+    public void testTokenizerContentCountedInBytes() throws Exception {
+        TokenizerTestHandler tokenizerHandler = new TokenizerTestHandler(0);
+        StandaloneTaskAttemptContext<Text,RawRecordContainer,BulkIngestKey,Value> context = newContext();
+        process(tokenizerHandler, context, 2);
+        
+        // the second article has multibyte characters, so its byte length differs from its length in chars
+        Assert.assertTrue(tokenizerHandler.contentBytes > tokenizerHandler.contentChars);
+        Assert.assertEquals(tokenizerHandler.contentBytes,
+                        context.getCounter(ContentIndexCounters.COUNTER_GROUP_NAME, ContentIndexCounters.TOKENIZER_CONTENT_BYTES).getValue());
+    }
+    
+    @Test
+    public void testTokenizerTimeout() throws Exception {
+        conf.setLong("wikipedia" + TokenizationHelper.TOKENIZER_TIME_ERROR_MSEC, 2000);
+        
+        // five seconds in, the first token exceeds the error threshold and the document is abandoned
+        TokenizerTestHandler tokenizerHandler = new TokenizerTestHandler(10);
+        StandaloneTaskAttemptContext<Text,RawRecordContainer,BulkIngestKey,Value> context = newContext();
+        try {
+            process(tokenizerHandler, context, 1);
+            Assert.fail("Expected the tokenizer to time out");
+        } catch (RuntimeException e) {
+            Assert.assertTrue(e.getCause() instanceof TokenizerTimeoutException);
+        }
+        Assert.assertEquals(1, context.getCounter(ContentIndexCounters.COUNTER_GROUP_NAME, ContentIndexCounters.TOKENIZER_TIME_ERRORS).getValue());
+    }
+    
+    @Test
+    public void testTokenizerTimeThresholdCounters() throws Exception {
+        setTokenizerTimeThresholds();
+        
+        // each field is counted against the first threshold it finishes within
+        TokenizerTestHandler tokenizerHandler = new TokenizerTestHandler(0);
+        StandaloneTaskAttemptContext<Text,RawRecordContainer,BulkIngestKey,Value> context = newContext();
+        process(tokenizerHandler, context, 1);
+        Assert.assertTrue(tokenizerHandler.fieldsTokenized > 0);
+        Assert.assertEquals(tokenizerHandler.fieldsTokenized, getTimeCounter(context, "<1s"));
+        Assert.assertEquals(0, getTimeCounter(context, "<10s"));
+        Assert.assertEquals(0, getTimeCounter(context, ">=10s"));
+        
+        tokenizerHandler = new TokenizerTestHandler(4);
+        context = newContext();
+        process(tokenizerHandler, context, 1);
+        Assert.assertEquals(0, getTimeCounter(context, "<1s"));
+        Assert.assertEquals(tokenizerHandler.fieldsTokenized, getTimeCounter(context, "<10s"));
+        Assert.assertEquals(0, getTimeCounter(context, ">=10s"));
+        
+        // times beyond the last threshold are counted as exceeding it
+        tokenizerHandler = new TokenizerTestHandler(30);
+        context = newContext();
+        process(tokenizerHandler, context, 1);
+        Assert.assertEquals(0, getTimeCounter(context, "<1s"));
+        Assert.assertEquals(0, getTimeCounter(context, "<10s"));
+        Assert.assertEquals(tokenizerHandler.fieldsTokenized, getTimeCounter(context, ">=10s"));
+    }
+    
+    @Test(timeout = 60000)
+    public void testDocWriterReleasesPendingBytes() throws Exception {
+        conf.setBoolean(ExtendedContentIndexingColumnBasedHandler.OPT_OFFLINE, false);
+        conf.setInt(ExtendedContentIndexingColumnBasedHandler.OPT_DOC_WRITER_MAX_PENDING_BYTES, 16);
+        
+        // each document is larger than the limit, so it holds all of the pending bytes until written, and a document which did not release them would block
+        // the next one from being queued
+        TokenizerTestHandler tokenizerHandler = new TokenizerTestHandler(0);
+        StandaloneTaskAttemptContext<Text,RawRecordContainer,BulkIngestKey,Value> context = newContext();
+        process(tokenizerHandler, context, 2);
+        tokenizerHandler.close(context);
+        
+        Assert.assertTrue(tokenizerHandler.documents > 1);
+        Assert.assertEquals(tokenizerHandler.documents, tokenizerHandler.permitsWhileWriting.size());
+        for (int permits : tokenizerHandler.permitsWhileWriting) {
+            Assert.assertEquals(0, permits);
+        }
+        Assert.assertEquals(16, tokenizerHandler.docWriterPendingBytes.availablePermits());
+    }
+    
 }
@@ -10,6 +10,7 @@ import datawave.query.composite.CompositeSeeker.FieldIndexCompositeSeeker;
 import datawave.query.iterator.CachingIterator;
 import datawave.query.exceptions.DatawaveIvaratorMaxResultsException;
 import datawave.query.iterator.ivarator.IvaratorCacheDir;
+import datawave.query.iterator.ivarator.IvaratorSharedCache;
 import datawave.query.iterator.profile.QuerySpan;
 import datawave.query.iterator.profile.QuerySpanCollector;
 import datawave.query.iterator.profile.SourceTrackingIterator;
@@ -18,6 +19,7 @@ import datawave.query.util.TypeMetadata;
 import datawave.query.util.sortedset.FileKeySortedSet;
 import datawave.query.util.sortedset.FileSortedSet;
 import datawave.query.util.sortedset.HdfsBackedSortedSet;
+import datawave.query.util.sortedset.SortedKeySetBuffer;
 import org.apache.accumulo.core.data.ByteSequence;
 import org.apache.accumulo.core.data.Key;
 import org.apache.accumulo.core.data.PartialKey;
@@ -46,6 +48,7 @@ import java.util.Map;
 import java.util.Random;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.UUID;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
@@ -70,6 +73,7 @@ public abstract class DatawaveFieldIndexCachingIteratorJexl extends WrappingIter
     
     public abstract static class Builder<B extends Builder<B>> {
         private String queryId;
+        private int queryPriority = QueryTaskQueue.DEFAULT_PRIORITY;
         private Text fieldName;
         protected Text fieldValue;
         private Predicate<Key> datatypeFilter;
@@ -95,6 +99,8 @@ public abstract class DatawaveFieldIndexCachingIteratorJexl extends WrappingIter
         private int compositeSeekThreshold;
         private IteratorEnvironment env;
         private GenericObjectPool<SortedKeyValueIterator<Key,Value>> ivaratorSourcePool;
+        private IvaratorSharedCache sharedCache;
+        private String sharedCacheKey;
         
         @SuppressWarnings("unchecked")
         protected B self() {
@@ -106,6 +112,11 @@ public abstract class DatawaveFieldIndexCachingIteratorJexl extends WrappingIter
             return self();
         }
         
+        public B withQueryPriority(int queryPriority) {
+            this.queryPriority = queryPriority;
+            return self();
+        }
+        
         public B withFieldName(Text fieldName) {
             this.fieldName = fieldName;
             return self();
@@ -229,6 +240,12 @@ public abstract class DatawaveFieldIndexCachingIteratorJexl extends WrappingIter
             return self();
         }
         
+        public B withSharedCache(IvaratorSharedCache sharedCache, String sharedCacheKey) {
+            this.sharedCache = sharedCache;
+            this.sharedCacheKey = sharedCacheKey;
+            return self();
+        }
+        
         public abstract DatawaveFieldIndexCachingIteratorJexl build();
     }
     
@@ -243,6 +260,10 @@ public abstract class DatawaveFieldIndexCachingIteratorJexl extends WrappingIter
     // as possible.
     @SuppressWarnings("unchecked")
     protected static final Collection<ByteSequence> EMPTY_CFS = Collections.EMPTY_LIST;
+    // the max number of matches a fill thread will collect before merging them into the shared set
+    protected static final int MAX_FILL_RUN_SIZE = 1000;
+    // the number of keys of values which can not match a fill thread will next over before seeking past them
+    protected static final int VALUE_SKIP_SEEK_THRESHOLD = 10;
     
     // These are the ranges to scan in the field index
     private final List<Range> boundingFiRanges = new ArrayList<>();
@@ -251,6 +272,8 @@ public abstract class DatawaveFieldIndexCachingIteratorJexl extends WrappingIter
     
     // This is the query id which is used for tracking purposes
     protected final String queryId;
+    // This is the relative share of the ivarator threads given to this query when other queries are queued
+    private final int queryPriority;
     // This is the fieldname of interest
     private final Text fieldName;
     // part of the datawave shard structure: fi\0fieldname
@@ -319,6 +342,21 @@ public abstract class DatawaveFieldIndexCachingIteratorJexl extends WrappingIter
     // did we create the row directory
     private boolean createdRowDir = false;
     
+    // the cache of completed results shared across queries, or null if not sharing results
+    private IvaratorSharedCache sharedCache = null;
+    
+    // the key for this ivarator's results in the shared cache
+    private String sharedCacheKey = null;
+    
+    // is the current row's set being read from the shared cache
+    private boolean sharedRow = false;
+    
+    // the shared cache dir containing the current row's set when it is read from the shared cache
+    private IvaratorCacheDir sharedDir = null;
+    
+    // the id of this iterator's leases on shared cache entries
+    private final String sharedLeaseId = UUID.randomUUID().toString();
+    
     // The last range seeked used to filter the final results
     private Range lastRangeSeeked = null;
     
@@ -361,6 +399,7 @@ public abstract class DatawaveFieldIndexCachingIteratorJexl extends WrappingIter
     public DatawaveFieldIndexCachingIteratorJexl() {
         super();
         this.queryId = null;
+        this.queryPriority = QueryTaskQueue.DEFAULT_PRIORITY;
         this.fieldName = null;
         this.fieldValue = null;
         this.fiName = null;
@@ -395,6 +434,7 @@ public abstract class DatawaveFieldIndexCachingIteratorJexl extends WrappingIter
     protected DatawaveFieldIndexCachingIteratorJexl(Builder builder) {
         
         this.queryId = builder.queryId;
+        this.queryPriority = builder.queryPriority;
         this.ivaratorSourcePool = builder.ivaratorSourcePool;
         
         if (builder.fieldName.toString().startsWith("fi" + NULL_BYTE)) {
@@ -448,11 +488,14 @@ public abstract class DatawaveFieldIndexCachingIteratorJexl extends WrappingIter
         
         this.compositeSeekThreshold = builder.compositeSeekThreshold;
         this.initEnv = builder.env;
+        this.sharedCache = builder.sharedCache;
+        this.sharedCacheKey = builder.sharedCacheKey;
     }
     
     public DatawaveFieldIndexCachingIteratorJexl(DatawaveFieldIndexCachingIteratorJexl other, IteratorEnvironment env) {
         setSource(other.getSource().deepCopy(env));
         this.queryId = other.queryId;
+        this.queryPriority = other.queryPriority;
         this.fieldName = other.fieldName;
         this.fiName = other.fiName;
         this.returnKeyType = other.returnKeyType;
@@ -479,8 +522,17 @@ public abstract class DatawaveFieldIndexCachingIteratorJexl extends WrappingIter
         this.keys = other.keys;
         this.currentRow = other.currentRow;
         this.createdRowDir = other.createdRowDir;
+        this.sharedCache = other.sharedCache;
+        this.sharedCacheKey = other.sharedCacheKey;
+        this.sharedRow = other.sharedRow;
+        this.sharedDir = other.sharedDir;
         this.maxRangeSplit = other.maxRangeSplit;
         
+        // the copy reads the shared set under its own lease, as the other iterator releases its lease when done with the row
+        if (this.sharedRow && !this.sharedCache.lease(this.sharedDir, this.currentRow, this.sharedLeaseId)) {
+            throw new IllegalStateException("Could not lease shared set for " + this.currentRow);
+        }
+        
         this.sortedUIDs = other.sortedUIDs;
         
         try {
@@ -774,7 +826,8 @@ public abstract class DatawaveFieldIndexCachingIteratorJexl extends WrappingIter
                 // start the timing
                 startTiming();
                 
-                // if the current key values has no more, then clear out this row's set
+                // if the current key values has no more, then share this row's set if possible and clear it out
+                publishRowBasedHdfsBackedSet();
                 clearRowBasedHdfsBackedSet();
                 
                 // if we do not have a current fi row to scan, then we are done.
@@ -1039,6 +1092,20 @@ public abstract class DatawaveFieldIndexCachingIteratorJexl extends WrappingIter
      * @throws IOException
      */
     protected boolean addKey(Key topFiKey, Value value) throws IOException {
+        return addKey(topFiKey, value, this.threadSafeSet);
+    }
+    
+    /**
+     * Add the key to the supplied set if it passes the filters and the matches call.
+     * 
+     * @param topFiKey
+     * @param value
+     * @param target
+     *            the set to add the key to
+     * @return true if it matched
+     * @throws IOException
+     */
+    protected boolean addKey(Key topFiKey, Value value, SortedSet<Key> target) throws IOException {
         if (log.isTraceEnabled()) {
             log.trace("addKey evaluating " + topFiKey);
         }
@@ -1058,7 +1125,7 @@ public abstract class DatawaveFieldIndexCachingIteratorJexl extends WrappingIter
                     if (log.isTraceEnabled()) {
                         log.trace("Adding result: " + topEventKey);
                     }
-                    DatawaveFieldIndexCachingIteratorJexl.this.threadSafeSet.add(topEventKey);
+                    target.add(topEventKey);
                     return true;
                 }
             }
@@ -1077,6 +1144,9 @@ public abstract class DatawaveFieldIndexCachingIteratorJexl extends WrappingIter
         // this will block until an ivarator source becomes available
         final SortedKeyValueIterator<Key,Value> source = takePoolSource();
         
+        // the number of matches a fill thread collects before merging them into the shared set
+        final int fillRunSize = Math.max(1, Math.min(MAX_FILL_RUN_SIZE, hdfsBackedSetBufferSize / 4));
+        
         // create runnable
         Runnable runnable = () -> {
             if (log.isDebugEnabled()) {
@@ -1087,6 +1157,11 @@ public abstract class DatawaveFieldIndexCachingIteratorJexl extends WrappingIter
             QuerySpan querySpan = null;
             Key nextSeekKey = null;
             int nextCount = 0;
+            Key valueSkipKey = null;
+            int skipCount = 0;
+            // matches are collected into a sorted run local to this thread and merged into the shared set a run at a time so that the
+            // fill threads are not all contending on the shared set's lock for every hit
+            SortedSet<Key> run = new SortedKeySetBuffer();
             try {
                 if (collectTimingDetails && source instanceof SourceTrackingIterator) {
                     querySpan = ((SourceTrackingIterator) source).getQuerySpan();
@@ -1170,17 +1245,48 @@ public abstract class DatawaveFieldIndexCachingIteratorJexl extends WrappingIter
                         break;
                     }
                     
-                    if (addKey(top, source.getTopValue())) {
+                    // skip the keys of values which can not match without evaluating them, seeking if there are many of them
+                    if (valueSkipKey != null) {
+                        if (top.compareTo(valueSkipKey) < 0) {
+                            if (skipCount >= VALUE_SKIP_SEEK_THRESHOLD) {
+                                source.seek(new Range(valueSkipKey, true, boundingFiRange.getEndKey(), boundingFiRange.isEndKeyInclusive()), EMPTY_CFS,
+                                                false);
+                                valueSkipKey = null;
+                                skipCount = 0;
+                            } else {
+                                skipCount++;
+                                source.next();
+                            }
+                            scanned++;
+                            DatawaveFieldIndexCachingIteratorJexl.this.scannedKeys.incrementAndGet();
+                            continue;
+                        }
+                        valueSkipKey = null;
+                        skipCount = 0;
+                    }
+                    
+                    if (addKey(top, source.getTopValue(), run)) {
                         matched++;
                         if (!totalResults.increment()) {
                             throw new DatawaveIvaratorMaxResultsException("Exceeded the maximum set size");
                         }
+                        if (run.size() >= fillRunSize) {
+                            flushRun(run);
+                        }
+                    } else if (!negated) {
+                        valueSkipKey = getValueSkipKey(top);
+                        if (valueSkipKey != null && boundingFiRange.afterEndKey(valueSkipKey)) {
+                            // no remaining value in this range can match
+                            break;
+                        }
                     }
                     
                     source.next();
                     scanned++;
                     DatawaveFieldIndexCachingIteratorJexl.this.scannedKeys.incrementAndGet();
                 }
+                
+                flushRun(run);
             } catch (Exception e) {
                 // throw the exception up which will be available via the Future
                 log.error("Failed to complete fillSet(" + boundingFiRange + ")", e);
@@ -1200,10 +1306,25 @@ public abstract class DatawaveFieldIndexCachingIteratorJexl extends WrappingIter
             }
         };
         
-        return IteratorThreadPoolManager.executeIvarator(runnable, DatawaveFieldIndexCachingIteratorJexl.this + " in " + boundingFiRange, this.initEnv);
+        return IteratorThreadPoolManager.executeIvarator(runnable, DatawaveFieldIndexCachingIteratorJexl.this + " in " + boundingFiRange, this.queryId,
+                        this.queryPriority, this.initEnv);
         
     }
     
+    /**
+     * Merge a sorted run of matches into the shared set and clear the run. The run is dropped if the query has been cancelled.
+     * 
+     * @param run
+     */
+    protected void flushRun(SortedSet<Key> run) {
+        if (!run.isEmpty()) {
+            if (!this.setControl.isCancelledQuery()) {
+                this.threadSafeSet.addAll(run);
+            }
+            run.clear();
+        }
+    }
+    
     /**
      * Get the unique directory for a specific row
      *
@@ -1221,9 +1342,29 @@ public abstract class DatawaveFieldIndexCachingIteratorJexl extends WrappingIter
      * @throws IOException
      */
     protected void clearRowBasedHdfsBackedSet() throws IOException {
+        if (this.sharedRow) {
+            this.sharedCache.release(this.sharedDir, this.currentRow, this.sharedLeaseId);
+        }
         this.keys = null;
         this.currentRow = null;
         this.set = null;
+        this.sharedRow = false;
+        this.sharedDir = null;
+    }
+    
+    /**
+     * Publish the current row's set into the shared cache if we are sharing results, and this iterator owns a complete and persisted set for the row. As
+     * sorted sets only keep the keys within the last range seeked, a set is only published if that range covered the entire row, as the shared entry is found
+     * by its row regardless of the range later seeked.
+     * 
+     * @throws IOException
+     */
+    protected void publishRowBasedHdfsBackedSet() throws IOException {
+        if (this.sharedCache != null && !this.sharedRow && this.set != null && this.currentRow != null && this.set.isPersisted()
+                        && lastRangeSeekedCoversRow(this.currentRow) && this.setControl.isCompleteAndPersisted(this.currentRow)
+                        && this.setControl.hasOwnership(this.currentRow, this)) {
+            this.sharedCache.publish(ivaratorCacheDirs, sharedCacheKey, this.currentRow);
+        }
     }
     
     /**
@@ -1239,6 +1380,23 @@ public abstract class DatawaveFieldIndexCachingIteratorJexl extends WrappingIter
         }
         
         try {
+            // reuse the completed results of another query if we can
+            if (this.sharedCache != null) {
+                IvaratorCacheDir sharedDir = this.sharedCache.find(ivaratorCacheDirs, sharedCacheKey, row, sharedLeaseId);
+                if (sharedDir != null) {
+                    // the shared set is only read, never cleared, so that the files remain for other queries
+                    this.set = new HdfsBackedSortedSet<>(null, hdfsBackedSetBufferSize, Collections.singletonList(sharedDir), row, maxOpenFiles,
+                                    numRetries, persistOptions, new FileKeySortedSet.Factory(true));
+                    this.threadSafeSet = Collections.synchronizedSortedSet(this.set);
+                    this.currentRow = row;
+                    this.sharedRow = true;
+                    this.sharedDir = sharedDir;
+                    this.keys = new CachingIterator<>(this.set.iterator());
+                    scannedKeys.set(0);
+                    return;
+                }
+            }
+            
             // for each of the ivarator cache dirs
             for (IvaratorCacheDir ivaratorCacheDir : ivaratorCacheDirs) {
                 // get the row specific dir
@@ -1261,8 +1419,9 @@ public abstract class DatawaveFieldIndexCachingIteratorJexl extends WrappingIter
                 this.createdRowDir = false;
             }
             
+            // the buffered keys are held encoded in a byte array instead of as Key objects to reduce the memory and gc overhead per hit
             this.set = new HdfsBackedSortedSet<>(null, hdfsBackedSetBufferSize, ivaratorCacheDirs, row, maxOpenFiles, numRetries, persistOptions,
-                            new FileKeySortedSet.Factory());
+                            new FileKeySortedSet.Factory(true));
             this.threadSafeSet = Collections.synchronizedSortedSet(this.set);
             this.currentRow = row;
             this.setControl.takeOwnership(row, this);
@@ -1292,6 +1451,26 @@ public abstract class DatawaveFieldIndexCachingIteratorJexl extends WrappingIter
     @SuppressWarnings("hiding")
     protected abstract List<Range> buildBoundingFiRanges(Text rowId, Text fiName, Text fieldValue);
     
+    /**
+     * Were all of the keys for a row kept when filling its set. Sorted sets only keep the keys within the last range seeked.
+     * 
+     * @param row
+     * @return true if the set for the row holds the keys for the entire row
+     */
+    protected boolean lastRangeSeekedCoversRow(String row) {
+        if (!sortedUIDs) {
+            return true;
+        }
+        if (this.lastRangeSeeked == null) {
+            return false;
+        }
+        Key rowStart = new Key(row);
+        Key rowEnd = rowStart.followingKey(PartialKey.ROW);
+        boolean coversStart = this.lastRangeSeeked.isInfiniteStartKey() || this.lastRangeSeeked.contains(rowStart);
+        boolean coversEnd = this.lastRangeSeeked.isInfiniteStopKey() || this.lastRangeSeeked.getEndKey().compareTo(rowEnd) >= 0;
+        return coversStart && coversEnd;
+    }
+    
     /**
      * Does the last range seeked contain the passed in range
      * 
@@ -1389,6 +1568,18 @@ public abstract class DatawaveFieldIndexCachingIteratorJexl extends WrappingIter
      */
     protected abstract boolean matches(Key k) throws IOException;
     
+    /**
+     * Get the key to skip to when the value of a key which did not match can not match, nor can the values following it up to the skip key. The keys in
+     * between are not evaluated. NOTE: This method must be thread safe NOTE: This is only called when not negated
+     * 
+     * @param k
+     *            a field index key which did not match
+     * @return the key to skip to, or null if the following keys must be evaluated
+     */
+    protected Key getValueSkipKey(Key k) {
+        return null;
+    }
+    
     /**
      * A protected method to force persistence of the set. This can be used by test cases to verify tear down and rebuilding with reuse of the previous results.
      * 
@@ -11,8 +11,11 @@ import org.apache.accumulo.core.data.Value;
 import org.apache.accumulo.core.iterators.IteratorEnvironment;
 import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
 import org.apache.hadoop.io.Text;
+import org.apache.hadoop.io.WritableComparator;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -22,6 +25,10 @@ import java.util.regex.Pattern;
  *
  * This version takes a regex and will return sorted UIDs that match the supplied regex
  * 
+ * When the regex can be converted to an automaton, the automaton is run over the value of each key first. As the field index keys are sorted by value, the
+ * keys of a value which can not match, and of all values beginning with a prefix which no match begins with, are skipped by seeking past them. This lets
+ * regexes without a leading literal, which must scan the entire field, skip most of the field rather than evaluate every key.
+ * 
  * FieldIndex keys: fi\0{fieldName}:{fieldValue}\0datatype\0uid
  * 
  * Event key: CF, {datatype}\0{UID}
@@ -55,11 +62,29 @@ public class DatawaveFieldIndexRegexIteratorJexl extends DatawaveFieldIndexCachi
         } catch (JavaRegexParseException ex) {
             throw new IllegalStateException("Unable to parse regex " + regex, ex);
         }
-        
+        this.automaton = JavaRegexAutomaton.create(this.regex);
     }
     
     private String regex = null;
     private ThreadLocal<Pattern> pattern = ThreadLocal.withInitial(() -> Pattern.compile(regex));
+    // null if the regex could not be converted
+    private JavaRegexAutomaton automaton = null;
+    // the keys of a value are adjacent, so the last value matched by each thread is remembered
+    private ThreadLocal<LastMatch> lastMatch = ThreadLocal.withInitial(LastMatch::new);
+    
+    private static class LastMatch {
+        private byte[] value = null;
+        private boolean matches = false;
+        
+        boolean isValue(byte[] bytes, int length) {
+            return value != null && WritableComparator.compareBytes(value, 0, value.length, bytes, 0, length) == 0;
+        }
+        
+        void set(byte[] bytes, int length, boolean matches) {
+            this.value = Arrays.copyOf(bytes, length);
+            this.matches = matches;
+        }
+    }
     
     // -------------------------------------------------------------------------
     // ------------- Constructors
@@ -70,6 +95,7 @@ public class DatawaveFieldIndexRegexIteratorJexl extends DatawaveFieldIndexCachi
     public DatawaveFieldIndexRegexIteratorJexl(DatawaveFieldIndexRegexIteratorJexl other, IteratorEnvironment env) {
         super(other, env);
         this.regex = other.regex;
+        this.automaton = other.automaton;
     }
     
     // -------------------------------------------------------------------------
@@ -123,15 +149,66 @@ public class DatawaveFieldIndexRegexIteratorJexl extends DatawaveFieldIndexCachi
      */
     @Override
     protected boolean matches(Key k) throws IOException {
-        boolean matches = false;
-        String colq = k.getColumnQualifier().toString();
+        byte[] colq = k.getColumnQualifierData().toArray();
+        int length = getValueLength(colq);
+        
+        LastMatch last = lastMatch.get();
+        if (last.isValue(colq, length)) {
+            return last.matches;
+        }
         
-        // search backwards for the null bytes to expose the value in value\0datatype\0UID
-        int index = colq.lastIndexOf('\0');
-        index = colq.lastIndexOf('\0', index - 1);
-        matches = (pattern.get().matcher(colq.substring(0, index)).matches());
+        boolean matches = (automaton == null || automaton.run(colq, 0, length) == JavaRegexAutomaton.MATCH)
+                        && pattern.get().matcher(new String(colq, 0, length, StandardCharsets.UTF_8)).matches();
+        last.set(colq, length, matches);
         
         return matches;
     }
     
+    /**
+     * Skip the remaining keys of a value which can not match, or all values beginning with the shortest prefix of the value which no match begins with.
+     * NOTE: This method must be thread safe
+     *
+     * @param k
+     * @return the key to skip to, or null if the value may match
+     */
+    @Override
+    protected Key getValueSkipKey(Key k) {
+        if (automaton == null) {
+            return null;
+        }
+        byte[] colq = k.getColumnQualifierData().toArray();
+        int length = getValueLength(colq);
+        
+        int result = automaton.run(colq, 0, length);
+        byte[] skip;
+        if (result == JavaRegexAutomaton.MATCH) {
+            return null;
+        } else if (result == JavaRegexAutomaton.NO_MATCH) {
+            // value\1 follows every value\0datatype\0UID, and precedes the longer values beginning with this one
+            skip = Arrays.copyOf(colq, length + 1);
+            skip[length] = 1;
+        } else {
+            // 0xff never occurs in UTF-8, so prefix\xff follows every value beginning with the prefix
+            skip = Arrays.copyOf(colq, result + 1);
+            skip[result] = (byte) 0xff;
+        }
+        return new Key(k.getRowData().toArray(), k.getColumnFamilyData().toArray(), skip, new byte[0], Long.MAX_VALUE);
+    }
+    
+    /**
+     * Search backwards for the null bytes to expose the value in value\0datatype\0UID
+     *
+     * @param colq
+     * @return the length of the value
+     */
+    private static int getValueLength(byte[] colq) {
+        int index = colq.length;
+        for (int nulls = 0; nulls < 2;) {
+            if (colq[--index] == 0) {
+                nulls++;
+            }
+        }
+        return index;
+    }
+    
 }
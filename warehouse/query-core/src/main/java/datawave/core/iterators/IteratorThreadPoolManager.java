@@ -3,11 +3,12 @@ package datawave.core.iterators;
 import java.util.Map;
 import java.util.Objects;
 import java.util.TreeMap;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.accumulo.core.conf.AccumuloConfiguration;
 import org.apache.accumulo.core.conf.DefaultConfiguration;
@@ -17,17 +18,29 @@ import org.apache.accumulo.server.util.time.SimpleTimer;
 import org.apache.log4j.Logger;
 
 /**
- * 
+ * Manages the tserver wide thread pools used to run ivarator and evaluation tasks. Queued tasks are scheduled fairly across queries (weighted by the query
+ * priority) using a {@link QueryTaskQueue}, and the number of tasks that a single query may have queued in a pool is limited. When a query exceeds that limit,
+ * its task is run in the submitting thread instead which throttles that query without affecting the others.
+ * <p>
+ * Each pool may optionally run its tasks on virtual threads when the tserver runs on a JVM which supports them (see {@link VirtualThreads}). Evaluation and
+ * ivarator tasks spend most of their time blocked on their sources, so in that mode the pool size is no longer bounded by the cost of platform threads and the
+ * pool's maximum size only acts as a limit on the number of concurrently running tasks. The mode is chosen when the pools are created.
  */
 public class IteratorThreadPoolManager {
     private static final Logger log = Logger.getLogger(IteratorThreadPoolManager.class);
-    private static final String IVARATOR_THREAD_PROP = "tserver.datawave.ivarator.threads";
+    private static final String IVARATOR_PROP_PREFIX = "tserver.datawave.ivarator";
     private static final String IVARATOR_THREAD_NAME = "DATAWAVE Ivarator";
-    private static final String EVALUATOR_THREAD_PROP = "tserver.datawave.evaluation.threads";
+    private static final String EVALUATOR_PROP_PREFIX = "tserver.datawave.evaluation";
     private static final String EVALUATOR_THREAD_NAME = "DATAWAVE Evaluation";
+    private static final String THREAD_PROP = ".threads";
+    private static final String MAX_QUEUED_PROP = ".maxQueuedPerQuery";
+    private static final String VIRTUAL_THREADS_PROP = ".virtualThreads";
+    private static final String VIRTUAL_CONCURRENCY_PROP = ".virtualThreads.concurrency";
     private static final int DEFAULT_THREAD_POOL_SIZE = 100;
+    private static final int DEFAULT_VIRTUAL_CONCURRENCY = 1000;
+    private static final int DEFAULT_MAX_QUEUED_PER_QUERY = 1000;
     
-    private Map<String,ExecutorService> threadPools = new TreeMap<>();
+    private Map<String,QueryThreadPoolExecutor> threadPools = new TreeMap<>();
     
     private static final Object instanceSemaphore = new Object();
     private static final String instanceId = Integer.toHexString(instanceSemaphore.hashCode());
@@ -35,28 +48,53 @@ public class IteratorThreadPoolManager {
     
     private IteratorThreadPoolManager(IteratorEnvironment env) {
         // create the thread pools
-        createExecutorService(IVARATOR_THREAD_PROP, IVARATOR_THREAD_NAME, env);
-        createExecutorService(EVALUATOR_THREAD_PROP, EVALUATOR_THREAD_NAME, env);
+        createExecutorService(IVARATOR_PROP_PREFIX, IVARATOR_THREAD_NAME, env);
+        createExecutorService(EVALUATOR_PROP_PREFIX, EVALUATOR_THREAD_NAME, env);
     }
     
-    private ThreadPoolExecutor createExecutorService(final String prop, final String name, IteratorEnvironment env) {
+    private ThreadPoolExecutor createExecutorService(final String propPrefix, final String name, IteratorEnvironment env) {
         final AccumuloConfiguration accumuloConfiguration;
         if (env != null) {
             accumuloConfiguration = env.getConfig();
         } else {
             accumuloConfiguration = DefaultConfiguration.getInstance();
         }
-        final ThreadPoolExecutor service = createExecutorService(getMaxThreads(prop, accumuloConfiguration), name + " (" + instanceId + ')');
+        
+        final String threadName = name + " (" + instanceId + ')';
+        ThreadFactory threadFactory = null;
+        if (Boolean.parseBoolean(getProperty(propPrefix + VIRTUAL_THREADS_PROP, "false", accumuloConfiguration))) {
+            threadFactory = VirtualThreads.newThreadFactory(threadName);
+            if (threadFactory == null) {
+                log.warn(propPrefix + VIRTUAL_THREADS_PROP + " is set but virtual threads are not supported by this JVM; using platform threads");
+            }
+        }
+        final boolean virtual = (threadFactory != null);
+        final String sizeProp = propPrefix + (virtual ? VIRTUAL_CONCURRENCY_PROP : THREAD_PROP);
+        final int defaultSize = (virtual ? DEFAULT_VIRTUAL_CONCURRENCY : DEFAULT_THREAD_POOL_SIZE);
+        final String maxQueuedProp = propPrefix + MAX_QUEUED_PROP;
+        
+        final QueryThreadPoolExecutor service = createExecutorService(getIntProperty(sizeProp, defaultSize, accumuloConfiguration),
+                        getIntProperty(maxQueuedProp, DEFAULT_MAX_QUEUED_PER_QUERY, accumuloConfiguration),
+                        (virtual ? threadFactory : new NamingThreadFactory(threadName)));
         threadPools.put(name, service);
+        log.info("Created " + name + " pool using " + (virtual ? "virtual" : "platform") + " threads with " + service.getMaximumPoolSize() + " max threads");
         SimpleTimer.getInstance(accumuloConfiguration).schedule(() -> {
             try {
                 
-                int max = getMaxThreads(prop, accumuloConfiguration);
+                int max = getIntProperty(sizeProp, defaultSize, accumuloConfiguration);
                 if (service.getMaximumPoolSize() != max) {
-                    log.info("Changing " + prop + " to " + max);
+                    log.info("Changing " + sizeProp + " to " + max);
                     service.setCorePoolSize(max);
                     service.setMaximumPoolSize(max);
                 }
+                int maxQueued = getIntProperty(maxQueuedProp, DEFAULT_MAX_QUEUED_PER_QUERY, accumuloConfiguration);
+                if (service.getTaskQueue().getMaxQueuedPerQuery() != maxQueued) {
+                    log.info("Changing " + maxQueuedProp + " to " + maxQueued);
+                    service.getTaskQueue().setMaxQueuedPerQuery(maxQueued);
+                }
+                if (log.isDebugEnabled()) {
+                    log.debug(service.getStats(name));
+                }
             } catch (Throwable t) {
                 log.error(t, t);
             }
@@ -64,22 +102,25 @@ public class IteratorThreadPoolManager {
         return service;
     }
     
-    private ThreadPoolExecutor createExecutorService(int maxThreads, String name) {
-        ThreadPoolExecutor pool = new ThreadPoolExecutor(maxThreads, maxThreads, 5 * 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
-                        new NamingThreadFactory(name));
+    private QueryThreadPoolExecutor createExecutorService(int maxThreads, int maxQueuedPerQuery, ThreadFactory threadFactory) {
+        QueryThreadPoolExecutor pool = new QueryThreadPoolExecutor(maxThreads, new QueryTaskQueue(maxQueuedPerQuery), threadFactory);
         pool.allowCoreThreadTimeOut(true);
         return pool;
     }
     
-    private int getMaxThreads(final String prop, AccumuloConfiguration conf) {
+    private String getProperty(final String prop, final String defaultValue, AccumuloConfiguration conf) {
         if (conf != null) {
             Map<String,String> properties = new TreeMap<>();
             conf.getProperties(properties, k -> Objects.equals(k, prop));
             if (properties.containsKey(prop)) {
-                return Integer.parseInt(properties.get(prop));
+                return properties.get(prop);
             }
         }
-        return DEFAULT_THREAD_POOL_SIZE;
+        return defaultValue;
+    }
+    
+    private int getIntProperty(final String prop, final int defaultValue, AccumuloConfiguration conf) {
+        return Integer.parseInt(getProperty(prop, Integer.toString(defaultValue), conf));
     }
     
     private static IteratorThreadPoolManager instance(IteratorEnvironment env) {
@@ -93,8 +134,8 @@ public class IteratorThreadPoolManager {
         return instance;
     }
     
-    private Future<?> execute(String name, final Runnable task, final String taskName) {
-        return threadPools.get(name).submit(() -> {
+    private Future<?> execute(String name, final Runnable task, final String taskName, String queryId, int priority) {
+        QueryTaskQueue.QueryTask queryTask = new QueryTaskQueue.QueryTask(() -> {
             String oldName = Thread.currentThread().getName();
             Thread.currentThread().setName(oldName + " -> " + taskName);
             try {
@@ -102,15 +143,147 @@ public class IteratorThreadPoolManager {
             } finally {
                 Thread.currentThread().setName(oldName);
             }
-        });
+        }, queryId, priority);
+        threadPools.get(name).execute(queryTask);
+        return queryTask;
     }
     
     public static Future<?> executeIvarator(Runnable task, String taskName, IteratorEnvironment env) {
-        return instance(env).execute(IVARATOR_THREAD_NAME, task, taskName);
+        return executeIvarator(task, taskName, null, QueryTaskQueue.DEFAULT_PRIORITY, env);
+    }
+    
+    public static Future<?> executeIvarator(Runnable task, String taskName, String queryId, int priority, IteratorEnvironment env) {
+        return instance(env).execute(IVARATOR_THREAD_NAME, task, taskName, queryId, priority);
     }
     
     public static Future<?> executeEvaluation(Runnable task, String taskName, IteratorEnvironment env) {
-        return instance(env).execute(EVALUATOR_THREAD_NAME, task, taskName);
+        return executeEvaluation(task, taskName, null, QueryTaskQueue.DEFAULT_PRIORITY, env);
+    }
+    
+    public static Future<?> executeEvaluation(Runnable task, String taskName, String queryId, int priority, IteratorEnvironment env) {
+        return instance(env).execute(EVALUATOR_THREAD_NAME, task, taskName, queryId, priority);
+    }
+    
+    public static PoolStats getIvaratorPoolStats(IteratorEnvironment env) {
+        return instance(env).threadPools.get(IVARATOR_THREAD_NAME).getStats(IVARATOR_THREAD_NAME);
+    }
+    
+    public static PoolStats getEvaluationPoolStats(IteratorEnvironment env) {
+        return instance(env).threadPools.get(EVALUATOR_THREAD_NAME).getStats(EVALUATOR_THREAD_NAME);
+    }
+    
+    /**
+     * A thread pool executor backed by a {@link QueryTaskQueue} which records how long tasks wait before they are run.
+     */
+    private static class QueryThreadPoolExecutor extends ThreadPoolExecutor {
+        private final QueryTaskQueue taskQueue;
+        private final AtomicLong tasksStarted = new AtomicLong();
+        private final AtomicLong tasksRunByCaller = new AtomicLong();
+        private final AtomicLong totalWaitMs = new AtomicLong();
+        private final AtomicLong maxWaitMs = new AtomicLong();
+        
+        QueryThreadPoolExecutor(int maxThreads, QueryTaskQueue taskQueue, ThreadFactory threadFactory) {
+            super(maxThreads, maxThreads, 5 * 60, TimeUnit.SECONDS, taskQueue, threadFactory);
+            this.taskQueue = taskQueue;
+            // a query which has hit its queued task limit runs the task itself, while a task submitted after shutdown is rejected so that nobody waits
+            // on its future forever
+            setRejectedExecutionHandler((r, executor) -> {
+                if (executor.isShutdown()) {
+                    throw new RejectedExecutionException("Task " + r + " rejected from " + executor + " as it is shut down");
+                }
+                tasksRunByCaller.incrementAndGet();
+                r.run();
+            });
+        }
+        
+        QueryTaskQueue getTaskQueue() {
+            return taskQueue;
+        }
+        
+        @Override
+        protected void beforeExecute(Thread t, Runnable r) {
+            super.beforeExecute(t, r);
+            if (r instanceof QueryTaskQueue.QueryTask) {
+                long waitMs = System.currentTimeMillis() - ((QueryTaskQueue.QueryTask) r).getCreateTime();
+                tasksStarted.incrementAndGet();
+                totalWaitMs.addAndGet(waitMs);
+                maxWaitMs.accumulateAndGet(waitMs, Math::max);
+            }
+        }
+        
+        PoolStats getStats(String name) {
+            return new PoolStats(name, getActiveCount(), getPoolSize(), taskQueue.size(), taskQueue.getQueuedPerQuery(), tasksStarted.get(),
+                            tasksRunByCaller.get(), totalWaitMs.get(), maxWaitMs.get());
+        }
     }
     
+    /**
+     * A point in time snapshot of the state of one of the managed thread pools
+     */
+    public static class PoolStats {
+        private final String name;
+        private final int activeThreads;
+        private final int poolSize;
+        private final int queued;
+        private final Map<String,Integer> queuedPerQuery;
+        private final long tasksStarted;
+        private final long tasksRunByCaller;
+        private final long totalWaitMs;
+        private final long maxWaitMs;
+        
+        PoolStats(String name, int activeThreads, int poolSize, int queued, Map<String,Integer> queuedPerQuery, long tasksStarted, long tasksRunByCaller,
+                        long totalWaitMs, long maxWaitMs) {
+            this.name = name;
+            this.activeThreads = activeThreads;
+            this.poolSize = poolSize;
+            this.queued = queued;
+            this.queuedPerQuery = queuedPerQuery;
+            this.tasksStarted = tasksStarted;
+            this.tasksRunByCaller = tasksRunByCaller;
+            this.totalWaitMs = totalWaitMs;
+            this.maxWaitMs = maxWaitMs;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public int getActiveThreads() {
+            return activeThreads;
+        }
+        
+        public int getPoolSize() {
+            return poolSize;
+        }
+        
+        public int getQueued() {
+            return queued;
+        }
+        
+        public Map<String,Integer> getQueuedPerQuery() {
+            return queuedPerQuery;
+        }
+        
+        public long getTasksStarted() {
+            return tasksStarted;
+        }
+        
+        public long getTasksRunByCaller() {
+            return tasksRunByCaller;
+        }
+        
+        public long getMaxWaitMs() {
+            return maxWaitMs;
+        }
+        
+        public double getAverageWaitMs() {
+            return (tasksStarted == 0 ? 0.0d : ((double) totalWaitMs) / tasksStarted);
+        }
+        
+        @Override
+        public String toString() {
+            return name + ": active=" + activeThreads + ", poolSize=" + poolSize + ", queued=" + queued + ", queries=" + queuedPerQuery.size() + ", started="
+                            + tasksStarted + ", runByCaller=" + tasksRunByCaller + ", avgWaitMs=" + getAverageWaitMs() + ", maxWaitMs=" + maxWaitMs;
+        }
+    }
 }
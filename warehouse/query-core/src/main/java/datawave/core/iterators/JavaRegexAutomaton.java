@@ -0,0 +1,158 @@
+package datawave.core.iterators;
+
+import org.apache.log4j.Logger;
+import org.apache.lucene.util.automaton.Automaton;
+import org.apache.lucene.util.automaton.ByteRunAutomaton;
+import org.apache.lucene.util.automaton.RegExp;
+
+/**
+ * A deterministic automaton over the UTF-8 bytes of the values matched by a java regex, used to rule out values without running the regex and to find the
+ * prefixes which no matching value can begin with, such that the values beginning with them can be skipped in a sorted scan.
+ * 
+ * Only the subset of the java regex syntax which means the same to a Lucene {@link RegExp} is converted. The automaton may accept values which the regex
+ * does not (e.g. '.' matches line terminators), so it is only used to rule values out: a value it accepts must still be matched against the regex.
+ */
+public class JavaRegexAutomaton {
+    private static final Logger log = Logger.getLogger(JavaRegexAutomaton.class);
+    
+    /**
+     * The value is accepted by the automaton
+     */
+    public static final int MATCH = -1;
+    
+    /**
+     * The value is not accepted by the automaton, but values beginning with it may be
+     */
+    public static final int NO_MATCH = 0;
+    
+    // bounds the size of the automaton, beyond which the regex is simply run against every value
+    public static final int MAX_DETERMINIZED_STATES = 1000;
+    
+    // characters which are literals in a java regex but operators in a Lucene regex
+    private static final String LUCENE_OPERATORS = "\"<>#@&~";
+    
+    private final String regex;
+    private final ByteRunAutomaton automaton;
+    
+    private JavaRegexAutomaton(String regex, ByteRunAutomaton automaton) {
+        this.regex = regex;
+        this.automaton = automaton;
+    }
+    
+    /**
+     * Create the automaton for a java regex
+     * 
+     * @param regex
+     * @return the automaton, or null if the regex uses syntax which can not be converted or its automaton is too large
+     */
+    public static JavaRegexAutomaton create(String regex) {
+        String luceneRegex = toLuceneRegex(regex);
+        if (luceneRegex == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Unable to convert " + regex + " to an automaton");
+            }
+            return null;
+        }
+        try {
+            Automaton automaton = new RegExp(luceneRegex, RegExp.NONE).toAutomaton(MAX_DETERMINIZED_STATES);
+            return new JavaRegexAutomaton(regex, new ByteRunAutomaton(automaton, false, MAX_DETERMINIZED_STATES));
+        } catch (RuntimeException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Unable to build an automaton for " + regex + " as " + luceneRegex, e);
+            }
+            return null;
+        }
+    }
+    
+    /**
+     * Convert a java regex to the Lucene regex syntax
+     * 
+     * @param regex
+     * @return the Lucene regex, or null if the java regex uses syntax which has no equivalent
+     */
+    static String toLuceneRegex(String regex) {
+        StringBuilder lucene = new StringBuilder(regex.length() + 8);
+        boolean inClass = false;
+        int classStart = -1;
+        int length = regex.length();
+        for (int i = 0; i < length; i++) {
+            char c = regex.charAt(i);
+            char next = (i + 1 < length ? regex.charAt(i + 1) : 0);
+            if (c == '\\') {
+                // escaped letters and digits are predefined classes, back references, quotes, boundaries and the like
+                if (i + 1 == length || Character.isLetterOrDigit(next)) {
+                    return null;
+                }
+                lucene.append(c).append(next);
+                i++;
+            } else if (inClass) {
+                if (c == '[' || (c == '&' && next == '&')) {
+                    // nested classes, unions and intersections
+                    return null;
+                } else if (c == ']') {
+                    if (i == classStart) {
+                        return null;
+                    }
+                    inClass = false;
+                    lucene.append(c);
+                } else if (c == '-' && (i == classStart || next == ']')) {
+                    // a literal dash is read as the start of a range
+                    return null;
+                } else if (LUCENE_OPERATORS.indexOf(c) >= 0) {
+                    lucene.append('\\').append(c);
+                } else {
+                    lucene.append(c);
+                }
+            } else if (c == '[') {
+                inClass = true;
+                lucene.append(c);
+                if (next == '^') {
+                    lucene.append(next);
+                    i++;
+                }
+                classStart = i + 1;
+            } else if (c == '^' || c == '$') {
+                // anchors
+                return null;
+            } else if (c == '(' && (next == '?' || next == '|')) {
+                // special groups and flags, and empty alternatives
+                return null;
+            } else if (c == '|' && (i == 0 || next == '|' || next == ')' || next == 0)) {
+                // empty alternatives
+                return null;
+            } else if (LUCENE_OPERATORS.indexOf(c) >= 0) {
+                lucene.append('\\').append(c);
+            } else {
+                lucene.append(c);
+            }
+        }
+        return (inClass ? null : lucene.toString());
+    }
+    
+    /**
+     * Run the automaton over a value
+     * 
+     * @param bytes
+     *            the UTF-8 bytes containing the value
+     * @param offset
+     *            the offset of the value
+     * @param length
+     *            the length of the value
+     * @return {@link #MATCH} if the automaton accepts the value, the length of the shortest prefix of the value which no accepted value begins with, or
+     *         {@link #NO_MATCH} if the value is not accepted but values beginning with it may be
+     */
+    public int run(byte[] bytes, int offset, int length) {
+        int state = 0;
+        for (int i = 0; i < length; i++) {
+            state = automaton.step(state, bytes[offset + i] & 0xff);
+            if (state == -1) {
+                return i + 1;
+            }
+        }
+        return (automaton.isAccept(state) ? MATCH : NO_MATCH);
+    }
+    
+    public String getRegex() {
+        return regex;
+    }
+}
@@ -0,0 +1,372 @@
+package datawave.core.iterators;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A work queue for the tserver iterator thread pools which keeps a separate FIFO per query and hands out tasks across queries using stride scheduling. Each
+ * query is given a share of the threads proportional to its priority, so a single query which queues up thousands of evaluations cannot starve the others.
+ * The number of tasks that any one query may have queued is limited; an offer beyond that limit is refused so that the executor's rejection policy can apply
+ * back pressure to the submitting query, while put and the timed offer wait for the query to have room.
+ * <p>
+ * Tasks which are not {@link QueryTask}s are scheduled as if they belonged to a single anonymous query.
+ */
+public class QueryTaskQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+    
+    public static final String UNKNOWN_QUERY = "unknown";
+    public static final int DEFAULT_PRIORITY = 1;
+    
+    // the pass increment for a query with priority 1
+    private static final long STRIDE = 1L << 20;
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    // signalled when a task leaves the queue, the waiters check whether their own query has room
+    private final Condition notFull = lock.newCondition();
+    
+    // the queues of tasks per query, in the order in which the queries first queued work
+    private final Map<String,QueryQueue> queues = new LinkedHashMap<>();
+    
+    // the virtual time: the pass of the last query we took a task from
+    private long globalPass = 0;
+    private int size = 0;
+    private volatile int maxQueuedPerQuery;
+    
+    /**
+     * A future task which knows the query that submitted it.
+     */
+    public static class QueryTask extends FutureTask<Object> {
+        private final String queryId;
+        private final int priority;
+        private final long createTime = System.currentTimeMillis();
+        
+        public QueryTask(Runnable task, String queryId, int priority) {
+            super(task, null);
+            this.queryId = (queryId == null ? UNKNOWN_QUERY : queryId);
+            this.priority = Math.max(1, priority);
+        }
+        
+        public String getQueryId() {
+            return queryId;
+        }
+        
+        public int getPriority() {
+            return priority;
+        }
+        
+        public long getCreateTime() {
+            return createTime;
+        }
+    }
+    
+    private static class QueryQueue {
+        private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+        private int priority = DEFAULT_PRIORITY;
+        private long pass = 0;
+    }
+    
+    public QueryTaskQueue(int maxQueuedPerQuery) {
+        this.maxQueuedPerQuery = maxQueuedPerQuery;
+    }
+    
+    public int getMaxQueuedPerQuery() {
+        return maxQueuedPerQuery;
+    }
+    
+    public void setMaxQueuedPerQuery(int maxQueuedPerQuery) {
+        lock.lock();
+        try {
+            this.maxQueuedPerQuery = maxQueuedPerQuery;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * @return a snapshot of the number of queued tasks per query
+     */
+    public Map<String,Integer> getQueuedPerQuery() {
+        lock.lock();
+        try {
+            Map<String,Integer> depths = new LinkedHashMap<>();
+            for (Map.Entry<String,QueryQueue> entry : queues.entrySet()) {
+                depths.put(entry.getKey(), entry.getValue().tasks.size());
+            }
+            return depths;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private static String getQueryId(Runnable task) {
+        return (task instanceof QueryTask ? ((QueryTask) task).getQueryId() : UNKNOWN_QUERY);
+    }
+    
+    private static int getPriority(Runnable task) {
+        return (task instanceof QueryTask ? ((QueryTask) task).getPriority() : DEFAULT_PRIORITY);
+    }
+    
+    /**
+     * Add a task to the queue of its query unless that query already has the maximum number of tasks queued. Must be called with the lock held.
+     */
+    private boolean enqueue(Runnable task) {
+        String queryId = getQueryId(task);
+        QueryQueue queue = queues.get(queryId);
+        if (queue == null) {
+            queue = new QueryQueue();
+            // a query joining the queue starts at the current virtual time so it cannot claim credit for the time it was idle
+            queue.pass = globalPass;
+            queues.put(queryId, queue);
+        } else if (maxQueuedPerQuery > 0 && queue.tasks.size() >= maxQueuedPerQuery) {
+            return false;
+        }
+        queue.priority = getPriority(task);
+        queue.tasks.add(task);
+        size++;
+        notEmpty.signal();
+        return true;
+    }
+    
+    @Override
+    public boolean offer(Runnable task) {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+        lock.lock();
+        try {
+            return enqueue(task);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public boolean offer(Runnable task, long timeout, TimeUnit unit) throws InterruptedException {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (!enqueue(task)) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public void put(Runnable task) throws InterruptedException {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+        lock.lockInterruptibly();
+        try {
+            while (!enqueue(task)) {
+                notFull.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Remove the next task from the query with the lowest pass. Must be called with the lock held.
+     */
+    private Runnable dequeue() {
+        if (size == 0) {
+            return null;
+        }
+        String nextQuery = null;
+        QueryQueue next = null;
+        for (Map.Entry<String,QueryQueue> entry : queues.entrySet()) {
+            QueryQueue queue = entry.getValue();
+            if (next == null || queue.pass < next.pass) {
+                nextQuery = entry.getKey();
+                next = queue;
+            }
+        }
+        Runnable task = next.tasks.poll();
+        size--;
+        globalPass = next.pass;
+        next.pass += STRIDE / next.priority;
+        if (next.tasks.isEmpty()) {
+            queues.remove(nextQuery);
+        }
+        notFull.signalAll();
+        return task;
+    }
+    
+    @Override
+    public Runnable poll() {
+        lock.lock();
+        try {
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public Runnable take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public Runnable peek() {
+        lock.lock();
+        try {
+            QueryQueue next = null;
+            for (QueryQueue queue : queues.values()) {
+                if (next == null || queue.pass < next.pass) {
+                    next = queue;
+                }
+            }
+            return (next == null ? null : next.tasks.peek());
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof Runnable)) {
+            return false;
+        }
+        lock.lock();
+        try {
+            String queryId = getQueryId((Runnable) o);
+            QueryQueue queue = queues.get(queryId);
+            if (queue != null && queue.tasks.remove(o)) {
+                size--;
+                if (queue.tasks.isEmpty()) {
+                    queues.remove(queryId);
+                }
+                notFull.signalAll();
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public int remainingCapacity() {
+        return Integer.MAX_VALUE;
+    }
+    
+    @Override
+    public int drainTo(Collection<? super Runnable> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+    
+    @Override
+    public int drainTo(Collection<? super Runnable> c, int maxElements) {
+        lock.lock();
+        try {
+            int count = 0;
+            while (count < maxElements && size > 0) {
+                c.add(dequeue());
+                count++;
+            }
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * @return an iterator over a snapshot of the queued tasks. Removal through the iterator removes the task from this queue.
+     */
+    @Override
+    public Iterator<Runnable> iterator() {
+        final List<Runnable> snapshot;
+        lock.lock();
+        try {
+            snapshot = new ArrayList<>(size);
+            for (QueryQueue queue : queues.values()) {
+                snapshot.addAll(queue.tasks);
+            }
+        } finally {
+            lock.unlock();
+        }
+        final Iterator<Runnable> delegate = Collections.unmodifiableList(snapshot).iterator();
+        return new Iterator<Runnable>() {
+            private Runnable last = null;
+            
+            @Override
+            public boolean hasNext() {
+                return delegate.hasNext();
+            }
+            
+            @Override
+            public Runnable next() {
+                last = delegate.next();
+                return last;
+            }
+            
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                QueryTaskQueue.this.remove(last);
+                last = null;
+            }
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package datawave.core.iterators;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Access to virtual threads (JDK 21+) while this code is still compiled for Java 8. Everything is looked up reflectively once; on older JVMs virtual threads are
+ * simply reported as unsupported.
+ */
+public class VirtualThreads {
+    private static final Logger log = Logger.getLogger(VirtualThreads.class);
+    
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+    private static final Method IS_VIRTUAL;
+    
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        Method isVirtual = null;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            builderName = builderClass.getMethod("name", String.class, long.class);
+            builderFactory = builderClass.getMethod("factory");
+            isVirtual = Thread.class.getMethod("isVirtual");
+            // on JDK 19 and 20 this is a preview API and fails unless preview features are enabled
+            ofVirtual.invoke(null);
+        } catch (Throwable t) {
+            log.debug("Virtual threads are not available in this JVM", t);
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        IS_VIRTUAL = isVirtual;
+    }
+    
+    private VirtualThreads() {}
+    
+    /**
+     * @return true if this JVM can create virtual threads
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+    
+    /**
+     * Create a factory of virtual threads named with the specified prefix followed by a counter.
+     * 
+     * @param name
+     *            the thread name prefix
+     * @return the thread factory, or null if virtual threads are not supported
+     */
+    public static ThreadFactory newThreadFactory(String name) {
+        if (!isSupported()) {
+            return null;
+        }
+        try {
+            Object builder = OF_VIRTUAL.invoke(null);
+            builder = BUILDER_NAME.invoke(builder, name + " virtual ", 0L);
+            return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            log.warn("Unable to create a virtual thread factory", e);
+            return null;
+        }
+    }
+    
+    /**
+     * @param thread
+     *            a thread
+     * @return true if the thread is a virtual thread
+     */
+    public static boolean isVirtual(Thread thread) {
+        if (!isSupported()) {
+            return false;
+        }
+        try {
+            return (Boolean) IS_VIRTUAL.invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+}
@@ -176,9 +176,7 @@ public abstract class Attribute<T extends Comparable<T>> implements WritableComp
         if (!reducedResponse) {
             output.writeBoolean(isMetadataSet());
             if (isMetadataSet()) {
-                byte[] cvBytes = getColumnVisibility().getExpression();
-                output.writeInt(cvBytes.length, true);
-                output.writeBytes(cvBytes);
+                AttributeDictionary.writeVisibility(kryo, output, getColumnVisibility().getExpression());
                 output.writeLong(getTimestamp());
             }
         }
@@ -207,9 +205,9 @@ public abstract class Attribute<T extends Comparable<T>> implements WritableComp
         
         if (!reducedResponse) {
             if (input.readBoolean()) {
-                int size = input.readInt(true);
+                ColumnVisibility cv = AttributeDictionary.readVisibility(kryo, input);
                 
-                this.setMetadata(new ColumnVisibility(input.readBytes(size)), input.readLong());
+                this.setMetadata(cv, input.readLong());
             } else {
                 this.clearMetadata();
             }
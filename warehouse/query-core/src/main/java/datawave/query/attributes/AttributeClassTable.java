@@ -0,0 +1,158 @@
+package datawave.query.attributes;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import org.apache.hadoop.io.WritableUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A symbol table of the concrete Attribute classes within a Document or Attributes. The class names are serialized once at the start of the container and
+ * each attribute is then written with a small id instead of its full class name. Containers rarely hold more than a few distinct classes, so lookups are a
+ * linear scan.
+ * 
+ * A container written with a class table starts with {@link #FORMAT_MARKER} in place of its count, which can not be mistaken for a count as counts are never
+ * negative. Containers written before class tables were introduced have no marker and write the class name of each attribute, and are read with
+ * {@link #BY_NAME}, so that documents from tservers which have not been upgraded can still be read.
+ */
+class AttributeClassTable {
+    
+    // written before the count of a container to mark that a class table follows
+    static final int FORMAT_MARKER = -1;
+    
+    // reads the class name written with each attribute, for containers written without a class table
+    static final AttributeClassTable BY_NAME = new AttributeClassTable(null);
+    
+    // the classes resolved by name when reading, shared to avoid a Class.forName call per attribute
+    private static final Map<String,Class<?>> classesByName = new ConcurrentHashMap<>();
+    
+    // the classes by id, or null to read the class name of each attribute
+    private final List<Class<?>> classes;
+    
+    private AttributeClassTable(List<Class<?>> classes) {
+        this.classes = classes;
+    }
+    
+    /**
+     * Create a table of the classes of the specified attributes
+     * 
+     * @param attributes
+     * @return the table
+     */
+    static AttributeClassTable of(Iterable<? extends Attribute<?>> attributes) {
+        List<Class<?>> classes = new ArrayList<>(4);
+        for (Attribute<?> attribute : attributes) {
+            if (!classes.contains(attribute.getClass())) {
+                classes.add(attribute.getClass());
+            }
+        }
+        return new AttributeClassTable(classes);
+    }
+    
+    /**
+     * Get the id for an attribute's class
+     * 
+     * @param attribute
+     * @return the id
+     */
+    int getId(Attribute<?> attribute) {
+        int id = classes.indexOf(attribute.getClass());
+        if (id < 0) {
+            throw new IllegalArgumentException("Attribute class " + attribute.getClass().getName() + " was not in the table");
+        }
+        return id;
+    }
+    
+    /**
+     * Read the class of an attribute, by its id or by its name if this table reads class names, and create a new instance of it
+     * 
+     * @param in
+     * @return the new attribute
+     * @throws IOException
+     */
+    Attribute<?> readInstance(DataInput in) throws IOException {
+        try {
+            Class<?> clz = (classes == null ? forName(WritableUtils.readString(in)) : classes.get(WritableUtils.readVInt(in)));
+            return (Attribute<?>) clz.newInstance();
+        } catch (ClassNotFoundException | InstantiationException | IllegalAccessException e) {
+            throw new IOException(e);
+        }
+    }
+    
+    /**
+     * Read the class of an attribute, by its id or by its name if this table reads class names, and create a new instance of it
+     * 
+     * @param kryo
+     * @param input
+     * @return the new attribute
+     */
+    Attribute<?> readInstance(Kryo kryo, Input input) {
+        try {
+            Class<?> clz = (classes == null ? forName(AttributeDictionary.readString(kryo, input)) : classes.get(input.readInt(true)));
+            return (Attribute<?>) clz.newInstance();
+        } catch (ClassNotFoundException | InstantiationException | IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+    
+    void write(DataOutput out) throws IOException {
+        WritableUtils.writeVInt(out, classes.size());
+        for (Class<?> clz : classes) {
+            WritableUtils.writeString(out, clz.getName());
+        }
+    }
+    
+    void write(Kryo kryo, Output output) {
+        output.writeInt(classes.size(), true);
+        for (Class<?> clz : classes) {
+            AttributeDictionary.writeString(kryo, output, clz.getName());
+        }
+    }
+    
+    static AttributeClassTable read(DataInput in) throws IOException {
+        int numClasses = WritableUtils.readVInt(in);
+        List<Class<?>> classes = new ArrayList<>(numClasses);
+        for (int i = 0; i < numClasses; i++) {
+            try {
+                classes.add(forName(WritableUtils.readString(in)));
+            } catch (ClassNotFoundException e) {
+                throw new IOException(e);
+            }
+        }
+        return new AttributeClassTable(classes);
+    }
+    
+    static AttributeClassTable read(Kryo kryo, Input input) {
+        int numClasses = input.readInt(true);
+        List<Class<?>> classes = new ArrayList<>(numClasses);
+        for (int i = 0; i < numClasses; i++) {
+            try {
+                classes.add(forName(AttributeDictionary.readString(kryo, input)));
+            } catch (ClassNotFoundException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return new AttributeClassTable(classes);
+    }
+    
+    private static Class<?> forName(String attrClassName) throws ClassNotFoundException {
+        Class<?> clz = classesByName.get(attrClassName);
+        if (clz == null) {
+            clz = Class.forName(attrClassName);
+            
+            // Assert that Attribute is a super class of this Class
+            if (!Attribute.class.isAssignableFrom(clz)) {
+                throw new ClassCastException("Found class that was not an instance of Attribute");
+            }
+            classesByName.put(attrClassName, clz);
+        }
+        return clz;
+    }
+}
@@ -0,0 +1,170 @@
+package datawave.query.attributes;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import org.apache.accumulo.core.security.ColumnVisibility;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A dictionary of the field names, attribute and type class names, and column visibilities written across a stream of documents. When a dictionary is placed
+ * in the Kryo context, the Kryo serialization of Documents and Attributes writes these symbols as small ids, defining each symbol inline the first time it is
+ * written. The reader must use its own dictionary to read the values in the order they were written, which rebuilds the same ids as the definitions are
+ * encountered. Visibilities are parsed once per definition when reading.
+ * 
+ * Each symbol is written as a vint code: 0 for a literal which is not added to the dictionary (once the dictionary is full), 1 for a definition which assigns
+ * the next id, and otherwise the id of a previous definition plus 2.
+ */
+public class AttributeDictionary {
+    
+    public static final int DEFAULT_MAX_SYMBOLS = 1 << 16;
+    
+    private static final int LITERAL = 0;
+    private static final int DEFINITION = 1;
+    private static final int ID_OFFSET = 2;
+    
+    private final int maxSymbols;
+    
+    // the ids assigned when writing
+    private final Map<String,Integer> stringIds = new HashMap<>();
+    private final Map<ByteBuffer,Integer> visibilityIds = new HashMap<>();
+    
+    // the definitions read so far, indexed by id
+    private final List<String> strings = new ArrayList<>();
+    private final List<ColumnVisibility> visibilities = new ArrayList<>();
+    
+    public AttributeDictionary() {
+        this(DEFAULT_MAX_SYMBOLS);
+    }
+    
+    /**
+     * @param maxSymbols
+     *            the max number of strings, and separately of visibilities, to define before writing further symbols as literals
+     */
+    public AttributeDictionary(int maxSymbols) {
+        this.maxSymbols = maxSymbols;
+    }
+    
+    /**
+     * Get the dictionary placed in the Kryo context
+     * 
+     * @param kryo
+     * @return the dictionary, or null if there is none
+     */
+    public static AttributeDictionary get(Kryo kryo) {
+        return (AttributeDictionary) kryo.getContext().get(AttributeDictionary.class);
+    }
+    
+    /**
+     * Place a dictionary in the Kryo context to be used for all subsequent reads and writes
+     * 
+     * @param kryo
+     * @param dictionary
+     */
+    public static void set(Kryo kryo, AttributeDictionary dictionary) {
+        kryo.getContext().put(AttributeDictionary.class, dictionary);
+    }
+    
+    static void writeString(Kryo kryo, Output output, String value) {
+        AttributeDictionary dictionary = get(kryo);
+        if (dictionary == null) {
+            output.writeString(value);
+        } else {
+            dictionary.writeString(output, value);
+        }
+    }
+    
+    static String readString(Kryo kryo, Input input) {
+        AttributeDictionary dictionary = get(kryo);
+        return (dictionary == null ? input.readString() : dictionary.readString(input));
+    }
+    
+    static void writeVisibility(Kryo kryo, Output output, byte[] expression) {
+        AttributeDictionary dictionary = get(kryo);
+        if (dictionary == null) {
+            writeBytes(output, expression);
+        } else {
+            dictionary.writeVisibility(output, expression);
+        }
+    }
+    
+    static ColumnVisibility readVisibility(Kryo kryo, Input input) {
+        AttributeDictionary dictionary = get(kryo);
+        return (dictionary == null ? new ColumnVisibility(readBytes(input)) : dictionary.readVisibility(input));
+    }
+    
+    private static void writeBytes(Output output, byte[] bytes) {
+        output.writeInt(bytes.length, true);
+        output.writeBytes(bytes);
+    }
+    
+    private static byte[] readBytes(Input input) {
+        return input.readBytes(input.readInt(true));
+    }
+    
+    public void writeString(Output output, String value) {
+        Integer id = stringIds.get(value);
+        if (id != null) {
+            output.writeInt(id + ID_OFFSET, true);
+        } else if (stringIds.size() < maxSymbols) {
+            stringIds.put(value, stringIds.size());
+            output.writeInt(DEFINITION, true);
+            output.writeString(value);
+        } else {
+            output.writeInt(LITERAL, true);
+            output.writeString(value);
+        }
+    }
+    
+    public String readString(Input input) {
+        int code = input.readInt(true);
+        if (code >= ID_OFFSET) {
+            return lookup(strings, code - ID_OFFSET);
+        }
+        String value = input.readString();
+        if (code == DEFINITION) {
+            strings.add(value);
+        }
+        return value;
+    }
+    
+    public void writeVisibility(Output output, byte[] expression) {
+        ByteBuffer key = ByteBuffer.wrap(expression);
+        Integer id = visibilityIds.get(key);
+        if (id != null) {
+            output.writeInt(id + ID_OFFSET, true);
+        } else if (visibilityIds.size() < maxSymbols) {
+            visibilityIds.put(key, visibilityIds.size());
+            output.writeInt(DEFINITION, true);
+            writeBytes(output, expression);
+        } else {
+            output.writeInt(LITERAL, true);
+            writeBytes(output, expression);
+        }
+    }
+    
+    public ColumnVisibility readVisibility(Input input) {
+        int code = input.readInt(true);
+        if (code >= ID_OFFSET) {
+            return lookup(visibilities, code - ID_OFFSET);
+        }
+        ColumnVisibility visibility = new ColumnVisibility(readBytes(input));
+        if (code == DEFINITION) {
+            visibilities.add(visibility);
+        }
+        return visibility;
+    }
+    
+    private static <T> T lookup(List<T> symbols, int id) {
+        if (id >= symbols.size()) {
+            throw new KryoException("Symbol " + id + " has not been defined; " + symbols.size() + " symbols have been read");
+        }
+        return symbols.get(id);
+    }
+}
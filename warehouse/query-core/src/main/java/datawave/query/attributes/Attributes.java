@@ -115,14 +115,19 @@ public class Attributes extends AttributeBag<Attributes> implements Serializable
     
     @Override
     public void write(DataOutput out, boolean reducedResponse) throws IOException {
+        WritableUtils.writeVInt(out, AttributeClassTable.FORMAT_MARKER);
         WritableUtils.writeVInt(out, _count);
         out.writeBoolean(trackSizes);
+        // Write out the concrete Attribute classes once
+        AttributeClassTable classTable = AttributeClassTable.of(this.attributes);
+        classTable.write(out);
+        
         // Write out the number of Attributes we're going to store
         WritableUtils.writeVInt(out, this.attributes.size());
         
         for (Attribute<? extends Comparable<?>> attr : this.attributes) {
-            // Write out the concrete Attribute class
-            WritableUtils.writeString(out, attr.getClass().getName());
+            // Write out the id of the concrete Attribute class
+            WritableUtils.writeVInt(out, classTable.getId(attr));
             
             // Defer to the concrete instance to write() itself
             attr.write(out, reducedResponse);
@@ -131,32 +136,17 @@ public class Attributes extends AttributeBag<Attributes> implements Serializable
     
     @Override
     public void readFields(DataInput in) throws IOException {
-        this._count = WritableUtils.readVInt(in);
+        int count = WritableUtils.readVInt(in);
+        boolean hasClassTable = (count == AttributeClassTable.FORMAT_MARKER);
+        this._count = (hasClassTable ? WritableUtils.readVInt(in) : count);
         this.trackSizes = in.readBoolean();
+        // Get the concrete Attribute classes, or read the class name of each attribute if written without them
+        AttributeClassTable classTable = (hasClassTable ? AttributeClassTable.read(in) : AttributeClassTable.BY_NAME);
         int numAttrs = WritableUtils.readVInt(in);
         this.attributes = new LinkedHashSet<>();
         for (int i = 0; i < numAttrs; i++) {
-            String attrClassName = WritableUtils.readString(in);
-            Class<?> clz;
-            
-            // Get the name of the concrete Attribute
-            try {
-                clz = Class.forName(attrClassName);
-            } catch (ClassNotFoundException e) {
-                throw new IOException(e);
-            }
-            
-            if (!Attribute.class.isAssignableFrom(clz)) {
-                throw new ClassCastException("Found class that was not an instance of Attribute");
-            }
-            
-            // Get the Class for the name of the class of the concrete Attribute
-            Attribute<?> attr;
-            try {
-                attr = (Attribute<?>) clz.newInstance();
-            } catch (InstantiationException | IllegalAccessException e) {
-                throw new IOException(e);
-            }
+            // Get an instance of the concrete Attribute
+            Attribute<?> attr = classTable.readInstance(in);
             
             // Reload the attribute
             attr.readFields(in);
@@ -288,14 +278,19 @@ public class Attributes extends AttributeBag<Attributes> implements Serializable
     
     @Override
     public void write(Kryo kryo, Output output, Boolean reducedResponse) {
+        output.writeInt(AttributeClassTable.FORMAT_MARKER, true);
         output.writeInt(this._count, true);
         output.writeBoolean(this.trackSizes);
+        // Write out the concrete Attribute classes once
+        AttributeClassTable classTable = AttributeClassTable.of(this.attributes);
+        classTable.write(kryo, output);
+        
         // Write out the number of Attributes we're going to store
         output.writeInt(this.attributes.size(), true);
         
         for (Attribute<? extends Comparable<?>> attr : this.attributes) {
-            // Write out the concrete Attribute class
-            output.writeString(attr.getClass().getName());
+            // Write out the id of the concrete Attribute class
+            output.writeInt(classTable.getId(attr), true);
             
             // Defer to the concrete instance to write() itself
             attr.write(kryo, output, reducedResponse);
@@ -304,34 +299,17 @@ public class Attributes extends AttributeBag<Attributes> implements Serializable
     
     @Override
     public void read(Kryo kryo, Input input) {
-        this._count = input.readInt(true);
+        int count = input.readInt(true);
+        boolean hasClassTable = (count == AttributeClassTable.FORMAT_MARKER);
+        this._count = (hasClassTable ? input.readInt(true) : count);
         this.trackSizes = input.readBoolean();
+        AttributeClassTable classTable = (hasClassTable ? AttributeClassTable.read(kryo, input) : AttributeClassTable.BY_NAME);
         int numAttrs = input.readInt(true);
         
         this.attributes = new LinkedHashSet<>();
         for (int i = 0; i < numAttrs; i++) {
-            String attrClassName = input.readString();
-            Class<?> clz;
-            
-            // Get the name of the concrete Attribute
-            try {
-                clz = Class.forName(attrClassName);
-            } catch (ClassNotFoundException e) {
-                log.error("could not find class for \"" + attrClassName + "\"");
-                throw new RuntimeException(e);
-            }
-            
-            if (!Attribute.class.isAssignableFrom(clz)) {
-                throw new ClassCastException("Found class that was not an instance of Attribute");
-            }
-            
-            // Get the Class for the name of the class of the concrete Attribute
-            Attribute<?> attr;
-            try {
-                attr = (Attribute<?>) clz.newInstance();
-            } catch (InstantiationException | IllegalAccessException e) {
-                throw new RuntimeException(e);
-            }
+            // Get an instance of the concrete Attribute
+            Attribute<?> attr = classTable.readInstance(kryo, input);
             
             // Reload the attribute
             attr.read(kryo, input);
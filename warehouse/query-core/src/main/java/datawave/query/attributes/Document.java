@@ -8,6 +8,7 @@ import com.google.common.collect.Sets;
 import datawave.marking.MarkingFunctions;
 import datawave.query.Constants;
 import datawave.query.collections.FunctionalSet;
+import datawave.query.collections.SortedArrayMap;
 import datawave.query.composite.CompositeMetadata;
 import datawave.query.function.KeyToFieldName;
 import datawave.query.jexl.DatawaveJexlContext;
@@ -34,7 +35,6 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.TreeMap;
 
 public class Document extends AttributeBag<Document> implements Serializable {
     private static final long serialVersionUID = 1L;
@@ -45,7 +45,8 @@ public class Document extends AttributeBag<Document> implements Serializable {
     
     private int _count = 0;
     long _bytes = 0;
-    TreeMap<String,Attribute<? extends Comparable<?>>> dict;
+    // the attributes by field name held in sorted parallel arrays rather than a TreeMap to avoid an entry object per field
+    SortedArrayMap<String,Attribute<? extends Comparable<?>>> dict;
     
     /**
      * should sizes of the documents be tracked
@@ -76,7 +77,7 @@ public class Document extends AttributeBag<Document> implements Serializable {
     
     public Document(Key key, boolean toKeep, boolean trackSizes) {
         super(key, toKeep);
-        dict = new TreeMap<>();
+        dict = new SortedArrayMap<>();
         this.trackSizes = trackSizes;
     }
     
@@ -105,7 +106,7 @@ public class Document extends AttributeBag<Document> implements Serializable {
         return Collections.unmodifiableMap(this.dict);
     }
     
-    private TreeMap<String,Attribute<? extends Comparable<?>>> _getDictionary() {
+    private SortedArrayMap<String,Attribute<? extends Comparable<?>>> _getDictionary() {
         return dict;
     }
     
@@ -465,10 +466,10 @@ public class Document extends AttributeBag<Document> implements Serializable {
     @Override
     public long sizeInBytes() {
         if (trackSizes) {
-            return super.sizeInBytes(40) + _bytes + (this.dict.size() * 24) + 40;
-            // 32 for local members
-            // 24 for TreeMap.Entry overhead, and members
-            // 56 for TreeMap members and overhead
+            return super.sizeInBytes(40) + _bytes + (this.dict.size() * 8) + 56;
+            // 40 for local members, counted by the super class
+            // 8 for the key and value array slots
+            // 56 for SortedArrayMap members and array overhead
         } else {
             return 1;
         }
@@ -523,22 +524,28 @@ public class Document extends AttributeBag<Document> implements Serializable {
     
     @Override
     public void write(DataOutput out, boolean reducedResponse) throws IOException {
+        WritableUtils.writeVInt(out, AttributeClassTable.FORMAT_MARKER);
         WritableUtils.writeVInt(out, _count);
         out.writeBoolean(trackSizes);
         WritableUtils.writeVLong(out, _bytes);
         
+        // Write out the concrete Attribute classes once
+        AttributeClassTable classTable = AttributeClassTable.of(this.dict.values());
+        classTable.write(out);
+        
         // Write out the number of Attributes we're going to store
         WritableUtils.writeVInt(out, this.dict.size());
         
-        for (Entry<String,Attribute<? extends Comparable<?>>> entry : this.dict.entrySet()) {
+        for (int i = 0; i < this.dict.size(); i++) {
             // Write out the field name
-            WritableUtils.writeString(out, entry.getKey());
+            WritableUtils.writeString(out, this.dict.keyAt(i));
             
-            // Write out the concrete Attribute class
-            WritableUtils.writeString(out, entry.getValue().getClass().getName());
+            // Write out the id of the concrete Attribute class
+            Attribute<?> attribute = this.dict.valueAt(i);
+            WritableUtils.writeVInt(out, classTable.getId(attribute));
             
             // Defer to the concrete instance to write() itself
-            entry.getValue().write(out);
+            attribute.write(out);
         }
         
         WritableUtils.writeVLong(out, shardTimestamp);
@@ -546,41 +553,25 @@ public class Document extends AttributeBag<Document> implements Serializable {
     
     @Override
     public void readFields(DataInput in) throws IOException {
-        this._count = WritableUtils.readVInt(in);
+        int count = WritableUtils.readVInt(in);
+        boolean hasClassTable = (count == AttributeClassTable.FORMAT_MARKER);
+        this._count = (hasClassTable ? WritableUtils.readVInt(in) : count);
         this.trackSizes = in.readBoolean();
         this._bytes = WritableUtils.readVLong(in);
         
+        // Get the concrete Attribute classes, or read the class name of each attribute if written without them
+        AttributeClassTable classTable = (hasClassTable ? AttributeClassTable.read(in) : AttributeClassTable.BY_NAME);
+        
         int numAttrs = WritableUtils.readVInt(in);
         
-        this.dict = new TreeMap<>();
+        this.dict = new SortedArrayMap<>(numAttrs);
         
         for (int i = 0; i < numAttrs; i++) {
             // Get the fieldName
             String fieldName = WritableUtils.readString(in);
             
-            // Get the class name for the concrete Attribute
-            String attrClassName = WritableUtils.readString(in);
-            Class<?> clz;
-            
-            // Get the Class for the name of the class of the concrete Attribute
-            try {
-                clz = Class.forName(attrClassName);
-            } catch (ClassNotFoundException e) {
-                throw new IOException(e);
-            }
-            
-            // Assert that Attribute is a super class of this Class
-            if (!Attribute.class.isAssignableFrom(clz)) {
-                throw new ClassCastException("Found class that was not an instance of Attribute");
-            }
-            
             // Get an instance of the concrete Attribute
-            Attribute<?> attr;
-            try {
-                attr = (Attribute<?>) clz.newInstance();
-            } catch (InstantiationException | IllegalAccessException e) {
-                throw new IOException(e);
-            }
+            Attribute<?> attr = classTable.readInstance(in);
             
             // Reload the attribute
             attr.readFields(in);
@@ -602,22 +593,18 @@ public class Document extends AttributeBag<Document> implements Serializable {
         } else if (size() > o.size()) {
             return 1;
         } else {
-            TreeMap<String,Attribute<? extends Comparable<?>>> map1 = _getDictionary();
-            TreeMap<String,Attribute<? extends Comparable<?>>> map2 = o._getDictionary();
-            Iterator<Entry<String,Attribute<? extends Comparable<?>>>> iter1 = map1.entrySet().iterator();
-            Iterator<Entry<String,Attribute<? extends Comparable<?>>>> iter2 = map2.entrySet().iterator();
+            SortedArrayMap<String,Attribute<? extends Comparable<?>>> map1 = _getDictionary();
+            SortedArrayMap<String,Attribute<? extends Comparable<?>>> map2 = o._getDictionary();
+            int numEntries = Math.min(map1.size(), map2.size());
             
             // iterate over the Attribute name / Attribute entries
-            while (iter1.hasNext() && iter2.hasNext()) {
-                Entry<String,Attribute<? extends Comparable<?>>> entry1 = iter1.next();
-                Entry<String,Attribute<? extends Comparable<?>>> entry2 = iter2.next();
-                
+            for (int i = 0; i < numEntries; i++) {
                 // compare the Attribute names
-                int keyCmp = entry1.getKey().compareTo(entry2.getKey());
+                int keyCmp = map1.keyAt(i).compareTo(map2.keyAt(i));
                 if (0 == keyCmp) {
                     // the Attribute names are equal, so we must compare the values
-                    Attribute<?> v1 = entry1.getValue();
-                    Attribute<?> v2 = entry2.getValue();
+                    Attribute<?> v1 = map1.valueAt(i);
+                    Attribute<?> v2 = map2.valueAt(i);
                     
                     // we can not assume that just because the Attribute names are equal that they are the same subclass of Attribute (and therefore Comparable
                     // with each other)
@@ -644,13 +631,7 @@ public class Document extends AttributeBag<Document> implements Serializable {
                 }
             }
             
-            if (!iter1.hasNext() && iter2.hasNext()) {
-                return -1;
-            } else if (iter1.hasNext() && !iter2.hasNext()) {
-                return 1;
-            } else {
-                return 0;
-            }
+            return Integer.compare(map1.size(), map2.size());
         }
     }
     
@@ -673,8 +654,9 @@ public class Document extends AttributeBag<Document> implements Serializable {
     public int hashCode() {
         HashCodeBuilder hcb = new HashCodeBuilder(173, 167);
         
-        for (Entry<String,Attribute<? extends Comparable<?>>> entry : this.dict.entrySet()) {
-            hcb.append(entry.hashCode());
+        for (int i = 0; i < this.dict.size(); i++) {
+            Attribute<?> value = this.dict.valueAt(i);
+            hcb.append(this.dict.keyAt(i).hashCode() ^ (value == null ? 0 : value.hashCode()));
         }
         
         return hcb.toHashCode();
@@ -756,20 +738,24 @@ public class Document extends AttributeBag<Document> implements Serializable {
     
     @Override
     public void write(Kryo kryo, Output output, Boolean reducedResponse) {
+        output.writeInt(AttributeClassTable.FORMAT_MARKER, true);
         output.writeInt(this._count, true);
         output.writeBoolean(trackSizes);
         output.writeLong(this._bytes, true);
         
+        AttributeClassTable classTable = AttributeClassTable.of(this.dict.values());
+        classTable.write(kryo, output);
+        
         output.writeInt(this.dict.size(), true);
         
-        for (Entry<String,Attribute<? extends Comparable<?>>> entry : this.dict.entrySet()) {
+        for (int i = 0; i < this.dict.size(); i++) {
             // Write out the field name
             // writeAscii fails to be read correctly if the value has only one character
             // need to use writeString here
-            output.writeString(entry.getKey());
+            AttributeDictionary.writeString(kryo, output, this.dict.keyAt(i));
             
-            Attribute<?> attribute = entry.getValue();
-            output.writeString(attribute.getClass().getName());
+            Attribute<?> attribute = this.dict.valueAt(i);
+            output.writeInt(classTable.getId(attribute), true);
             attribute.write(kryo, output, reducedResponse);
         }
         
@@ -778,41 +764,24 @@ public class Document extends AttributeBag<Document> implements Serializable {
     
     @Override
     public void read(Kryo kryo, Input input) {
-        this._count = input.readInt(true);
+        int count = input.readInt(true);
+        boolean hasClassTable = (count == AttributeClassTable.FORMAT_MARKER);
+        this._count = (hasClassTable ? input.readInt(true) : count);
         trackSizes = input.readBoolean();
         this._bytes = input.readLong(true);
         
+        AttributeClassTable classTable = (hasClassTable ? AttributeClassTable.read(kryo, input) : AttributeClassTable.BY_NAME);
+        
         int numAttrs = input.readInt(true);
         
-        this.dict = new TreeMap<>();
+        this.dict = new SortedArrayMap<>(numAttrs);
         
         for (int i = 0; i < numAttrs; i++) {
             // Get the fieldName
-            String fieldName = input.readString();
-            
-            // Get the class name for the concrete Attribute
-            String attrClassName = input.readString();
-            Class<?> clz;
-            
-            // Get the Class for the name of the class of the concrete Attribute
-            try {
-                clz = Class.forName(attrClassName);
-            } catch (ClassNotFoundException e) {
-                throw new RuntimeException(e);
-            }
+            String fieldName = AttributeDictionary.readString(kryo, input);
             
-            Attribute<?> attr;
-            if (Attribute.class.isAssignableFrom(clz)) {
-                // Get an instance of the concrete Attribute
-                try {
-                    attr = (Attribute<?>) clz.newInstance();
-                } catch (InstantiationException | IllegalAccessException e) {
-                    throw new RuntimeException(e);
-                }
-                
-            } else {
-                throw new ClassCastException("Found class that was not an instance of Attribute");
-            }
+            // Get an instance of the concrete Attribute
+            Attribute<?> attr = classTable.readInstance(kryo, input);
             // Reload the attribute
             attr.read(kryo, input);
             
@@ -830,9 +799,9 @@ public class Document extends AttributeBag<Document> implements Serializable {
         Document d = new Document(this.getMetadata(), this.isToKeep(), trackSizes);
         
         // _count will be set via put operations
-        Set<Entry<String,Attribute<? extends Comparable<?>>>> entries = this._getDictionary().entrySet();
-        for (Entry<String,Attribute<? extends Comparable<?>>> entry : entries) {
-            d.put(entry.getKey(), (Attribute<?>) entry.getValue().copy());
+        SortedArrayMap<String,Attribute<? extends Comparable<?>>> entries = this._getDictionary();
+        for (int i = 0; i < entries.size(); i++) {
+            d.put(entries.keyAt(i), (Attribute<?>) entries.valueAt(i).copy());
         }
         
         d.shardTimestamp = this.shardTimestamp;
@@ -132,7 +132,7 @@ public class TypeAttribute<T extends Comparable<T>> extends Attribute<TypeAttrib
     
     @Override
     public void write(Kryo kryo, Output output, Boolean reducedResponse) {
-        output.writeString(datawaveType.getClass().getName());
+        AttributeDictionary.writeString(kryo, output, datawaveType.getClass().getName());
         super.writeMetadata(kryo, output, reducedResponse);
         
         output.writeString(this.datawaveType.getDelegateAsString());
@@ -141,7 +141,7 @@ public class TypeAttribute<T extends Comparable<T>> extends Attribute<TypeAttrib
     @Override
     public void read(Kryo kryo, Input input) {
         try {
-            setDatawaveType(input.readString());
+            setDatawaveType(AttributeDictionary.readString(kryo, input));
         } catch (InstantiationException | IllegalAccessException | ClassNotFoundException e) {
             log.warn("could not read datawateType from input: " + e);
         }
@@ -0,0 +1,387 @@
+package datawave.query.collections;
+
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A map which keeps its keys in natural order in a sorted array with the values in a parallel array. This holds the same ordering as a TreeMap without the
+ * entry object per mapping, and appending keys in order (the common case when building from sorted keys) is done without a search. Inserting out of order or
+ * removing shifts the arrays, so this is intended for maps of modest size which are mostly built in order.
+ * 
+ * @param <K>
+ *            the key type
+ * @param <V>
+ *            the value type
+ */
+public class SortedArrayMap<K extends Comparable<? super K>,V> extends AbstractMap<K,V> implements Serializable {
+    private static final long serialVersionUID = 1L;
+    
+    private static final int DEFAULT_CAPACITY = 8;
+    
+    private Object[] keys;
+    private Object[] values;
+    private int size = 0;
+    private transient int modCount = 0;
+    
+    private transient Set<Entry<K,V>> entrySet = null;
+    
+    public SortedArrayMap() {
+        this(DEFAULT_CAPACITY);
+    }
+    
+    public SortedArrayMap(int initialCapacity) {
+        this.keys = new Object[Math.max(1, initialCapacity)];
+        this.values = new Object[this.keys.length];
+    }
+    
+    public SortedArrayMap(Map<? extends K,? extends V> map) {
+        this(map.size());
+        putAll(map);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private int indexOf(Object key) {
+        if (key == null) {
+            throw new NullPointerException("Null keys are not supported");
+        }
+        // check for appending first
+        if (size == 0 || ((K) keys[size - 1]).compareTo((K) key) < 0) {
+            return -(size + 1);
+        }
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+    
+    /**
+     * Get the key at an index, for iterating the mappings in key order without allocating an entry per mapping
+     * 
+     * @param index
+     *            an index between 0 and size() - 1
+     * @return the key at the index
+     */
+    @SuppressWarnings("unchecked")
+    public K keyAt(int index) {
+        return (K) keys[index];
+    }
+    
+    /**
+     * Get the value at an index, for iterating the mappings in key order without allocating an entry per mapping
+     * 
+     * @param index
+     *            an index between 0 and size() - 1
+     * @return the value at the index
+     */
+    @SuppressWarnings("unchecked")
+    public V valueAt(int index) {
+        return (V) values[index];
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+    
+    @Override
+    public V get(Object key) {
+        int index = indexOf(key);
+        return (index >= 0 ? valueAt(index) : null);
+    }
+    
+    @Override
+    public V put(K key, V value) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            V previous = valueAt(index);
+            values[index] = value;
+            return previous;
+        }
+        index = -(index + 1);
+        if (size == keys.length) {
+            int capacity = keys.length + (keys.length >> 1) + 1;
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        if (index < size) {
+            System.arraycopy(keys, index, keys, index + 1, size - index);
+            System.arraycopy(values, index, values, index + 1, size - index);
+        }
+        keys[index] = key;
+        values[index] = value;
+        size++;
+        modCount++;
+        return null;
+    }
+    
+    @Override
+    public V remove(Object key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        V previous = valueAt(index);
+        removeAt(index);
+        return previous;
+    }
+    
+    private void removeAt(int index) {
+        int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(keys, index + 1, keys, index, moved);
+            System.arraycopy(values, index + 1, values, index, moved);
+        }
+        size--;
+        keys[size] = null;
+        values[size] = null;
+        modCount++;
+    }
+    
+    @Override
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+    
+    @Override
+    public void forEach(BiConsumer<? super K,? super V> action) {
+        int expectedModCount = modCount;
+        for (int i = 0; i < size; i++) {
+            action.accept(keyAt(i), valueAt(i));
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+    
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < size; i++) {
+            hash += keys[i].hashCode() ^ (values[i] == null ? 0 : values[i].hashCode());
+        }
+        return hash;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof Map)) {
+            return false;
+        }
+        Map<?,?> other = (Map<?,?>) o;
+        if (other.size() != size) {
+            return false;
+        }
+        try {
+            for (int i = 0; i < size; i++) {
+                Object value = other.get(keys[i]);
+                if (value == null ? (values[i] != null || !other.containsKey(keys[i])) : !value.equals(values[i])) {
+                    return false;
+                }
+            }
+        } catch (ClassCastException | NullPointerException e) {
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * The entries returned by this iterator are allocated per mapping, as callers may hold on to them (e.g. copying the entries into a set). Use
+     * {@link #keyAt(int)} and {@link #valueAt(int)} or {@link #forEach(BiConsumer)} to walk the mappings without allocating.
+     */
+    @Override
+    public Set<Entry<K,V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Entry<K,V>>() {
+                @Override
+                public Iterator<Entry<K,V>> iterator() {
+                    return new ArrayIterator<Entry<K,V>>() {
+                        @Override
+                        protected Entry<K,V> get(int index) {
+                            return new ArrayEntry(index);
+                        }
+                    };
+                }
+                
+                @Override
+                public int size() {
+                    return size;
+                }
+                
+                @Override
+                public void clear() {
+                    SortedArrayMap.this.clear();
+                }
+            };
+        }
+        return entrySet;
+    }
+    
+    @Override
+    public Set<K> keySet() {
+        return new AbstractSet<K>() {
+            @Override
+            public Iterator<K> iterator() {
+                return new ArrayIterator<K>() {
+                    @Override
+                    protected K get(int index) {
+                        return keyAt(index);
+                    }
+                };
+            }
+            
+            @Override
+            public boolean contains(Object o) {
+                return containsKey(o);
+            }
+            
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+    
+    @Override
+    public Collection<V> values() {
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new ArrayIterator<V>() {
+                    @Override
+                    protected V get(int index) {
+                        return valueAt(index);
+                    }
+                };
+            }
+            
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+    
+    /**
+     * An iterator over the array indices which supports removal
+     */
+    private abstract class ArrayIterator<T> implements Iterator<T> {
+        private int next = 0;
+        private int last = -1;
+        private int expectedModCount = modCount;
+        
+        protected abstract T get(int index);
+        
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+        
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return get(last);
+        }
+        
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last);
+            next = last;
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+    
+    /**
+     * An entry for the mapping at an index when it was returned. Setting the value writes through to the map, looking the key up again if the map has been
+     * restructured since.
+     */
+    private class ArrayEntry implements Entry<K,V> {
+        private int index;
+        private final K key;
+        private V value;
+        
+        ArrayEntry(int index) {
+            this.index = index;
+            this.key = keyAt(index);
+            this.value = valueAt(index);
+        }
+        
+        @Override
+        public K getKey() {
+            return key;
+        }
+        
+        @Override
+        public V getValue() {
+            return value;
+        }
+        
+        @Override
+        public V setValue(V value) {
+            if (index >= size || keys[index] != key) {
+                index = indexOf(key);
+                if (index < 0) {
+                    throw new IllegalStateException("The entry for " + key + " has been removed");
+                }
+            }
+            V previous = this.value;
+            this.value = value;
+            values[index] = value;
+            return previous;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?,?> other = (Entry<?,?>) o;
+            return key.equals(other.getKey()) && (value == null ? other.getValue() == null : value.equals(other.getValue()));
+        }
+        
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+        
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+}
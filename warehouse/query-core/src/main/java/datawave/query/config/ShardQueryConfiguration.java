@@ -125,6 +125,38 @@ public class ShardQueryConfiguration extends GenericQueryConfiguration implement
      * Used to determine the poll interval when buffering ranges in ThreadedRangeBundler
      */
     private long rangeBufferPollMillis = 100;
+    /**
+     * Used to bound the number of query plans the ThreadedRangeBundler will queue ahead of the scanner, or 0 to bound by the max ranges per query piece
+     */
+    private int maxRangesToBuffer = 0;
+    /**
+     * Used to enable growing and shrinking the number of document ranges combined by the ThreadedRangeBundler with the demand from the scanner
+     */
+    private boolean adaptiveRangeBundling = false;
+    /**
+     * Used to enable sharing the entries of global index lookups across queries with the same authorizations
+     */
+    private boolean globalIndexCacheEnabled = false;
+    /**
+     * Used to bound the total number of global index entries cached across all queries
+     */
+    private long globalIndexCacheMaxEntries = 100000;
+    /**
+     * Used to determine how long cached global index entries are used regardless of whether the index table has changed
+     */
+    private long globalIndexCacheTtlMillis = 300000;
+    /**
+     * Used to determine the max number of global index entries cached for a single term
+     */
+    private int globalIndexCacheMaxEntriesPerTerm = 1000;
+    /**
+     * Used to run the regex expansion lookups of all queries on a shared, bounded set of threads rather than a thread pool per query
+     */
+    private boolean sharedIndexExpansion = false;
+    /**
+     * Used to determine the number of threads shared by the regex expansion lookups of all queries
+     */
+    private int indexExpansionThreads = 20;
     /**
      * Used to determine the maximum number of query ranges to generate per tier when performing a geowave query against a GeometryType field.
      */
@@ -230,6 +262,10 @@ public class ShardQueryConfiguration extends GenericQueryConfiguration implement
     private boolean rawTypes = false;
     // Used to choose how "selective" a term is (indexStats)
     private double minSelectivity = -1.0;
+    // Used to delay terms whose estimated cardinality is this many times that of the least cardinal term in a conjunct. 0 or less disables this feature.
+    private double maxCardinalityRatio = -1.0;
+    // The estimated cardinality of the planned query, or -1 if it was not estimated
+    private double estimatedCardinality = -1.0;
     // Used to add the event datatype to the event as an event field.
     private boolean includeDataTypeAsField = false;
     // Used to add the event RECORD_ID to the event as an event field
@@ -298,10 +334,20 @@ public class ShardQueryConfiguration extends GenericQueryConfiguration implement
     private int ivaratorNumRetries = 2;
     private boolean ivaratorPersistVerify = true;
     private int ivaratorPersistVerifyCount = 100;
+    // the compression codec used for the ivarator cache files (none, gz, snappy, or lzo)
+    private String ivaratorPersistCompression = "gz";
+    // the time in ms for which completed ivarator results may be reused by other queries, 0 to disable sharing
+    private long ivaratorSharedCacheTtl = 0;
+    // the max bytes of shared ivarator results per ivarator cache base path, 0 for no limit
+    private long ivaratorSharedCacheMaxSize = 0;
     private int maxIvaratorSources = 33;
     private long maxIvaratorResults = -1;
     private int maxEvaluationPipelines = 25;
     private int maxPipelineCachedResults = 25;
+    // the relative share of the tserver ivarator and evaluation threads given to this query when other queries are queued
+    private int queryPriority = 1;
+    // the number of documents evaluated together by each evaluation pipeline task
+    private int pipelineBatchSize = 1;
     private boolean expandAllTerms = false;
     // Adding the ability to pre-cache the query model for performance sake. If this is null
     // then the query model will be pulled from the MetadataHelper
@@ -377,6 +423,14 @@ public class ShardQueryConfiguration extends GenericQueryConfiguration implement
         this.setNumRangesToBuffer(other.getNumRangesToBuffer());
         this.setRangeBufferTimeoutMillis(other.getRangeBufferTimeoutMillis());
         this.setRangeBufferPollMillis(other.getRangeBufferPollMillis());
+        this.setMaxRangesToBuffer(other.getMaxRangesToBuffer());
+        this.setAdaptiveRangeBundling(other.isAdaptiveRangeBundling());
+        this.setGlobalIndexCacheEnabled(other.isGlobalIndexCacheEnabled());
+        this.setGlobalIndexCacheMaxEntries(other.getGlobalIndexCacheMaxEntries());
+        this.setGlobalIndexCacheTtlMillis(other.getGlobalIndexCacheTtlMillis());
+        this.setGlobalIndexCacheMaxEntriesPerTerm(other.getGlobalIndexCacheMaxEntriesPerTerm());
+        this.setSharedIndexExpansion(other.isSharedIndexExpansion());
+        this.setIndexExpansionThreads(other.getIndexExpansionThreads());
         this.setGeometryMaxExpansion(other.getGeometryMaxExpansion());
         this.setPointMaxExpansion(other.getPointMaxExpansion());
         this.setGeoWaveRangeSplitThreshold(other.getGeoWaveRangeSplitThreshold());
@@ -437,6 +491,8 @@ public class ShardQueryConfiguration extends GenericQueryConfiguration implement
         this.setFailOutsideValidDateRange(other.isFailOutsideValidDateRange());
         this.setRawTypes(other.isRawTypes());
         this.setMinSelectivity(other.getMinSelectivity());
+        this.setMaxCardinalityRatio(other.getMaxCardinalityRatio());
+        this.setEstimatedCardinality(other.getEstimatedCardinality());
         this.setIncludeDataTypeAsField(other.getIncludeDataTypeAsField());
         this.setIncludeRecordId(other.getIncludeRecordId());
         this.setIncludeHierarchyFields(other.getIncludeHierarchyFields());
@@ -481,10 +537,15 @@ public class ShardQueryConfiguration extends GenericQueryConfiguration implement
         this.setIvaratorNumRetries(other.getIvaratorNumRetries());
         this.setIvaratorPersistVerify(other.isIvaratorPersistVerify());
         this.setIvaratorPersistVerifyCount(other.getIvaratorPersistVerifyCount());
+        this.setIvaratorPersistCompression(other.getIvaratorPersistCompression());
+        this.setIvaratorSharedCacheTtl(other.getIvaratorSharedCacheTtl());
+        this.setIvaratorSharedCacheMaxSize(other.getIvaratorSharedCacheMaxSize());
         this.setMaxIvaratorSources(other.getMaxIvaratorSources());
         this.setMaxIvaratorResults(other.getMaxIvaratorResults());
         this.setMaxEvaluationPipelines(other.getMaxEvaluationPipelines());
         this.setMaxPipelineCachedResults(other.getMaxPipelineCachedResults());
+        this.setQueryPriority(other.getQueryPriority());
+        this.setPipelineBatchSize(other.getPipelineBatchSize());
         this.setExpandAllTerms(other.isExpandAllTerms());
         this.setQueryModel(null == other.getQueryModel() ? null : new QueryModel(other.getQueryModel()));
         this.setModelName(other.getModelName());
@@ -844,6 +905,70 @@ public class ShardQueryConfiguration extends GenericQueryConfiguration implement
         this.rangeBufferPollMillis = rangeBufferPollMillis;
     }
     
+    public int getMaxRangesToBuffer() {
+        return maxRangesToBuffer;
+    }
+    
+    public void setMaxRangesToBuffer(int maxRangesToBuffer) {
+        this.maxRangesToBuffer = maxRangesToBuffer;
+    }
+    
+    public boolean isAdaptiveRangeBundling() {
+        return adaptiveRangeBundling;
+    }
+    
+    public void setAdaptiveRangeBundling(boolean adaptiveRangeBundling) {
+        this.adaptiveRangeBundling = adaptiveRangeBundling;
+    }
+    
+    public boolean isGlobalIndexCacheEnabled() {
+        return globalIndexCacheEnabled;
+    }
+    
+    public void setGlobalIndexCacheEnabled(boolean globalIndexCacheEnabled) {
+        this.globalIndexCacheEnabled = globalIndexCacheEnabled;
+    }
+    
+    public long getGlobalIndexCacheMaxEntries() {
+        return globalIndexCacheMaxEntries;
+    }
+    
+    public void setGlobalIndexCacheMaxEntries(long globalIndexCacheMaxEntries) {
+        this.globalIndexCacheMaxEntries = globalIndexCacheMaxEntries;
+    }
+    
+    public long getGlobalIndexCacheTtlMillis() {
+        return globalIndexCacheTtlMillis;
+    }
+    
+    public void setGlobalIndexCacheTtlMillis(long globalIndexCacheTtlMillis) {
+        this.globalIndexCacheTtlMillis = globalIndexCacheTtlMillis;
+    }
+    
+    public int getGlobalIndexCacheMaxEntriesPerTerm() {
+        return globalIndexCacheMaxEntriesPerTerm;
+    }
+    
+    public void setGlobalIndexCacheMaxEntriesPerTerm(int globalIndexCacheMaxEntriesPerTerm) {
+        this.globalIndexCacheMaxEntriesPerTerm = globalIndexCacheMaxEntriesPerTerm;
+    }
+    
+    public boolean isSharedIndexExpansion() {
+        return sharedIndexExpansion;
+    }
+    
+    public void setSharedIndexExpansion(boolean sharedIndexExpansion) {
+        this.sharedIndexExpansion = sharedIndexExpansion;
+    }
+    
+    public int getIndexExpansionThreads() {
+        return indexExpansionThreads;
+    }
+    
+    public void setIndexExpansionThreads(int indexExpansionThreads) {
+        this.indexExpansionThreads = indexExpansionThreads;
+    }
+    
     public int getGeometryMaxExpansion() {
         return geometryMaxExpansion;
     }
@@ -1252,6 +1377,30 @@ public class ShardQueryConfiguration extends GenericQueryConfiguration implement
         this.ivaratorPersistVerifyCount = ivaratorPersistVerifyCount;
     }
     
+    public String getIvaratorPersistCompression() {
+        return ivaratorPersistCompression;
+    }
+    
+    public void setIvaratorPersistCompression(String ivaratorPersistCompression) {
+        this.ivaratorPersistCompression = ivaratorPersistCompression;
+    }
+    
+    public long getIvaratorSharedCacheTtl() {
+        return ivaratorSharedCacheTtl;
+    }
+    
+    public void setIvaratorSharedCacheTtl(long ivaratorSharedCacheTtl) {
+        this.ivaratorSharedCacheTtl = ivaratorSharedCacheTtl;
+    }
+    
+    public long getIvaratorSharedCacheMaxSize() {
+        return ivaratorSharedCacheMaxSize;
+    }
+    
+    public void setIvaratorSharedCacheMaxSize(long ivaratorSharedCacheMaxSize) {
+        this.ivaratorSharedCacheMaxSize = ivaratorSharedCacheMaxSize;
+    }
+    
     public int getMaxIvaratorSources() {
         return maxIvaratorSources;
     }
@@ -1284,6 +1433,22 @@ public class ShardQueryConfiguration extends GenericQueryConfiguration implement
         this.maxPipelineCachedResults = maxCachedResults;
     }
     
+    public int getQueryPriority() {
+        return queryPriority;
+    }
+    
+    public void setQueryPriority(int queryPriority) {
+        this.queryPriority = queryPriority;
+    }
+    
+    public int getPipelineBatchSize() {
+        return pipelineBatchSize;
+    }
+    
+    public void setPipelineBatchSize(int pipelineBatchSize) {
+        this.pipelineBatchSize = pipelineBatchSize;
+    }
+    
     public boolean isExpandAllTerms() {
         return expandAllTerms;
     }
@@ -1550,6 +1715,31 @@ public class ShardQueryConfiguration extends GenericQueryConfiguration implement
         this.minSelectivity = minSelectivity;
     }
     
+    public double getMaxCardinalityRatio() {
+        return maxCardinalityRatio;
+    }
+    
+    /**
+     * Set the ratio of the estimated cardinality of a conjunct's term to that of its least cardinal term above which the term is delayed
+     * 
+     * @param maxCardinalityRatio
+     *            the ratio, which must be at least 1, or a non-positive value to disable delaying high cardinality terms
+     */
+    public void setMaxCardinalityRatio(double maxCardinalityRatio) {
+        if (maxCardinalityRatio > 0 && maxCardinalityRatio < 1) {
+            throw new IllegalArgumentException("The max cardinality ratio must be at least 1, or non-positive to disable it: " + maxCardinalityRatio);
+        }
+        this.maxCardinalityRatio = maxCardinalityRatio;
+    }
+    
+    public double getEstimatedCardinality() {
+        return estimatedCardinality;
+    }
+    
+    public void setEstimatedCardinality(double estimatedCardinality) {
+        this.estimatedCardinality = estimatedCardinality;
+    }
+    
     /**
      * Checks for non-null, sane values for the configured values
      *
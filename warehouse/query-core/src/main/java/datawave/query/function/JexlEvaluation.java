@@ -2,6 +2,7 @@ package datawave.query.function;
 
 import datawave.query.attributes.Attributes;
 import datawave.query.jexl.ArithmeticJexlEngines;
+import datawave.query.jexl.CompiledJexlScript;
 import datawave.query.jexl.DefaultArithmetic;
 import org.apache.accumulo.core.data.Key;
 import org.apache.accumulo.core.security.ColumnVisibility;
@@ -31,19 +32,47 @@ public class JexlEvaluation implements Predicate<Tuple3<Key,Document,DatawaveJex
      */
     protected Script script;
     
+    /**
+     * The script compiled into evaluators, or null if it could not be compiled
+     */
+    protected CompiledJexlScript compiledScript;
+    
     public JexlEvaluation(String query) {
         this(query, new DefaultArithmetic());
     }
     
     public JexlEvaluation(String query, JexlArithmetic arithmetic) {
+        this(query, null, arithmetic);
+    }
+    
+    /**
+     * @param query
+     *            the query
+     * @param parsedScript
+     *            the query already parsed by a jexl engine, which is not modified, or null to parse the query
+     * @param arithmetic
+     *            the arithmetic
+     */
+    public JexlEvaluation(String query, ASTJexlScript parsedScript, JexlArithmetic arithmetic) {
         this.query = query;
         this.arithmetic = arithmetic;
         
         // Get a JexlEngine initialized with the correct JexlArithmetic for this Document
         this.engine = ArithmeticJexlEngines.getEngine(arithmetic);
         
+        if (parsedScript == null) {
+            parsedScript = this.engine.parse(query);
+        }
+        
         // Evaluate the JexlContext against the Script
-        this.script = this.engine.createScript(query);
+        this.script = this.engine.createScript(parsedScript, query);
+        
+        // Compile what we can of the script, falling back to the interpreter for the rest
+        this.compiledScript = CompiledJexlScript.compile(this.engine, parsedScript);
+        if (log.isDebugEnabled() && compiledScript != null) {
+            log.debug("Compiled " + compiledScript.getCompiledNodes() + " nodes of " + query + " with " + compiledScript.getInterpretedNodes()
+                            + " interpreted nodes");
+        }
     }
     
     public JexlArithmetic getArithmetic() {
@@ -65,7 +94,7 @@ public class JexlEvaluation implements Predicate<Tuple3<Key,Document,DatawaveJex
     @Override
     public boolean apply(Tuple3<Key,Document,DatawaveJexlContext> input) {
         
-        Object o = script.execute(input.third());
+        Object o = (compiledScript != null ? compiledScript.execute(input.third()) : script.execute(input.third()));
         
         if (log.isTraceEnabled()) {
             log.trace("Evaluation of " + query + " against " + input.third() + " returned " + o);
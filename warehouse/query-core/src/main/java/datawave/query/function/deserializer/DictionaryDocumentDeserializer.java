@@ -0,0 +1,86 @@
+package datawave.query.function.deserializer;
+
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import datawave.query.attributes.Attribute;
+import datawave.query.attributes.AttributeDictionary;
+import datawave.query.attributes.Document;
+import datawave.query.function.KryoCVAwareSerializableSerializer;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+
+/**
+ * Transform the values written by a {@link datawave.query.function.serializer.DictionaryDocumentSerializer} back into Documents. The dictionaries of the most
+ * recently used sessions are retained, and the values of each session must be deserialized in the order they were serialized. A value from a session which
+ * is unknown (or was evicted), or which is out of sequence, cannot be decoded and fails with an IllegalStateException. Ordering of Attributes is <b>not</b>
+ * guaranteed across serialization.
+ */
+public class DictionaryDocumentDeserializer extends DocumentDeserializer {
+    
+    public static final int DEFAULT_MAX_SESSIONS = 1024;
+    
+    final Kryo kryo = new Kryo();
+    
+    private final Map<Long,Session> sessions;
+    
+    private static class Session {
+        final AttributeDictionary dictionary = new AttributeDictionary();
+        int nextSequence = 0;
+    }
+    
+    public DictionaryDocumentDeserializer() {
+        this(DEFAULT_MAX_SESSIONS);
+    }
+    
+    public DictionaryDocumentDeserializer(final int maxSessions) {
+        kryo.addDefaultSerializer(Attribute.class, new KryoCVAwareSerializableSerializer(true));
+        this.sessions = new LinkedHashMap<Long,Session>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long,Session> eldest) {
+                return size() > maxSessions;
+            }
+        };
+    }
+    
+    @Override
+    public synchronized Document deserialize(InputStream data) {
+        Input input = new Input(data);
+        long sessionId = input.readLong();
+        int sequence = input.readInt(true);
+        
+        Session session = sessions.get(sessionId);
+        if (session == null) {
+            if (sequence != 0) {
+                throw new IllegalStateException("Cannot deserialize document " + sequence + " of unknown dictionary session " + sessionId);
+            }
+            session = new Session();
+            sessions.put(sessionId, session);
+        }
+        if (sequence != session.nextSequence) {
+            throw new IllegalStateException("Expected document " + session.nextSequence + " of dictionary session " + sessionId + " but found " + sequence);
+        }
+        
+        AttributeDictionary.set(kryo, session.dictionary);
+        Document document;
+        try {
+            document = kryo.readObject(input, Document.class);
+        } catch (RuntimeException e) {
+            // the dictionary may be partially updated, so the rest of the session cannot be decoded
+            sessions.remove(sessionId);
+            throw e;
+        }
+        
+        if (null == document) {
+            throw new RuntimeException("Deserialized null Document");
+        }
+        session.nextSequence++;
+        
+        input.close();
+        
+        return document;
+    }
+    
+}
@@ -0,0 +1,64 @@
+package datawave.query.function.serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.security.SecureRandom;
+import java.util.Random;
+
+import datawave.query.attributes.Attribute;
+import datawave.query.attributes.AttributeDictionary;
+import datawave.query.attributes.Document;
+import datawave.query.function.KryoCVAwareSerializableSerializer;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Output;
+
+/**
+ * Transform the Document into a Kryo-serialized version which writes field names, class names, and column visibilities through a dictionary shared by all of
+ * the documents serialized by this instance. Each instance is a session with a random id, and each value is written with the session id and its sequence
+ * within the session followed by the document, which defines any symbols not yet written by the session inline. The values of a session must therefore be
+ * deserialized in order by the same {@link datawave.query.function.deserializer.DictionaryDocumentDeserializer}, which is the case for the results of a single
+ * scan. Ordering of Attributes is <b>not</b> guaranteed across serialization.
+ */
+public class DictionaryDocumentSerializer extends DocumentSerializer {
+    private static final Random random = new SecureRandom();
+    
+    final Kryo kryo = new Kryo();
+    final ByteArrayOutputStream baos = new ByteArrayOutputStream(4096);
+    
+    private final long sessionId = random.nextLong();
+    private int sequence = 0;
+    
+    public DictionaryDocumentSerializer() {
+        this(false, false);
+    }
+    
+    public DictionaryDocumentSerializer(boolean reducedResponse) {
+        this(reducedResponse, false);
+    }
+    
+    public DictionaryDocumentSerializer(boolean reducedResponse, boolean compress) {
+        super(reducedResponse, compress);
+        kryo.addDefaultSerializer(Attribute.class, new KryoCVAwareSerializableSerializer(reducedResponse));
+        AttributeDictionary.set(kryo, new AttributeDictionary());
+    }
+    
+    public long getSessionId() {
+        return sessionId;
+    }
+    
+    @Override
+    public byte[] serialize(Document doc) {
+        baos.reset();
+        
+        Output output = new Output(baos);
+        
+        output.writeLong(sessionId);
+        output.writeInt(sequence++, true);
+        kryo.writeObject(output, doc);
+        
+        output.close();
+        
+        return baos.toByteArray();
+    }
+    
+}
@@ -0,0 +1,338 @@
+package datawave.query.index.lookup;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.collect.Maps;
+import org.apache.accumulo.core.client.Connector;
+import org.apache.accumulo.core.client.Scanner;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.data.impl.KeyExtent;
+import org.apache.accumulo.core.metadata.MetadataTable;
+import org.apache.accumulo.core.metadata.schema.MetadataSchema;
+import org.apache.accumulo.core.security.Authorizations;
+import org.apache.log4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A web server wide cache of the entries returned by the global index for a term, so that the same high frequency terms queried over the same date ranges by
+ * many users do not each scan the index. The entries are cached as returned by the {@link CreateUidsIterator}, and are parsed for each query by an
+ * {@link EntryParser} as the parsed {@link IndexInfo} is specific to the query node.
+ * 
+ * Entries are keyed by everything which determines the scan, including the authorizations, so that a user never sees entries scanned with another user's
+ * authorizations. The cache is bounded by the total number of index entries held, and entries expire after a time to live. Entries are also invalidated
+ * when the generation of the index table changes: the latest tablet time recorded in the metadata table, which advances whenever a tablet of the table gains
+ * a file, whether by a bulk load or a flush.
+ */
+public class GlobalIndexCache {
+    private static final Logger log = Logger.getLogger(GlobalIndexCache.class);
+    
+    public static final long DEFAULT_MAX_ENTRIES = 100000;
+    public static final long DEFAULT_TTL_MILLIS = TimeUnit.MILLISECONDS.convert(5, TimeUnit.MINUTES);
+    public static final long DEFAULT_GENERATION_CHECK_MILLIS = TimeUnit.MILLISECONDS.convert(30, TimeUnit.SECONDS);
+    
+    /**
+     * The generation of a table whose generation could not be determined, in which case entries only expire
+     */
+    public static final long UNKNOWN_GENERATION = -1;
+    
+    private static volatile long maxEntries = DEFAULT_MAX_ENTRIES;
+    private static volatile long ttlMillis = DEFAULT_TTL_MILLIS;
+    private static volatile long generationCheckMillis = DEFAULT_GENERATION_CHECK_MILLIS;
+    
+    // weighed by the number of index entries, plus one for the term itself
+    private static final Cache<String,CachedTerm> cache = Caffeine.newBuilder().maximumWeight(DEFAULT_MAX_ENTRIES)
+                    .weigher((String key, CachedTerm term) -> term.entries.size() + 1).expireAfterWrite(DEFAULT_TTL_MILLIS, TimeUnit.MILLISECONDS)
+                    .recordStats().build();
+    
+    private static final Map<String,Generation> generations = new ConcurrentHashMap<>();
+    
+    private static class CachedTerm {
+        private final long generation;
+        private final List<Entry<Key,Value>> entries;
+        
+        CachedTerm(long generation, List<Entry<Key,Value>> entries) {
+            this.generation = generation;
+            this.entries = Collections.unmodifiableList(entries);
+        }
+    }
+    
+    private static class Generation {
+        private volatile long value = UNKNOWN_GENERATION;
+        private volatile long lastChecked = 0;
+    }
+    
+    /**
+     * Set the max number of index entries to cache across all terms
+     * 
+     * @param maxEntries
+     */
+    public static void setMaxEntries(long maxEntries) {
+        if (maxEntries < 0) {
+            log.error("Bad value: (" + maxEntries + ") for maxEntries");
+            return;
+        }
+        if (GlobalIndexCache.maxEntries != maxEntries) {
+            GlobalIndexCache.maxEntries = maxEntries;
+            cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maxEntries));
+        }
+    }
+    
+    public static long getMaxEntries() {
+        return maxEntries;
+    }
+    
+    /**
+     * Set the time after which a cached term expires regardless of the generation of the index table
+     * 
+     * @param ttlMillis
+     */
+    public static void setTtlMillis(long ttlMillis) {
+        if (ttlMillis < 0) {
+            log.error("Bad value: (" + ttlMillis + ") for ttlMillis");
+            return;
+        }
+        if (GlobalIndexCache.ttlMillis != ttlMillis) {
+            GlobalIndexCache.ttlMillis = ttlMillis;
+            cache.policy().expireAfterWrite().ifPresent(expiration -> expiration.setExpiresAfter(ttlMillis, TimeUnit.MILLISECONDS));
+        }
+    }
+    
+    public static long getTtlMillis() {
+        return ttlMillis;
+    }
+    
+    /**
+     * Set how often the generation of an index table is read from the metadata table
+     * 
+     * @param generationCheckMillis
+     */
+    public static void setGenerationCheckMillis(long generationCheckMillis) {
+        GlobalIndexCache.generationCheckMillis = generationCheckMillis;
+    }
+    
+    /**
+     * Create the cache key for a scan of the index
+     * 
+     * @param tableName
+     *            the index table
+     * @param auths
+     *            the authorizations of the scan
+     * @param parts
+     *            the term, date range and anything else which determines the entries returned
+     * @return the key
+     */
+    public static String createKey(String tableName, Collection<Authorizations> auths, Object... parts) {
+        StringBuilder key = new StringBuilder(tableName);
+        
+        // the authorizations are sorted so that the same authorizations in any order share entries
+        TreeSet<String> authSets = new TreeSet<>();
+        for (Authorizations authorizations : auths) {
+            TreeSet<String> sorted = new TreeSet<>();
+            for (byte[] auth : authorizations.getAuthorizations()) {
+                sorted.add(new String(auth, StandardCharsets.UTF_8));
+            }
+            authSets.add(String.join(",", sorted));
+        }
+        key.append('\0').append(String.join("|", authSets));
+        
+        for (Object part : parts) {
+            key.append('\0').append(part);
+        }
+        return key.toString();
+    }
+    
+    /**
+     * Get the cached entries for a scan
+     * 
+     * @param key
+     *            the key created by {@link #createKey(String, Collection, Object...)}
+     * @param generation
+     *            the current generation of the index table
+     * @return the entries, or null if they are not cached for this generation
+     */
+    public static Iterator<Entry<Key,Value>> get(String key, long generation) {
+        CachedTerm term = cache.getIfPresent(key);
+        if (term == null) {
+            return null;
+        }
+        if (term.generation != generation) {
+            cache.asMap().remove(key, term);
+            return null;
+        }
+        return term.entries.iterator();
+    }
+    
+    /**
+     * Wrap the entries of a scan such that they are cached once fully read, unless there are more than maxEntriesPerTerm of them. The scan must signal an
+     * early end, such as a close or a timeout, by throwing.
+     * 
+     * @param key
+     *            the key created by {@link #createKey(String, Collection, Object...)}
+     * @param generation
+     *            the generation of the index table when the scan was started
+     * @param entries
+     *            the entries of the scan
+     * @param maxEntriesPerTerm
+     *            the max number of entries to cache for the term
+     * @return an iterator over the same entries
+     */
+    public static Iterator<Entry<Key,Value>> caching(String key, long generation, Iterator<Entry<Key,Value>> entries, int maxEntriesPerTerm) {
+        return caching(key, generation, entries, maxEntriesPerTerm, () -> true);
+    }
+    
+    /**
+     * Wrap the entries of a scan such that they are cached once fully read, unless there are more than maxEntriesPerTerm of them or the scan ended early
+     * 
+     * @param key
+     *            the key created by {@link #createKey(String, Collection, Object...)}
+     * @param generation
+     *            the generation of the index table when the scan was started
+     * @param entries
+     *            the entries of the scan
+     * @param maxEntriesPerTerm
+     *            the max number of entries to cache for the term
+     * @param complete
+     *            checked once the entries are exhausted, true if the scan read all of its entries rather than having been closed or having failed
+     * @return an iterator over the same entries
+     */
+    public static Iterator<Entry<Key,Value>> caching(String key, long generation, Iterator<Entry<Key,Value>> entries, int maxEntriesPerTerm,
+                    BooleanSupplier complete) {
+        return new CachingIterator(key, generation, entries, maxEntriesPerTerm, complete);
+    }
+    
+    /**
+     * Get the generation of an index table, which is read from the metadata table at most once per generation check period
+     * 
+     * @param connector
+     * @param tableName
+     * @return the generation, or {@link #UNKNOWN_GENERATION} if it could not be determined
+     */
+    public static long getGeneration(Connector connector, String tableName) {
+        Generation generation = generations.computeIfAbsent(tableName, table -> new Generation());
+        long now = System.currentTimeMillis();
+        if ((now - generation.lastChecked) > generationCheckMillis) {
+            synchronized (generation) {
+                if ((now - generation.lastChecked) > generationCheckMillis) {
+                    generation.value = readGeneration(connector, tableName);
+                    generation.lastChecked = now;
+                }
+            }
+        }
+        return generation.value;
+    }
+    
+    protected static long readGeneration(Connector connector, String tableName) {
+        try {
+            String tableId = connector.tableOperations().tableIdMap().get(tableName);
+            if (tableId == null) {
+                return UNKNOWN_GENERATION;
+            }
+            
+            Scanner scanner = connector.createScanner(MetadataTable.NAME, Authorizations.EMPTY);
+            try {
+                scanner.setRange(new KeyExtent(tableId, null, null).toMetadataRange());
+                MetadataSchema.TabletsSection.ServerColumnFamily.TIME_COLUMN.fetch(scanner);
+                
+                long generation = 0;
+                for (Entry<Key,Value> entry : scanner) {
+                    // the time is prefixed by its type, M for millis or L for logical
+                    String time = entry.getValue().toString();
+                    generation = Math.max(generation, Long.parseLong(time.substring(1)));
+                }
+                return generation;
+            } finally {
+                scanner.close();
+            }
+        } catch (Exception e) {
+            log.warn("Unable to determine the generation of " + tableName + ", cached index entries will only expire", e);
+            return UNKNOWN_GENERATION;
+        }
+    }
+    
+    public static CacheStats getStats() {
+        return cache.stats();
+    }
+    
+    public static void invalidateAll() {
+        cache.invalidateAll();
+        generations.clear();
+    }
+    
+    private static class CachingIterator implements Iterator<Entry<Key,Value>> {
+        private final String key;
+        private final long generation;
+        private final Iterator<Entry<Key,Value>> delegate;
+        private final int maxEntriesPerTerm;
+        private final BooleanSupplier complete;
+        private List<Entry<Key,Value>> entries = new ArrayList<>();
+        
+        CachingIterator(String key, long generation, Iterator<Entry<Key,Value>> delegate, int maxEntriesPerTerm, BooleanSupplier complete) {
+            this.key = key;
+            this.generation = generation;
+            this.delegate = delegate;
+            this.maxEntriesPerTerm = maxEntriesPerTerm;
+            this.complete = complete;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            boolean hasNext;
+            try {
+                hasNext = delegate.hasNext();
+            } catch (RuntimeException e) {
+                // a failed scan is never cached
+                entries = null;
+                throw e;
+            }
+            if (!hasNext && entries != null) {
+                // a closed or timed out scan also runs out of entries, only cache those which ended normally
+                if (complete.getAsBoolean()) {
+                    cache.put(key, new CachedTerm(generation, entries));
+                } else if (log.isDebugEnabled()) {
+                    log.debug("Not caching the index entries of an incomplete scan for " + key);
+                }
+                entries = null;
+            }
+            return hasNext;
+        }
+        
+        @Override
+        public Entry<Key,Value> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Entry<Key,Value> entry;
+            try {
+                entry = delegate.next();
+            } catch (RuntimeException e) {
+                entries = null;
+                throw e;
+            }
+            if (entries != null) {
+                if (entries.size() < maxEntriesPerTerm) {
+                    // copy as the scanner may reuse its keys and values
+                    entries.add(Maps.immutableEntry(new Key(entry.getKey()), new Value(entry.getValue())));
+                } else {
+                    // too large to be worth caching
+                    entries = null;
+                }
+            }
+            return entry;
+        }
+    }
+}
@@ -4,8 +4,10 @@ import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.SortedSet;
 
 import datawave.query.language.parser.jexl.JexlNodeSet;
 import org.apache.commons.jexl2.parser.ASTDelayedPredicate;
@@ -23,6 +25,7 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
 import com.google.common.collect.Sets;
 
 import datawave.query.jexl.JexlNodeFactory;
@@ -550,6 +553,10 @@ public class IndexInfo implements Writable, UidIntersector {
     
     @Override
     public Set<IndexMatch> intersect(Set<IndexMatch> uids1, Set<IndexMatch> uids2, List<JexlNode> delayedNodes) {
+        if (isSortedByUid(uids1) && isSortedByUid(uids2)) {
+            return intersectSorted(uids1, uids2, delayedNodes);
+        }
+        
         HashMultimap<String,JexlNode> ids = HashMultimap.create();
         for (IndexMatch match : Iterables.concat(uids1, uids2)) {
             JexlNode newNode = match.getNode();
@@ -561,6 +568,158 @@ public class IndexInfo implements Writable, UidIntersector {
         return buildNodeList(ids, IndexMatchType.AND, false, delayedNodes);
     }
     
+    /**
+     * Intersect two sets of uids which are sorted by uid, and so hold a single match per uid. Each uid of the smaller set is found in the larger by galloping
+     * ahead from the last uid found, and nodes are only built for the uids found in both.
+     * 
+     * @param uids1
+     * @param uids2
+     * @param delayedNodes
+     * @return the matches, sorted by uid
+     */
+    protected Set<IndexMatch> intersectSorted(Set<IndexMatch> uids1, Set<IndexMatch> uids2, List<JexlNode> delayedNodes) {
+        List<IndexMatch> smaller = asSortedList(uids1);
+        List<IndexMatch> larger = asSortedList(uids2);
+        if (smaller.size() > larger.size()) {
+            List<IndexMatch> swap = smaller;
+            smaller = larger;
+            larger = swap;
+        }
+        
+        List<IndexMatch> matches = new ArrayList<>();
+        int position = 0;
+        for (IndexMatch match : smaller) {
+            position = gallop(larger, position, match.uid);
+            if (position == larger.size()) {
+                break;
+            }
+            IndexMatch other = larger.get(position);
+            if (other.uid.equals(match.uid)) {
+                JexlNode node = match.getNode();
+                JexlNode otherNode = other.getNode();
+                // as with buildNodeList, only a uid with a distinct node from each side makes it through
+                if (null != node && null != otherNode && !node.equals(otherNode)) {
+                    JexlNodeSet nodeSet = new JexlNodeSet();
+                    nodeSet.add(node);
+                    nodeSet.add(otherNode);
+                    nodeSet.addAll(delayedNodes);
+                    matches.add(new IndexMatch(Sets.newHashSet(nodeSet.getNodes()), match.uid, IndexMatchType.AND));
+                }
+                position++;
+            }
+        }
+        return ImmutableSortedSet.copyOf(matches);
+    }
+    
+    /**
+     * Restrict the uids of the infos about to be intersected to the uids found in all of them, such that the nodes of each intermediate intersection are only
+     * built for the uids which survive the final one. This only applies when every info is a list of uids: otherwise the uids of an info may survive an
+     * intersection with a count, and the infos are returned as is.
+     * 
+     * @param infos
+     * @return the infos holding only the common uids
+     */
+    public static List<IndexInfo> retainCommonUids(List<IndexInfo> infos) {
+        if (infos.size() < 2) {
+            return infos;
+        }
+        
+        List<List<IndexMatch>> sorted = new ArrayList<>(infos.size());
+        int smallest = 0;
+        for (IndexInfo info : infos) {
+            if (info.isInfinite() || !info.onlyEvents()) {
+                return infos;
+            }
+            sorted.add(info.uids.asList());
+            if (info.uids.size() < sorted.get(smallest).size()) {
+                smallest = sorted.size() - 1;
+            }
+        }
+        
+        // find each uid of the smallest info in the others
+        List<String> common = new ArrayList<>();
+        int[] positions = new int[infos.size()];
+        for (IndexMatch match : sorted.get(smallest)) {
+            boolean found = true;
+            for (int i = 0; i < sorted.size() && found; i++) {
+                if (i != smallest) {
+                    List<IndexMatch> uids = sorted.get(i);
+                    positions[i] = gallop(uids, positions[i], match.uid);
+                    found = (positions[i] < uids.size() && uids.get(positions[i]).uid.equals(match.uid));
+                }
+            }
+            if (found) {
+                common.add(match.uid);
+            }
+        }
+        
+        List<IndexInfo> retained = new ArrayList<>(infos.size());
+        for (int i = 0; i < infos.size(); i++) {
+            IndexInfo info = infos.get(i);
+            if (info.uids.size() == common.size()) {
+                retained.add(info);
+            } else {
+                List<IndexMatch> uids = sorted.get(i);
+                List<IndexMatch> matches = new ArrayList<>(common.size());
+                int position = 0;
+                for (String uid : common) {
+                    position = gallop(uids, position, uid);
+                    matches.add(uids.get(position));
+                }
+                IndexInfo filtered = new IndexInfo();
+                filtered.uids = ImmutableSortedSet.copyOf(matches);
+                filtered.count = filtered.uids.size();
+                filtered.myNode = info.myNode;
+                retained.add(filtered);
+            }
+        }
+        return retained;
+    }
+    
+    /**
+     * Find the first match at or after a position whose uid is not less than a uid, by doubling the step ahead until passing it and then binary searching the
+     * last step. This takes time logarithmic in the distance moved rather than the size of the list.
+     * 
+     * @param matches
+     *            matches sorted by uid
+     * @param from
+     *            the position to start from
+     * @param uid
+     * @return the position, or the size of the list if every uid from the position is less than the uid
+     */
+    static int gallop(List<IndexMatch> matches, int from, String uid) {
+        int low = from;
+        int high = from;
+        int step = 1;
+        while (high < matches.size() && matches.get(high).uid.compareTo(uid) < 0) {
+            low = high + 1;
+            high += step;
+            step <<= 1;
+        }
+        high = Math.min(high, matches.size());
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (matches.get(mid).uid.compareTo(uid) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    private static boolean isSortedByUid(Set<IndexMatch> uids) {
+        if (uids instanceof SortedSet) {
+            Comparator<?> comparator = ((SortedSet<IndexMatch>) uids).comparator();
+            return comparator == null || Ordering.natural().equals(comparator);
+        }
+        return false;
+    }
+    
+    private static List<IndexMatch> asSortedList(Set<IndexMatch> uids) {
+        return (uids instanceof ImmutableSortedSet ? ((ImmutableSortedSet<IndexMatch>) uids).asList() : new ArrayList<>(uids));
+    }
+    
     protected Set<IndexMatch> buildNodeList(HashMultimap<String,JexlNode> ids, IndexMatchType type, boolean allowsDelayed, List<JexlNode> delayedNodes) {
         Set<IndexMatch> matches = Sets.newHashSet();
         for (String uid : ids.keySet()) {
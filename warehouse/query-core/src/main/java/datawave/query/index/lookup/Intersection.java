@@ -225,7 +225,12 @@ public class Intersection implements IndexStream {
     }
     
     IndexInfo intersect(Iterable<? extends PeekingIterator<Tuple2<String,IndexInfo>>> iterators) {
-        Iterator<IndexInfo> infos = convert(iterators).iterator();
+        List<IndexInfo> infoList = Lists.newArrayList(convert(iterators));
+        if (uidIntersector instanceof IndexInfo) {
+            // only build nodes for the uids which survive every intersection
+            infoList = IndexInfo.retainCommonUids(infoList);
+        }
+        Iterator<IndexInfo> infos = infoList.iterator();
         IndexInfo merged = infos.next();
         
         nodeSet.clear();
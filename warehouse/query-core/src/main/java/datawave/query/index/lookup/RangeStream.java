@@ -84,6 +84,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
@@ -91,6 +92,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 
 import static com.google.common.collect.Iterators.concat;
 import static com.google.common.collect.Iterators.filter;
@@ -148,6 +150,10 @@ public class RangeStream extends BaseVisitor implements CloseableIterable<QueryP
         streamExecutor = new ThreadPoolExecutor(executeLookupMin, maxLookup, 100, TimeUnit.MILLISECONDS, runnables);
         fieldDataTypes = config.getQueryFieldsDatatypes();
         collapseUids = config.getCollapseUids();
+        if (config.isGlobalIndexCacheEnabled()) {
+            GlobalIndexCache.setMaxEntries(config.getGlobalIndexCacheMaxEntries());
+            GlobalIndexCache.setTtlMillis(config.getGlobalIndexCacheTtlMillis());
+        }
         try {
             Set<String> ioFields = metadataHelper.getIndexOnlyFields(null);
             if (null != ioFields) {
@@ -441,9 +447,28 @@ public class RangeStream extends BaseVisitor implements CloseableIterable<QueryP
         try {
             
             // two scenarios
-            Iterator<Tuple2<String,IndexInfo>> itr = null;
+            Iterator<Entry<Key,Value>> entries = null;
             int stackStart = config.getBaseIteratorPriority();
             
+            String cacheKey = null;
+            long generation = GlobalIndexCache.UNKNOWN_GENERATION;
+            // whether the scan read all of its entries, the batch scanner throws if closed or timed out
+            BooleanSupplier complete = () -> true;
+            if (config.isGlobalIndexCacheEnabled()) {
+                cacheKey = GlobalIndexCache.createKey(config.getIndexTableName(), config.getAuthorizations(), fieldName, literal,
+                                DateHelper.format(config.getBeginDate()), DateHelper.format(config.getEndDate()), config.getDatatypeFilterAsString(),
+                                collapseUids, config.getParseTldUids(), createUidsIteratorClass.getName(),
+                                (limitScanners ? config.getShardsPerDayThreshold() : -1));
+                generation = GlobalIndexCache.getGeneration(config.getConnector(), config.getIndexTableName());
+                entries = GlobalIndexCache.get(cacheKey, generation);
+                if (entries != null) {
+                    if (log.isTraceEnabled()) {
+                        log.trace("Using cached index entries for " + fieldName + ", literal= " + literal);
+                    }
+                    return ScannerStream.initialized(Iterators.transform(entries, new EntryParser(node, fieldName, literal, indexOnlyFields)), node);
+                }
+            }
+            
             if (limitScanners) {
                 // Setup the CreateUidsIterator
                 RangeStreamScanner scanSession = scanners.newRangeScanner(config.getIndexTableName(), config.getAuthorizations(), config.getQuery(),
@@ -468,7 +493,8 @@ public class RangeStream extends BaseVisitor implements CloseableIterable<QueryP
                 
                 scanSession.setRanges(Collections.singleton(rangeForTerm(literal, fieldName, config))).setOptions(options);
                 
-                itr = Iterators.transform(scanSession, new EntryParser(node, fieldName, literal, indexOnlyFields));
+                entries = scanSession;
+                complete = scanSession::isComplete;
                 
             } else {
                 
@@ -482,8 +508,13 @@ public class RangeStream extends BaseVisitor implements CloseableIterable<QueryP
                 uidSetting.addOption(CreateUidsIterator.PARSE_TLD_UIDS, Boolean.valueOf(config.getParseTldUids()).toString());
                 scanner.addScanIterator(uidSetting);
                 
-                itr = Iterators.transform(scanner.iterator(), new EntryParser(node, fieldName, literal, indexOnlyFields));
+                entries = scanner.iterator();
+            }
+            
+            if (cacheKey != null) {
+                entries = GlobalIndexCache.caching(cacheKey, generation, entries, config.getGlobalIndexCacheMaxEntriesPerTerm(), complete);
             }
+            Iterator<Tuple2<String,IndexInfo>> itr = Iterators.transform(entries, new EntryParser(node, fieldName, literal, indexOnlyFields));
             
             /*
              * Create a scanner in the initialized state so that we can scan immediately
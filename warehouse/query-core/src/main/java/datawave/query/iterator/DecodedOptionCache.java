@@ -0,0 +1,119 @@
+package datawave.query.iterator;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.hash.Hashing;
+import org.apache.accumulo.core.conf.AccumuloConfiguration;
+import org.apache.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A tserver wide cache of the objects decoded from large iterator options, such as the type metadata, composite metadata and non-indexed datatypes. The
+ * options are sent with every scan and the QueryIterator is torn down and re-initialized constantly, so the same payload is decoded repeatedly for each
+ * tablet. Entries are keyed by the option name and a digest of the encoded payload, which makes them content-addressed: any query sending the same payload
+ * shares the decoded object.
+ * 
+ * The decoded objects are shared, so they must not be modified by the caller.
+ */
+public class DecodedOptionCache {
+    private static final Logger log = Logger.getLogger(DecodedOptionCache.class);
+    
+    // Accumulo properties
+    public static final String MAX_SIZE = "datawave.query.options.cache.maxSize";
+    
+    public static final long DEFAULT_MAX_SIZE = 100;
+    
+    private static volatile long maxSize = DEFAULT_MAX_SIZE;
+    private static AccumuloConfiguration conf = null;
+    
+    private static final Cache<String,Object> cache = Caffeine.newBuilder().maximumSize(DEFAULT_MAX_SIZE).recordStats().build();
+    
+    /**
+     * Decodes an option
+     * 
+     * @param <T>
+     *            the decoded type
+     */
+    public interface Decoder<T> {
+        T decode(String encoded) throws IOException;
+    }
+    
+    synchronized public static void setConfig(AccumuloConfiguration conf) {
+        if (conf != null && (DecodedOptionCache.conf == null || conf.getUpdateCount() > DecodedOptionCache.conf.getUpdateCount())) {
+            DecodedOptionCache.conf = conf;
+            
+            String maxSizeStr = conf.get(MAX_SIZE);
+            if (maxSizeStr != null) {
+                try {
+                    setMaxSize(Long.parseLong(maxSizeStr));
+                } catch (NumberFormatException e) {
+                    log.error("Bad value: (" + maxSizeStr + ") in " + MAX_SIZE + " : " + e.getMessage());
+                }
+            }
+        }
+    }
+    
+    /**
+     * Set the max number of decoded options to cache, or 0 to disable the cache
+     * 
+     * @param maxSize
+     */
+    public static void setMaxSize(long maxSize) {
+        if (maxSize < 0) {
+            log.error("Bad value: (" + maxSize + ") for maxSize");
+            return;
+        }
+        DecodedOptionCache.maxSize = maxSize;
+        cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maxSize));
+    }
+    
+    public static long getMaxSize() {
+        return maxSize;
+    }
+    
+    /**
+     * Get the decoded form of an option, decoding it if it is not cached
+     * 
+     * @param name
+     *            identifies the option and how it is decoded, as the same payload may be decoded differently for another option
+     * @param encoded
+     *            the option value
+     * @param decoder
+     *            decodes the option value if it is not cached
+     * @param <T>
+     *            the decoded type
+     * @return the decoded option, which must not be modified
+     * @throws IOException
+     *             if the option cannot be decoded
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T get(String name, String encoded, Decoder<T> decoder) throws IOException {
+        if (maxSize == 0 || encoded == null) {
+            return decoder.decode(encoded);
+        }
+        String key = digest(name, encoded);
+        Object decoded = cache.getIfPresent(key);
+        if (decoded == null) {
+            decoded = decoder.decode(encoded);
+            if (decoded != null) {
+                cache.put(key, decoded);
+            }
+        }
+        return (T) decoded;
+    }
+    
+    static String digest(String name, String encoded) {
+        return name + ':' + Hashing.sha256().hashString(encoded, StandardCharsets.UTF_8);
+    }
+    
+    public static CacheStats getStats() {
+        return cache.stats();
+    }
+    
+    public static void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
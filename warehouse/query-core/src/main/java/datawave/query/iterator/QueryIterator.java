@@ -14,6 +14,7 @@ import datawave.data.type.util.NumericalEncoder;
 import datawave.ingest.data.config.ingest.CompositeIngest;
 import datawave.marking.MarkingFunctionsFactory;
 import datawave.query.Constants;
+import datawave.query.DocumentSerialization;
 import datawave.query.DocumentSerialization.ReturnType;
 import datawave.query.attributes.AttributeKeepFilter;
 import datawave.query.attributes.Document;
@@ -33,11 +34,13 @@ import datawave.query.function.LimitFields;
 import datawave.query.function.MaskedValueFilterFactory;
 import datawave.query.function.MaskedValueFilterInterface;
 import datawave.query.function.RemoveGroupingContext;
-import datawave.query.function.deserializer.KryoDocumentDeserializer;
+import datawave.query.function.deserializer.DocumentDeserializer;
+import datawave.query.function.serializer.DictionaryDocumentSerializer;
 import datawave.query.function.serializer.KryoDocumentSerializer;
 import datawave.query.function.serializer.ToStringDocumentSerializer;
 import datawave.query.function.serializer.WritableDocumentSerializer;
 import datawave.query.iterator.aggregation.DocumentData;
+import datawave.query.iterator.ivarator.IvaratorSharedCache;
 import datawave.query.iterator.pipeline.PipelineFactory;
 import datawave.query.iterator.pipeline.PipelineIterator;
 import datawave.query.iterator.profile.EvaluationTrackingFunction;
@@ -52,7 +55,6 @@ import datawave.query.iterator.profile.QuerySpanCollector;
 import datawave.query.iterator.profile.SourceTrackingIterator;
 import datawave.query.jexl.DatawaveJexlContext;
 import datawave.query.jexl.DefaultArithmetic;
-import datawave.query.jexl.JexlASTHelper;
 import datawave.query.jexl.StatefulArithmetic;
 import datawave.query.jexl.functions.IdentityAggregator;
 import datawave.query.jexl.functions.KeyAdjudicator;
@@ -102,6 +104,7 @@ import org.apache.zookeeper.server.quorum.QuorumPeerConfig.ConfigException;
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.net.MalformedURLException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -111,6 +114,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.apache.commons.pool.impl.GenericObjectPool.WHEN_EXHAUSTED_BLOCK;
@@ -173,6 +178,8 @@ public class QueryIterator extends QueryOptions implements YieldingKeyValueItera
     
     protected ASTJexlScript script = null;
     
+    protected QueryScriptCache.Entry scriptCacheEntry = null;
+    
     protected JexlEvaluation myEvaluationFunction = null;
     
     protected QuerySpan trackingSpan = null;
@@ -200,6 +207,7 @@ public class QueryIterator extends QueryOptions implements YieldingKeyValueItera
         this.myEnvironment = other.myEnvironment;
         this.myEvaluationFunction = other.myEvaluationFunction;
         this.script = other.script;
+        this.scriptCacheEntry = other.scriptCacheEntry;
         this.documentOptions = other.documentOptions;
         this.fieldIndexSatisfiesQuery = other.fieldIndexSatisfiesQuery;
         this.groupingContextAddedByMe = other.groupingContextAddedByMe;
@@ -221,6 +229,11 @@ public class QueryIterator extends QueryOptions implements YieldingKeyValueItera
             log.trace("QueryIterator init()");
         }
         
+        if (env != null) {
+            DecodedOptionCache.setConfig(env.getConfig());
+            QueryScriptCache.setConfig(env.getConfig());
+        }
+        
         if (!validateOptions(new SourcedOptions<>(source, env, options))) {
             throw new IllegalArgumentException("Could not initialize QueryIterator with " + options);
         }
@@ -235,8 +248,9 @@ public class QueryIterator extends QueryOptions implements YieldingKeyValueItera
         
         // Parse the query
         try {
-            this.script = JexlASTHelper.parseJexlQuery(this.getQuery());
-            this.myEvaluationFunction = new JexlEvaluation(this.getQuery(), arithmetic);
+            this.scriptCacheEntry = QueryScriptCache.get(this.getQuery());
+            this.script = scriptCacheEntry.getScript();
+            this.myEvaluationFunction = new JexlEvaluation(this.getQuery(), scriptCacheEntry.getEvaluationScript(), arithmetic);
             
         } catch (Exception e) {
             throw new IOException("Could not parse the JEXL query: '" + this.getQuery() + "'", e);
@@ -400,6 +414,7 @@ public class QueryIterator extends QueryOptions implements YieldingKeyValueItera
                             yield, yieldThresholdMs, columnFamilies, inclusive);
             
             pipelineIter.setCollectTimingDetails(collectTimingDetails);
+            pipelineIter.setBatchSize(getPipelineBatchSize());
             // TODO pipelineIter.setStatsdHostAndPort(statsdHostAndPort);
             
             pipelineIter.startPipeline();
@@ -454,16 +469,15 @@ public class QueryIterator extends QueryOptions implements YieldingKeyValueItera
             } else if (this.getReturnType() == ReturnType.tostring) {
                 // Just return a toString() representation of the document
                 this.serializedDocuments = Iterators.transform(pipelineDocuments, new ToStringDocumentSerializer(isReducedResponse()));
+            } else if (this.getReturnType() == ReturnType.dictionary) {
+                // Serialize the Document using Kryo with a dictionary of the symbols in this session
+                this.serializedDocuments = Iterators.transform(pipelineDocuments, new DictionaryDocumentSerializer(isReducedResponse(), isCompressResults()));
             } else {
                 throw new IllegalArgumentException("Unknown return type of: " + this.getReturnType());
             }
             
             if (log.isTraceEnabled()) {
-                KryoDocumentDeserializer dser = new KryoDocumentDeserializer();
-                this.serializedDocuments = Iterators.filter(this.serializedDocuments, keyValueEntry -> {
-                    log.trace("after serializing, keyValueEntry:" + dser.apply(keyValueEntry));
-                    return true;
-                });
+                this.serializedDocuments = traceSerializedDocuments(this.serializedDocuments, "after serializing, keyValueEntry:");
             }
             
             // now add the result count to the keys (required when not sorting UIDs)
@@ -483,11 +497,7 @@ public class QueryIterator extends QueryOptions implements YieldingKeyValueItera
                                 this.getReturnType(), this.isReducedResponse(), this.isCompressResults(), this.yield);
             }
             if (log.isTraceEnabled()) {
-                KryoDocumentDeserializer dser = new KryoDocumentDeserializer();
-                this.serializedDocuments = Iterators.filter(this.serializedDocuments, keyValueEntry -> {
-                    log.debug("finally, considering:" + dser.apply(keyValueEntry));
-                    return true;
-                });
+                this.serializedDocuments = traceSerializedDocuments(this.serializedDocuments, "finally, considering:");
             }
             
             // Determine if we have items to return
@@ -621,12 +631,14 @@ public class QueryIterator extends QueryOptions implements YieldingKeyValueItera
                 }
                 
                 // Parse the query
+                QueryScriptCache.Entry myScriptCacheEntry = null;
                 ASTJexlScript myScript = null;
                 JexlEvaluation eval = null;
                 try {
                     
-                    myScript = JexlASTHelper.parseJexlQuery(queries.getValue());
-                    eval = new JexlEvaluation(queries.getValue(), myArithmetic);
+                    myScriptCacheEntry = QueryScriptCache.get(queries.getValue());
+                    myScript = myScriptCacheEntry.getScript();
+                    eval = new JexlEvaluation(queries.getValue(), myScriptCacheEntry.getEvaluationScript(), myArithmetic);
                     
                 } catch (Exception e) {
                     throw new IOException("Could not parse the JEXL query: '" + this.getQuery() + "'", e);
@@ -634,7 +646,7 @@ public class QueryIterator extends QueryOptions implements YieldingKeyValueItera
                 // If we had an event-specific range previously, we need to
                 // reset it back
                 // to the source we created during init
-                NestedIterator<Key> subDocIter = getOrSetKeySource(myRange, myScript);
+                NestedIterator<Key> subDocIter = getOrSetKeySource(myRange, myScript, myScriptCacheEntry);
                 
                 if (log.isTraceEnabled()) {
                     log.trace("Using init()'ialized source: " + subDocIter.getClass().getName());
@@ -666,7 +678,7 @@ public class QueryIterator extends QueryOptions implements YieldingKeyValueItera
         } else {
             // If we had an event-specific range previously, we need to reset it back
             // to the source we created during init
-            docIter = getOrSetKeySource(documentRange, script);
+            docIter = getOrSetKeySource(documentRange, script, scriptCacheEntry);
             
             initKeySource = docIter;
             
@@ -1156,6 +1168,32 @@ public class QueryIterator extends QueryOptions implements YieldingKeyValueItera
         }
     }
     
+    /**
+     * Log each serialized document as it passes, decoded with the deserializer matching the return type. Each call decodes with its own deserializer, as a
+     * dictionary deserializer must see every value of a session in order.
+     * 
+     * @param documents
+     *            the serialized documents
+     * @param message
+     *            the message logged before each document
+     * @return the documents, unchanged
+     */
+    private Iterator<Entry<Key,Value>> traceSerializedDocuments(Iterator<Entry<Key,Value>> documents, final String message) {
+        if (this.getReturnType() == ReturnType.tostring) {
+            // the values are already readable
+            return Iterators.filter(documents, keyValueEntry -> {
+                log.trace(message + keyValueEntry);
+                return true;
+            });
+        }
+        
+        final DocumentDeserializer dser = DocumentSerialization.getDocumentDeserializer(this.getReturnType());
+        return Iterators.filter(documents, keyValueEntry -> {
+            log.trace(message + dser.apply(keyValueEntry));
+            return true;
+        });
+    }
+    
     protected DocumentProjection getProjection() {
         DocumentProjection projection = new DocumentProjection(this.isIncludeGroupingContext(), this.isReducedResponse(), isTrackSizes());
         
@@ -1262,6 +1300,26 @@ public class QueryIterator extends QueryOptions implements YieldingKeyValueItera
     
     protected NestedIterator<Key> getOrSetKeySource(final Range documentRange, ASTJexlScript rangeScript) throws IOException, ConfigException,
                     IllegalAccessException, InstantiationException {
+        return getOrSetKeySource(documentRange, rangeScript, null);
+    }
+    
+    /**
+     * Build the tree of field index iterators for a query
+     * 
+     * @param documentRange
+     *            the range
+     * @param rangeScript
+     *            the parsed query
+     * @param rangeScriptCacheEntry
+     *            the cache entry for the query, used to reuse the determination of whether the field index satisfies the query, or null
+     * @return the iterator
+     * @throws IOException
+     * @throws ConfigException
+     * @throws IllegalAccessException
+     * @throws InstantiationException
+     */
+    protected NestedIterator<Key> getOrSetKeySource(final Range documentRange, ASTJexlScript rangeScript, QueryScriptCache.Entry rangeScriptCacheEntry)
+                    throws IOException, ConfigException, IllegalAccessException, InstantiationException {
         NestedIterator<Key> sourceIter = null;
         // If we're doing field index or a non-fulltable (aka a normal
         // query)
@@ -1282,18 +1340,24 @@ public class QueryIterator extends QueryOptions implements YieldingKeyValueItera
                 }
             }
             if (isQueryFullySatisfiedInitialState) {
-                SatisfactionVisitor satisfactionVisitor = this.createSatisfiabilityVisitor(true); // we'll
-                                                                                                  // charge
-                                                                                                  // in
-                                                                                                  // with
-                                                                                                  // optimism
+                final SatisfactionVisitor satisfactionVisitor = this.createSatisfiabilityVisitor(true); // we'll
+                                                                                                        // charge
+                                                                                                        // in
+                                                                                                        // with
+                                                                                                        // optimism
                 
-                // visit() and get the root which is the root of a tree of
-                // Boolean Logic Iterator<Key>'s
-                rangeScript.jjtAccept(satisfactionVisitor, null);
-                
-                isQueryFullySatisfiedInitialState = satisfactionVisitor.isQueryFullySatisfied();
+                Supplier<Boolean> satisfaction = () -> {
+                    // visit() and get the root which is the root of a tree of
+                    // Boolean Logic Iterator<Key>'s
+                    rangeScript.jjtAccept(satisfactionVisitor, null);
+                    return satisfactionVisitor.isQueryFullySatisfied();
+                };
                 
+                if (rangeScriptCacheEntry != null) {
+                    isQueryFullySatisfiedInitialState = rangeScriptCacheEntry.isFullySatisfied(satisfactionVisitor.getConfiguration(), satisfaction);
+                } else {
+                    isQueryFullySatisfiedInitialState = satisfaction.get();
+                }
             }
             
             IteratorBuildingVisitor visitor = createIteratorBuildingVisitor(documentRange, isQueryFullySatisfiedInitialState, this.sortedUIDs);
@@ -1378,6 +1442,8 @@ public class QueryIterator extends QueryOptions implements YieldingKeyValueItera
                 .setIvaratorPersistOptions(this.getIvaratorPersistOptions())
                 .setUnsortedIvaratorSource(this.sourceForDeepCopies)
                 .setIvaratorSourcePool(createIvaratorSourcePool(this.maxIvaratorSources))
+                .setIvaratorSharedCache(createIvaratorSharedCache())
+                .setQueryPriority(this.getQueryPriority())
                 .setMaxIvaratorResults(this.getMaxIvaratorResults())
                 .setIncludes(indexedFields)
                 .setTermFrequencyFields(this.getTermFrequencyFields())
@@ -1396,6 +1462,37 @@ public class QueryIterator extends QueryOptions implements YieldingKeyValueItera
         // TODO: .setStatsPort(this.statsdHostAndPort);
     }
     
+    /**
+     * Create the cache of ivarator results shared across queries if enabled. The results of an ivarated term are scoped by the datatype filter, the date
+     * range, and the authorizations of the scan, so those are included in the cache key.
+     *
+     * @return the shared cache, or null if not enabled or the scan authorizations are not available
+     */
+    protected IvaratorSharedCache createIvaratorSharedCache() {
+        if (this.getIvaratorSharedCacheTtl() <= 0) {
+            return null;
+        }
+        
+        Set<String> auths = new TreeSet<>();
+        try {
+            for (byte[] auth : this.myEnvironment.getAuthorizations().getAuthorizations()) {
+                auths.add(new String(auth, StandardCharsets.UTF_8));
+            }
+        } catch (UnsupportedOperationException e) {
+            log.debug("Scan authorizations are not available, not sharing ivarator results");
+            return null;
+        }
+        
+        Set<String> datatypes = new TreeSet<>();
+        String datatypeFilter = (options == null ? null : options.get(DATATYPE_FILTER));
+        if (datatypeFilter != null && !datatypeFilter.isEmpty()) {
+            Collections.addAll(datatypes, StringUtils.split(datatypeFilter, ','));
+        }
+        
+        String scope = datatypes + "|" + startTime + "|" + endTime + "|" + auths;
+        return new IvaratorSharedCache(this.getIvaratorSharedCacheTtl(), this.getIvaratorSharedCacheMaxSize(), scope);
+    }
+    
     protected GenericObjectPool<SortedKeyValueIterator<Key,Value>> createIvaratorSourcePool(int maxIvaratorSources) {
         return new GenericObjectPool<>(createIvaratorSourceFactory(this), createIvaratorSourcePoolConfig(maxIvaratorSources));
     }
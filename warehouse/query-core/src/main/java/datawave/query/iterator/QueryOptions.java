@@ -48,6 +48,7 @@ import datawave.query.tables.async.Scan;
 import datawave.query.util.TypeMetadata;
 import datawave.query.util.TypeMetadataProvider;
 import datawave.query.util.sortedset.FileSortedSet;
+import datawave.query.util.sortedset.RFileKeyOutputStream;
 import datawave.util.StringUtils;
 import datawave.util.UniversalSet;
 import org.apache.accumulo.core.data.Key;
@@ -215,10 +216,16 @@ public class QueryOptions implements OptionDescriber {
     
     public static final String IVARATOR_PERSIST_VERIFY_COUNT = "ivarator.persist.verify.count";
     
+    public static final String IVARATOR_PERSIST_COMPRESSION = "ivarator.persist.compression";
+    
     public static final String MAX_IVARATOR_SOURCES = "max.ivarator.sources";
     
     public static final String MAX_IVARATOR_RESULTS = "max.ivarator.results";
     
+    public static final String IVARATOR_SHARED_CACHE_TTL = "ivarator.shared.cache.ttl";
+    
+    public static final String IVARATOR_SHARED_CACHE_MAX_SIZE = "ivarator.shared.cache.max.size";
+    
     public static final String COMPRESS_SERVER_SIDE_RESULTS = "compress.server.side.results";
     
     public static final String MAX_EVALUATION_PIPELINES = "max.evaluation.pipelines";
@@ -227,6 +234,10 @@ public class QueryOptions implements OptionDescriber {
     
     public static final String MAX_PIPELINE_CACHED_RESULTS = "max.pipeline.cached.results";
     
+    public static final String QUERY_PRIORITY = "query.priority";
+    
+    public static final String PIPELINE_BATCH_SIZE = "pipeline.batch.size";
+    
     public static final String BATCHED_QUERY = "query.iterator.batch";
     
     public static final String BATCHED_QUERY_RANGE_PREFIX = "query.iterator.batch.range.";
@@ -281,6 +292,8 @@ public class QueryOptions implements OptionDescriber {
     
     protected int maxEvaluationPipelines = 25;
     protected int maxPipelineCachedResults = 25;
+    protected int queryPriority = 1;
+    protected int pipelineBatchSize = 1;
     
     protected Set<String> indexOnlyFields = Sets.newHashSet();
     protected Set<String> indexedFields = Sets.newHashSet();
@@ -331,6 +344,10 @@ public class QueryOptions implements OptionDescriber {
     
     protected long maxIvaratorResults = -1;
     
+    protected long ivaratorSharedCacheTtl = 0;
+    
+    protected long ivaratorSharedCacheMaxSize = 0;
+    
     protected long yieldThresholdMs = Long.MAX_VALUE;
     
     protected Predicate<Key> fieldIndexKeyDataTypeFilter = KeyIdentity.Function;
@@ -449,6 +466,8 @@ public class QueryOptions implements OptionDescriber {
         this.ivaratorMaxOpenFiles = other.ivaratorMaxOpenFiles;
         this.maxIvaratorSources = other.maxIvaratorSources;
         this.maxIvaratorResults = other.maxIvaratorResults;
+        this.ivaratorSharedCacheTtl = other.ivaratorSharedCacheTtl;
+        this.ivaratorSharedCacheMaxSize = other.ivaratorSharedCacheMaxSize;
         
         this.yieldThresholdMs = other.yieldThresholdMs;
         
@@ -487,6 +506,8 @@ public class QueryOptions implements OptionDescriber {
         this.batchedQueries = other.batchedQueries;
         this.batchStack = other.batchStack;
         this.maxEvaluationPipelines = other.maxEvaluationPipelines;
+        this.queryPriority = other.queryPriority;
+        this.pipelineBatchSize = other.pipelineBatchSize;
         
         this.dateIndexTimeTravel = other.dateIndexTimeTravel;
         
@@ -911,6 +932,22 @@ public class QueryOptions implements OptionDescriber {
         this.maxIvaratorResults = maxIvaratorResults;
     }
     
+    public long getIvaratorSharedCacheTtl() {
+        return ivaratorSharedCacheTtl;
+    }
+    
+    public void setIvaratorSharedCacheTtl(long ivaratorSharedCacheTtl) {
+        this.ivaratorSharedCacheTtl = ivaratorSharedCacheTtl;
+    }
+    
+    public long getIvaratorSharedCacheMaxSize() {
+        return ivaratorSharedCacheMaxSize;
+    }
+    
+    public void setIvaratorSharedCacheMaxSize(long ivaratorSharedCacheMaxSize) {
+        this.ivaratorSharedCacheMaxSize = ivaratorSharedCacheMaxSize;
+    }
+    
     public boolean isCompressResults() {
         return compressResults;
     }
@@ -1068,12 +1105,18 @@ public class QueryOptions implements OptionDescriber {
                         "The number of times an ivarator should attempt to persist a sorted set to a given ivarator cache directory.  We will use the specified number of retries for each of the configured ivarator cache directories.");
         options.put(MAX_IVARATOR_SOURCES,
                         " The maximum number of sources to use for ivarators across all ivarated terms within the query.  Note the thread pool size is controlled via an accumulo property.");
+        options.put(IVARATOR_SHARED_CACHE_TTL,
+                        "The time in milliseconds for which completed ivarator results may be reused by other queries with the same term, datatypes, date range, and authorizations.  0 (the default) disables sharing.");
+        options.put(IVARATOR_SHARED_CACHE_MAX_SIZE,
+                        "The maximum number of bytes of shared ivarator results to keep per ivarator cache base path, least recently used first out.  0 (the default) for no limit.");
         options.put(YIELD_THRESHOLD_MS,
                         "The threshold in milliseconds that the query iterator will evaluate consecutive documents to false before yielding the scan.");
         options.put(COMPRESS_SERVER_SIDE_RESULTS, "GZIP compress the serialized Documents before returning to the webserver");
         options.put(MAX_EVALUATION_PIPELINES, "The max number of evaluation pipelines");
         options.put(SERIAL_EVALUATION_PIPELINE, "Forces us to use the serial pipeline. Allows us to still have a single thread for evaluation");
         options.put(MAX_PIPELINE_CACHED_RESULTS, "The max number of non-null evaluated results to cache beyond the evaluation pipelines in queue");
+        options.put(QUERY_PRIORITY, "The relative share of the tserver ivarator and evaluation threads given to this query when other queries are queued");
+        options.put(PIPELINE_BATCH_SIZE, "The number of documents evaluated together by each evaluation pipeline task");
         options.put(DATE_INDEX_TIME_TRAVEL, "Whether the shards from before the event should be gathered from the dateIndex");
         
         options.put(SORTED_UIDS,
@@ -1150,8 +1193,14 @@ public class QueryOptions implements OptionDescriber {
         
         if (options.containsKey(COMPOSITE_METADATA)) {
             String compositeMetadataString = options.get(COMPOSITE_METADATA);
-            if (compositeMetadataString != null && !compositeMetadataString.isEmpty())
-                this.compositeMetadata = CompositeMetadata.fromBytes(java.util.Base64.getDecoder().decode(compositeMetadataString));
+            if (compositeMetadataString != null && !compositeMetadataString.isEmpty()) {
+                try {
+                    this.compositeMetadata = DecodedOptionCache.get(COMPOSITE_METADATA, compositeMetadataString,
+                                    encoded -> CompositeMetadata.fromBytes(java.util.Base64.getDecoder().decode(encoded)));
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
             
             if (log.isTraceEnabled()) {
                 log.trace("Using compositeMetadata: " + this.compositeMetadata);
@@ -1388,11 +1437,12 @@ public class QueryOptions implements OptionDescriber {
             try {
                 
                 String nonIndexedDataTypes = options.get(NON_INDEXED_DATATYPES);
-                if (compressedMappings) {
-                    nonIndexedDataTypes = decompressOption(nonIndexedDataTypes, QueryOptions.UTF8);
-                }
-                
-                this.setNonIndexedDataTypeMap(buildFieldDataTypeMap(nonIndexedDataTypes));
+                this.setNonIndexedDataTypeMap(DecodedOptionCache.get(getDecodedOptionName(NON_INDEXED_DATATYPES), nonIndexedDataTypes, encoded -> {
+                    if (compressedMappings) {
+                        encoded = decompressOption(encoded, QueryOptions.UTF8);
+                    }
+                    return buildFieldDataTypeMap(encoded);
+                }));
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
@@ -1457,13 +1507,27 @@ public class QueryOptions implements OptionDescriber {
         if (options.containsKey(IVARATOR_PERSIST_VERIFY)) {
             boolean verify = Boolean.parseBoolean(options.get(IVARATOR_PERSIST_VERIFY));
             FileSortedSet.PersistOptions persistOptions = getIvaratorPersistOptions();
-            this.setIvaratorPersistOptions(new FileSortedSet.PersistOptions(verify, verify, persistOptions.getNumElementsToVerify()));
+            this.setIvaratorPersistOptions(new FileSortedSet.PersistOptions(verify, verify, persistOptions.getNumElementsToVerify(), persistOptions
+                            .getCompressionType()));
         }
         
         if (options.containsKey(IVARATOR_PERSIST_VERIFY_COUNT)) {
             int numElements = Integer.parseInt(options.get(IVARATOR_PERSIST_VERIFY_COUNT));
             FileSortedSet.PersistOptions persistOptions = getIvaratorPersistOptions();
-            this.setIvaratorPersistOptions(new FileSortedSet.PersistOptions(persistOptions.isVerifySize(), persistOptions.isVerifyElements(), numElements));
+            this.setIvaratorPersistOptions(new FileSortedSet.PersistOptions(persistOptions.isVerifySize(), persistOptions.isVerifyElements(), numElements,
+                            persistOptions.getCompressionType()));
+        }
+        
+        if (options.containsKey(IVARATOR_PERSIST_COMPRESSION)) {
+            try {
+                RFileKeyOutputStream.validateCompressionType(options.get(IVARATOR_PERSIST_COMPRESSION));
+            } catch (IllegalArgumentException e) {
+                log.error("Invalid " + IVARATOR_PERSIST_COMPRESSION + ": " + e.getMessage());
+                return false;
+            }
+            FileSortedSet.PersistOptions persistOptions = getIvaratorPersistOptions();
+            this.setIvaratorPersistOptions(new FileSortedSet.PersistOptions(persistOptions.isVerifySize(), persistOptions.isVerifyElements(), persistOptions
+                            .getNumElementsToVerify(), options.get(IVARATOR_PERSIST_COMPRESSION)));
         }
         
         if (options.containsKey(MAX_IVARATOR_SOURCES)) {
@@ -1474,6 +1538,14 @@ public class QueryOptions implements OptionDescriber {
             this.setMaxIvaratorResults(Long.parseLong(options.get(MAX_IVARATOR_RESULTS)));
         }
         
+        if (options.containsKey(IVARATOR_SHARED_CACHE_TTL)) {
+            this.setIvaratorSharedCacheTtl(Long.parseLong(options.get(IVARATOR_SHARED_CACHE_TTL)));
+        }
+        
+        if (options.containsKey(IVARATOR_SHARED_CACHE_MAX_SIZE)) {
+            this.setIvaratorSharedCacheMaxSize(Long.parseLong(options.get(IVARATOR_SHARED_CACHE_MAX_SIZE)));
+        }
+        
         if (options.containsKey(YIELD_THRESHOLD_MS)) {
             this.setYieldThresholdMs(Long.parseLong(options.get(YIELD_THRESHOLD_MS)));
         }
@@ -1494,6 +1566,14 @@ public class QueryOptions implements OptionDescriber {
             this.setMaxPipelineCachedResults(Integer.parseInt(options.get(MAX_PIPELINE_CACHED_RESULTS)));
         }
         
+        if (options.containsKey(QUERY_PRIORITY)) {
+            this.setQueryPriority(Integer.parseInt(options.get(QUERY_PRIORITY)));
+        }
+        
+        if (options.containsKey(PIPELINE_BATCH_SIZE)) {
+            this.setPipelineBatchSize(Integer.parseInt(options.get(PIPELINE_BATCH_SIZE)));
+        }
+        
         if (options.containsKey(TERM_FREQUENCIES_REQUIRED)) {
             this.setTermFrequenciesRequired(Boolean.parseBoolean(options.get(TERM_FREQUENCIES_REQUIRED)));
         }
@@ -1569,10 +1649,12 @@ public class QueryOptions implements OptionDescriber {
         if (options.containsKey(TYPE_METADATA)) {
             String typeMetadataString = options.get(TYPE_METADATA);
             try {
-                if (compressedMappings) {
-                    typeMetadataString = decompressOption(typeMetadataString, QueryOptions.UTF8);
-                }
-                this.typeMetadata = buildTypeMetadata(typeMetadataString);
+                this.typeMetadata = DecodedOptionCache.get(getDecodedOptionName(TYPE_METADATA), typeMetadataString, encoded -> {
+                    if (compressedMappings) {
+                        encoded = decompressOption(encoded, QueryOptions.UTF8);
+                    }
+                    return buildTypeMetadata(encoded);
+                });
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
@@ -1587,6 +1669,16 @@ public class QueryOptions implements OptionDescriber {
         
     }
     
+    /**
+     * Get the name under which an option is cached in the {@link DecodedOptionCache}, which distinguishes the compressed and uncompressed forms
+     *
+     * @param option
+     * @return the name
+     */
+    protected String getDecodedOptionName(String option) {
+        return (compressedMappings ? option + "." + QUERY_MAPPING_COMPRESS : option);
+    }
+    
     protected static String decompressOption(final String buffer, Charset characterSet) throws IOException {
         final byte[] inBase64 = Base64.decodeBase64(buffer.getBytes());
         
@@ -1881,6 +1973,22 @@ public class QueryOptions implements OptionDescriber {
         this.maxPipelineCachedResults = maxCachedResults;
     }
     
+    public int getQueryPriority() {
+        return queryPriority;
+    }
+    
+    public void setQueryPriority(int queryPriority) {
+        this.queryPriority = queryPriority;
+    }
+    
+    public int getPipelineBatchSize() {
+        return pipelineBatchSize;
+    }
+    
+    public void setPipelineBatchSize(int pipelineBatchSize) {
+        this.pipelineBatchSize = pipelineBatchSize;
+    }
+    
     public String getStatsdHostAndPort() {
         return statsdHostAndPort;
     }
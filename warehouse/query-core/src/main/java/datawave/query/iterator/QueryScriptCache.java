@@ -0,0 +1,189 @@
+package datawave.query.iterator;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import datawave.query.jexl.ArithmeticJexlEngines;
+import datawave.query.jexl.DefaultArithmetic;
+import datawave.query.jexl.JexlASTHelper;
+import datawave.query.jexl.visitors.RebuildingVisitor;
+import datawave.query.jexl.visitors.SatisfactionVisitor;
+import org.apache.accumulo.core.conf.AccumuloConfiguration;
+import org.apache.commons.jexl2.parser.ASTJexlScript;
+import org.apache.commons.jexl2.parser.ParseException;
+import org.apache.log4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A tserver wide cache of the parsed forms of query strings. The QueryIterator is torn down and re-initialized constantly, and the same query is evaluated
+ * against every range in a bundle, so this saves parsing the same query for each. Each entry holds:
+ * <ul>
+ * <li>the script parsed for building the iterator tree, which is copied for each use as it may be modified by the visitors</li>
+ * <li>the script parsed by the jexl engine for evaluation, which is shared as the interpreter does not modify it</li>
+ * <li>whether the field index satisfies the query, by the other query options which determine that</li>
+ * </ul>
+ * 
+ * The cache is sized by an Accumulo property, and the hit and miss counts are logged periodically.
+ */
+public class QueryScriptCache {
+    private static final Logger log = Logger.getLogger(QueryScriptCache.class);
+    
+    // Accumulo properties
+    public static final String MAX_SIZE = "datawave.query.script.cache.maxSize";
+    public static final String LOG_PERIOD = "datawave.query.script.cache.logPeriodMs";
+    
+    public static final long DEFAULT_MAX_SIZE = 1000;
+    public static final long DEFAULT_LOG_PERIOD = TimeUnit.MILLISECONDS.convert(5, TimeUnit.MINUTES);
+    
+    private static volatile long maxSize = DEFAULT_MAX_SIZE;
+    private static volatile long logPeriod = DEFAULT_LOG_PERIOD;
+    private static AccumuloConfiguration conf = null;
+    
+    private static final Cache<String,Entry> cache = Caffeine.newBuilder().maximumSize(DEFAULT_MAX_SIZE).recordStats().build();
+    
+    private static final AtomicLong lastLogged = new AtomicLong(System.currentTimeMillis());
+    
+    /**
+     * The parsed forms of a query
+     */
+    public static class Entry {
+        private final String query;
+        private final ASTJexlScript script;
+        private volatile ASTJexlScript evaluationScript = null;
+        private final Map<SatisfactionVisitor.Configuration,Boolean> fullySatisfied = new ConcurrentHashMap<>();
+        
+        Entry(String query) throws ParseException {
+            this.query = query;
+            this.script = JexlASTHelper.parseJexlQuery(query);
+        }
+        
+        public String getQuery() {
+            return query;
+        }
+        
+        /**
+         * @return a copy of the parsed script which the caller may modify
+         */
+        public ASTJexlScript getScript() {
+            return (ASTJexlScript) RebuildingVisitor.copy(script);
+        }
+        
+        /**
+         * @return the script parsed by the jexl engine, which must not be modified
+         */
+        public ASTJexlScript getEvaluationScript() {
+            if (evaluationScript == null) {
+                evaluationScript = ArithmeticJexlEngines.getEngine(new DefaultArithmetic()).parse(query);
+            }
+            return evaluationScript;
+        }
+        
+        /**
+         * Determine whether the field index satisfies the query
+         * 
+         * @param configuration
+         *            the options which determine the satisfaction
+         * @param satisfaction
+         *            computes the satisfaction if it is not cached
+         * @return true if the field index satisfies the query
+         */
+        public boolean isFullySatisfied(SatisfactionVisitor.Configuration configuration, Supplier<Boolean> satisfaction) {
+            Boolean satisfied = fullySatisfied.get(configuration);
+            if (satisfied == null) {
+                satisfied = satisfaction.get();
+                fullySatisfied.put(configuration, satisfied);
+            }
+            return satisfied;
+        }
+    }
+    
+    synchronized public static void setConfig(AccumuloConfiguration conf) {
+        if (conf != null && (QueryScriptCache.conf == null || conf.getUpdateCount() > QueryScriptCache.conf.getUpdateCount())) {
+            QueryScriptCache.conf = conf;
+            
+            String maxSizeStr = conf.get(MAX_SIZE);
+            if (maxSizeStr != null) {
+                try {
+                    setMaxSize(Long.parseLong(maxSizeStr));
+                } catch (NumberFormatException e) {
+                    log.error("Bad value: (" + maxSizeStr + ") in " + MAX_SIZE + " : " + e.getMessage());
+                }
+            }
+            
+            String logPeriodStr = conf.get(LOG_PERIOD);
+            if (logPeriodStr != null) {
+                try {
+                    logPeriod = Long.parseLong(logPeriodStr);
+                } catch (NumberFormatException e) {
+                    log.error("Bad value: (" + logPeriodStr + ") in " + LOG_PERIOD + " : " + e.getMessage());
+                }
+            }
+        }
+    }
+    
+    /**
+     * Set the max number of queries to cache, or 0 to disable the cache
+     * 
+     * @param maxSize
+     */
+    public static void setMaxSize(long maxSize) {
+        if (maxSize < 0) {
+            log.error("Bad value: (" + maxSize + ") for maxSize");
+            return;
+        }
+        QueryScriptCache.maxSize = maxSize;
+        cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maxSize));
+    }
+    
+    public static long getMaxSize() {
+        return maxSize;
+    }
+    
+    /**
+     * Get the entry for a query, parsing the query if it is not cached
+     * 
+     * @param query
+     * @return the entry
+     * @throws ParseException
+     *             if the query cannot be parsed
+     */
+    public static Entry get(String query) throws ParseException {
+        logStatsIfNeeded();
+        if (maxSize == 0) {
+            return new Entry(query);
+        }
+        Entry entry = cache.getIfPresent(query);
+        if (entry == null) {
+            // parse outside of the cache so that a bad query is not retried within a computation
+            entry = new Entry(query);
+            Entry existing = cache.asMap().putIfAbsent(query, entry);
+            if (existing != null) {
+                entry = existing;
+            }
+        }
+        return entry;
+    }
+    
+    public static CacheStats getStats() {
+        return cache.stats();
+    }
+    
+    public static void invalidateAll() {
+        cache.invalidateAll();
+    }
+    
+    private static void logStatsIfNeeded() {
+        long now = System.currentTimeMillis();
+        long last = lastLogged.get();
+        if (log.isInfoEnabled() && (now - last) > logPeriod && lastLogged.compareAndSet(last, now)) {
+            CacheStats stats = cache.stats();
+            log.info("Query script cache: " + cache.estimatedSize() + " entries, " + stats.hitCount() + " hits, " + stats.missCount() + " misses, "
+                            + stats.evictionCount() + " evictions");
+        }
+    }
+}
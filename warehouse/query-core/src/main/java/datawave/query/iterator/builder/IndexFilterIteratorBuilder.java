@@ -63,6 +63,8 @@ public class IndexFilterIteratorBuilder extends IvaratorBuilder implements Itera
                 // create a field index caching ivarator
                 // @formatter:off
                 DatawaveFieldIndexFilterIteratorJexl rangeIterator = DatawaveFieldIndexFilterIteratorJexl.builder()
+                        .withQueryId(queryId)
+                        .withQueryPriority(queryPriority)
                         .withFieldName(new Text(range.getFieldName()))
                         .withFilter(filter)
                         .withLowerBound(range.getLower().toString())
@@ -90,6 +92,7 @@ public class IndexFilterIteratorBuilder extends IvaratorBuilder implements Itera
                         .withTypeMetadata(typeMetadata)
                         .withIteratorEnv(env)
                         .withIvaratorSourcePool(ivaratorSourcePool)
+                        .withSharedCache(ivaratorSharedCache, ivaratorSharedCacheKey)
                         .build();
                 // @formatter:on
                 
@@ -75,6 +75,8 @@ public class IndexListIteratorBuilder extends IvaratorBuilder implements Iterato
                 // create a field index caching ivarator
                 // @formatter:off
                 DatawaveFieldIndexListIteratorJexl.Builder builder = DatawaveFieldIndexListIteratorJexl.builder()
+                        .withQueryId(queryId)
+                        .withQueryPriority(queryPriority)
                         .withFieldName(new Text(field))
                         .withTimeFilter(timeFilter)
                         .withDatatypeFilter(datatypeFilter)
@@ -96,6 +98,7 @@ public class IndexListIteratorBuilder extends IvaratorBuilder implements Iterato
                         .withCompositeSeekThreshold(compositeSeekThreshold)
                         .withTypeMetadata(typeMetadata)
                         .withIvaratorSourcePool(ivaratorSourcePool)
+                        .withSharedCache(ivaratorSharedCache, ivaratorSharedCacheKey)
                         .withIteratorEnv(env);
                 // @formatter:on
                 if (values != null) {
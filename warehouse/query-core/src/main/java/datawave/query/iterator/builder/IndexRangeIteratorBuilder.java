@@ -66,6 +66,8 @@ public class IndexRangeIteratorBuilder extends IvaratorBuilder implements Iterat
                 // create a field index caching ivarator
                 // @formatter:off
                 DatawaveFieldIndexRangeIteratorJexl rangeIterator = DatawaveFieldIndexRangeIteratorJexl.builder()
+                        .withQueryId(queryId)
+                        .withQueryPriority(queryPriority)
                         .withFieldName(new Text(range.getFieldName()))
                         .withLowerBound(range.getLower().toString())
                         .lowerInclusive(range.isLowerInclusive())
@@ -93,6 +95,7 @@ public class IndexRangeIteratorBuilder extends IvaratorBuilder implements Iterat
                         .withSubRanges(subRanges)
                         .withIteratorEnv(env)
                         .withIvaratorSourcePool(ivaratorSourcePool)
+                        .withSharedCache(ivaratorSharedCache, ivaratorSharedCacheKey)
                         .build();
                 // @formatter:on
                 
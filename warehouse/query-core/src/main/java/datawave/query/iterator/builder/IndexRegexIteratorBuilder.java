@@ -50,6 +50,8 @@ public class IndexRegexIteratorBuilder extends IvaratorBuilder implements Iterat
                 // create a field index caching ivarator
                 // @formatter:off
                 DatawaveFieldIndexRegexIteratorJexl regexIterator = DatawaveFieldIndexRegexIteratorJexl.builder()
+                        .withQueryId(queryId)
+                        .withQueryPriority(queryPriority)
                         .withFieldName(new Text(field))
                         .withFieldValue(new Text(value))
                         .withTimeFilter(timeFilter)
@@ -73,6 +75,7 @@ public class IndexRegexIteratorBuilder extends IvaratorBuilder implements Iterat
                         .withTypeMetadata(typeMetadata)
                         .withIteratorEnv(env)
                         .withIvaratorSourcePool(ivaratorSourcePool)
+                        .withSharedCache(ivaratorSharedCache, ivaratorSharedCacheKey)
                         .build();
                 // @formatter:on
                 if (collectTimingDetails) {
@@ -1,6 +1,7 @@
 package datawave.query.iterator.builder;
 
 import datawave.query.iterator.ivarator.IvaratorCacheDir;
+import datawave.query.iterator.ivarator.IvaratorSharedCache;
 import datawave.core.iterators.querylock.QueryLock;
 import datawave.query.composite.CompositeMetadata;
 import datawave.query.iterator.profile.QuerySpanCollector;
@@ -39,6 +40,9 @@ public abstract class IvaratorBuilder extends IndexIteratorBuilder {
     protected CompositeMetadata compositeMetadata;
     protected int compositeSeekThreshold;
     protected GenericObjectPool<SortedKeyValueIterator<Key,Value>> ivaratorSourcePool;
+    protected int queryPriority = 1;
+    protected IvaratorSharedCache ivaratorSharedCache;
+    protected String ivaratorSharedCacheKey;
     
     protected void validateIvaratorControlDir(IvaratorCacheDir ivaratorCacheDir) {
         String ivaratorCacheDirURI = ivaratorCacheDir.getPathURI();
@@ -176,4 +180,28 @@ public abstract class IvaratorBuilder extends IndexIteratorBuilder {
     public void setIvaratorSourcePool(GenericObjectPool<SortedKeyValueIterator<Key,Value>> ivaratorSourcePool) {
         this.ivaratorSourcePool = ivaratorSourcePool;
     }
+    
+    public int getQueryPriority() {
+        return queryPriority;
+    }
+    
+    public void setQueryPriority(int queryPriority) {
+        this.queryPriority = queryPriority;
+    }
+    
+    public IvaratorSharedCache getIvaratorSharedCache() {
+        return ivaratorSharedCache;
+    }
+    
+    public void setIvaratorSharedCache(IvaratorSharedCache ivaratorSharedCache) {
+        this.ivaratorSharedCache = ivaratorSharedCache;
+    }
+    
+    public String getIvaratorSharedCacheKey() {
+        return ivaratorSharedCacheKey;
+    }
+    
+    public void setIvaratorSharedCacheKey(String ivaratorSharedCacheKey) {
+        this.ivaratorSharedCacheKey = ivaratorSharedCacheKey;
+    }
 }
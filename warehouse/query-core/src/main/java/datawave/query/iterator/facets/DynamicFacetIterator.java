@@ -36,6 +36,7 @@ import datawave.query.function.DocumentCountCardinality;
 import datawave.query.function.JexlEvaluation;
 import datawave.query.function.KeyToDocumentData;
 import datawave.query.function.MinimumEstimation;
+import datawave.query.function.serializer.DictionaryDocumentSerializer;
 import datawave.query.function.serializer.KryoDocumentSerializer;
 import datawave.query.function.serializer.ToStringDocumentSerializer;
 import datawave.query.function.serializer.WritableDocumentSerializer;
@@ -261,6 +262,9 @@ public class DynamicFacetIterator extends FieldIndexOnlyQueryIterator {
         } else if (this.getReturnType() == ReturnType.tostring) {
             // Just return a toString() representation of the document
             this.serializedDocuments = Iterators.transform(fieldIndexDocuments, new ToStringDocumentSerializer(isReducedResponse()));
+        } else if (this.getReturnType() == ReturnType.dictionary) {
+            // Serialize the Document using Kryo with a dictionary of the symbols in this session
+            this.serializedDocuments = Iterators.transform(fieldIndexDocuments, new DictionaryDocumentSerializer(isReducedResponse(), isCompressResults()));
         } else {
             throw new IllegalArgumentException("Unknown return type of: " + this.getReturnType());
         }
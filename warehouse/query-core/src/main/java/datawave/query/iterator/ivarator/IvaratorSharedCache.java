@@ -0,0 +1,385 @@
+package datawave.query.iterator.ivarator;
+
+import com.google.common.hash.Hashing;
+import datawave.core.iterators.DatawaveFieldIndexCachingIteratorJexl;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A cache of completed ivarator results which can be reused across queries. Entries are keyed by a hash of the normalized ivarated term and the query scope
+ * (datatype filter, date range, and authorizations) which determines what that term matches, with one directory per shard row under that key:
+ * 
+ * <pre>
+ * &lt;ivarator cache base path&gt;/shared/&lt;key&gt;/&lt;row&gt;
+ * </pre>
+ * 
+ * An ivarator publishes a row into this cache by renaming its completed and persisted row directory into place, so a shared entry is never visible until it is
+ * complete. Entries are only reused within the configured ttl. Expired entries, and the least recently used entries over the configured size, are removed by a
+ * periodic sweep which is run from the tserver publishing the entries.
+ * 
+ * A query reading an entry holds a lease on it, a file under the row directory which is removed when the query is done with the row. The sweep does not
+ * remove entries which are leased, unless the lease is older than {@link #MAX_LEASE_TIME} in which case its query is assumed to have died without releasing
+ * it.
+ * 
+ * As a lease and its removal can not be checked and acted on atomically, an entry is evicted by first renaming its complete file away, which makes it
+ * unusable to any query which has not already found it, and only then checking for leases. A query finding an entry takes its lease before checking for the
+ * complete file, so either the eviction sees the lease and restores the complete file, or the query sees that the entry is being evicted.
+ */
+public class IvaratorSharedCache {
+    private static final Logger log = Logger.getLogger(IvaratorSharedCache.class);
+    
+    public static final String SHARED_DIR = "shared";
+    
+    // how often a base path is swept for expired entries
+    public static final long SWEEP_INTERVAL = 1000L * 60;
+    
+    public static final String LEASES_DIR = "leases";
+    
+    // the time after which a lease is no longer honored by the sweep
+    public static final long MAX_LEASE_TIME = 1000L * 60 * 60 * 24;
+    
+    // the prefix of the name the complete file of an entry is renamed to while the entry is evicted
+    public static final String EVICTING_FILE_PREFIX = "evicting.";
+    
+    // the last time each base path was swept by this tserver
+    private static final Map<String,Long> lastSweep = new ConcurrentHashMap<>();
+    
+    // the time in ms for which a completed entry may be reused
+    private final long ttl;
+    
+    // the max number of bytes to keep in the shared cache for a base path, or <= 0 for no limit
+    private final long maxSize;
+    
+    // the datatype filter, date range, and authorizations which scope the ivarator results
+    private final String scope;
+    
+    public IvaratorSharedCache(long ttl, long maxSize, String scope) {
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+        this.scope = scope;
+    }
+    
+    public long getTtl() {
+        return ttl;
+    }
+    
+    public long getMaxSize() {
+        return maxSize;
+    }
+    
+    public String getScope() {
+        return scope;
+    }
+    
+    /**
+     * Get the cache key for an ivarated term
+     * 
+     * @param term
+     *            the normalized query string for the ivarated term
+     * @return the key
+     */
+    public String getCacheKey(String term) {
+        return Hashing.sha256().newHasher().putString(scope, StandardCharsets.UTF_8).putByte((byte) 0).putString(term, StandardCharsets.UTF_8).hash()
+                        .toString();
+    }
+    
+    protected static Path getSharedDir(IvaratorCacheDir ivaratorCacheDir) {
+        return new Path(ivaratorCacheDir.getConfig().getBasePathURI(), SHARED_DIR);
+    }
+    
+    protected static Path getKeyDir(IvaratorCacheDir ivaratorCacheDir, String cacheKey) {
+        return new Path(getSharedDir(ivaratorCacheDir), cacheKey);
+    }
+    
+    protected static Path getLeaseFile(Path rowDir, String leaseId) {
+        return new Path(new Path(rowDir, LEASES_DIR), leaseId);
+    }
+    
+    private boolean isExpired(FileStatus status, long now) {
+        return (now - status.getModificationTime()) > ttl;
+    }
+    
+    /**
+     * Find a completed entry for a row in any of the ivarator cache dirs, and lease it so that it is not swept while being read. The lease must be released
+     * once the entry is no longer read.
+     * 
+     * @param ivaratorCacheDirs
+     *            the ivarator cache dirs for the query
+     * @param cacheKey
+     *            the cache key
+     * @param row
+     *            the shard row
+     * @param leaseId
+     *            the id of the lease, unique to the reader
+     * @return an ivarator cache dir whose path contains the row directory, or null if there is no usable entry
+     */
+    public IvaratorCacheDir find(List<IvaratorCacheDir> ivaratorCacheDirs, String cacheKey, String row, String leaseId) {
+        long now = System.currentTimeMillis();
+        for (IvaratorCacheDir ivaratorCacheDir : ivaratorCacheDirs) {
+            FileSystem fs = ivaratorCacheDir.getFs();
+            Path keyDir = getKeyDir(ivaratorCacheDir, cacheKey);
+            Path rowDir = new Path(keyDir, row);
+            try {
+                Path completeFile = new Path(rowDir, DatawaveFieldIndexCachingIteratorJexl.HdfsBackedControl.COMPLETE_FILE);
+                if (fs.exists(completeFile) && !isExpired(fs.getFileStatus(completeFile), now)) {
+                    IvaratorCacheDir sharedDir = new IvaratorCacheDir(ivaratorCacheDir.getConfig(), fs, keyDir.toUri().toString());
+                    // take the lease before checking that the entry is still complete, so that an eviction either sees the lease and restores the
+                    // complete file, or had already renamed it away in which case we do not use the entry
+                    if (lease(sharedDir, row, leaseId)) {
+                        if (fs.exists(completeFile)) {
+                            // the modification time of the row dir tracks the last use of the entry for lru eviction
+                            fs.setTimes(rowDir, now, -1);
+                            if (log.isDebugEnabled()) {
+                                log.debug("Reusing shared ivarator results in " + rowDir);
+                            }
+                            return sharedDir;
+                        }
+                        release(sharedDir, row, leaseId);
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("Unable to check for shared ivarator results in " + rowDir, e);
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Lease a shared entry so that it is not swept while being read
+     * 
+     * @param sharedDir
+     *            the shared cache dir containing the row directory, as returned by find
+     * @param row
+     *            the shard row
+     * @param leaseId
+     *            the id of the lease, unique to the reader
+     * @return true if the entry was leased
+     */
+    public boolean lease(IvaratorCacheDir sharedDir, String row, String leaseId) {
+        Path leaseFile = getLeaseFile(new Path(sharedDir.getPathURI(), row), leaseId);
+        try {
+            sharedDir.getFs().create(leaseFile, true).close();
+            return true;
+        } catch (IOException e) {
+            log.warn("Unable to lease shared ivarator results " + leaseFile, e);
+            return false;
+        }
+    }
+    
+    /**
+     * Release the lease on a shared entry
+     * 
+     * @param sharedDir
+     *            the shared cache dir containing the row directory, as returned by find
+     * @param row
+     *            the shard row
+     * @param leaseId
+     *            the id of the lease
+     */
+    public void release(IvaratorCacheDir sharedDir, String row, String leaseId) {
+        Path leaseFile = getLeaseFile(new Path(sharedDir.getPathURI(), row), leaseId);
+        try {
+            sharedDir.getFs().delete(leaseFile, false);
+        } catch (IOException e) {
+            log.warn("Unable to release the lease on shared ivarator results " + leaseFile, e);
+        }
+    }
+    
+    /**
+     * Is an entry leased by a reader
+     * 
+     * @param fs
+     *            the file system
+     * @param rowDir
+     *            the row directory of the entry
+     * @param now
+     *            the current time
+     * @return true if the entry has a lease which has not outlived {@link #MAX_LEASE_TIME}
+     * @throws IOException
+     */
+    protected boolean isLeased(FileSystem fs, Path rowDir, long now) throws IOException {
+        Path leasesDir = new Path(rowDir, LEASES_DIR);
+        if (fs.exists(leasesDir)) {
+            for (FileStatus lease : fs.listStatus(leasesDir)) {
+                if ((now - lease.getModificationTime()) <= MAX_LEASE_TIME) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Publish a completed and persisted row from the query's ivarator cache dirs into the shared cache. Only rows which were persisted entirely into the
+     * control dir are published so that an entry is self contained.
+     * 
+     * @param ivaratorCacheDirs
+     *            the ivarator cache dirs for the query, the first of which is the control dir
+     * @param cacheKey
+     *            the cache key
+     * @param row
+     *            the shard row
+     * @return true if the row was published
+     */
+    public boolean publish(List<IvaratorCacheDir> ivaratorCacheDirs, String cacheKey, String row) {
+        IvaratorCacheDir controlDir = ivaratorCacheDirs.get(0);
+        FileSystem fs = controlDir.getFs();
+        Path source = new Path(new Path(controlDir.getPathURI()), row);
+        Path target = new Path(getKeyDir(controlDir, cacheKey), row);
+        try {
+            for (IvaratorCacheDir ivaratorCacheDir : ivaratorCacheDirs.subList(1, ivaratorCacheDirs.size())) {
+                Path rowDir = new Path(new Path(ivaratorCacheDir.getPathURI()), row);
+                if (ivaratorCacheDir.getFs().exists(rowDir) && ivaratorCacheDir.getFs().listStatus(rowDir).length > 0) {
+                    log.debug("Not publishing " + source + " as it spans multiple ivarator cache dirs");
+                    return false;
+                }
+            }
+            
+            if (fs.exists(target)) {
+                long now = System.currentTimeMillis();
+                FileStatus status = fs.getFileStatus(target);
+                if (!isExpired(status, now)) {
+                    // another query already published this row
+                    return false;
+                }
+                if (!evict(fs, target, now)) {
+                    // the expired entry is still being read
+                    return false;
+                }
+            }
+            
+            fs.mkdirs(target.getParent());
+            boolean published = fs.rename(source, target);
+            if (published) {
+                fs.setTimes(target, System.currentTimeMillis(), -1);
+                if (log.isDebugEnabled()) {
+                    log.debug("Published ivarator results " + source + " to " + target);
+                }
+            }
+            return published;
+        } catch (IOException e) {
+            log.warn("Unable to publish ivarator results " + source + " to " + target, e);
+            return false;
+        } finally {
+            sweepIfNeeded(controlDir);
+        }
+    }
+    
+    private void sweepIfNeeded(IvaratorCacheDir ivaratorCacheDir) {
+        String basePath = ivaratorCacheDir.getConfig().getBasePathURI();
+        long now = System.currentTimeMillis();
+        Long last = lastSweep.get(basePath);
+        if (last == null || (now - last) > SWEEP_INTERVAL) {
+            lastSweep.put(basePath, now);
+            try {
+                sweep(ivaratorCacheDir.getFs(), getSharedDir(ivaratorCacheDir), now);
+            } catch (IOException e) {
+                log.warn("Unable to sweep the shared ivarator cache in " + basePath, e);
+            }
+        }
+    }
+    
+    /**
+     * Evict an entry unless it is leased. The complete file is renamed away before checking for leases, so that no query can find the entry between checking
+     * for leases and removing it, and is restored if the entry turns out to be leased.
+     * 
+     * @param fs
+     *            the file system
+     * @param rowDir
+     *            the row directory of the entry
+     * @param now
+     *            the current time
+     * @return true if the entry was removed
+     * @throws IOException
+     */
+    protected boolean evict(FileSystem fs, Path rowDir, long now) throws IOException {
+        Path completeFile = new Path(rowDir, DatawaveFieldIndexCachingIteratorJexl.HdfsBackedControl.COMPLETE_FILE);
+        Path evictingFile = new Path(rowDir, EVICTING_FILE_PREFIX + UUID.randomUUID());
+        boolean renamed = fs.rename(completeFile, evictingFile);
+        if (!renamed && fs.exists(completeFile)) {
+            log.warn("Unable to evict shared ivarator results " + rowDir);
+            return false;
+        }
+        
+        if (isLeased(fs, rowDir, now)) {
+            if (renamed) {
+                fs.rename(evictingFile, completeFile);
+            }
+            return false;
+        }
+        
+        fs.delete(rowDir, true);
+        return true;
+    }
+    
+    /**
+     * Remove expired entries, then the least recently used entries until the shared cache is within the max size. Entries are only removed once they have
+     * been expired for another ttl, and leased entries are never removed, so that queries still reading an entry can finish with it.
+     * 
+     * @param fs
+     *            the file system
+     * @param sharedDir
+     *            the shared cache dir
+     * @param now
+     *            the current time
+     * @throws IOException
+     */
+    protected void sweep(FileSystem fs, Path sharedDir, long now) throws IOException {
+        if (!fs.exists(sharedDir)) {
+            return;
+        }
+        
+        List<FileStatus> entries = new ArrayList<>();
+        List<Long> sizes = new ArrayList<>();
+        long totalSize = 0;
+        for (FileStatus keyDir : fs.listStatus(sharedDir)) {
+            FileStatus[] rowDirs = fs.listStatus(keyDir.getPath());
+            if (rowDirs.length == 0 && (now - keyDir.getModificationTime()) > ttl) {
+                try {
+                    // not recursively, in case a row was published since it was listed
+                    fs.delete(keyDir.getPath(), false);
+                } catch (IOException e) {
+                    log.debug("Not removing " + keyDir.getPath() + " as it is no longer empty", e);
+                }
+            }
+            for (FileStatus rowDir : rowDirs) {
+                if ((now - rowDir.getModificationTime()) > (2 * ttl) && evict(fs, rowDir.getPath(), now)) {
+                    continue;
+                }
+                long size = fs.getContentSummary(rowDir.getPath()).getLength();
+                totalSize += size;
+                // leased entries count towards the size but can not be evicted
+                if (!isLeased(fs, rowDir.getPath(), now)) {
+                    entries.add(rowDir);
+                    sizes.add(size);
+                }
+            }
+        }
+        
+        if (maxSize > 0 && totalSize > maxSize) {
+            List<Integer> lru = new ArrayList<>();
+            for (int i = 0; i < entries.size(); i++) {
+                lru.add(i);
+            }
+            lru.sort(Comparator.comparingLong(i -> entries.get(i).getModificationTime()));
+            for (int i = 0; i < lru.size() && totalSize > maxSize; i++) {
+                FileStatus rowDir = entries.get(lru.get(i));
+                // the entry may have been leased since it was listed
+                if (evict(fs, rowDir.getPath(), now)) {
+                    totalSize -= sizes.get(lru.get(i));
+                }
+            }
+        }
+    }
+}
@@ -17,6 +17,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -37,6 +38,10 @@ import com.google.common.collect.TreeMultimap;
 
 /**
  * Performs a merge join of the child iterators. It is expected that all child iterators return values in sorted order.
+ * 
+ * The selectivity of each include is observed as the fraction of its moves which land exactly on the target. When several includes are behind the highest
+ * head, the most selective is moved first as it is the most likely to move beyond the highest head, which saves moving the less selective includes to a
+ * target which would be passed anyway.
  */
 public class AndIterator<T extends Comparable<T>> implements NestedIterator<T>, SeekableIterator {
     // temporary stores of uninitialized streams of iterators
@@ -53,6 +58,9 @@ public class AndIterator<T extends Comparable<T>> implements NestedIterator<T>,
     private Document prevDocument, document;
     private T evaluationContext;
     
+    // the observed selectivity of the includes
+    private final Map<NestedIterator<T>,Selectivity> selectivity = new IdentityHashMap<>();
+    
     private static final Logger log = Logger.getLogger(AndIterator.class);
     
     public AndIterator(Iterable<NestedIterator<T>> sources) {
@@ -227,8 +235,8 @@ public class AndIterator<T extends Comparable<T>> implements NestedIterator<T>,
                     includeHeads = advanceIterators(lowest);
                 }
             } else {
-                // move the lowest to its first position at or beyond highest
-                includeHeads = moveIterators(lowest, highest);
+                // move the most selective include behind the highest to its first position at or beyond highest
+                includeHeads = moveMostSelective(highest);
             }
         }
         
@@ -295,6 +303,11 @@ public class AndIterator<T extends Comparable<T>> implements NestedIterator<T>,
             }
         }
         
+        // the selectivity may differ in the new range, so give the new observations more weight
+        for (Selectivity observed : selectivity.values()) {
+            observed.decay();
+        }
+        
         if (isInitialized()) {
             // advance throwing next away and re-populating next with what should be
             next();
@@ -407,18 +420,101 @@ public class AndIterator<T extends Comparable<T>> implements NestedIterator<T>,
     protected TreeMultimap<T,NestedIterator<T>> moveIterators(T key, T to) {
         transforms.remove(key);
         for (NestedIterator<T> itr : includeHeads.removeAll(key)) {
-            T next = itr.move(to);
-            if (next == null) {
+            if (!moveIterator(itr, to)) {
                 return Util.getEmpty();
-            } else {
-                T transform = transformer.transform(next);
-                transforms.put(transform, next);
-                includeHeads.put(transform, itr);
             }
         }
         return includeHeads;
     }
     
+    /**
+     * Move the most selective of the includes whose heads are less than the highest head to the highest head. Ties are broken by the lowest head.
+     * 
+     * @param highest
+     *            the highest head
+     * @return the include heads, or an empty multimap if the moved include was exhausted
+     */
+    protected TreeMultimap<T,NestedIterator<T>> moveMostSelective(T highest) {
+        T key = null;
+        NestedIterator<T> itr = null;
+        double hitRate = Double.MAX_VALUE;
+        for (T head : includeHeads.keySet().headSet(highest)) {
+            for (NestedIterator<T> candidate : includeHeads.get(head)) {
+                double candidateHitRate = getSelectivity(candidate).hitRate();
+                if (candidateHitRate < hitRate) {
+                    key = head;
+                    itr = candidate;
+                    hitRate = candidateHitRate;
+                }
+            }
+        }
+        
+        includeHeads.remove(key, itr);
+        if (!includeHeads.containsKey(key)) {
+            transforms.remove(key);
+        }
+        if (!moveIterator(itr, highest)) {
+            return Util.getEmpty();
+        }
+        return includeHeads;
+    }
+    
+    /**
+     * Move an include which has been removed from the heads and add it back with its new head, recording whether it landed on the target
+     * 
+     * @param itr
+     * @param to
+     * @return false if the include was exhausted
+     */
+    private boolean moveIterator(NestedIterator<T> itr, T to) {
+        T next = itr.move(to);
+        if (next == null) {
+            return false;
+        }
+        T transform = transformer.transform(next);
+        transforms.put(transform, next);
+        includeHeads.put(transform, itr);
+        getSelectivity(itr).record(transform.compareTo(to) == 0);
+        return true;
+    }
+    
+    private Selectivity getSelectivity(NestedIterator<T> itr) {
+        Selectivity observed = selectivity.get(itr);
+        if (observed == null) {
+            observed = new Selectivity();
+            selectivity.put(itr, observed);
+        }
+        return observed;
+    }
+    
+    /**
+     * The number of moves of an include and the number which landed exactly on their target. An include which rarely lands on its target is sparse relative
+     * to the other includes.
+     */
+    private static class Selectivity {
+        private int moves = 0;
+        private int hits = 0;
+        
+        void record(boolean hit) {
+            moves++;
+            if (hit) {
+                hits++;
+            }
+        }
+        
+        void decay() {
+            moves >>= 1;
+            hits >>= 1;
+        }
+        
+        /**
+         * @return the estimated rate of hits, which starts at one half for an include which has not been moved
+         */
+        double hitRate() {
+            return (hits + 1.0d) / (moves + 2.0d);
+        }
+    }
+    
     /**
      * Creates a sorted mapping of values to iterators.
      *
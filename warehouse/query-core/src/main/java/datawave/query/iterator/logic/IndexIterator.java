@@ -95,6 +95,10 @@ public class IndexIterator implements SortedKeyValueIterator<Key,Value>, Documen
     
     public static final String INDEX_FILTERING_CLASSES = "indexfiltering.classes";
     
+    // bounds on the number of keys to step over when moving before resorting to a seek
+    public static final int MIN_MOVE_STEPS = 8;
+    public static final int MAX_MOVE_STEPS = 256;
+    
     protected SortedKeyValueIterator<Key,Value> source;
     protected LimitedSortedKeyValueIterator limitedSource;
     protected final Text valueMinPrefix;
@@ -369,6 +373,10 @@ public class IndexIterator implements SortedKeyValueIterator<Key,Value>, Documen
     
     private final Text newColumnQualifier = new Text(new byte[128]);
     
+    // the number of keys to step over when moving before resorting to a seek. This is halved each time a move has to seek and doubled each time a move
+    // reaches its target by stepping, so that sparse terms seek almost immediately and dense terms step through the keys like a linear merge
+    protected int moveSteps = MAX_MOVE_STEPS;
+    
     /**
      * Advance the source to the Key specified by pointer then fetch the next tk/tv from that point
      * 
@@ -391,7 +399,7 @@ public class IndexIterator implements SortedKeyValueIterator<Key,Value>, Documen
         
         Key nextKey = new Key(pointer.getRow(), columnFamily, newColumnQualifier);
         Key newTop = null;
-        for (int i = 0; i < 256 && source.hasTop() && (newTop = source.getTopKey()).compareTo(nextKey) < 0; ++i)
+        for (int i = 0; i < moveSteps && source.hasTop() && (newTop = source.getTopKey()).compareTo(nextKey) < 0; ++i)
             source.next();
         
         /*
@@ -405,9 +413,11 @@ public class IndexIterator implements SortedKeyValueIterator<Key,Value>, Documen
             if (log.isTraceEnabled())
                 log.trace(this + " move'ing to: " + r);
             source.seek(r, seekColumnFamilies, includeColumnFamilies);
+            moveSteps = Math.max(MIN_MOVE_STEPS, moveSteps >> 1);
         } else {
             if (log.isTraceEnabled())
                 log.trace(this + " stepping its way to " + newTop);
+            moveSteps = Math.min(MAX_MOVE_STEPS, moveSteps << 1);
         }
         
         if (log.isTraceEnabled()) {
@@ -1,6 +1,9 @@
 package datawave.query.iterator.pipeline;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -14,7 +17,8 @@ import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
 import org.apache.log4j.Logger;
 
 /**
- * A pipeline that can be executed as a runnable
+ * A pipeline that can be executed as a runnable. A pipeline normally evaluates a single document, however additional documents may be added to create a batch
+ * which is evaluated in order by a single run.
  */
 public class Pipeline implements Runnable {
     
@@ -27,6 +31,10 @@ public class Pipeline implements Runnable {
     
     // the result
     private Entry<Key,Document> result = null;
+    // additional documents to evaluate after the source document in the same run
+    private final List<Entry<Key,Document>> batch = new ArrayList<>();
+    // the non-null results of a batched run, in evaluation order
+    private final List<Entry<Key,Document>> batchResults = new ArrayList<>();
     // the pipeline
     private Iterator<Entry<Key,Document>> iterator = null;
     
@@ -49,12 +57,35 @@ public class Pipeline implements Runnable {
         this.documentSpecificSource.setDocumentKey(documentKey);
     }
     
+    /**
+     * Add a document to be evaluated after the source document when this pipeline is run
+     * 
+     * @param documentKey
+     */
+    public void addBatchSource(Map.Entry<Key,Document> documentKey) {
+        this.batch.add(documentKey);
+    }
+    
+    /**
+     * @return the number of documents this pipeline will evaluate when run
+     */
+    public int getBatchSize() {
+        return 1 + batch.size();
+    }
+    
+    /**
+     * Get the document being evaluated. After a run this is the last document in the batch.
+     * 
+     * @return the document key
+     */
     public Map.Entry<Key,Document> getSource() {
         return this.documentSpecificSource.getDocumentKey();
     }
     
     public void clear() {
         this.result = null;
+        this.batch.clear();
+        this.batchResults.clear();
         this.documentSpecificSource.setDocumentKey(null);
     }
     
@@ -62,8 +93,37 @@ public class Pipeline implements Runnable {
         return result;
     }
     
+    /**
+     * @return the non-null results of the last run in the order of the documents evaluated
+     */
+    public List<Entry<Key,Document>> getResults() {
+        if (batch.isEmpty()) {
+            return (result == null ? Collections.emptyList() : Collections.singletonList(result));
+        }
+        return batchResults;
+    }
+    
     @Override
     public void run() {
+        evaluate();
+        
+        if (!batch.isEmpty()) {
+            batchResults.clear();
+            if (result != null) {
+                batchResults.add(result);
+            }
+            for (Entry<Key,Document> documentKey : batch) {
+                this.documentSpecificSource.setDocumentKey(documentKey);
+                evaluate();
+                if (result != null) {
+                    batchResults.add(result);
+                }
+            }
+            result = (batchResults.isEmpty() ? null : batchResults.get(0));
+        }
+    }
+    
+    private void evaluate() {
         if (iterator.hasNext()) {
             result = iterator.next();
         } else {
@@ -1,6 +1,7 @@
 package datawave.query.iterator.pipeline;
 
 import datawave.core.iterators.IteratorThreadPoolManager;
+import datawave.core.iterators.QueryTaskQueue;
 import datawave.query.attributes.Document;
 import datawave.query.iterator.NestedIterator;
 import datawave.query.iterator.NestedQuery;
@@ -9,6 +10,7 @@ import datawave.query.iterator.QueryIterator;
 import datawave.query.iterator.profile.QuerySpan;
 import datawave.query.iterator.profile.QuerySpanCollector;
 import datawave.query.util.Tuple2;
+import com.google.common.collect.Maps;
 import org.apache.accumulo.core.data.ByteSequence;
 import org.apache.accumulo.core.data.Key;
 import org.apache.accumulo.core.data.Value;
@@ -21,6 +23,7 @@ import org.apache.log4j.Logger;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.Queue;
 import java.util.concurrent.ExecutionException;
@@ -31,6 +34,10 @@ import java.util.concurrent.TimeoutException;
 /**
  * This is the iterator that handles the evaluation pipelines. Essentially it will queue up N evaluations. On each hasNext and next call, it will pull the
  * results ready from the top and cache the non-null results in a results queue.
+ * <p>
+ * When a batch size greater than one is set, each queued evaluation pulls up to that many documents from the source and evaluates them in order within a
+ * single task. Batches are completed in the order they were queued, so results are still returned in key order and a yield still happens after the last key
+ * of a completed batch.
  */
 public class PipelineIterator implements Iterator<Entry<Key,Document>> {
     
@@ -49,6 +56,9 @@ public class PipelineIterator implements Iterator<Entry<Key,Document>> {
     protected IteratorEnvironment env;
     protected Collection<ByteSequence> columnFamilies;
     protected boolean inclusive;
+    protected final String queryId;
+    protected final int queryPriority;
+    protected int batchSize = 1;
     
     public PipelineIterator(NestedIterator<Key> documents, int maxPipelines, int maxCachedResults, QuerySpanCollector querySpanCollector, QuerySpan querySpan,
                     QueryIterator sourceIterator, SortedKeyValueIterator<Key,Value> sourceForDeepCopy, IteratorEnvironment env,
@@ -65,12 +75,27 @@ public class PipelineIterator implements Iterator<Entry<Key,Document>> {
         this.yieldThresholdMs = yieldThresholdMs;
         this.columnFamilies = columnFamilies;
         this.inclusive = inclusive;
+        this.queryId = (sourceIterator == null ? null : sourceIterator.getQueryId());
+        this.queryPriority = (sourceIterator == null ? QueryTaskQueue.DEFAULT_PRIORITY : sourceIterator.getQueryPriority());
     }
     
     public void setCollectTimingDetails(boolean collectTimingDetails) {
         this.collectTimingDetails = collectTimingDetails;
     }
     
+    public int getBatchSize() {
+        return batchSize;
+    }
+    
+    /**
+     * Set the number of documents evaluated by each queued evaluation. Batching is not done for nested queries.
+     * 
+     * @param batchSize
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+    }
+    
     /*
      * (non-Javadoc)
      * 
@@ -251,8 +276,12 @@ public class PipelineIterator implements Iterator<Entry<Key,Document>> {
             // call get to ensure that we throw any exception that occurred
             nextFuture.first().get();
             
-            // pull the result
-            result = nextFuture.second().getResult();
+            // pull the results, in evaluation order
+            List<Entry<Key,Document>> batchResults = nextFuture.second().getResults();
+            if (!batchResults.isEmpty()) {
+                result = batchResults.get(0);
+                results.addAll(batchResults);
+            }
             
             if (log.isTraceEnabled()) {
                 Key docKey = nextFuture.second().getSource().getKey();
@@ -285,11 +314,6 @@ public class PipelineIterator implements Iterator<Entry<Key,Document>> {
             }
         }
         
-        // put the result into the queue if non-null
-        if (result != null) {
-            results.add(result);
-        }
-        
         return result;
     }
     
@@ -336,7 +360,15 @@ public class PipelineIterator implements Iterator<Entry<Key,Document>> {
         }
         Pipeline pipeline = pipelines.checkOut(key, document, nestedQuery, columnFamilies, inclusive);
         
-        evaluationQueue.add(new Tuple2<>(IteratorThreadPoolManager.executeEvaluation(pipeline, pipeline.toString(), env), pipeline));
+        // fill out the batch; nested queries are not batched as the nested query may change from one document to the next
+        if (batchSize > 1 && !(docSource instanceof NestedQueryIterator)) {
+            while (pipeline.getBatchSize() < batchSize && docSource.hasNext()) {
+                Key batchKey = docSource.next();
+                pipeline.addBatchSource(Maps.immutableEntry(batchKey, docSource.document()));
+            }
+        }
+        
+        evaluationQueue.add(new Tuple2<>(IteratorThreadPoolManager.executeEvaluation(pipeline, pipeline.toString(), queryId, queryPriority, env), pipeline));
     }
     
     /*
@@ -0,0 +1,420 @@
+package datawave.query.jexl;
+
+import datawave.query.jexl.nodes.ExceededOrThresholdMarkerJexlNode;
+import org.apache.commons.jexl2.JexlArithmetic;
+import org.apache.commons.jexl2.JexlContext;
+import org.apache.commons.jexl2.JexlException;
+import org.apache.commons.jexl2.parser.ASTAndNode;
+import org.apache.commons.jexl2.parser.ASTEQNode;
+import org.apache.commons.jexl2.parser.ASTERNode;
+import org.apache.commons.jexl2.parser.ASTFalseNode;
+import org.apache.commons.jexl2.parser.ASTGENode;
+import org.apache.commons.jexl2.parser.ASTGTNode;
+import org.apache.commons.jexl2.parser.ASTIdentifier;
+import org.apache.commons.jexl2.parser.ASTJexlScript;
+import org.apache.commons.jexl2.parser.ASTLENode;
+import org.apache.commons.jexl2.parser.ASTLTNode;
+import org.apache.commons.jexl2.parser.ASTNENode;
+import org.apache.commons.jexl2.parser.ASTNRNode;
+import org.apache.commons.jexl2.parser.ASTNotNode;
+import org.apache.commons.jexl2.parser.ASTNullLiteral;
+import org.apache.commons.jexl2.parser.ASTNumberLiteral;
+import org.apache.commons.jexl2.parser.ASTOrNode;
+import org.apache.commons.jexl2.parser.ASTReference;
+import org.apache.commons.jexl2.parser.ASTReferenceExpression;
+import org.apache.commons.jexl2.parser.ASTStringLiteral;
+import org.apache.commons.jexl2.parser.ASTTrueNode;
+import org.apache.commons.jexl2.parser.JexlNode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A query script compiled into a tree of evaluators. The boolean structure of the query (and, or, not, and parenthesized expressions) and comparisons of a
+ * field against a literal (==, !=, =~, !~, &lt;, &lt;=, &gt;, &gt;=) are compiled, with the field names and literal values resolved once when compiling.
+ * Everything else (functions, methods, ranges, marker nodes, assignments, ...) is evaluated by the {@link DatawaveInterpreter}, which is only created for a
+ * document if one of those nodes is reached.
+ * 
+ * The compiled evaluators mirror the interpreter: comparisons are made with the same arithmetic, and children are evaluated in the same order with the same
+ * short circuiting, so that a HitListArithmetic collects the same hits. A compiled node evaluates to a Boolean rather than to the collection of hits the
+ * interpreter may return, which is equivalent when determining whether a document matched.
+ */
+public class CompiledJexlScript {
+    
+    private final Evaluator root;
+    private final DatawaveJexlEngine engine;
+    private final int compiledNodes;
+    private final int interpretedNodes;
+    
+    private CompiledJexlScript(Evaluator root, DatawaveJexlEngine engine, int compiledNodes, int interpretedNodes) {
+        this.root = root;
+        this.engine = engine;
+        this.compiledNodes = compiledNodes;
+        this.interpretedNodes = interpretedNodes;
+    }
+    
+    /**
+     * Compile a script
+     * 
+     * @param engine
+     *            the engine whose interpreter and arithmetic the script would be executed with
+     * @param script
+     *            the parsed script
+     * @return the compiled script, or null if no part of the script could be compiled
+     */
+    public static CompiledJexlScript compile(DatawaveJexlEngine engine, ASTJexlScript script) {
+        // a strict engine fails on unknown fields, which the compiled field lookups do not
+        if (engine.isStrict() || script.jjtGetNumChildren() != 1) {
+            return null;
+        }
+        Compiler compiler = new Compiler(engine);
+        Evaluator root = compiler.compile(script.jjtGetChild(0));
+        if (root instanceof Interpreted) {
+            return null;
+        }
+        return new CompiledJexlScript(root, engine, compiler.compiledNodes, compiler.interpretedNodes);
+    }
+    
+    /**
+     * Evaluate the script against a context
+     * 
+     * @param context
+     * @return the result, which may be interpreted with {@link DatawaveInterpreter#isMatched(Object)}
+     */
+    public Object execute(JexlContext context) {
+        return root.evaluate(new Evaluation(engine, context));
+    }
+    
+    public int getCompiledNodes() {
+        return compiledNodes;
+    }
+    
+    public int getInterpretedNodes() {
+        return interpretedNodes;
+    }
+    
+    /**
+     * The state of evaluating the script against one context
+     */
+    private static class Evaluation {
+        final DatawaveJexlEngine engine;
+        final JexlContext context;
+        DatawaveInterpreter interpreter = null;
+        
+        Evaluation(DatawaveJexlEngine engine, JexlContext context) {
+            this.engine = engine;
+            this.context = context;
+        }
+        
+        DatawaveInterpreter getInterpreter() {
+            // one interpreter per evaluation so that its cached node results are shared across the interpreted nodes
+            if (interpreter == null) {
+                interpreter = engine.newInterpreter(context);
+            }
+            return interpreter;
+        }
+    }
+    
+    private abstract static class Evaluator {
+        abstract Object evaluate(Evaluation evaluation);
+    }
+    
+    /**
+     * A node evaluated by the interpreter
+     */
+    private static class Interpreted extends Evaluator {
+        private final JexlNode node;
+        
+        Interpreted(JexlNode node) {
+            this.node = node;
+        }
+        
+        @Override
+        Object evaluate(Evaluation evaluation) {
+            return evaluation.getInterpreter().interpret(node);
+        }
+    }
+    
+    private static class And extends Evaluator {
+        private final JexlArithmetic arithmetic;
+        private final Evaluator left;
+        private final Evaluator right;
+        
+        And(JexlArithmetic arithmetic, Evaluator left, Evaluator right) {
+            this.arithmetic = arithmetic;
+            this.left = left;
+            this.right = right;
+        }
+        
+        @Override
+        Object evaluate(Evaluation evaluation) {
+            // as with the interpreter, only a non collection result short circuits the evaluation
+            Object leftValue = left.evaluate(evaluation);
+            if (!isCollection(leftValue) && !arithmetic.toBoolean(leftValue)) {
+                return Boolean.FALSE;
+            }
+            Object rightValue = right.evaluate(evaluation);
+            if (!isCollection(rightValue) && !arithmetic.toBoolean(rightValue)) {
+                return Boolean.FALSE;
+            }
+            return toBoolean(arithmetic, leftValue) && toBoolean(arithmetic, rightValue);
+        }
+    }
+    
+    private static class Or extends Evaluator {
+        private final JexlArithmetic arithmetic;
+        private final Evaluator[] children;
+        
+        Or(JexlArithmetic arithmetic, Evaluator[] children) {
+            this.arithmetic = arithmetic;
+            this.children = children;
+        }
+        
+        @Override
+        Object evaluate(Evaluation evaluation) {
+            for (Evaluator child : children) {
+                if (toBoolean(arithmetic, child.evaluate(evaluation))) {
+                    return Boolean.TRUE;
+                }
+            }
+            return Boolean.FALSE;
+        }
+    }
+    
+    private static class Not extends Evaluator {
+        private final JexlArithmetic arithmetic;
+        private final Evaluator child;
+        
+        Not(JexlArithmetic arithmetic, Evaluator child) {
+            this.arithmetic = arithmetic;
+            this.child = child;
+        }
+        
+        @Override
+        Object evaluate(Evaluation evaluation) {
+            return arithmetic.toBoolean(child.evaluate(evaluation)) ? Boolean.FALSE : Boolean.TRUE;
+        }
+    }
+    
+    private enum Operator {
+        EQ("=="), NE("!="), ER("=~"), NR("!~"), LT("<"), LE("<="), GT(">"), GE(">=");
+        
+        private final String symbol;
+        
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+    }
+    
+    /**
+     * An operand which is either a field looked up in the context or a literal
+     */
+    private static class Operand {
+        private final String field;
+        private final Object literal;
+        
+        Operand(String field, Object literal) {
+            this.field = field;
+            this.literal = literal;
+        }
+        
+        Object get(JexlContext context) {
+            return (field != null ? context.get(field) : literal);
+        }
+    }
+    
+    /**
+     * A comparison between a field and a literal
+     */
+    private static class Comparison extends Evaluator {
+        private final JexlNode node;
+        private final JexlArithmetic arithmetic;
+        private final Operator operator;
+        private final Operand left;
+        private final Operand right;
+        
+        Comparison(JexlNode node, JexlArithmetic arithmetic, Operator operator, Operand left, Operand right) {
+            this.node = node;
+            this.arithmetic = arithmetic;
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+        
+        @Override
+        Object evaluate(Evaluation evaluation) {
+            Object leftValue = left.get(evaluation.context);
+            Object rightValue = right.get(evaluation.context);
+            try {
+                switch (operator) {
+                    case EQ:
+                        return arithmetic.equals(leftValue, rightValue);
+                    case NE:
+                        return !arithmetic.equals(leftValue, rightValue);
+                    case ER:
+                        return arithmetic.matches(leftValue, rightValue);
+                    case NR:
+                        return !arithmetic.matches(leftValue, rightValue);
+                    case LT:
+                        return arithmetic.lessThan(leftValue, rightValue);
+                    case LE:
+                        return arithmetic.lessThanOrEqual(leftValue, rightValue);
+                    case GT:
+                        return arithmetic.greaterThan(leftValue, rightValue);
+                    case GE:
+                        return arithmetic.greaterThanOrEqual(leftValue, rightValue);
+                    default:
+                        throw new IllegalStateException("Unexpected operator " + operator);
+                }
+            } catch (ArithmeticException e) {
+                throw new JexlException(node, operator.symbol + " error", e);
+            }
+        }
+    }
+    
+    private static boolean isCollection(Object value) {
+        // the interpreter treats a null result as an empty collection
+        return value == null || value instanceof Collection;
+    }
+    
+    private static boolean toBoolean(JexlArithmetic arithmetic, Object value) {
+        if (value == null) {
+            return false;
+        } else if (value instanceof Collection) {
+            return !((Collection<?>) value).isEmpty();
+        }
+        return arithmetic.toBoolean(value);
+    }
+    
+    private static class Compiler {
+        private final DatawaveInterpreter interpreter;
+        private final JexlArithmetic arithmetic;
+        private int compiledNodes = 0;
+        private int interpretedNodes = 0;
+        
+        Compiler(DatawaveJexlEngine engine) {
+            // used to evaluate literals
+            this.interpreter = engine.newInterpreter(new DatawaveJexlContext());
+            this.arithmetic = interpreter.getArithmetic();
+        }
+        
+        Evaluator compile(JexlNode node) {
+            Evaluator evaluator = compileNode(node);
+            if (evaluator == null) {
+                interpretedNodes++;
+                return new Interpreted(node);
+            }
+            compiledNodes++;
+            return evaluator;
+        }
+        
+        private Evaluator compileNode(JexlNode node) {
+            if (node instanceof ASTReference || node instanceof ASTReferenceExpression) {
+                if (node.jjtGetNumChildren() != 1 || ExceededOrThresholdMarkerJexlNode.instanceOf(node) || node.jjtGetChild(0) instanceof ASTIdentifier) {
+                    return null;
+                }
+                return compileNode(node.jjtGetChild(0));
+            } else if (node instanceof ASTAndNode) {
+                if (node.jjtGetNumChildren() != 2 || ExceededOrThresholdMarkerJexlNode.instanceOf(node) || isRange(node)) {
+                    return null;
+                }
+                return new And(arithmetic, compile(node.jjtGetChild(0)), compile(node.jjtGetChild(1)));
+            } else if (node instanceof ASTOrNode) {
+                return compileOr((ASTOrNode) node);
+            } else if (node instanceof ASTNotNode) {
+                return new Not(arithmetic, compile(node.jjtGetChild(0)));
+            } else if (node instanceof ASTEQNode) {
+                return compileComparison(node, Operator.EQ);
+            } else if (node instanceof ASTNENode) {
+                return compileComparison(node, Operator.NE);
+            } else if (node instanceof ASTERNode) {
+                return compileComparison(node, Operator.ER);
+            } else if (node instanceof ASTNRNode) {
+                return compileComparison(node, Operator.NR);
+            } else if (node instanceof ASTLTNode) {
+                return compileComparison(node, Operator.LT);
+            } else if (node instanceof ASTLENode) {
+                return compileComparison(node, Operator.LE);
+            } else if (node instanceof ASTGTNode) {
+                return compileComparison(node, Operator.GT);
+            } else if (node instanceof ASTGENode) {
+                return compileComparison(node, Operator.GE);
+            }
+            return null;
+        }
+        
+        /**
+         * Flatten nested or nodes, and order the children as the interpreter evaluates them (last to first)
+         */
+        private Evaluator compileOr(ASTOrNode node) {
+            Deque<JexlNode> children = new ArrayDeque<>();
+            Deque<JexlNode> stack = new ArrayDeque<>();
+            stack.push(node);
+            while (!stack.isEmpty()) {
+                JexlNode currNode = stack.pop();
+                if (currNode instanceof ASTOrNode) {
+                    for (int i = currNode.jjtGetNumChildren() - 1; i >= 0; i--) {
+                        stack.push(JexlASTHelper.dereference(currNode.jjtGetChild(i)));
+                    }
+                } else {
+                    children.push(currNode);
+                }
+            }
+            
+            List<Evaluator> evaluators = new ArrayList<>(children.size());
+            while (!children.isEmpty()) {
+                evaluators.add(compile(children.pop()));
+            }
+            return new Or(arithmetic, evaluators.toArray(new Evaluator[evaluators.size()]));
+        }
+        
+        /**
+         * The interpreter evaluates a bounded range on a single field as a whole
+         */
+        private boolean isRange(JexlNode node) {
+            JexlNode left = node.jjtGetChild(0);
+            JexlNode right = node.jjtGetChild(1);
+            if (left instanceof ASTLENode || left instanceof ASTLTNode) {
+                JexlNode temp = left;
+                left = right;
+                right = temp;
+            }
+            if ((left instanceof ASTGENode || left instanceof ASTGTNode) && (right instanceof ASTLENode || right instanceof ASTLTNode)) {
+                JexlNode leftIdentifier = JexlASTHelper.dereference(left.jjtGetChild(0));
+                JexlNode rightIdentifier = JexlASTHelper.dereference(right.jjtGetChild(0));
+                return leftIdentifier instanceof ASTIdentifier && rightIdentifier instanceof ASTIdentifier
+                                && leftIdentifier.image.equals(rightIdentifier.image);
+            }
+            return false;
+        }
+        
+        private Evaluator compileComparison(JexlNode node, Operator operator) {
+            if (node.jjtGetNumChildren() != 2) {
+                return null;
+            }
+            Operand left = compileOperand(node.jjtGetChild(0));
+            Operand right = compileOperand(node.jjtGetChild(1));
+            if (left == null || right == null || (left.field == null) == (right.field == null)) {
+                return null;
+            }
+            // the interpreter only matches a regex against a string or pattern on the right
+            if ((operator == Operator.ER || operator == Operator.NR) && !(right.literal instanceof String)) {
+                return null;
+            }
+            return new Comparison(node, arithmetic, operator, left, right);
+        }
+        
+        private Operand compileOperand(JexlNode node) {
+            if (node instanceof ASTReference && node.jjtGetNumChildren() == 1 && node.jjtGetChild(0) instanceof ASTIdentifier) {
+                return new Operand(node.jjtGetChild(0).image, null);
+            } else if (node instanceof ASTStringLiteral || node instanceof ASTNumberLiteral || node instanceof ASTTrueNode || node instanceof ASTFalseNode
+                            || node instanceof ASTNullLiteral) {
+                return new Operand(null, interpreter.interpret(node));
+            }
+            return null;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import datawave.query.jexl.nodes.ExceededOrThresholdMarkerJexlNode;
 import datawave.query.jexl.visitors.JexlStringBuildingVisitor;
 import org.apache.accumulo.core.data.Range;
 import org.apache.commons.jexl2.Interpreter;
+import org.apache.commons.jexl2.JexlArithmetic;
 import org.apache.commons.jexl2.JexlContext;
 import org.apache.commons.jexl2.JexlEngine;
 import org.apache.commons.jexl2.JexlException;
@@ -57,6 +58,10 @@ public class DatawaveInterpreter extends Interpreter {
         resultMap = Maps.newHashMap();
     }
     
+    public JexlArithmetic getArithmetic() {
+        return arithmetic;
+    }
+    
     /**
      * This convenience method can be used to interpret the result of the script.execute() result which calls the interpret method below.
      * 
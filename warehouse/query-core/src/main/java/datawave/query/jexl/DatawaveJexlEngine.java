@@ -6,6 +6,7 @@ import org.apache.commons.jexl2.Interpreter;
 import org.apache.commons.jexl2.JexlArithmetic;
 import org.apache.commons.jexl2.JexlContext;
 import org.apache.commons.jexl2.JexlEngine;
+import org.apache.commons.jexl2.Script;
 import org.apache.commons.jexl2.introspection.Uberspect;
 import org.apache.commons.jexl2.parser.ASTJexlScript;
 import org.apache.commons.logging.Log;
@@ -34,6 +35,30 @@ public class DatawaveJexlEngine extends JexlEngine {
         return new DatawaveInterpreter(this, context, strictFlag, silentFlag);
     }
     
+    /**
+     * Create an interpreter to evaluate nodes of a parsed script directly
+     * 
+     * @param context
+     * @return the interpreter
+     */
+    public DatawaveInterpreter newInterpreter(JexlContext context) {
+        return (DatawaveInterpreter) createInterpreter(context, isStrict(), isSilent());
+    }
+    
+    /**
+     * Create a script from an already parsed tree
+     * 
+     * @param tree
+     *            the tree parsed by this engine, which will be shared by the script
+     * @param text
+     *            the script text
+     * @return the script
+     */
+    @Override
+    public Script createScript(ASTJexlScript tree, String text) {
+        return super.createScript(tree, text);
+    }
+    
     public ASTJexlScript parse(CharSequence expression) {
         return super.parse(expression, null, null);
     }
@@ -0,0 +1,110 @@
+package datawave.query.jexl.lookups;
+
+import org.apache.log4j.Logger;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The threads shared by the index lookups of all queries on the web server that enable shared index expansion, so that each query does not create and tear
+ * down its own threads.
+ * <ul>
+ * <li>The expansion pool runs the lookups of a query expansion, and is bounded so that concurrent queries with many regexes queue for threads rather than
+ * each starting their own</li>
+ * <li>The scan pool runs the timed scans of the lookups. It is not bounded as the expansion threads block on these scans, but its idle threads are reused
+ * across lookups</li>
+ * </ul>
+ */
+public class IndexExpansionService {
+    private static final Logger log = Logger.getLogger(IndexExpansionService.class);
+    
+    public static final int DEFAULT_THREADS = 20;
+    
+    private static final ThreadPoolExecutor expansionExecutor = new ThreadPoolExecutor(DEFAULT_THREADS, DEFAULT_THREADS, 1, TimeUnit.MINUTES,
+                    new LinkedBlockingQueue<>(), new DaemonThreadFactory("Datawave Index Expansion"));
+    
+    private static final ThreadPoolExecutor scanExecutor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 1, TimeUnit.MINUTES, new SynchronousQueue<>(),
+                    new DaemonThreadFactory("Datawave Index Lookup Scan"));
+    
+    static {
+        expansionExecutor.allowCoreThreadTimeOut(true);
+    }
+    
+    private static class DaemonThreadFactory implements ThreadFactory {
+        private final ThreadFactory dtf = Executors.defaultThreadFactory();
+        private final AtomicInteger threadNum = new AtomicInteger(1);
+        private final String name;
+        
+        DaemonThreadFactory(String name) {
+            this.name = name;
+        }
+        
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = dtf.newThread(r);
+            thread.setName(name + " -" + threadNum.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+    
+    /**
+     * Set the number of threads shared by the expansions of all queries
+     * 
+     * @param threads
+     */
+    public static synchronized void setThreads(int threads) {
+        if (threads <= 0) {
+            log.error("Bad value: (" + threads + ") for threads");
+            return;
+        }
+        if (threads == expansionExecutor.getMaximumPoolSize()) {
+            return;
+        }
+        // keep core <= max at each step
+        if (threads > expansionExecutor.getMaximumPoolSize()) {
+            expansionExecutor.setMaximumPoolSize(threads);
+            expansionExecutor.setCorePoolSize(threads);
+        } else {
+            expansionExecutor.setCorePoolSize(threads);
+            expansionExecutor.setMaximumPoolSize(threads);
+        }
+    }
+    
+    public static int getThreads() {
+        return expansionExecutor.getMaximumPoolSize();
+    }
+    
+    /**
+     * @return the executor shared by the expansions of all queries, which must not be shut down
+     */
+    public static ExecutorService getExpansionExecutor() {
+        return expansionExecutor;
+    }
+    
+    /**
+     * Run the scan of a lookup on the shared threads
+     * 
+     * @param scan
+     * @return the future of the scan, which the caller cancels to interrupt the scan
+     */
+    public static <T> Future<T> submitScan(Callable<T> scan) {
+        return scanExecutor.submit(scan);
+    }
+    
+    public static int getActiveExpansions() {
+        return expansionExecutor.getActiveCount();
+    }
+    
+    public static int getQueuedExpansions() {
+        return expansionExecutor.getQueue().size();
+    }
+}
@@ -50,9 +50,16 @@ public abstract class IndexLookup {
         
         long maxLookup = timeout;
         
-        ExecutorService execService = Executors.newFixedThreadPool(1);
+        Callable<Boolean> scan = createTimedCallable(iter, fieldsToValues, config, unfieldedLookup, fields, isReverse, timeout);
         
-        Future<Boolean> future = execService.submit(createTimedCallable(iter, fieldsToValues, config, unfieldedLookup, fields, isReverse, timeout));
+        ExecutorService execService = null;
+        Future<Boolean> future;
+        if (config.isSharedIndexExpansion()) {
+            future = IndexExpansionService.submitScan(scan);
+        } else {
+            execService = Executors.newFixedThreadPool(1);
+            future = execService.submit(scan);
+        }
         
         boolean result = false;
         try {
@@ -72,7 +79,7 @@ public abstract class IndexLookup {
              * timeout exception and except ( a max lookup specified ) 3) we receive a value under timeout and we break
              * 
              */
-            while (!execService.isShutdown() && !execService.isTerminated()) {
+            while (true) {
                 try {
                     result = future.get(maxLookup, TimeUnit.MILLISECONDS);
                 } catch (TimeoutException e) {
@@ -106,7 +113,11 @@ public abstract class IndexLookup {
                 fieldsToValues.setKeyThresholdExceeded();
             
         } finally {
-            execService.shutdownNow();
+            // interrupts the scan if still running
+            future.cancel(true);
+            if (execService != null) {
+                execService.shutdownNow();
+            }
         }
         
         return result;
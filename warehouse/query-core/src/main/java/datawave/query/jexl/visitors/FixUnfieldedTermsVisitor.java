@@ -147,7 +147,7 @@ public class FixUnfieldedTermsVisitor extends ParallelIndexExpansion {
         } finally {
             log.debug("Shutting down executor");
             // no need for this anymore.
-            if (executor != null) {
+            if (executor != null && !sharedExecutor) {
                 executor.shutdownNow();
             }
         }
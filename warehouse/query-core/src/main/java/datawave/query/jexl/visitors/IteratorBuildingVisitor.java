@@ -9,6 +9,7 @@ import datawave.core.iterators.DatawaveFieldIndexListIteratorJexl;
 import datawave.core.iterators.filesystem.FileSystemCache;
 import datawave.query.iterator.ivarator.IvaratorCacheDir;
 import datawave.query.iterator.ivarator.IvaratorCacheDirConfig;
+import datawave.query.iterator.ivarator.IvaratorSharedCache;
 import datawave.core.iterators.querylock.QueryLock;
 import datawave.query.Constants;
 import datawave.query.attributes.ValueTuple;
@@ -151,6 +152,8 @@ public class IteratorBuildingVisitor extends BaseVisitor {
     protected SortedKeyValueIterator<Key,Value> unsortedIvaratorSource = null;
     protected int ivaratorCount = 0;
     protected GenericObjectPool<SortedKeyValueIterator<Key,Value>> ivaratorSourcePool = null;
+    protected int queryPriority = 1;
+    protected IvaratorSharedCache ivaratorSharedCache = null;
     
     protected TypeMetadata typeMetadata;
     protected EventDataQueryFilter attrFilter;
@@ -1394,8 +1397,13 @@ public class IteratorBuildingVisitor extends BaseVisitor {
         builder.setQuerySpanCollector(querySpanCollector);
         builder.setSortedUIDs(sortedUIDs);
         builder.setIvaratorSourcePool(ivaratorSourcePool);
+        builder.setQueryPriority(queryPriority);
         builder.setEnv(env);
         builder.setNode(rootNode);
+        if (ivaratorSharedCache != null) {
+            builder.setIvaratorSharedCache(ivaratorSharedCache);
+            builder.setIvaratorSharedCacheKey(ivaratorSharedCache.getCacheKey(JexlStringBuildingVisitor.buildQueryWithoutParse(rootNode, true)));
+        }
         
         // We have no parent already defined
         if (data == null) {
@@ -1630,6 +1638,11 @@ public class IteratorBuildingVisitor extends BaseVisitor {
         return this;
     }
     
+    public IteratorBuildingVisitor setIvaratorSharedCache(IvaratorSharedCache ivaratorSharedCache) {
+        this.ivaratorSharedCache = ivaratorSharedCache;
+        return this;
+    }
+    
     public IteratorBuildingVisitor setUnsortedIvaratorSource(SortedKeyValueIterator<Key,Value> unsortedIvaratorSource) {
         this.unsortedIvaratorSource = unsortedIvaratorSource;
         return this;
@@ -1640,6 +1653,11 @@ public class IteratorBuildingVisitor extends BaseVisitor {
         return this;
     }
     
+    public IteratorBuildingVisitor setQueryPriority(int queryPriority) {
+        this.queryPriority = queryPriority;
+        return this;
+    }
+    
     public IteratorBuildingVisitor setIncludes(Collection<String> includes) {
         this.includeReferences = Sets.newHashSet(includes);
         this.includeReferences.add(Constants.ANY_FIELD);
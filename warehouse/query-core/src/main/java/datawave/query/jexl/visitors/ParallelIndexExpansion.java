@@ -13,6 +13,7 @@ import datawave.query.exceptions.EmptyUnfieldedTermExpansionException;
 import datawave.query.jexl.JexlASTHelper;
 import datawave.query.jexl.JexlNodeFactory;
 import datawave.query.jexl.JexlNodeFactory.ContainerType;
+import datawave.query.jexl.lookups.IndexExpansionService;
 import datawave.query.jexl.lookups.IndexLookup;
 import datawave.query.jexl.lookups.IndexLookupMap;
 import datawave.query.jexl.lookups.ShardIndexQueryTableStaticMethods;
@@ -84,6 +85,8 @@ public class ParallelIndexExpansion extends RebuildingVisitor {
     protected Node newChild;
     protected Map<String,IndexLookup> lookupMap = Maps.newConcurrentMap();
     protected String threadName;
+    protected boolean sharedExecutor = false;
+    protected Map<String,Long> lookupTimes = Maps.newConcurrentMap();
     private static final Logger log = Logger.getLogger(ParallelIndexExpansion.class);
     
     public ParallelIndexExpansion(ShardQueryConfiguration config, ScannerFactory scannerFactory, MetadataHelper helper, Set<String> expansionFields,
@@ -154,8 +157,22 @@ public class ParallelIndexExpansion extends RebuildingVisitor {
     }
     
     protected void setupThreadResources() {
-        int threads = this.config.getNumIndexLookupThreads().intValue();
-        executor = Executors.newFixedThreadPool((int) Math.max(threads, 10), new ParallelExpansionFactory(this.config.getQuery(), this.threadName));
+        if (config.isSharedIndexExpansion()) {
+            // the lookups of all queries share a bounded set of threads
+            IndexExpansionService.setThreads(config.getIndexExpansionThreads());
+            executor = IndexExpansionService.getExpansionExecutor();
+            sharedExecutor = true;
+        } else {
+            int threads = this.config.getNumIndexLookupThreads().intValue();
+            executor = Executors.newFixedThreadPool((int) Math.max(threads, 10), new ParallelExpansionFactory(this.config.getQuery(), this.threadName));
+        }
+    }
+    
+    /**
+     * @return the total time in milliseconds taken by the index lookups of this expansion, by the lookup node
+     */
+    public Map<String,Long> getLookupTimes() {
+        return lookupTimes;
     }
     
     @Override
@@ -200,7 +217,9 @@ public class ParallelIndexExpansion extends RebuildingVisitor {
         } finally {
             
             // no need for this anymore.
-            executor.shutdown();
+            if (!sharedExecutor) {
+                executor.shutdown();
+            }
         }
         
         LookupRemark remark = new LookupRemark();
@@ -707,6 +726,11 @@ public class ParallelIndexExpansion extends RebuildingVisitor {
             todo.clear();
         }
         
+        if (log.isDebugEnabled()) {
+            for (Map.Entry<String,Long> lookupTime : lookupTimes.entrySet()) {
+                log.debug("Index lookup for " + lookupTime.getKey() + " took " + lookupTime.getValue() + " ms");
+            }
+        }
     }
     
     protected class IndexLookupCallable implements Callable<JexlNode> {
@@ -744,6 +768,8 @@ public class ParallelIndexExpansion extends RebuildingVisitor {
         public JexlNode call() throws Exception {
             
             IndexLookupMap fieldsToValues = null;
+            String lookupString = JexlStringBuildingVisitor.buildQuery(node);
+            long start = System.currentTimeMillis();
             try {
                 long timeout = -1;
                 if (enforceTimeout)
@@ -752,6 +778,9 @@ public class ParallelIndexExpansion extends RebuildingVisitor {
             } catch (Exception e) {
                 log.error(e);
                 throw e;
+            } finally {
+                // the same node may appear more than once in the query, so accumulate rather than overwrite
+                lookupTimes.merge(lookupString, System.currentTimeMillis() - start, Long::sum);
             }
             newNode = null;
             
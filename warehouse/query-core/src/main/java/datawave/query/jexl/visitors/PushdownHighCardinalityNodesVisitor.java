@@ -0,0 +1,258 @@
+package datawave.query.jexl.visitors;
+
+import datawave.data.MetadataCardinalityCounts;
+import datawave.query.config.ShardQueryConfiguration;
+import datawave.query.jexl.JexlASTHelper;
+import datawave.query.jexl.nodes.ExceededOrThresholdMarkerJexlNode;
+import datawave.query.jexl.nodes.ExceededTermThresholdMarkerJexlNode;
+import datawave.query.jexl.nodes.ExceededValueThresholdMarkerJexlNode;
+import datawave.query.jexl.nodes.QueryPropertyMarker;
+import datawave.query.util.MetadataHelper;
+import org.apache.commons.jexl2.parser.ASTAndNode;
+import org.apache.commons.jexl2.parser.ASTDelayedPredicate;
+import org.apache.commons.jexl2.parser.ASTEQNode;
+import org.apache.commons.jexl2.parser.ASTIdentifier;
+import org.apache.commons.jexl2.parser.ASTJexlScript;
+import org.apache.commons.jexl2.parser.ASTOrNode;
+import org.apache.commons.jexl2.parser.ASTReference;
+import org.apache.commons.jexl2.parser.ASTReferenceExpression;
+import org.apache.commons.jexl2.parser.JexlNode;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Visitor meant to 'push down' the terms of a conjunct whose estimated cardinality is far greater than that of the least cardinal term. Such a term would
+ * return many more field index keys than could possibly match, so it is cheaper to evaluate it against the documents found by the other terms.
+ * 
+ * The cardinality of each subtree is estimated from the metadata table: an equality uses the term count for the field and value, a term exceeding a threshold
+ * (an ivarator) uses the count of the field across the days of the query, a conjunction uses the least cardinal of its children, and a disjunction uses the
+ * sum of its children. Anything which can not be looked up in the index (negations, functions, delayed predicates, and unindexed fields) is unbounded.
+ */
+public class PushdownHighCardinalityNodesVisitor extends BaseVisitor {
+    
+    private static final Logger log = Logger.getLogger(PushdownHighCardinalityNodesVisitor.class);
+    
+    public static final double UNBOUNDED = Double.POSITIVE_INFINITY;
+    
+    protected ShardQueryConfiguration config;
+    protected MetadataHelper helper;
+    protected Set<String> indexedFields;
+    protected Set<String> indexOnlyFields;
+    
+    private Map<String,Map<String,MetadataCardinalityCounts>> termCounts = null;
+    private final Map<String,Double> fieldCardinalities = new HashMap<>();
+    
+    public PushdownHighCardinalityNodesVisitor(ShardQueryConfiguration config, MetadataHelper helper, Set<String> indexedFields, Set<String> indexOnlyFields) {
+        this.config = config;
+        this.helper = helper;
+        this.indexedFields = indexedFields;
+        this.indexOnlyFields = indexOnlyFields;
+    }
+    
+    /**
+     * Delay the high cardinality terms of each conjunct, and set the estimated cardinality of the resulting query on the configuration
+     * 
+     * @param queryTree
+     * @param config
+     * @param helper
+     * @param indexedFields
+     * @param indexOnlyFields
+     * @return the query tree
+     */
+    public static <T extends JexlNode> T pushdownHighCardinalityTerms(T queryTree, ShardQueryConfiguration config, MetadataHelper helper,
+                    Set<String> indexedFields, Set<String> indexOnlyFields) {
+        PushdownHighCardinalityNodesVisitor visitor = new PushdownHighCardinalityNodesVisitor(config, helper, indexedFields, indexOnlyFields);
+        queryTree.jjtAccept(visitor, null);
+        config.setEstimatedCardinality(visitor.estimate(queryTree));
+        return queryTree;
+    }
+    
+    @Override
+    public Object visit(ASTReferenceExpression node, Object data) {
+        // if not already delayed somehow
+        if (!QueryPropertyMarker.instanceOf(node, null)) {
+            return super.visit(node, data);
+        }
+        return data;
+    }
+    
+    @Override
+    public Object visit(ASTReference node, Object data) {
+        // if not already delayed somehow
+        if (!QueryPropertyMarker.instanceOf(node, null)) {
+            return super.visit(node, data);
+        }
+        return data;
+    }
+    
+    @Override
+    public Object visit(ASTAndNode node, Object data) {
+        if (QueryPropertyMarker.instanceOf(node, null)) {
+            return data;
+        }
+        
+        double[] estimates = new double[node.jjtGetNumChildren()];
+        double least = UNBOUNDED;
+        int leastIndex = -1;
+        for (int i = 0; i < estimates.length; i++) {
+            estimates[i] = estimate(node.jjtGetChild(i));
+            if (estimates[i] < least) {
+                least = estimates[i];
+                leastIndex = i;
+            }
+        }
+        
+        List<JexlNode> delayed = new ArrayList<>();
+        List<JexlNode> remaining = new ArrayList<>();
+        for (int i = 0; i < estimates.length; i++) {
+            JexlNode child = node.jjtGetChild(i);
+            if (i != leastIndex && isDelayable(child, estimates[i], least)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Delaying " + JexlStringBuildingVisitor.buildQuery(child) + " with an estimated cardinality of " + estimates[i] + " against "
+                                    + least);
+                }
+                delayed.add(child);
+            } else {
+                remaining.add(child);
+            }
+        }
+        
+        // the delayed predicates replace the children of this node, so create them once done iterating
+        for (JexlNode child : delayed) {
+            ASTDelayedPredicate.create(child);
+        }
+        
+        for (JexlNode child : remaining) {
+            child.jjtAccept(this, data);
+        }
+        return data;
+    }
+    
+    /**
+     * Estimate the number of documents a subtree will find in the index
+     * 
+     * @param node
+     * @return the estimate, or {@link #UNBOUNDED} if the subtree can not be looked up in the index
+     */
+    public double estimate(JexlNode node) {
+        if (QueryPropertyMarker.instanceOf(node, null)) {
+            if (ExceededOrThresholdMarkerJexlNode.instanceOf(node)) {
+                JexlNode source = ExceededOrThresholdMarkerJexlNode.getExceededOrThresholdSource(node);
+                Object field = JexlASTHelper.getAssignments(source).get(ExceededOrThresholdMarkerJexlNode.EXCEEDED_OR_FIELD);
+                return (field == null ? UNBOUNDED : getFieldCardinality(String.valueOf(field)));
+            } else if (ExceededValueThresholdMarkerJexlNode.instanceOf(node)) {
+                return getFieldCardinality(ExceededValueThresholdMarkerJexlNode.getExceededValueThresholdSource(node));
+            } else if (ExceededTermThresholdMarkerJexlNode.instanceOf(node)) {
+                return getFieldCardinality(ExceededTermThresholdMarkerJexlNode.getExceededTermThresholdSource(node));
+            }
+            return UNBOUNDED;
+        } else if (node instanceof ASTJexlScript || node instanceof ASTReference || node instanceof ASTReferenceExpression) {
+            return (node.jjtGetNumChildren() == 1 ? estimate(node.jjtGetChild(0)) : UNBOUNDED);
+        } else if (node instanceof ASTAndNode) {
+            double least = UNBOUNDED;
+            for (int i = 0; i < node.jjtGetNumChildren(); i++) {
+                least = Math.min(least, estimate(node.jjtGetChild(i)));
+            }
+            return least;
+        } else if (node instanceof ASTOrNode) {
+            double sum = 0;
+            for (int i = 0; i < node.jjtGetNumChildren(); i++) {
+                sum += estimate(node.jjtGetChild(i));
+            }
+            return sum;
+        } else if (node instanceof ASTEQNode) {
+            return getTermCardinality(node);
+        }
+        return UNBOUNDED;
+    }
+    
+    protected double getTermCardinality(JexlNode node) {
+        try {
+            String field = JexlASTHelper.deconstructIdentifier(JexlASTHelper.getIdentifier(node));
+            Object literal = JexlASTHelper.getLiteralValue(node);
+            if (literal == null || !indexedFields.contains(field)) {
+                return UNBOUNDED;
+            }
+            
+            if (termCounts == null) {
+                // We can get the term counts with root auths (ignoring user auths) because this information is not
+                // exposed to the user. It is only used to adjust the query planning.
+                termCounts = helper.getTermCountsWithRootAuths();
+            }
+            Map<String,MetadataCardinalityCounts> valueCounts = termCounts.get(field);
+            if (valueCounts != null) {
+                MetadataCardinalityCounts counts = valueCounts.get(String.valueOf(literal));
+                if (counts != null) {
+                    return counts.getFieldValueCount();
+                }
+            }
+            
+            // without a count for the term, the count for the field is an upper bound
+            return getFieldCardinality(field);
+        } catch (NoSuchElementException e) {
+            log.warn("No identifier or literal found for expression", e);
+        } catch (Exception e) {
+            log.error("Could not retrieve counts from metadata helper", e);
+        }
+        return UNBOUNDED;
+    }
+    
+    protected double getFieldCardinality(JexlNode source) {
+        Set<String> fields = new HashSet<>();
+        for (ASTIdentifier identifier : JexlASTHelper.getIdentifiers(source)) {
+            fields.add(JexlASTHelper.deconstructIdentifier(identifier.image));
+        }
+        return (fields.size() == 1 ? getFieldCardinality(fields.iterator().next()) : UNBOUNDED);
+    }
+    
+    protected double getFieldCardinality(String field) {
+        if (!indexedFields.contains(field)) {
+            return UNBOUNDED;
+        }
+        
+        Double cardinality = fieldCardinalities.get(field);
+        if (cardinality == null) {
+            try {
+                Long count = helper.getCountsByFieldForDays(field, config.getBeginDate(), config.getEndDate(), config.getDatatypeFilter());
+                cardinality = (count == null ? UNBOUNDED : count.doubleValue());
+            } catch (Exception e) {
+                log.error("Could not retrieve counts for " + field + " from metadata helper", e);
+                cardinality = UNBOUNDED;
+            }
+            fieldCardinalities.put(field, cardinality);
+        }
+        return cardinality;
+    }
+    
+    /**
+     * Determine whether a child of a conjunct may be delayed against the least cardinal child. Index only fields can not be evaluated against a document, and
+     * ivarator markers must remain in the index query so that the ivarators run, otherwise their evaluation would fail to match any document.
+     * 
+     * @param child
+     * @param estimate
+     *            the estimated cardinality of the child
+     * @param least
+     *            the estimated cardinality of the least cardinal child
+     * @return true if the child may be delayed
+     */
+    private boolean isDelayable(JexlNode child, double estimate, double least) {
+        return least != UNBOUNDED && estimate != UNBOUNDED && estimate > least * config.getMaxCardinalityRatio() && !hasIndexOnlyField(child)
+                        && !IvaratorRequiredVisitor.isIvaratorRequired(child);
+    }
+    
+    private boolean hasIndexOnlyField(JexlNode node) {
+        for (ASTIdentifier identifier : JexlASTHelper.getIdentifiers(node)) {
+            if (indexOnlyFields.contains(JexlASTHelper.deconstructIdentifier(identifier.image))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -32,6 +32,7 @@ import org.apache.log4j.Logger;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Set;
+import java.util.Objects;
 
 /**
  * A visitor that checks the query tree to determine if the query can be satisfied by only looking in the field index. The result of this is passed to the
@@ -58,6 +59,50 @@ public class SatisfactionVisitor extends BaseVisitor {
         this.excludeReferences = excludes;
     }
     
+    /**
+     * Get the configuration which determines whether a query is satisfied, which is only valid before this visitor is used
+     * 
+     * @return the configuration
+     */
+    public Configuration getConfiguration() {
+        return new Configuration(nonEventFields, includeReferences, excludeReferences, isQueryFullySatisfied);
+    }
+    
+    /**
+     * The configuration which determines whether a query is satisfied, for caching the satisfaction of a query by its configuration
+     */
+    public static class Configuration {
+        private final Set<String> nonEventFields;
+        private final Collection<String> includeReferences;
+        private final Collection<String> excludeReferences;
+        private final boolean isQueryFullySatisfied;
+        
+        public Configuration(Set<String> nonEventFields, Collection<String> includes, Collection<String> excludes, boolean isQueryFullySatisfied) {
+            this.nonEventFields = nonEventFields;
+            this.includeReferences = includes;
+            this.excludeReferences = excludes;
+            this.isQueryFullySatisfied = isQueryFullySatisfied;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Configuration that = (Configuration) o;
+            return isQueryFullySatisfied == that.isQueryFullySatisfied && Objects.equals(nonEventFields, that.nonEventFields)
+                            && Objects.equals(includeReferences, that.includeReferences) && Objects.equals(excludeReferences, that.excludeReferences);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(nonEventFields, includeReferences, excludeReferences, isQueryFullySatisfied);
+        }
+    }
+    
     private JexlNode defensiveGetLiteral(JexlNode node) {
         JexlNode literal = null;
         try {
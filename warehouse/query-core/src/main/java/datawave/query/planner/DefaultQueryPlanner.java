@@ -62,6 +62,7 @@ import datawave.query.jexl.visitors.ParallelIndexExpansion;
 import datawave.query.jexl.visitors.PrintingVisitor;
 import datawave.query.jexl.visitors.PullupUnexecutableNodesVisitor;
 import datawave.query.jexl.visitors.PushFunctionsIntoExceededValueRanges;
+import datawave.query.jexl.visitors.PushdownHighCardinalityNodesVisitor;
 import datawave.query.jexl.visitors.PushdownLowSelectivityNodesVisitor;
 import datawave.query.jexl.visitors.PushdownMissingIndexRangeNodesVisitor;
 import datawave.query.jexl.visitors.PushdownUnexecutableNodesVisitor;
@@ -479,6 +480,8 @@ public class DefaultQueryPlanner extends QueryPlanner implements Cloneable {
                 .setNumRangesToBuffer(config.getNumRangesToBuffer())
                 .setRangeBufferTimeoutMillis(config.getRangeBufferTimeoutMillis())
                 .setRangeBufferPollMillis(config.getRangeBufferPollMillis())
+                .setMaxRangesToBuffer(config.getMaxRangesToBuffer())
+                .setAdaptiveBundling(config.isAdaptiveRangeBundling())
                 .build();
         // @formatter:on
     }
@@ -1110,7 +1113,7 @@ public class DefaultQueryPlanner extends QueryPlanner implements Cloneable {
         Set<String> indexedFields = null;
         Set<String> indexOnlyFields = null;
         Set<String> nonEventFields = null;
-        if (config.getMinSelectivity() > 0 || !disableBoundedLookup) {
+        if (config.getMinSelectivity() > 0 || config.getMaxCardinalityRatio() > 0 || !disableBoundedLookup) {
             try {
                 indexedFields = metadataHelper.getIndexedFields(config.getDatatypeFilter());
                 indexOnlyFields = metadataHelper.getIndexOnlyFields(config.getDatatypeFilter());
@@ -1290,6 +1293,19 @@ public class DefaultQueryPlanner extends QueryPlanner implements Cloneable {
             }
         }
         
+        // push down terms whose estimated cardinality is far greater than that of the least cardinal term in their conjunct
+        if (config.getMaxCardinalityRatio() > 0) {
+            stopwatch = timers.newStartedStopwatch("DefaultQueryPlanner - Pushdown high-cardinality terms");
+            
+            queryTree = PushdownHighCardinalityNodesVisitor.pushdownHighCardinalityTerms(queryTree, config, metadataHelper, indexedFields, indexOnlyFields);
+            if (log.isDebugEnabled()) {
+                logQuery(queryTree, "Query after pushing down high-cardinality terms:");
+                log.debug("Estimated cardinality of the query: " + config.getEstimatedCardinality());
+            }
+            
+            stopwatch.stop();
+        }
+        
         return queryTree;
     }
     
@@ -1708,8 +1724,13 @@ public class DefaultQueryPlanner extends QueryPlanner implements Cloneable {
                         addOption(cfg, QueryOptions.IVARATOR_NUM_RETRIES, Integer.toString(config.getIvaratorNumRetries()), false);
                         addOption(cfg, QueryOptions.IVARATOR_PERSIST_VERIFY, Boolean.toString(config.isIvaratorPersistVerify()), false);
                         addOption(cfg, QueryOptions.IVARATOR_PERSIST_VERIFY_COUNT, Integer.toString(config.getIvaratorPersistVerifyCount()), false);
+                        addOption(cfg, QueryOptions.IVARATOR_PERSIST_COMPRESSION, config.getIvaratorPersistCompression(), false);
+                        addOption(cfg, QueryOptions.IVARATOR_SHARED_CACHE_TTL, Long.toString(config.getIvaratorSharedCacheTtl()), false);
+                        addOption(cfg, QueryOptions.IVARATOR_SHARED_CACHE_MAX_SIZE, Long.toString(config.getIvaratorSharedCacheMaxSize()), false);
                         addOption(cfg, QueryOptions.MAX_EVALUATION_PIPELINES, Integer.toString(config.getMaxEvaluationPipelines()), false);
                         addOption(cfg, QueryOptions.MAX_PIPELINE_CACHED_RESULTS, Integer.toString(config.getMaxPipelineCachedResults()), false);
+                        addOption(cfg, QueryOptions.QUERY_PRIORITY, Integer.toString(config.getQueryPriority()), false);
+                        addOption(cfg, QueryOptions.PIPELINE_BATCH_SIZE, Integer.toString(config.getPipelineBatchSize()), false);
                         addOption(cfg, QueryOptions.MAX_IVARATOR_SOURCES, Integer.toString(config.getMaxIvaratorSources()), false);
                         
                         if (config.getYieldThresholdMs() != Long.MAX_VALUE && config.getYieldThresholdMs() > 0) {
@@ -24,6 +24,8 @@ public class ThreadedRangeBundler implements CloseableIterable<QueryData> {
     private final long rangeBufferTimeoutMillis;
     private final long rangeBufferPollMillis;
     private final long maxRangeWaitMillis;
+    private final int maxRangesToBuffer;
+    private final boolean adaptiveBundling;
     private ThreadedRangeBundlerIterator iterator;
     
     /**
@@ -48,6 +50,8 @@ public class ThreadedRangeBundler implements CloseableIterable<QueryData> {
         this.numRangesToBuffer = builder.numRangesToBuffer;
         this.rangeBufferTimeoutMillis = builder.rangeBufferTimeoutMillis;
         this.rangeBufferPollMillis = builder.rangeBufferPollMillis;
+        this.maxRangesToBuffer = builder.maxRangesToBuffer;
+        this.adaptiveBundling = builder.adaptiveBundling;
     }
     
     public QueryData getOriginal() {
@@ -98,6 +102,14 @@ public class ThreadedRangeBundler implements CloseableIterable<QueryData> {
         return maxRangeWaitMillis;
     }
     
+    public int getMaxRangesToBuffer() {
+        return maxRangesToBuffer;
+    }
+    
+    public boolean isAdaptiveBundling() {
+        return adaptiveBundling;
+    }
+    
     /**
      * Builds and returns a new {@link ThreadedRangeBundlerIterator}.
      * 
@@ -126,6 +138,8 @@ public class ThreadedRangeBundler implements CloseableIterable<QueryData> {
                 .setNumRangesToBuffer(numRangesToBuffer)
                 .setRangeBufferTimeoutMillis(rangeBufferTimeoutMillis)
                 .setRangeBufferPollMillis(rangeBufferPollMillis)
+                .setMaxRangesToBuffer(maxRangesToBuffer)
+                .setAdaptiveBundling(adaptiveBundling)
                 .build();
         // @formatter:on
         
@@ -162,6 +176,8 @@ public class ThreadedRangeBundler implements CloseableIterable<QueryData> {
         private int numRangesToBuffer;
         private long rangeBufferTimeoutMillis;
         private long rangeBufferPollMillis = 100L;
+        private int maxRangesToBuffer;
+        private boolean adaptiveBundling;
         
         public Builder setOriginal(QueryData original) {
             this.original = original;
@@ -223,6 +239,16 @@ public class ThreadedRangeBundler implements CloseableIterable<QueryData> {
             return this;
         }
         
+        public Builder setMaxRangesToBuffer(int maxRangesToBuffer) {
+            this.maxRangesToBuffer = maxRangesToBuffer;
+            return this;
+        }
+        
+        public Builder setAdaptiveBundling(boolean adaptiveBundling) {
+            this.adaptiveBundling = adaptiveBundling;
+            return this;
+        }
+        
         /**
          * Builds and returns a new {@link ThreadedRangeBundler}. The following default values will be used unless specified otherwise in the builder.
          *
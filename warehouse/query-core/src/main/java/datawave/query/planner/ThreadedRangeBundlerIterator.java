@@ -29,10 +29,16 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.LockSupport;
 
 /**
+ * Bundles the query plans produced by the range stream into {@link QueryData} for the scanner. The range stream is drained on its own thread into a bounded
+ * queue, so the range stream is only read as quickly as the scanner requests query data, and the time either side spends waiting on the other is recorded
+ * along with the occupancy of the queue.
  * 
+ * When adaptive bundling is enabled, the number of document specific plans combined into one bundle follows the demand for them: a full queue means the
+ * scanner is waiting on the tservers, so bundles grow towards docsToCombine, while an empty queue means the scanner is waiting on us, so bundles shrink.
  */
 public class ThreadedRangeBundlerIterator implements Iterator<QueryData>, Closeable {
     private static final Logger log = ThreadConfigurableLogger.getLogger(ThreadedRangeBundlerIterator.class);
@@ -69,6 +75,19 @@ public class ThreadedRangeBundlerIterator implements Iterator<QueryData>, Closea
     protected long rangeBufferPollMillis;
     protected long startTimeMillis;
     
+    protected boolean adaptiveBundling;
+    private int bundleSize;
+    
+    // the number of plans the queue may hold; checked explicitly because a prioritized queue does not report a meaningful remaining capacity
+    private final int queueCapacity;
+    
+    // time the range consumer was blocked on a full queue, and the time the caller was blocked on an empty queue
+    private final AtomicLong producerWaitNanos = new AtomicLong(0);
+    private long consumerWaitNanos = 0;
+    private int maxQueueOccupancy = 0;
+    private long queueOccupancySum = 0;
+    private long queueOccupancySamples = 0;
+    
     private ThreadedRangeBundlerIterator(Builder builder) {
         
         this.original = builder.getOriginal();
@@ -90,6 +109,10 @@ public class ThreadedRangeBundlerIterator implements Iterator<QueryData>, Closea
         // TODO Make this smarter based on num-concurrent queries, 'max' size of
         // a range, etc
         int maxCapacity = (int) maxRanges > 0 ? (int) maxRanges : 1000;
+        if (builder.getMaxRangesToBuffer() > 0) {
+            maxCapacity = Math.min(maxCapacity, builder.getMaxRangesToBuffer());
+        }
+        this.queueCapacity = maxCapacity;
         if (builder.getQueryPlanComparators() != null && !builder.getQueryPlanComparators().isEmpty()) {
             Comparator<QueryPlan> comparator = (builder.getQueryPlanComparators().size() > 1) ? new MultiComparator<>(builder.getQueryPlanComparators())
                             : builder.getQueryPlanComparators().iterator().next();
@@ -104,6 +127,9 @@ public class ThreadedRangeBundlerIterator implements Iterator<QueryData>, Closea
         this.rangeBufferTimeoutMillis = builder.getRangeBufferTimeoutMillis();
         this.rangeBufferPollMillis = builder.getRangeBufferPollMillis();
         
+        this.adaptiveBundling = builder.isAdaptiveBundling();
+        this.bundleSize = docsToCombine;
+        
         rangeConsumer = new RangeConsumer(builder.getRanges());
         rangeConsumerThread = new Thread(rangeConsumer);
         if (settings.getId() != null)
@@ -137,12 +163,17 @@ public class ThreadedRangeBundlerIterator implements Iterator<QueryData>, Closea
                     
                     // wait until we have a minimum number of ranges buffered OR the buffer is full OR the specified
                     // amount of time to wait has elapsed OR we have processed all of our ranges before continuing
-                    while (this.rangeQueue.size() < numRangesToBuffer && this.rangeQueue.remainingCapacity() > 0
+                    while (this.rangeQueue.size() < numRangesToBuffer && this.rangeQueue.size() < queueCapacity
                                     && (startTimeMillis + rangeBufferTimeoutMillis) > System.currentTimeMillis() && !rangeConsumer.isStopped()) {
                         Thread.sleep(rangeBufferPollMillis);
                     }
                     
+                    int occupancy = this.rangeQueue.size();
+                    recordOccupancy(occupancy);
+                    
+                    long pollStart = System.nanoTime();
                     QueryPlan plan = this.rangeQueue.poll(this.maxWaitValue, this.maxWaitUnit);
+                    consumerWaitNanos += System.nanoTime() - pollStart;
                     if (null == plan) {
                         if (!rangeConsumer.isStopped()) {
                             if (log.isTraceEnabled())
@@ -200,6 +231,7 @@ public class ThreadedRangeBundlerIterator implements Iterator<QueryData>, Closea
                     }
                     
                     if (docsToCombine > 1 && docSpecific) {
+                        int plansToBundle = adaptBundleSize(occupancy);
                         List<QueryPlan> plansToCombine = Lists.newArrayList();
                         plansToCombine.add(plan);
                         boolean matchedDocumentRange = true;
@@ -267,7 +299,7 @@ public class ThreadedRangeBundlerIterator implements Iterator<QueryData>, Closea
                                 matchedDocumentRange = false;
                                 break;
                             }
-                        } while (matchedDocumentRange == true && plansToCombine.size() < docsToCombine);
+                        } while (matchedDocumentRange == true && plansToCombine.size() < plansToBundle);
                         
                         if (null != plansToCombine && plansToCombine.size() > 1) {
                             plan = combineDocSpecificPlans(plansToCombine);
@@ -334,6 +366,70 @@ public class ThreadedRangeBundlerIterator implements Iterator<QueryData>, Closea
         throw new UnsupportedOperationException(this.getClass().getName() + " does not implement Iterator#remove().");
     }
     
+    private void recordOccupancy(int occupancy) {
+        maxQueueOccupancy = Math.max(maxQueueOccupancy, occupancy);
+        queueOccupancySum += occupancy;
+        queueOccupancySamples++;
+    }
+    
+    /**
+     * Adapt the number of document specific plans to combine to the occupancy of the queue when the caller asked for the next bundle. A full queue doubles the
+     * bundle size up to docsToCombine, and an empty queue halves it down to a single plan.
+     * 
+     * @param occupancy
+     *            the number of plans queued when the caller asked for the next bundle
+     * @return the number of plans to combine into the next bundle
+     */
+    private int adaptBundleSize(int occupancy) {
+        if (!adaptiveBundling) {
+            return docsToCombine;
+        }
+        if (occupancy == 0) {
+            bundleSize = Math.max(1, bundleSize / 2);
+        } else if (occupancy >= queueCapacity || occupancy >= bundleSize) {
+            bundleSize = Math.min(docsToCombine, bundleSize * 2);
+        }
+        return bundleSize;
+    }
+    
+    /**
+     * @return the time in milliseconds the range consumer spent blocked on a full queue
+     */
+    public long getProducerWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(producerWaitNanos.get());
+    }
+    
+    /**
+     * @return the time in milliseconds the caller spent blocked on an empty queue
+     */
+    public long getConsumerWaitMillis() {
+        synchronized (producerLock) {
+            return TimeUnit.NANOSECONDS.toMillis(consumerWaitNanos);
+        }
+    }
+    
+    public int getMaxQueueOccupancy() {
+        synchronized (producerLock) {
+            return maxQueueOccupancy;
+        }
+    }
+    
+    public double getAverageQueueOccupancy() {
+        synchronized (producerLock) {
+            return (queueOccupancySamples == 0 ? 0 : ((double) queueOccupancySum / queueOccupancySamples));
+        }
+    }
+    
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+    
+    public int getBundleSize() {
+        synchronized (producerLock) {
+            return bundleSize;
+        }
+    }
+    
     /**
      * It is expected that the ranges supplied by plans are in sorted order. In the ThreadedRAngeBundlerIterator, this will always be the case
      * 
@@ -495,6 +591,19 @@ public class ThreadedRangeBundlerIterator implements Iterator<QueryData>, Closea
                 sb.append(", Shard Ranges: ").append(shardRanges);
                 sb.append(", Day Ranges: ").append(dayRanges).append("}");
                 log.debug(sb.toString());
+                
+                sb.setLength(0);
+                sb.append("Range queue summary:{");
+                sb.append("Capacity: ").append(getQueueCapacity());
+                sb.append(", Max Occupancy: ").append(maxQueueOccupancy);
+                sb.append(", Average Occupancy: ").append(String.format("%.2f", getAverageQueueOccupancy()));
+                sb.append(", Producer Wait: ").append(getProducerWaitMillis()).append(" ms");
+                sb.append(", Consumer Wait: ").append(getConsumerWaitMillis()).append(" ms");
+                if (adaptiveBundling) {
+                    sb.append(", Bundle Size: ").append(bundleSize);
+                }
+                sb.append("}");
+                log.debug(sb.toString());
             }
         }
     }
@@ -538,7 +647,15 @@ public class ThreadedRangeBundlerIterator implements Iterator<QueryData>, Closea
                     QueryPlan nextPlan = ranges.next();
                     if (log.isTraceEnabled())
                         log.trace("RangeConsumer count is " + count + " " + nextPlan.getRanges());
-                    rangeQueue.put(nextPlan);
+                    if (rangeQueue.size() >= queueCapacity || !rangeQueue.offer(nextPlan)) {
+                        // the caller has fallen behind, so block until it asks for more
+                        long start = System.nanoTime();
+                        while (running && rangeQueue.size() >= queueCapacity) {
+                            Thread.sleep(rangeBufferPollMillis);
+                        }
+                        rangeQueue.put(nextPlan);
+                        producerWaitNanos.addAndGet(System.nanoTime() - start);
+                    }
                     
                 }
                 
@@ -565,6 +682,8 @@ public class ThreadedRangeBundlerIterator implements Iterator<QueryData>, Closea
         protected int numRangesToBuffer = 0;
         protected long rangeBufferTimeoutMillis = 0;
         protected long rangeBufferPollMillis = 100;
+        protected int maxRangesToBuffer = 0;
+        protected boolean adaptiveBundling = false;
         
         public QueryData getOriginal() {
             return original;
@@ -683,6 +802,24 @@ public class ThreadedRangeBundlerIterator implements Iterator<QueryData>, Closea
             return this;
         }
         
+        public int getMaxRangesToBuffer() {
+            return maxRangesToBuffer;
+        }
+        
+        public Builder setMaxRangesToBuffer(int maxRangesToBuffer) {
+            this.maxRangesToBuffer = maxRangesToBuffer;
+            return this;
+        }
+        
+        public boolean isAdaptiveBundling() {
+            return adaptiveBundling;
+        }
+        
+        public Builder setAdaptiveBundling(boolean adaptiveBundling) {
+            this.adaptiveBundling = adaptiveBundling;
+            return this;
+        }
+        
         public ThreadedRangeBundlerIterator build() {
             return new ThreadedRangeBundlerIterator(this);
         }
@@ -209,6 +209,11 @@ public class RangeStreamScanner extends ScannerSession implements Callable<Range
         return (null != currentEntry);
     }
     
+    @Override
+    public boolean isComplete() {
+        return !forceClose && uncaughtExceptionHandler.getThrowable() == null && finished && resultQueue.isEmpty() && !flushNeeded();
+    }
+    
     private void submitTask() {
         // wait on results. submit the task if we can
         Future<RangeStreamScanner> future = myExecutor.submit(this);
@@ -671,6 +671,16 @@ public class ScannerSession extends AbstractExecutionThreadService implements It
         return this;
     }
     
+    /**
+     * Whether this session ended because it read all of its ranges, as opposed to having been closed or having failed, either of which also ends the iteration.
+     * 
+     * @return true if the session has read all of its ranges
+     */
+    public boolean isComplete() {
+        return !forceClose && uncaughtExceptionHandler.getThrowable() == null && state() != State.FAILED && ranges.isEmpty() && lastSeenKey == null
+                        && resultQueue.isEmpty() && !flushNeeded();
+    }
+    
     public void close() {
         forceClose = true;
         stop();
@@ -274,6 +274,9 @@ public class ShardQueryLogic extends BaseQueryLogic<Entry<Key,Value>> {
         this.config.setExpandFields(expandFields);
         this.config.setExpandValues(expandValues);
         initialize(config, connection, settings, auths);
+        if (config.getEstimatedCardinality() >= 0) {
+            log.info("Estimated cardinality of the plan: " + config.getEstimatedCardinality());
+        }
         return config.getQueryString();
     }
     
@@ -1682,6 +1685,30 @@ public class ShardQueryLogic extends BaseQueryLogic<Entry<Key,Value>> {
         getConfig().setIvaratorPersistVerifyCount(ivaratorPersistVerifyCount);
     }
     
+    public String getIvaratorPersistCompression() {
+        return getConfig().getIvaratorPersistCompression();
+    }
+    
+    public void setIvaratorPersistCompression(String ivaratorPersistCompression) {
+        getConfig().setIvaratorPersistCompression(ivaratorPersistCompression);
+    }
+    
+    public long getIvaratorSharedCacheTtl() {
+        return getConfig().getIvaratorSharedCacheTtl();
+    }
+    
+    public void setIvaratorSharedCacheTtl(long ivaratorSharedCacheTtl) {
+        getConfig().setIvaratorSharedCacheTtl(ivaratorSharedCacheTtl);
+    }
+    
+    public long getIvaratorSharedCacheMaxSize() {
+        return getConfig().getIvaratorSharedCacheMaxSize();
+    }
+    
+    public void setIvaratorSharedCacheMaxSize(long ivaratorSharedCacheMaxSize) {
+        getConfig().setIvaratorSharedCacheMaxSize(ivaratorSharedCacheMaxSize);
+    }
+    
     public int getMaxIvaratorSources() {
         return getConfig().getMaxIvaratorSources();
     }
@@ -1714,6 +1741,22 @@ public class ShardQueryLogic extends BaseQueryLogic<Entry<Key,Value>> {
         getConfig().setMaxPipelineCachedResults(maxCachedResults);
     }
     
+    public int getQueryPriority() {
+        return getConfig().getQueryPriority();
+    }
+    
+    public void setQueryPriority(int queryPriority) {
+        getConfig().setQueryPriority(queryPriority);
+    }
+    
+    public int getPipelineBatchSize() {
+        return getConfig().getPipelineBatchSize();
+    }
+    
+    public void setPipelineBatchSize(int pipelineBatchSize) {
+        getConfig().setPipelineBatchSize(pipelineBatchSize);
+    }
+    
     public double getMinimumSelectivity() {
         return getConfig().getMinSelectivity();
     }
@@ -1722,6 +1765,14 @@ public class ShardQueryLogic extends BaseQueryLogic<Entry<Key,Value>> {
         getConfig().setMinSelectivity(d);
     }
     
+    public double getMaxCardinalityRatio() {
+        return getConfig().getMaxCardinalityRatio();
+    }
+    
+    public void setMaxCardinalityRatio(double maxCardinalityRatio) {
+        getConfig().setMaxCardinalityRatio(maxCardinalityRatio);
+    }
+    
     public Map<String,QueryParser> getQuerySyntaxParsers() {
         return querySyntaxParsers;
     }
@@ -2185,6 +2236,70 @@ public class ShardQueryLogic extends BaseQueryLogic<Entry<Key,Value>> {
         getConfig().setRangeBufferPollMillis(rangeBufferPollMillis);
     }
     
+    public int getMaxRangesToBuffer() {
+        return getConfig().getMaxRangesToBuffer();
+    }
+    
+    public void setMaxRangesToBuffer(int maxRangesToBuffer) {
+        getConfig().setMaxRangesToBuffer(maxRangesToBuffer);
+    }
+    
+    public boolean isAdaptiveRangeBundling() {
+        return getConfig().isAdaptiveRangeBundling();
+    }
+    
+    public void setAdaptiveRangeBundling(boolean adaptiveRangeBundling) {
+        getConfig().setAdaptiveRangeBundling(adaptiveRangeBundling);
+    }
+    
+    public boolean isGlobalIndexCacheEnabled() {
+        return getConfig().isGlobalIndexCacheEnabled();
+    }
+    
+    public void setGlobalIndexCacheEnabled(boolean globalIndexCacheEnabled) {
+        getConfig().setGlobalIndexCacheEnabled(globalIndexCacheEnabled);
+    }
+    
+    public long getGlobalIndexCacheMaxEntries() {
+        return getConfig().getGlobalIndexCacheMaxEntries();
+    }
+    
+    public void setGlobalIndexCacheMaxEntries(long globalIndexCacheMaxEntries) {
+        getConfig().setGlobalIndexCacheMaxEntries(globalIndexCacheMaxEntries);
+    }
+    
+    public long getGlobalIndexCacheTtlMillis() {
+        return getConfig().getGlobalIndexCacheTtlMillis();
+    }
+    
+    public void setGlobalIndexCacheTtlMillis(long globalIndexCacheTtlMillis) {
+        getConfig().setGlobalIndexCacheTtlMillis(globalIndexCacheTtlMillis);
+    }
+    
+    public int getGlobalIndexCacheMaxEntriesPerTerm() {
+        return getConfig().getGlobalIndexCacheMaxEntriesPerTerm();
+    }
+    
+    public void setGlobalIndexCacheMaxEntriesPerTerm(int globalIndexCacheMaxEntriesPerTerm) {
+        getConfig().setGlobalIndexCacheMaxEntriesPerTerm(globalIndexCacheMaxEntriesPerTerm);
+    }
+    
+    public boolean isSharedIndexExpansion() {
+        return getConfig().isSharedIndexExpansion();
+    }
+    
+    public void setSharedIndexExpansion(boolean sharedIndexExpansion) {
+        getConfig().setSharedIndexExpansion(sharedIndexExpansion);
+    }
+    
+    public int getIndexExpansionThreads() {
+        return getConfig().getIndexExpansionThreads();
+    }
+    
+    public void setIndexExpansionThreads(int indexExpansionThreads) {
+        getConfig().setIndexExpansionThreads(indexExpansionThreads);
+    }
+    
     public int getGeometryMaxExpansion() {
         return getConfig().getGeometryMaxExpansion();
     }
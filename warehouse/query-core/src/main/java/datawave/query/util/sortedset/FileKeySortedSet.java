@@ -43,7 +43,22 @@ public class FileKeySortedSet extends FileSortedSet<Key> {
      * @param persisted
      */
     public FileKeySortedSet(SortedSetFileHandler handler, boolean persisted) {
-        super(new KeyFileHandler(handler), new FileKeySortedSet.Factory(), persisted);
+        this(handler, persisted, false);
+    }
+    
+    /**
+     * Create a persisted sorted set
+     * 
+     * @param handler
+     * @param persisted
+     * @param encodedBuffer
+     *            if true, then the keys held in memory are kept encoded in a SortedKeySetBuffer instead of a TreeSet
+     */
+    public FileKeySortedSet(SortedSetFileHandler handler, boolean persisted, boolean encodedBuffer) {
+        super(new KeyFileHandler(handler), new FileKeySortedSet.Factory(encodedBuffer), persisted);
+        if (encodedBuffer) {
+            this.set = new SortedKeySetBuffer();
+        }
     }
     
     /**
@@ -54,7 +69,20 @@ public class FileKeySortedSet extends FileSortedSet<Key> {
      * @param persisted
      */
     public FileKeySortedSet(Comparator<? super Key> comparator, SortedSetFileHandler handler, boolean persisted) {
-        this(handler, persisted);
+        this(comparator, handler, persisted, false);
+    }
+    
+    /**
+     * Create a persisted sorted set
+     * 
+     * @param comparator
+     * @param handler
+     * @param persisted
+     * @param encodedBuffer
+     *            if true, then the keys held in memory are kept encoded in a SortedKeySetBuffer instead of a TreeSet
+     */
+    public FileKeySortedSet(Comparator<? super Key> comparator, SortedSetFileHandler handler, boolean persisted, boolean encodedBuffer) {
+        this(handler, persisted, encodedBuffer);
         if (comparator != null) {
             throw new UnsupportedOperationException("Cannot supply a comparator for a FileKeySortedSet.  Only a Key comparator will work");
         }
@@ -121,7 +149,8 @@ public class FileKeySortedSet extends FileSortedSet<Key> {
         
         @Override
         public SortedSetOutputStream getOutputStream() throws IOException {
-            return new RFileKeyOutputStream(delegate.getOutputStream());
+            PersistOptions persistOptions = delegate.getPersistOptions();
+            return new RFileKeyOutputStream(delegate.getOutputStream(), (persistOptions == null ? null : persistOptions.getCompressionType()));
         }
         
         @Override
@@ -144,6 +173,19 @@ public class FileKeySortedSet extends FileSortedSet<Key> {
      * A factory for these file sorted sets
      */
     public static class Factory implements FileSortedSetFactory<Key> {
+        private final boolean encodedBuffer;
+        
+        public Factory() {
+            this(false);
+        }
+        
+        /**
+         * @param encodedBuffer
+         *            if true, then new sets will keep their in memory keys encoded in a SortedKeySetBuffer instead of a TreeSet
+         */
+        public Factory(boolean encodedBuffer) {
+            this.encodedBuffer = encodedBuffer;
+        }
         
         @Override
         public FileKeySortedSet newInstance(FileSortedSet<Key> other) {
@@ -157,12 +199,12 @@ public class FileKeySortedSet extends FileSortedSet<Key> {
         
         @Override
         public FileKeySortedSet newInstance(SortedSetFileHandler handler, boolean persisted) {
-            return new FileKeySortedSet(handler, persisted);
+            return new FileKeySortedSet(handler, persisted, encodedBuffer);
         }
         
         @Override
         public FileKeySortedSet newInstance(Comparator<? super Key> comparator, SortedSetFileHandler handler, boolean persisted) {
-            return new FileKeySortedSet(comparator, handler, persisted);
+            return new FileKeySortedSet(comparator, handler, persisted, encodedBuffer);
         }
         
         @Override
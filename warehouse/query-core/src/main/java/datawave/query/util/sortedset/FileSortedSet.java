@@ -334,6 +334,18 @@ public abstract class FileSortedSet<E> implements SortedSet<E>, Cloneable {
     public boolean contains(Object o) {
         if (persisted) {
             E t = (E) o;
+            if (t != null) {
+                if ((getStart() != null && compare(t, getStart()) < 0) || (getEnd() != null && compare(t, getEnd()) >= 0)) {
+                    return false;
+                }
+                // only read from the element onwards, which allows an indexed file (e.g. an RFile) to seek directly to it
+                try (SortedSetInputStream<E> stream = getBoundedFileHandler().getInputStream(t, getEnd())) {
+                    E first = stream.readObject();
+                    return first != null && equals(first, t);
+                } catch (Exception e) {
+                    throw new IllegalStateException("Unable to read file", e);
+                }
+            }
             for (Iterator<E> it = iterator(); it.hasNext();) {
                 if (it.hasNext()) {
                     E next = it.next();
@@ -996,6 +1008,8 @@ public abstract class FileSortedSet<E> implements SortedSet<E>, Cloneable {
         private boolean verifySize = true;
         private boolean verifyElements = true;
         private int numElementsToVerify = 100;
+        // the compression codec for file formats that support one, null for the format's default
+        private String compressionType = null;
         
         public PersistOptions() {}
         
@@ -1013,6 +1027,11 @@ public abstract class FileSortedSet<E> implements SortedSet<E>, Cloneable {
             this.numElementsToVerify = numElementsToVerify;
         }
         
+        public PersistOptions(boolean verifySize, boolean verifyElements, int numElementsToVerify, String compressionType) {
+            this(verifySize, verifyElements, numElementsToVerify);
+            this.compressionType = compressionType;
+        }
+        
         public boolean isVerifySize() {
             return verifySize;
         }
@@ -1024,5 +1043,9 @@ public abstract class FileSortedSet<E> implements SortedSet<E>, Cloneable {
         public int getNumElementsToVerify() {
             return numElementsToVerify;
         }
+        
+        public String getCompressionType() {
+            return compressionType;
+        }
     }
 }
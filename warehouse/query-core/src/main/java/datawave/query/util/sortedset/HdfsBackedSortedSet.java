@@ -1,17 +1,23 @@
 package datawave.query.util.sortedset;
 
 import datawave.query.iterator.ivarator.IvaratorCacheDir;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.SortedSet;
+import org.apache.hadoop.fs.ChecksumFileSystem;
+import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.FsStatus;
+import org.apache.hadoop.fs.LocalFileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RawLocalFileSystem;
 import org.apache.log4j.Logger;
 
 public class HdfsBackedSortedSet<E> extends BufferedFileBackedSortedSet<E> implements SortedSet<E> {
@@ -180,10 +186,15 @@ public class HdfsBackedSortedSet<E> extends BufferedFileBackedSortedSet<E> imple
     }
     
     public static class SortedSetHdfsFileHandler implements FileSortedSet.SortedSetFileHandler {
+        private static final int VERIFY_BUFFER_SIZE = 64 * 1024;
+        
         private FileSystem fs;
         private Path file;
         private FileSortedSet.PersistOptions persistOptions;
         
+        // the memory mapping of a local file, shared by the streams opened on it until the file is deleted
+        private ByteBuffer mapping = null;
+        
         public SortedSetHdfsFileHandler(FileSystem fs, Path file, FileSortedSet.PersistOptions persistOptions) {
             this.fs = fs;
             this.file = file;
@@ -203,14 +214,63 @@ public class HdfsBackedSortedSet<E> extends BufferedFileBackedSortedSet<E> imple
             if (log.isDebugEnabled()) {
                 log.debug("Reading " + file);
             }
+            // local files are memory mapped so that the reader can jump directly to the indexed blocks it needs
+            ByteBuffer mapped = getMapping();
+            if (mapped != null) {
+                return new FSDataInputStream(new MappedFileInputStream(mapped));
+            }
             return fs.open(file);
         }
         
+        /**
+         * Map a local file on first use, and reuse the mapping for every stream opened afterwards. As reads of the mapping are not checksummed, the file is
+         * read through a checksummed filesystem once to verify it before it is mapped.
+         * 
+         * @return the mapping, or null if the file is not local or is too large to map
+         * @throws IOException
+         *             if the file fails its checksums
+         */
+        synchronized ByteBuffer getMapping() throws IOException {
+            if (mapping == null) {
+                File localFile = getLocalFile();
+                if (localFile == null || !MappedFileInputStream.canMap(localFile)) {
+                    return null;
+                }
+                if (fs instanceof ChecksumFileSystem) {
+                    byte[] buffer = new byte[VERIFY_BUFFER_SIZE];
+                    try (InputStream in = fs.open(file)) {
+                        while (in.read(buffer) >= 0) {
+                            // reading through the filesystem verifies the checksums
+                        }
+                    }
+                }
+                mapping = MappedFileInputStream.map(localFile);
+            }
+            return mapping;
+        }
+        
+        private synchronized void releaseMapping() {
+            mapping = null;
+        }
+        
+        /**
+         * @return the local file if this file is on a local filesystem, null otherwise
+         */
+        private File getLocalFile() {
+            if (fs instanceof LocalFileSystem) {
+                return ((LocalFileSystem) fs).pathToFile(file);
+            } else if (fs instanceof RawLocalFileSystem) {
+                return ((RawLocalFileSystem) fs).pathToFile(file);
+            }
+            return null;
+        }
+        
         @Override
         public OutputStream getOutputStream() throws IOException {
             if (log.isDebugEnabled()) {
                 log.debug("Creating " + file);
             }
+            releaseMapping();
             return fs.create(file);
         }
         
@@ -232,6 +292,7 @@ public class HdfsBackedSortedSet<E> extends BufferedFileBackedSortedSet<E> imple
         
         @Override
         public void deleteFile() {
+            releaseMapping();
             try {
                 if (log.isDebugEnabled()) {
                     log.debug("Deleting " + file);
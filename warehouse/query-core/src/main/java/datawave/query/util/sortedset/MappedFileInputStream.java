@@ -0,0 +1,160 @@
+package datawave.query.util.sortedset;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.apache.hadoop.fs.PositionedReadable;
+import org.apache.hadoop.fs.Seekable;
+
+/**
+ * An input stream over a memory mapped local file. This supports the seek and positioned read calls required to wrap it in an FSDataInputStream, which allows
+ * the RFile reader to jump directly to the blocks referenced by its index instead of reading through a local file sequentially as the LocalFileSystem does.
+ * This is limited to files that can be mapped in one buffer (less than 2GB).
+ * 
+ * Reading the mapping does not verify the checksums kept by the LocalFileSystem, so the file should be verified once before it is mapped (see
+ * {@link HdfsBackedSortedSet.SortedSetHdfsFileHandler}). A mapping may be shared by many streams, each of which reads a view of it with its own position.
+ */
+public class MappedFileInputStream extends InputStream implements Seekable, PositionedReadable {
+    private ByteBuffer buffer;
+    
+    public MappedFileInputStream(File file) throws IOException {
+        this(map(file));
+    }
+    
+    /**
+     * Create a stream over a mapping returned by {@link #map(File)}, which may be shared with other streams
+     * 
+     * @param mapping
+     */
+    public MappedFileInputStream(ByteBuffer mapping) {
+        this.buffer = mapping.duplicate();
+        this.buffer.clear();
+    }
+    
+    /**
+     * Map a file into memory. The mapping is released once it is no longer referenced and has been garbage collected.
+     * 
+     * @param file
+     * @return the read only mapping
+     * @throws IOException
+     */
+    public static ByteBuffer map(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r"); FileChannel channel = raf.getChannel()) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Cannot map " + file + " of size " + channel.size());
+            }
+            // the mapping remains valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+    
+    /**
+     * Can the specified file be mapped by this stream
+     * 
+     * @param file
+     * @return true if the file exists and is small enough
+     */
+    public static boolean canMap(File file) {
+        return file.isFile() && file.length() <= Integer.MAX_VALUE;
+    }
+    
+    private ByteBuffer getBuffer() throws IOException {
+        if (buffer == null) {
+            throw new IOException("Stream is closed");
+        }
+        return buffer;
+    }
+    
+    @Override
+    public int read() throws IOException {
+        ByteBuffer buffer = getBuffer();
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        return buffer.get() & 0xff;
+    }
+    
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        ByteBuffer buffer = getBuffer();
+        if (len == 0) {
+            return 0;
+        }
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        len = Math.min(len, buffer.remaining());
+        buffer.get(b, off, len);
+        return len;
+    }
+    
+    @Override
+    public long skip(long n) throws IOException {
+        ByteBuffer buffer = getBuffer();
+        int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+        buffer.position(buffer.position() + skipped);
+        return skipped;
+    }
+    
+    @Override
+    public int available() throws IOException {
+        return getBuffer().remaining();
+    }
+    
+    @Override
+    public void close() {
+        // drop our view, the mapping is released once no views of it remain and it is garbage collected
+        buffer = null;
+    }
+    
+    @Override
+    public void seek(long pos) throws IOException {
+        ByteBuffer buffer = getBuffer();
+        if (pos < 0 || pos > buffer.limit()) {
+            throw new EOFException("Cannot seek to " + pos + " in a file of length " + buffer.limit());
+        }
+        buffer.position((int) pos);
+    }
+    
+    @Override
+    public long getPos() throws IOException {
+        return getBuffer().position();
+    }
+    
+    @Override
+    public boolean seekToNewSource(long targetPos) {
+        return false;
+    }
+    
+    @Override
+    public int read(long position, byte[] b, int off, int len) throws IOException {
+        ByteBuffer buffer = getBuffer();
+        if (position >= buffer.limit()) {
+            return -1;
+        }
+        len = (int) Math.min(len, buffer.limit() - position);
+        // use a duplicate so that the current stream position is not affected
+        ByteBuffer view = buffer.duplicate();
+        view.position((int) position);
+        view.get(b, off, len);
+        return len;
+    }
+    
+    @Override
+    public void readFully(long position, byte[] b, int off, int len) throws IOException {
+        if (position + len > getBuffer().limit()) {
+            throw new EOFException("Cannot read " + len + " bytes at " + position + " in a file of length " + getBuffer().limit());
+        }
+        read(position, b, off, len);
+    }
+    
+    @Override
+    public void readFully(long position, byte[] b) throws IOException {
+        readFully(position, b, 0, b.length);
+    }
+}
@@ -2,10 +2,15 @@ package datawave.query.util.sortedset;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import org.apache.accumulo.core.client.rfile.RFile;
 import org.apache.accumulo.core.client.rfile.RFileWriter;
+import org.apache.accumulo.core.conf.Property;
 import org.apache.accumulo.core.data.Key;
 import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.file.rfile.bcfile.Compression;
 import org.apache.hadoop.io.Text;
 
 public class RFileKeyOutputStream implements FileSortedSet.SortedSetOutputStream<Key> {
@@ -13,8 +18,39 @@ public class RFileKeyOutputStream implements FileSortedSet.SortedSetOutputStream
     private static final Value EMPTY_VALUE = new Value(new byte[0]);
     
     public RFileKeyOutputStream(OutputStream stream) throws IOException {
+        this(stream, null);
+    }
+    
+    /**
+     * Create an rfile output stream. Keys are written with the rfile's relative key (prefix) encoding and then compressed per block using the specified codec.
+     * 
+     * @param stream
+     * @param compressionType
+     *            the rfile compression codec (e.g. none, gz, snappy, or lzo), or null for the rfile default
+     * @throws IOException
+     */
+    public RFileKeyOutputStream(OutputStream stream, String compressionType) throws IOException {
         super();
-        this.writer = RFile.newWriter().to(stream).withVisibilityCacheSize(10).build();
+        RFile.WriterOptions options = RFile.newWriter().to(stream).withVisibilityCacheSize(10);
+        if (compressionType != null && !compressionType.isEmpty()) {
+            validateCompressionType(compressionType);
+            options = options.withTableProperties(Collections.singletonMap(Property.TABLE_FILE_COMPRESSION_TYPE.getKey(), compressionType));
+        }
+        this.writer = options.build();
+    }
+    
+    /**
+     * Verify that a compression codec is supported by rfiles on this host. Snappy and lzo are only supported where their codecs are installed.
+     * 
+     * @param compressionType
+     * @throws IllegalArgumentException
+     *             if the codec is not supported
+     */
+    public static void validateCompressionType(String compressionType) {
+        List<String> supported = Arrays.asList(Compression.getSupportedAlgorithms());
+        if (!supported.contains(compressionType)) {
+            throw new IllegalArgumentException("Unsupported rfile compression type " + compressionType + ", expected one of " + supported);
+        }
     }
     
     @Override
@@ -0,0 +1,649 @@
+package datawave.query.util.sortedset;
+
+import datawave.webservice.query.exception.DatawaveErrorCode;
+import datawave.webservice.query.exception.QueryException;
+import org.apache.accumulo.core.data.ByteSequence;
+import org.apache.accumulo.core.data.Key;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+
+/**
+ * This is a sorted set of keys which keeps the encoded keys in one large byte array as the backing store and a separate array of indices in sorted key order.
+ * Each key is stored as its row, column family, column qualifier and column visibility bytes (each preceded by a variable length size) followed by the
+ * timestamp and the deleted flag. Sorting is done in place on the encoded bytes using the same ordering as {@link Key#compareTo(Key)}, so no Key objects are
+ * held by this set. Keys are only materialized as they are read back out. The reason for this structure is to minimize the memory used per key and the number
+ * of objects retained while a FileSortedSet buffer fills up, as with the {@link SortedByteSetBuffer}.
+ */
+public class SortedKeySetBuffer extends AbstractSet<Key> implements SortedSet<Key> {
+    public static final int AVERAGE_KEY_SIZE = 96;
+    public static final int DEFAULT_BUFFER_SIZE = 64;
+    
+    protected byte[] data = null;
+    protected int[] sortedDataIndicies = null;
+    protected int[] sortedDataSizes = null;
+    protected int size = 0;
+    protected int bufferSize = 0;
+    protected int modCount = 0;
+    protected final int initialCapacity;
+    
+    // scratch space used to encode keys that are being searched for
+    private byte[] scratch = new byte[AVERAGE_KEY_SIZE];
+    
+    public SortedKeySetBuffer() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+    
+    public SortedKeySetBuffer(int capacity) {
+        this.initialCapacity = capacity;
+        this.data = new byte[capacity * AVERAGE_KEY_SIZE];
+        this.sortedDataIndicies = new int[capacity];
+        this.sortedDataSizes = new int[capacity];
+    }
+    
+    /************************** Overridden methods *************************/
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    @Override
+    public boolean contains(Object o) {
+        if (o instanceof Key) {
+            return binarySearch((Key) o) >= 0;
+        }
+        return false;
+    }
+    
+    @Override
+    public Iterator<Key> iterator() {
+        return new SortedKeySetBufferIterator();
+    }
+    
+    @Override
+    public boolean add(Key key) {
+        int index = binarySearch(key);
+        if (index < 0) {
+            // the key was encoded into the scratch buffer by the search
+            add(-1 - index, scratch, encodedSize(key));
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * Add all of the keys. If the keys are a naturally ordered sorted set (e.g. a sorted run of keys built up by a separate thread), then rather than inserting
+     * the keys one at a time they are appended to the backing store and merged with the sorted index in a single pass.
+     *
+     * @param c
+     * @return true if this set changed
+     */
+    @Override
+    public boolean addAll(Collection<? extends Key> c) {
+        if (c == this) {
+            return false;
+        }
+        if (!(c instanceof SortedSet) || ((SortedSet<?>) c).comparator() != null) {
+            return super.addAll(c);
+        }
+        // if the run is another buffer, then its keys can be copied over without decoding them
+        SortedKeySetBuffer other = (c instanceof SortedKeySetBuffer ? (SortedKeySetBuffer) c : null);
+        Iterator<? extends Key> keys = (other == null ? c.iterator() : null);
+        int count = c.size();
+        int[] mergedIndicies = new int[Math.max(size + count, sortedDataIndicies.length)];
+        int[] mergedSizes = new int[mergedIndicies.length];
+        int index = 0;
+        int merged = 0;
+        for (int i = 0; i < count; i++) {
+            byte[] encoded;
+            int encodedIndex;
+            int encodedSize;
+            if (other == null) {
+                encodedSize = encode(keys.next());
+                encoded = scratch;
+                encodedIndex = 0;
+            } else {
+                encoded = other.data;
+                encodedIndex = other.sortedDataIndicies[i];
+                encodedSize = other.sortedDataSizes[i];
+            }
+            // take the existing keys that sort before this one
+            int comparison = -1;
+            while (index < size && (comparison = compare(data, sortedDataIndicies[index], encoded, encodedIndex)) < 0) {
+                mergedIndicies[merged] = sortedDataIndicies[index];
+                mergedSizes[merged++] = sortedDataSizes[index++];
+            }
+            // skip the key if we already have it
+            if (index < size && comparison == 0) {
+                continue;
+            }
+            checkDataCapacity(encodedSize);
+            System.arraycopy(encoded, encodedIndex, data, bufferSize, encodedSize);
+            mergedIndicies[merged] = bufferSize;
+            mergedSizes[merged++] = encodedSize;
+            bufferSize += encodedSize;
+        }
+        // and take the remaining existing keys
+        System.arraycopy(sortedDataIndicies, index, mergedIndicies, merged, size - index);
+        System.arraycopy(sortedDataSizes, index, mergedSizes, merged, size - index);
+        merged += size - index;
+        
+        boolean modified = (merged > size);
+        modCount++;
+        sortedDataIndicies = mergedIndicies;
+        sortedDataSizes = mergedSizes;
+        size = merged;
+        return modified;
+    }
+    
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof Key)) {
+            return false;
+        }
+        int index = binarySearch((Key) o);
+        if (index >= 0) {
+            remove(index);
+            return true;
+        }
+        return false;
+    }
+    
+    @Override
+    public void clear() {
+        modCount++;
+        size = 0;
+        bufferSize = 0;
+        // a persisted FileSortedSet keeps its cleared set around, so release any memory we grew into
+        if (sortedDataIndicies.length > initialCapacity) {
+            this.data = new byte[initialCapacity * AVERAGE_KEY_SIZE];
+            this.sortedDataIndicies = new int[initialCapacity];
+            this.sortedDataSizes = new int[initialCapacity];
+        }
+    }
+    
+    @Override
+    public Comparator<? super Key> comparator() {
+        // natural key ordering
+        return null;
+    }
+    
+    @Override
+    public SortedSet<Key> subSet(Key fromElement, Key toElement) {
+        return new SortedKeySubSetBuffer(fromElement, toElement);
+    }
+    
+    @Override
+    public SortedSet<Key> headSet(Key toElement) {
+        return new SortedKeySubSetBuffer(null, toElement);
+    }
+    
+    @Override
+    public SortedSet<Key> tailSet(Key fromElement) {
+        return new SortedKeySubSetBuffer(fromElement, null);
+    }
+    
+    @Override
+    public Key first() {
+        if (size == 0) {
+            QueryException qe = new QueryException(DatawaveErrorCode.FETCH_FIRST_ELEMENT_ERROR);
+            throw (NoSuchElementException) (new NoSuchElementException().initCause(qe));
+        }
+        return get(0);
+    }
+    
+    @Override
+    public Key last() {
+        if (size == 0) {
+            QueryException qe = new QueryException(DatawaveErrorCode.FETCH_LAST_ELEMENT_ERROR);
+            throw (NoSuchElementException) (new NoSuchElementException().initCause(qe));
+        }
+        return get(size - 1);
+    }
+    
+    /***************************** Other public methods *************************/
+    
+    public Key get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index is out of range");
+        }
+        int pos = sortedDataIndicies[index];
+        byte[] row = readBytes(data, pos);
+        pos += vIntSize(row.length) + row.length;
+        byte[] cf = readBytes(data, pos);
+        pos += vIntSize(cf.length) + cf.length;
+        byte[] cq = readBytes(data, pos);
+        pos += vIntSize(cq.length) + cq.length;
+        byte[] cv = readBytes(data, pos);
+        pos += vIntSize(cv.length) + cv.length;
+        long timestamp = readLong(data, pos);
+        boolean deleted = data[pos + 8] != 0;
+        return new Key(row, cf, cq, cv, timestamp, deleted, false);
+    }
+    
+    /**
+     * @return the number of bytes used to hold the encoded keys
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+    
+    /******************************* The protected stuff ***************************/
+    
+    protected void checkCapacity(int plusSize) {
+        checkDataCapacity(plusSize);
+        int minLen = size + 1;
+        int oldLen = sortedDataIndicies.length;
+        if (minLen > oldLen) {
+            int newLen = (oldLen * 3) / 2 + 1;
+            if (newLen < minLen) {
+                newLen = minLen;
+            }
+            sortedDataIndicies = Arrays.copyOf(sortedDataIndicies, newLen);
+            sortedDataSizes = Arrays.copyOf(sortedDataSizes, newLen);
+        }
+    }
+    
+    protected void checkDataCapacity(int plusSize) {
+        int minCapacity = bufferSize + plusSize;
+        int oldCapacity = data.length;
+        if (minCapacity > oldCapacity) {
+            int newCapacity = (oldCapacity * 3) / 2 + 1;
+            if (newCapacity < minCapacity) {
+                newCapacity = minCapacity;
+            }
+            data = Arrays.copyOf(data, newCapacity);
+        }
+    }
+    
+    protected void add(int index, byte[] encoded, int encodedSize) {
+        modCount++;
+        checkCapacity(encodedSize);
+        int dataIndex = bufferSize;
+        System.arraycopy(encoded, 0, data, bufferSize, encodedSize);
+        System.arraycopy(sortedDataIndicies, index, sortedDataIndicies, index + 1, size - index);
+        System.arraycopy(sortedDataSizes, index, sortedDataSizes, index + 1, size - index);
+        sortedDataIndicies[index] = dataIndex;
+        sortedDataSizes[index] = encodedSize;
+        bufferSize += encodedSize;
+        size++;
+    }
+    
+    protected void remove(int index) {
+        modCount++;
+        int dataIndex = sortedDataIndicies[index];
+        int dataSize = sortedDataSizes[index];
+        bufferSize -= dataSize;
+        size--;
+        System.arraycopy(data, dataIndex + dataSize, data, dataIndex, bufferSize - dataIndex);
+        System.arraycopy(sortedDataSizes, index + 1, sortedDataSizes, index, size - index);
+        System.arraycopy(sortedDataIndicies, index + 1, sortedDataIndicies, index, size - index);
+        for (int i = 0; i < size; i++) {
+            if (sortedDataIndicies[i] > dataIndex) {
+                sortedDataIndicies[i] -= dataSize;
+            }
+        }
+    }
+    
+    /**
+     * Encode the key into the scratch buffer, growing it as needed
+     * 
+     * @param key
+     * @return the encoded size
+     */
+    protected int encode(Key key) {
+        int encodedSize = encodedSize(key);
+        if (scratch.length < encodedSize) {
+            scratch = new byte[encodedSize];
+        }
+        int pos = writeBytes(scratch, 0, key.getRowData());
+        pos = writeBytes(scratch, pos, key.getColumnFamilyData());
+        pos = writeBytes(scratch, pos, key.getColumnQualifierData());
+        pos = writeBytes(scratch, pos, key.getColumnVisibilityData());
+        writeLong(scratch, pos, key.getTimestamp());
+        scratch[pos + 8] = (byte) (key.isDeleted() ? 1 : 0);
+        return encodedSize;
+    }
+    
+    protected static int encodedSize(Key key) {
+        return vIntSize(key.getRowData().length()) + key.getRowData().length() + vIntSize(key.getColumnFamilyData().length())
+                        + key.getColumnFamilyData().length() + vIntSize(key.getColumnQualifierData().length()) + key.getColumnQualifierData().length()
+                        + vIntSize(key.getColumnVisibilityData().length()) + key.getColumnVisibilityData().length() + 9;
+    }
+    
+    /**
+     * Compare two encoded keys in the same order as {@link Key#compareTo(Key)}
+     * 
+     * @param a
+     * @param aIndex
+     * @param b
+     * @param bIndex
+     * @return the comparison
+     */
+    protected static int compare(byte[] a, int aIndex, byte[] b, int bIndex) {
+        int aPos = aIndex;
+        int bPos = bIndex;
+        // row, column family, column qualifier, column visibility
+        for (int i = 0; i < 4; i++) {
+            int aLen = readVInt(a, aPos);
+            aPos += vIntSize(aLen);
+            int bLen = readVInt(b, bPos);
+            bPos += vIntSize(bLen);
+            int comparison = compareBytes(a, aPos, aLen, b, bPos, bLen);
+            if (comparison != 0) {
+                return comparison;
+            }
+            aPos += aLen;
+            bPos += bLen;
+        }
+        // newer timestamps sort first
+        int comparison = Long.compare(readLong(b, bPos), readLong(a, aPos));
+        if (comparison != 0) {
+            return comparison;
+        }
+        // deleted keys sort first
+        return b[bPos + 8] - a[aPos + 8];
+    }
+    
+    protected static int compareBytes(byte[] a, int aIndex, int aLen, byte[] b, int bIndex, int bLen) {
+        int minLen = Math.min(aLen, bLen);
+        for (int i = 0; i < minLen; i++) {
+            int comparison = (a[aIndex + i] & 0xff) - (b[bIndex + i] & 0xff);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return aLen - bLen;
+    }
+    
+    /**
+     * A binary search of the encoded keys based on the sorted index array. This leaves the key encoded in the scratch buffer.
+     * 
+     * @param key
+     * @return the index if found, otherwise -(insertion point + 1)
+     */
+    protected int binarySearch(Key key) {
+        return binarySearch(key, 0, this.size - 1);
+    }
+    
+    protected int binarySearch(Key key, int start, int end) {
+        encode(key);
+        while (start <= end) {
+            int middle = (start + end) >>> 1;
+            int comparison = compare(data, sortedDataIndicies[middle], scratch, 0);
+            
+            if (comparison < 0)
+                start = middle + 1;
+            else if (comparison > 0)
+                end = middle - 1;
+            else
+                return middle;
+        }
+        // return a negative index if not found so we know where it should go
+        return -(start + 1);
+    }
+    
+    /***************************** Encoding utilities *************************/
+    
+    private static int vIntSize(int value) {
+        int size = 1;
+        while ((value & ~0x7f) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+    
+    private static int writeBytes(byte[] buffer, int pos, ByteSequence bytes) {
+        int len = bytes.length();
+        while ((len & ~0x7f) != 0) {
+            buffer[pos++] = (byte) ((len & 0x7f) | 0x80);
+            len >>>= 7;
+        }
+        buffer[pos++] = (byte) len;
+        if (bytes.isBackedByArray()) {
+            System.arraycopy(bytes.getBackingArray(), bytes.offset(), buffer, pos, bytes.length());
+        } else {
+            System.arraycopy(bytes.toArray(), 0, buffer, pos, bytes.length());
+        }
+        return pos + bytes.length();
+    }
+    
+    /**
+     * Read a variable length int, which takes up {@link #vIntSize(int)} bytes of the buffer
+     */
+    private static int readVInt(byte[] buffer, int pos) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer[pos++];
+            value |= (b & 0x7f) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+    
+    /**
+     * Read a size prefixed array of bytes, which takes up the size of the size plus the length of the bytes
+     */
+    private static byte[] readBytes(byte[] buffer, int pos) {
+        int len = readVInt(buffer, pos);
+        pos += vIntSize(len);
+        return Arrays.copyOfRange(buffer, pos, pos + len);
+    }
+    
+    private static void writeLong(byte[] buffer, int pos, long value) {
+        for (int i = 7; i >= 0; i--) {
+            buffer[pos + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+    
+    private static long readLong(byte[] buffer, int pos) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[pos + i] & 0xff);
+        }
+        return value;
+    }
+    
+    protected class SortedKeySetBufferIterator implements Iterator<Key> {
+        protected int index = 0;
+        protected int end = 0;
+        protected int expectedModCount = -1;
+        protected int last = -1;
+        
+        public SortedKeySetBufferIterator() {
+            this(0, size);
+        }
+        
+        public SortedKeySetBufferIterator(int start, int end) {
+            this.expectedModCount = modCount;
+            this.index = start;
+            this.end = end;
+        }
+        
+        final void checkModCount() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+        
+        @Override
+        public boolean hasNext() {
+            checkModCount();
+            return index < end;
+        }
+        
+        @Override
+        public Key next() {
+            if (!hasNext()) {
+                QueryException qe = new QueryException(DatawaveErrorCode.FETCH_NEXT_ELEMENT_ERROR);
+                throw (NoSuchElementException) (new NoSuchElementException().initCause(qe));
+            }
+            last = index;
+            return get(index++);
+        }
+        
+        @Override
+        public void remove() {
+            checkModCount();
+            if (last >= 0) {
+                SortedKeySetBuffer.this.remove(last);
+                index--;
+                end--;
+                last = -1;
+                expectedModCount = modCount;
+            } else {
+                throw new IllegalStateException("next needs to be called first");
+            }
+        }
+    }
+    
+    protected class SortedKeySubSetBuffer extends AbstractSet<Key> implements SortedSet<Key> {
+        protected Key from;
+        protected Key to;
+        
+        public SortedKeySubSetBuffer(Key from, Key to) {
+            if (from != null && to != null && from.compareTo(to) > 0) {
+                throw new IllegalArgumentException("The start is greater than the end");
+            }
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        public Comparator<? super Key> comparator() {
+            return SortedKeySetBuffer.this.comparator();
+        }
+        
+        @Override
+        public SortedSet<Key> subSet(Key fromElement, Key toElement) {
+            if ((from != null && fromElement.compareTo(from) < 0) || (to != null && to.compareTo(toElement) < 0)) {
+                throw new IllegalArgumentException("Cannot create subset outside of the range of this subset");
+            }
+            return SortedKeySetBuffer.this.subSet(fromElement, toElement);
+        }
+        
+        @Override
+        public SortedSet<Key> headSet(Key toElement) {
+            return subSet(from, toElement);
+        }
+        
+        @Override
+        public SortedSet<Key> tailSet(Key fromElement) {
+            return subSet(fromElement, to);
+        }
+        
+        @Override
+        public Key first() {
+            int[] range = getRange();
+            if (range == null) {
+                QueryException qe = new QueryException(DatawaveErrorCode.FETCH_FIRST_ELEMENT_ERROR);
+                throw (NoSuchElementException) (new NoSuchElementException().initCause(qe));
+            }
+            return get(range[0]);
+        }
+        
+        @Override
+        public Key last() {
+            int[] range = getRange();
+            if (range == null) {
+                QueryException qe = new QueryException(DatawaveErrorCode.FETCH_LAST_ELEMENT_ERROR);
+                throw (NoSuchElementException) (new NoSuchElementException().initCause(qe));
+            }
+            return get(range[1]);
+        }
+        
+        @Override
+        public Iterator<Key> iterator() {
+            int[] range = getRange();
+            if (range == null) {
+                return new SortedKeySetBufferIterator(0, 0);
+            } else {
+                return new SortedKeySetBufferIterator(range[0], range[1] + 1);
+            }
+        }
+        
+        @Override
+        public int size() {
+            int[] range = getRange();
+            if (range == null) {
+                return 0;
+            } else {
+                return range[1] - range[0] + 1;
+            }
+        }
+        
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Key) || !inRange((Key) o)) {
+                return false;
+            }
+            return SortedKeySetBuffer.this.contains(o);
+        }
+        
+        @Override
+        public boolean add(Key e) {
+            if (!inRange(e)) {
+                throw new IllegalArgumentException("Cannot add element outside of subset range");
+            }
+            return SortedKeySetBuffer.this.add(e);
+        }
+        
+        @Override
+        public boolean remove(Object o) {
+            if (contains(o)) {
+                return SortedKeySetBuffer.this.remove(o);
+            }
+            return false;
+        }
+        
+        private boolean inRange(Key key) {
+            return (from == null || key.compareTo(from) >= 0) && (to == null || key.compareTo(to) < 0);
+        }
+        
+        /***
+         * Get the range of elements in the SortedKeySetBuffer
+         * 
+         * @return int[] {firstIndex, lastIndex}
+         */
+        protected int[] getRange() {
+            if (SortedKeySetBuffer.this.isEmpty()) {
+                return null;
+            }
+            
+            // find the first entry
+            int start = (from == null ? 0 : binarySearch(from));
+            if (start < 0) {
+                start = -1 - start;
+            }
+            
+            // find the last entry
+            int end = (to == null ? SortedKeySetBuffer.this.size() : binarySearch(to));
+            if (end < 0) {
+                end = -1 - end;
+            }
+            // since the end is exclusive, go to the previous element
+            end--;
+            
+            // if the start is after the end, then no range
+            if (start > end) {
+                return null;
+            }
+            return new int[] {start, end};
+        }
+    }
+}
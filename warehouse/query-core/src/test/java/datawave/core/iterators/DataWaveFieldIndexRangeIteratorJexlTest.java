@@ -1,10 +1,12 @@
 package datawave.core.iterators;
 
 import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.PartialKey;
 import org.apache.accumulo.core.data.Range;
 import org.apache.hadoop.io.Text;
 import org.junit.Assert;
 import org.junit.Test;
+import org.powermock.reflect.Whitebox;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -68,6 +70,31 @@ public class DataWaveFieldIndexRangeIteratorJexlTest {
             Assert.assertEquals(expectedRanges.get(i), boundingFiRanges.get(i));
     }
     
+    @Test
+    public void lastRangeSeekedCoversRowTest() {
+        TestDataWaveFieldIndexRangeIteratorJexl rangeIvarator = new TestDataWaveFieldIndexRangeIteratorJexl(new TreeSet<>(), false);
+        Assert.assertFalse(rangeIvarator.lastRangeSeekedCoversRow("20190424_0"));
+        
+        // the whole row, or several rows
+        Whitebox.setInternalState(rangeIvarator, "lastRangeSeeked", new Range("20190424_0"));
+        Assert.assertTrue(rangeIvarator.lastRangeSeekedCoversRow("20190424_0"));
+        Whitebox.setInternalState(rangeIvarator, "lastRangeSeeked", new Range("20190424_0", "20190424_9"));
+        Assert.assertTrue(rangeIvarator.lastRangeSeekedCoversRow("20190424_0"));
+        Whitebox.setInternalState(rangeIvarator, "lastRangeSeeked", new Range());
+        Assert.assertTrue(rangeIvarator.lastRangeSeekedCoversRow("20190424_0"));
+        
+        // part of the row, e.g. reseeking after a yield
+        Key rowEnd = new Key("20190424_0").followingKey(PartialKey.ROW);
+        Whitebox.setInternalState(rangeIvarator, "lastRangeSeeked", new Range(new Key("20190424_0", "datatype\0uid"), true, rowEnd, false));
+        Assert.assertFalse(rangeIvarator.lastRangeSeekedCoversRow("20190424_0"));
+        Whitebox.setInternalState(rangeIvarator, "lastRangeSeeked", new Range(new Key("20190424_0"), true, new Key("20190424_0", "datatype\0uid"), false));
+        Assert.assertFalse(rangeIvarator.lastRangeSeekedCoversRow("20190424_0"));
+        
+        // another row
+        Whitebox.setInternalState(rangeIvarator, "lastRangeSeeked", new Range("20190424_1"));
+        Assert.assertFalse(rangeIvarator.lastRangeSeekedCoversRow("20190424_0"));
+    }
+    
     private static class TestDataWaveFieldIndexRangeIteratorJexl extends DatawaveFieldIndexRangeIteratorJexl {
         
         boolean negated = false;
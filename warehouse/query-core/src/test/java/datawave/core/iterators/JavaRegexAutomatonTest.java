@@ -0,0 +1,84 @@
+package datawave.core.iterators;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+public class JavaRegexAutomatonTest {
+    
+    private static final List<String> VALUES = Arrays.asList("", "a", "ab", "abc", "abcd", "b", "ba", "bab", "xyz", "ayz", "a.b", "a\"b", "a~b", "a#b", "a-b",
+                    "123", "1a2", "zzz", "a\nb", "été", "café", "the quick brown fox");
+    
+    @Test
+    public void testConversion() {
+        Assert.assertEquals("ab.*", JavaRegexAutomaton.toLuceneRegex("ab.*"));
+        Assert.assertEquals(".*a\\.b", JavaRegexAutomaton.toLuceneRegex(".*a\\.b"));
+        Assert.assertEquals("a\\\"b\\~c\\#d\\@e\\<f\\>", JavaRegexAutomaton.toLuceneRegex("a\"b~c#d@e<f>"));
+        Assert.assertEquals("[^a-c\\~]+(x|yz){1,3}", JavaRegexAutomaton.toLuceneRegex("[^a-c~]+(x|yz){1,3}"));
+        
+        // syntax which has no equivalent
+        Assert.assertNull(JavaRegexAutomaton.toLuceneRegex("\\d+"));
+        Assert.assertNull(JavaRegexAutomaton.toLuceneRegex("a\\1"));
+        Assert.assertNull(JavaRegexAutomaton.toLuceneRegex("\\Qa.b\\E"));
+        Assert.assertNull(JavaRegexAutomaton.toLuceneRegex("(?i)abc"));
+        Assert.assertNull(JavaRegexAutomaton.toLuceneRegex("(?:ab)+"));
+        Assert.assertNull(JavaRegexAutomaton.toLuceneRegex("^abc$"));
+        Assert.assertNull(JavaRegexAutomaton.toLuceneRegex("[a[bc]]"));
+        Assert.assertNull(JavaRegexAutomaton.toLuceneRegex("[a-z&&[^x]]"));
+        Assert.assertNull(JavaRegexAutomaton.toLuceneRegex("[a-]"));
+        Assert.assertNull(JavaRegexAutomaton.toLuceneRegex("(a|)"));
+        Assert.assertNull(JavaRegexAutomaton.toLuceneRegex("a|"));
+        Assert.assertNull(JavaRegexAutomaton.toLuceneRegex("[abc"));
+        Assert.assertNull(JavaRegexAutomaton.toLuceneRegex("abc\\"));
+        
+        Assert.assertNull(JavaRegexAutomaton.create("\\w+"));
+    }
+    
+    @Test
+    public void testNeverRulesOutAMatch() {
+        for (String regex : Arrays.asList("a.*", ".*b", ".*a.*", "a?b+", "[ab]+", "[^a]*", "(ab|ba)c?", "a.b", "a\"b", "a~b", "a#b", "a\\-b", "[0-9]{3}",
+                        "[0-9]a[0-9]", "caf.", ".t.t.", "the .* fox", "a*+b", "a{1,2}?", "[^x]yz")) {
+            JavaRegexAutomaton automaton = JavaRegexAutomaton.create(regex);
+            Assert.assertNotNull(regex, automaton);
+            Pattern pattern = Pattern.compile(regex);
+            for (String value : VALUES) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                int result = automaton.run(bytes, 0, bytes.length);
+                if (pattern.matcher(value).matches()) {
+                    Assert.assertEquals(regex + " " + value, JavaRegexAutomaton.MATCH, result);
+                }
+                if (result > 0) {
+                    // nothing beginning with the prefix can match
+                    String prefix = new String(bytes, 0, result, StandardCharsets.UTF_8);
+                    for (String other : VALUES) {
+                        if (other.startsWith(prefix)) {
+                            Assert.assertFalse(regex + " " + other, pattern.matcher(other).matches());
+                        }
+                    }
+                }
+            }
+        }
+    }
+    
+    @Test
+    public void testDeadPrefix() {
+        JavaRegexAutomaton automaton = JavaRegexAutomaton.create(".*ab");
+        byte[] bytes = "xxab".getBytes(StandardCharsets.UTF_8);
+        Assert.assertEquals(JavaRegexAutomaton.MATCH, automaton.run(bytes, 0, bytes.length));
+        // a leading wildcard can still match anything following the value
+        bytes = "xxa".getBytes(StandardCharsets.UTF_8);
+        Assert.assertEquals(JavaRegexAutomaton.NO_MATCH, automaton.run(bytes, 0, bytes.length));
+        
+        automaton = JavaRegexAutomaton.create("a[0-9]+z");
+        bytes = "a12bcd".getBytes(StandardCharsets.UTF_8);
+        // a12b can not begin a match
+        Assert.assertEquals(4, automaton.run(bytes, 0, bytes.length));
+        bytes = "xa1z".getBytes(StandardCharsets.UTF_8);
+        Assert.assertEquals(JavaRegexAutomaton.MATCH, automaton.run(bytes, 1, 3));
+        Assert.assertEquals(1, automaton.run(bytes, 0, bytes.length));
+    }
+}
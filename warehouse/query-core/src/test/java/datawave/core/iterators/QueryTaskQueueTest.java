@@ -0,0 +1,155 @@
+package datawave.core.iterators;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class QueryTaskQueueTest {
+    
+    private static QueryTaskQueue.QueryTask task(String queryId, int priority) {
+        return new QueryTaskQueue.QueryTask(() -> {}, queryId, priority);
+    }
+    
+    private static List<String> drainQueryIds(QueryTaskQueue queue) {
+        List<String> queryIds = new ArrayList<>();
+        Runnable r;
+        while ((r = queue.poll()) != null) {
+            queryIds.add(((QueryTaskQueue.QueryTask) r).getQueryId());
+        }
+        return queryIds;
+    }
+    
+    @Test
+    public void testRoundRobinAcrossQueries() {
+        QueryTaskQueue queue = new QueryTaskQueue(0);
+        for (int i = 0; i < 6; i++) {
+            Assert.assertTrue(queue.offer(task("heavy", 1)));
+        }
+        Assert.assertTrue(queue.offer(task("light", 1)));
+        Assert.assertTrue(queue.offer(task("light", 1)));
+        Assert.assertEquals(8, queue.size());
+        
+        List<String> order = drainQueryIds(queue);
+        // the light query must not wait behind all of the heavy query's tasks
+        Assert.assertEquals("heavy", order.get(0));
+        Assert.assertEquals("light", order.get(1));
+        Assert.assertEquals("heavy", order.get(2));
+        Assert.assertEquals("light", order.get(3));
+        Assert.assertEquals(8, order.size());
+        Assert.assertEquals(0, queue.size());
+    }
+    
+    @Test
+    public void testPriorityWeighting() {
+        QueryTaskQueue queue = new QueryTaskQueue(0);
+        for (int i = 0; i < 20; i++) {
+            queue.offer(task("high", 3));
+            queue.offer(task("low", 1));
+        }
+        
+        List<String> order = drainQueryIds(queue);
+        int high = 0;
+        for (String queryId : order.subList(0, 12)) {
+            if (queryId.equals("high")) {
+                high++;
+            }
+        }
+        Assert.assertEquals(9, high);
+    }
+    
+    @Test
+    public void testMaxQueuedPerQuery() {
+        QueryTaskQueue queue = new QueryTaskQueue(2);
+        Assert.assertTrue(queue.offer(task("q1", 1)));
+        Assert.assertTrue(queue.offer(task("q1", 1)));
+        Assert.assertFalse(queue.offer(task("q1", 1)));
+        Assert.assertTrue(queue.offer(task("q2", 1)));
+        Assert.assertEquals(2, queue.getQueuedPerQuery().get("q1").intValue());
+        Assert.assertEquals(1, queue.getQueuedPerQuery().get("q2").intValue());
+        
+        queue.poll();
+        Assert.assertTrue(queue.offer(task("q1", 1)));
+    }
+    
+    @Test
+    public void testTimedOfferWaitsForRoom() throws InterruptedException {
+        QueryTaskQueue queue = new QueryTaskQueue(1);
+        Assert.assertTrue(queue.offer(task("q1", 1)));
+        
+        long start = System.nanoTime();
+        Assert.assertFalse(queue.offer(task("q1", 1), 50, TimeUnit.MILLISECONDS));
+        Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        
+        Thread consumer = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+                queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+        Assert.assertTrue(queue.offer(task("q1", 1), 10, TimeUnit.SECONDS));
+        consumer.join();
+        Assert.assertEquals(1, queue.size());
+    }
+    
+    @Test
+    public void testPutWaitsForRoom() throws InterruptedException {
+        QueryTaskQueue queue = new QueryTaskQueue(1);
+        queue.put(task("q1", 1));
+        
+        CountDownLatch added = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            try {
+                queue.put(task("q1", 1));
+                added.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        
+        // the task must not be dropped nor added while the query is at its limit
+        Assert.assertFalse(added.await(50, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(1, queue.size());
+        
+        // another query is not held up by the full one
+        queue.put(task("q2", 1));
+        Assert.assertEquals(2, queue.size());
+        
+        Assert.assertNotNull(queue.poll());
+        Assert.assertNotNull(queue.poll());
+        Assert.assertTrue(added.await(10, TimeUnit.SECONDS));
+        producer.join();
+        Assert.assertEquals(1, queue.size());
+        Assert.assertEquals(1, queue.getQueuedPerQuery().get("q1").intValue());
+    }
+    
+    @Test
+    public void testUnknownQueryAndRemove() throws InterruptedException {
+        QueryTaskQueue queue = new QueryTaskQueue(0);
+        Runnable plain = () -> {};
+        QueryTaskQueue.QueryTask queryTask = task("q1", 1);
+        queue.offer(plain);
+        queue.offer(queryTask);
+        Assert.assertTrue(queue.getQueuedPerQuery().containsKey(QueryTaskQueue.UNKNOWN_QUERY));
+        
+        Iterator<Runnable> it = queue.iterator();
+        while (it.hasNext()) {
+            if (it.next() == plain) {
+                it.remove();
+            }
+        }
+        Assert.assertEquals(1, queue.size());
+        Assert.assertFalse(queue.getQueuedPerQuery().containsKey(QueryTaskQueue.UNKNOWN_QUERY));
+        
+        Assert.assertSame(queryTask, queue.poll(10, TimeUnit.MILLISECONDS));
+        Assert.assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,28 @@
+package datawave.core.iterators;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class VirtualThreadsTest {
+    
+    @Test
+    public void testThreadFactory() throws InterruptedException {
+        ThreadFactory factory = VirtualThreads.newThreadFactory("test");
+        if (!VirtualThreads.isSupported()) {
+            Assert.assertNull(factory);
+            Assert.assertFalse(VirtualThreads.isVirtual(Thread.currentThread()));
+            return;
+        }
+        
+        Assert.assertNotNull(factory);
+        final AtomicBoolean ranVirtual = new AtomicBoolean(false);
+        Thread thread = factory.newThread(() -> ranVirtual.set(VirtualThreads.isVirtual(Thread.currentThread())));
+        Assert.assertTrue(thread.getName().startsWith("test virtual "));
+        thread.start();
+        thread.join();
+        Assert.assertTrue(ranVirtual.get());
+    }
+}
@@ -0,0 +1,139 @@
+package datawave.query.attributes;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import org.apache.accumulo.core.data.Key;
+import org.apache.hadoop.io.WritableUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+public class DocumentSerializationTest {
+    
+    private Document document;
+    
+    @Before
+    public void setup() {
+        Key docKey = new Key("20200101_0", "datatype\u0000uid");
+        document = new Document(docKey, true);
+        document.put("NAME", new Content("alice", docKey, true));
+        document.put("NAME", new Content("bob", docKey, true));
+        document.put("AGE", new Numeric("42", docKey, true));
+        document.put("CITY", new Content("paris", docKey, true));
+    }
+    
+    @Test
+    public void testWritableRoundTrip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        document.write(new DataOutputStream(bytes));
+        
+        Document read = new Document();
+        read.readFields(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        
+        Assert.assertEquals(document, read);
+        Assert.assertEquals(document.size(), read.size());
+        Assert.assertTrue(read.get("NAME") instanceof Attributes);
+        Assert.assertTrue(read.get("AGE") instanceof Numeric);
+    }
+    
+    @Test
+    public void testKryoRoundTrip() {
+        Kryo kryo = new Kryo();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Output output = new Output(bytes);
+        document.write(kryo, output);
+        output.close();
+        
+        Document read = new Document();
+        read.read(kryo, new Input(bytes.toByteArray()));
+        
+        Assert.assertEquals(document, read);
+        Assert.assertEquals(document.size(), read.size());
+        Assert.assertTrue(read.get("NAME") instanceof Attributes);
+        Assert.assertTrue(read.get("AGE") instanceof Numeric);
+    }
+    
+    @Test
+    public void testWritableReadsWithoutClassTable() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        
+        // the form written before the class table, with the class name of each attribute
+        WritableUtils.writeVInt(out, document.size());
+        out.writeBoolean(true);
+        WritableUtils.writeVLong(out, document.sizeInBytes());
+        WritableUtils.writeVInt(out, document.getDictionary().size());
+        for (Map.Entry<String,Attribute<? extends Comparable<?>>> entry : document.entrySet()) {
+            WritableUtils.writeString(out, entry.getKey());
+            WritableUtils.writeString(out, entry.getValue().getClass().getName());
+            if (entry.getValue() instanceof Attributes) {
+                Attributes attrs = (Attributes) entry.getValue();
+                WritableUtils.writeVInt(out, attrs.size());
+                out.writeBoolean(true);
+                WritableUtils.writeVInt(out, attrs.getAttributes().size());
+                for (Attribute<?> attr : attrs.getAttributes()) {
+                    WritableUtils.writeString(out, attr.getClass().getName());
+                    attr.write(out);
+                }
+            } else {
+                entry.getValue().write(out);
+            }
+        }
+        WritableUtils.writeVLong(out, document.shardTimestamp);
+        
+        Document read = new Document();
+        read.readFields(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        
+        Assert.assertEquals(document, read);
+        Assert.assertEquals(document.size(), read.size());
+        Assert.assertTrue(read.get("NAME") instanceof Attributes);
+        Assert.assertTrue(read.get("AGE") instanceof Numeric);
+    }
+    
+    @Test
+    public void testKryoReadsWithoutClassTable() {
+        Kryo kryo = new Kryo();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Output output = new Output(bytes);
+        
+        // the form written before the class table, with the class name of each attribute
+        output.writeInt(document.size(), true);
+        output.writeBoolean(true);
+        output.writeLong(document.sizeInBytes(), true);
+        output.writeInt(document.getDictionary().size(), true);
+        for (Map.Entry<String,Attribute<? extends Comparable<?>>> entry : document.entrySet()) {
+            output.writeString(entry.getKey());
+            output.writeString(entry.getValue().getClass().getName());
+            if (entry.getValue() instanceof Attributes) {
+                Attributes attrs = (Attributes) entry.getValue();
+                output.writeInt(attrs.size(), true);
+                output.writeBoolean(true);
+                output.writeInt(attrs.getAttributes().size(), true);
+                for (Attribute<?> attr : attrs.getAttributes()) {
+                    output.writeString(attr.getClass().getName());
+                    attr.write(kryo, output);
+                }
+            } else {
+                entry.getValue().write(kryo, output);
+            }
+        }
+        output.writeLong(document.shardTimestamp);
+        output.close();
+        
+        Document read = new Document();
+        read.read(kryo, new Input(bytes.toByteArray()));
+        
+        Assert.assertEquals(document, read);
+        Assert.assertEquals(document.size(), read.size());
+        Assert.assertTrue(read.get("NAME") instanceof Attributes);
+        Assert.assertTrue(read.get("AGE") instanceof Numeric);
+    }
+}
@@ -0,0 +1,103 @@
+package datawave.query.collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+public class SortedArrayMapTest {
+    
+    @Test
+    public void testMatchesTreeMap() {
+        Random random = new Random(4321);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            keys.add("FIELD_" + random.nextInt(150));
+        }
+        
+        TreeMap<String,Integer> expected = new TreeMap<>();
+        SortedArrayMap<String,Integer> actual = new SortedArrayMap<>(2);
+        for (int i = 0; i < keys.size(); i++) {
+            Assert.assertEquals(expected.put(keys.get(i), i), actual.put(keys.get(i), i));
+        }
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(actual, expected);
+        Assert.assertEquals(expected.hashCode(), actual.hashCode());
+        Assert.assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(actual.keySet()));
+        Assert.assertEquals(new ArrayList<>(expected.values()), new ArrayList<>(actual.values()));
+        
+        for (String key : keys) {
+            Assert.assertTrue(actual.containsKey(key));
+            Assert.assertEquals(expected.get(key), actual.get(key));
+        }
+        Assert.assertNull(actual.get("NOT_A_FIELD"));
+        
+        Collections.shuffle(keys, random);
+        for (String key : keys.subList(0, 50)) {
+            Assert.assertEquals(expected.remove(key), actual.remove(key));
+        }
+        Assert.assertEquals(expected, actual);
+    }
+    
+    @Test
+    public void testEntryIterator() {
+        SortedArrayMap<String,Integer> map = new SortedArrayMap<>();
+        for (int i = 0; i < 10; i++) {
+            map.put("FIELD_" + i, i);
+        }
+        
+        Iterator<Map.Entry<String,Integer>> it = map.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String,Integer> entry = it.next();
+            if (entry.getValue() % 2 == 0) {
+                it.remove();
+            } else {
+                entry.setValue(entry.getValue() * 10);
+            }
+        }
+        
+        Assert.assertEquals(5, map.size());
+        Assert.assertEquals(Integer.valueOf(10), map.get("FIELD_1"));
+        Assert.assertEquals(Integer.valueOf(90), map.get("FIELD_9"));
+        Assert.assertFalse(map.containsKey("FIELD_0"));
+        
+        map.clear();
+        Assert.assertTrue(map.isEmpty());
+        Assert.assertFalse(map.entrySet().iterator().hasNext());
+    }
+    
+    @Test
+    public void testIndexedAccess() {
+        TreeMap<String,Integer> expected = new TreeMap<>();
+        SortedArrayMap<String,Integer> map = new SortedArrayMap<>();
+        for (int i = 9; i >= 0; i--) {
+            expected.put("FIELD_" + i, i);
+            map.put("FIELD_" + i, i);
+        }
+        
+        List<String> keys = new ArrayList<>();
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < map.size(); i++) {
+            keys.add(map.keyAt(i));
+            values.add(map.valueAt(i));
+        }
+        Assert.assertEquals(new ArrayList<>(expected.keySet()), keys);
+        Assert.assertEquals(new ArrayList<>(expected.values()), values);
+        
+        List<String> visited = new ArrayList<>();
+        map.forEach((key, value) -> visited.add(key + "=" + value));
+        Assert.assertEquals(new ArrayList<>(expected.entrySet()).toString(), visited.toString());
+        
+        // the entries may be held on to by callers
+        Set<Map.Entry<String,Integer>> entries = new HashSet<>(map.entrySet());
+        Assert.assertEquals(expected.entrySet(), entries);
+    }
+}
@@ -76,6 +76,14 @@ public class ShardQueryConfigurationTest {
         Assert.assertEquals(0, config.getNumRangesToBuffer());
         Assert.assertEquals(0, config.getRangeBufferTimeoutMillis());
         Assert.assertEquals(100, config.getRangeBufferPollMillis());
+        Assert.assertEquals(0, config.getMaxRangesToBuffer());
+        Assert.assertFalse(config.isAdaptiveRangeBundling());
+        Assert.assertFalse(config.isGlobalIndexCacheEnabled());
+        Assert.assertEquals(100000, config.getGlobalIndexCacheMaxEntries());
+        Assert.assertEquals(300000, config.getGlobalIndexCacheTtlMillis());
+        Assert.assertEquals(1000, config.getGlobalIndexCacheMaxEntriesPerTerm());
+        Assert.assertFalse(config.isSharedIndexExpansion());
+        Assert.assertEquals(20, config.getIndexExpansionThreads());
         Assert.assertEquals(8, config.getGeometryMaxExpansion());
         Assert.assertEquals(32, config.getPointMaxExpansion());
         Assert.assertEquals(16, config.getGeoWaveRangeSplitThreshold());
@@ -91,6 +99,7 @@ public class ShardQueryConfigurationTest {
         Assert.assertEquals("EVENT", config.getDefaultDateTypeName());
         Assert.assertTrue(config.isCleanupShardsAndDaysQueryHints());
         Assert.assertEquals(new Integer(8), config.getNumQueryThreads());
+        Assert.assertEquals(1, config.getQueryPriority());
         Assert.assertEquals(new Integer(8), config.getNumIndexLookupThreads());
         Assert.assertEquals(new Integer(8), config.getNumDateIndexThreads());
         Assert.assertEquals(new Integer(-1), config.getMaxDocScanTimeout());
@@ -132,6 +141,8 @@ public class ShardQueryConfigurationTest {
         Assert.assertTrue(config.isFailOutsideValidDateRange());
         Assert.assertFalse(config.isRawTypes());
         Assert.assertEquals(-1.0, config.getMinSelectivity(), 0);
+        Assert.assertEquals(-1.0, config.getMaxCardinalityRatio(), 0);
+        Assert.assertEquals(-1.0, config.getEstimatedCardinality(), 0);
         Assert.assertFalse(config.getIncludeDataTypeAsField());
         Assert.assertTrue(config.getIncludeRecordId());
         Assert.assertFalse(config.getIncludeHierarchyFields());
@@ -168,6 +179,9 @@ public class ShardQueryConfigurationTest {
         Assert.assertEquals(2, config.getIvaratorNumRetries());
         Assert.assertEquals(100, config.getIvaratorPersistVerifyCount());
         Assert.assertEquals(true, config.isIvaratorPersistVerify());
+        Assert.assertEquals("gz", config.getIvaratorPersistCompression());
+        Assert.assertEquals(0, config.getIvaratorSharedCacheTtl());
+        Assert.assertEquals(0, config.getIvaratorSharedCacheMaxSize());
         Assert.assertNull(config.getIvaratorFstHdfsBaseURIs());
         Assert.assertEquals(10000, config.getIvaratorCacheBufferSize());
         Assert.assertEquals(100000, config.getIvaratorCacheScanPersistThreshold());
@@ -176,6 +190,7 @@ public class ShardQueryConfigurationTest {
         Assert.assertEquals(100, config.getIvaratorMaxOpenFiles());
         Assert.assertEquals(33, config.getMaxIvaratorSources());
         Assert.assertEquals(25, config.getMaxEvaluationPipelines());
+        Assert.assertEquals(1, config.getPipelineBatchSize());
         Assert.assertEquals(25, config.getMaxPipelineCachedResults());
         Assert.assertFalse(config.isExpandAllTerms());
         Assert.assertNull(config.getQueryModel());
@@ -437,7 +452,7 @@ public class ShardQueryConfigurationTest {
      */
     @Test
     public void testCheckForNewAdditions() throws IOException {
-        int expectedObjectCount = 175;
+        int expectedObjectCount = 190;
         ShardQueryConfiguration config = ShardQueryConfiguration.create();
         ObjectMapper mapper = new ObjectMapper();
         JsonNode root = mapper.readTree(mapper.writeValueAsString(config));
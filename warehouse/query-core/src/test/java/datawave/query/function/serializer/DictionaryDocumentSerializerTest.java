@@ -0,0 +1,101 @@
+package datawave.query.function.serializer;
+
+import com.google.common.collect.Maps;
+import datawave.query.attributes.Content;
+import datawave.query.attributes.Document;
+import datawave.query.attributes.Numeric;
+import datawave.query.function.deserializer.DictionaryDocumentDeserializer;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Value;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Map;
+
+public class DictionaryDocumentSerializerTest {
+    
+    private Map.Entry<Key,Document> createDocument(String uid) {
+        Key docKey = new Key("20200101_0", "datatype\u0000" + uid, "", "PUBLIC", 1000L);
+        Document document = new Document(docKey, true);
+        document.put("NAME", new Content("alice-" + uid, docKey, true));
+        document.put("NAME", new Content("bob-" + uid, docKey, true));
+        document.put("AGE", new Numeric("42", docKey, true));
+        document.put("CITY", new Content("paris", docKey, true));
+        return Maps.immutableEntry(docKey, document);
+    }
+    
+    @Test
+    public void testRoundTrip() {
+        DictionaryDocumentSerializer serializer = new DictionaryDocumentSerializer();
+        DictionaryDocumentDeserializer deserializer = new DictionaryDocumentDeserializer();
+        
+        for (int i = 0; i < 3; i++) {
+            Map.Entry<Key,Document> document = createDocument("uid" + i);
+            Map.Entry<Key,Document> read = deserializer.apply(serializer.apply(document));
+            Assert.assertEquals(document.getKey(), read.getKey());
+            Assert.assertEquals(document.getValue(), read.getValue());
+            Assert.assertEquals(document.getValue().get("CITY").getColumnVisibility(), read.getValue().get("CITY").getColumnVisibility());
+        }
+    }
+    
+    @Test
+    public void testSymbolsAreOnlyWrittenOnce() {
+        DictionaryDocumentSerializer serializer = new DictionaryDocumentSerializer();
+        KryoDocumentSerializer kryoSerializer = new KryoDocumentSerializer();
+        
+        int first = serializer.apply(createDocument("uid0")).getValue().getSize();
+        int second = serializer.apply(createDocument("uid1")).getValue().getSize();
+        int kryo = kryoSerializer.apply(createDocument("uid1")).getValue().getSize();
+        
+        Assert.assertTrue(second < first);
+        Assert.assertTrue(second < kryo);
+    }
+    
+    @Test
+    public void testInterleavedSessions() {
+        DictionaryDocumentSerializer serializer1 = new DictionaryDocumentSerializer();
+        DictionaryDocumentSerializer serializer2 = new DictionaryDocumentSerializer();
+        DictionaryDocumentDeserializer deserializer = new DictionaryDocumentDeserializer();
+        
+        Map.Entry<Key,Value> value1 = serializer1.apply(createDocument("uid0"));
+        Map.Entry<Key,Value> value2 = serializer2.apply(createDocument("uid1"));
+        Map.Entry<Key,Value> value3 = serializer1.apply(createDocument("uid2"));
+        Map.Entry<Key,Value> value4 = serializer2.apply(createDocument("uid3"));
+        
+        Assert.assertEquals(createDocument("uid0").getValue(), deserializer.apply(value1).getValue());
+        Assert.assertEquals(createDocument("uid1").getValue(), deserializer.apply(value2).getValue());
+        Assert.assertEquals(createDocument("uid2").getValue(), deserializer.apply(value3).getValue());
+        Assert.assertEquals(createDocument("uid3").getValue(), deserializer.apply(value4).getValue());
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void testUnknownSession() {
+        DictionaryDocumentSerializer serializer = new DictionaryDocumentSerializer();
+        serializer.apply(createDocument("uid0"));
+        
+        new DictionaryDocumentDeserializer().apply(serializer.apply(createDocument("uid1")));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void testOutOfSequence() {
+        DictionaryDocumentSerializer serializer = new DictionaryDocumentSerializer();
+        DictionaryDocumentDeserializer deserializer = new DictionaryDocumentDeserializer();
+        
+        deserializer.apply(serializer.apply(createDocument("uid0")));
+        serializer.apply(createDocument("uid1"));
+        deserializer.apply(serializer.apply(createDocument("uid2")));
+    }
+    
+    @Test
+    public void testCompressedRoundTrip() {
+        DictionaryDocumentSerializer serializer = new DictionaryDocumentSerializer(false, true);
+        DictionaryDocumentDeserializer deserializer = new DictionaryDocumentDeserializer();
+        
+        Map.Entry<Key,Document> document = createDocument("uid0");
+        for (int i = 0; i < 2000; i++) {
+            document.getValue().put("FIELD_" + i, new Content("value" + i, document.getKey(), true));
+        }
+        
+        Assert.assertEquals(document.getValue(), deserializer.apply(serializer.apply(document)).getValue());
+    }
+}
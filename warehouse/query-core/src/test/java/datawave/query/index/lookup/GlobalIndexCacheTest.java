@@ -0,0 +1,160 @@
+package datawave.query.index.lookup;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import datawave.accumulo.inmemory.InMemoryInstance;
+import org.apache.accumulo.core.client.Connector;
+import org.apache.accumulo.core.client.security.tokens.PasswordToken;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.security.Authorizations;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class GlobalIndexCacheTest {
+    
+    private static final String TABLE = "shardIndex";
+    
+    @Before
+    public void setup() {
+        GlobalIndexCache.invalidateAll();
+        GlobalIndexCache.setMaxEntries(GlobalIndexCache.DEFAULT_MAX_ENTRIES);
+        GlobalIndexCache.setTtlMillis(GlobalIndexCache.DEFAULT_TTL_MILLIS);
+    }
+    
+    @After
+    public void cleanup() {
+        GlobalIndexCache.invalidateAll();
+    }
+    
+    private List<Entry<Key,Value>> createEntries(int count) {
+        List<Entry<Key,Value>> entries = Lists.newArrayList();
+        for (int i = 0; i < count; i++) {
+            entries.add(Maps.immutableEntry(new Key("bar", "FOO", "20190101_" + i), new Value(new byte[] {(byte) i})));
+        }
+        return entries;
+    }
+    
+    @Test
+    public void testKeyIncludesAuthorizations() {
+        String key = GlobalIndexCache.createKey(TABLE, Collections.singleton(new Authorizations("A", "B")), "FOO", "bar");
+        Assert.assertEquals(key, GlobalIndexCache.createKey(TABLE, Collections.singleton(new Authorizations("B", "A")), "FOO", "bar"));
+        Assert.assertNotEquals(key, GlobalIndexCache.createKey(TABLE, Collections.singleton(new Authorizations("A")), "FOO", "bar"));
+        Assert.assertNotEquals(key, GlobalIndexCache.createKey(TABLE, Sets.newHashSet(new Authorizations("A", "B"), new Authorizations("C")), "FOO", "bar"));
+        Assert.assertNotEquals(key, GlobalIndexCache.createKey(TABLE, Collections.singleton(new Authorizations("A", "B")), "FOO", "baz"));
+    }
+    
+    @Test
+    public void testCachedOnceFullyRead() {
+        String key = GlobalIndexCache.createKey(TABLE, Collections.singleton(new Authorizations("A")), "FOO", "bar");
+        List<Entry<Key,Value>> entries = createEntries(5);
+        
+        Iterator<Entry<Key,Value>> itr = GlobalIndexCache.caching(key, 1, entries.iterator(), 10);
+        itr.next();
+        // nothing is cached until the scan completes
+        Assert.assertNull(GlobalIndexCache.get(key, 1));
+        
+        while (itr.hasNext()) {
+            itr.next();
+        }
+        
+        Iterator<Entry<Key,Value>> cached = GlobalIndexCache.get(key, 1);
+        Assert.assertNotNull(cached);
+        Assert.assertEquals(entries, Lists.newArrayList(cached));
+    }
+    
+    @Test
+    public void testInvalidatedByGeneration() {
+        String key = GlobalIndexCache.createKey(TABLE, Collections.singleton(new Authorizations("A")), "FOO", "bar");
+        Iterators.size(GlobalIndexCache.caching(key, 1, createEntries(5).iterator(), 10));
+        
+        Assert.assertNull(GlobalIndexCache.get(key, 2));
+        // the stale entries were dropped
+        Assert.assertNull(GlobalIndexCache.get(key, 1));
+    }
+    
+    @Test
+    public void testLargeTermsNotCached() {
+        String key = GlobalIndexCache.createKey(TABLE, Collections.singleton(new Authorizations("A")), "FOO", "bar");
+        Iterator<Entry<Key,Value>> itr = GlobalIndexCache.caching(key, 1, createEntries(20).iterator(), 10);
+        Assert.assertEquals(20, Iterators.size(itr));
+        Assert.assertNull(GlobalIndexCache.get(key, 1));
+    }
+    
+    @Test
+    public void testEarlyTerminatedScanNotCached() {
+        String key = GlobalIndexCache.createKey(TABLE, Collections.singleton(new Authorizations("A")), "FOO", "bar");
+        List<Entry<Key,Value>> entries = createEntries(5);
+        
+        // a scanner session which was closed part way through simply runs out of entries
+        AtomicBoolean closed = new AtomicBoolean(false);
+        Iterator<Entry<Key,Value>> session = new Iterator<Entry<Key,Value>>() {
+            private final Iterator<Entry<Key,Value>> delegate = entries.iterator();
+            
+            @Override
+            public boolean hasNext() {
+                return !closed.get() && delegate.hasNext();
+            }
+            
+            @Override
+            public Entry<Key,Value> next() {
+                return delegate.next();
+            }
+        };
+        
+        Iterator<Entry<Key,Value>> itr = GlobalIndexCache.caching(key, 1, session, 10, () -> !closed.get());
+        itr.next();
+        itr.next();
+        closed.set(true);
+        Assert.assertFalse(itr.hasNext());
+        Assert.assertNull(GlobalIndexCache.get(key, 1));
+        
+        // the same entries read to the end are cached
+        Iterators.size(GlobalIndexCache.caching(key, 1, entries.iterator(), 10, () -> true));
+        Assert.assertEquals(entries, Lists.newArrayList(GlobalIndexCache.get(key, 1)));
+    }
+    
+    @Test
+    public void testFailedScanNotCached() {
+        String key = GlobalIndexCache.createKey(TABLE, Collections.singleton(new Authorizations("A")), "FOO", "bar");
+        Iterator<Entry<Key,Value>> failing = Iterators.concat(createEntries(3).iterator(), new Iterator<Entry<Key,Value>>() {
+            @Override
+            public boolean hasNext() {
+                throw new IllegalStateException("scanner timed out");
+            }
+            
+            @Override
+            public Entry<Key,Value> next() {
+                throw new NoSuchElementException();
+            }
+        });
+        
+        Iterator<Entry<Key,Value>> itr = GlobalIndexCache.caching(key, 1, failing, 10);
+        try {
+            while (itr.hasNext()) {
+                itr.next();
+            }
+            Assert.fail("Expected the scan to fail");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        Assert.assertNull(GlobalIndexCache.get(key, 1));
+    }
+    
+    @Test
+    public void testUnknownGeneration() throws Exception {
+        Connector connector = new InMemoryInstance(GlobalIndexCacheTest.class.getName()).getConnector("root", new PasswordToken(""));
+        Assert.assertEquals(GlobalIndexCache.UNKNOWN_GENERATION, GlobalIndexCache.getGeneration(connector, "missingTable"));
+    }
+}
@@ -10,11 +10,14 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -329,4 +332,66 @@ public class IndexInfoTest {
         assertEquals(expectedMerged, left.union(right));
         assertEquals(expectedMerged, right.union(left));
     }
+    
+    /**
+     * The sorted intersection must find the same matches as the intersection of unsorted sets
+     */
+    @Test
+    public void testIntersection_SortedMatchesUnsorted() {
+        Random random = new Random(42);
+        IndexInfo intersector = new IndexInfo();
+        List<JexlNode> delayedNodes = Collections.singletonList(JexlNodeFactory.buildEQNode("DELAYED", "VALUE"));
+        for (int i = 0; i < 100; i++) {
+            List<IndexMatch> leftMatches = buildIndexMatches("LEFT", "VALUE", randomDocIds(random));
+            List<IndexMatch> rightMatches = buildIndexMatches("RIGHT", "VALUE", randomDocIds(random));
+            
+            Set<IndexMatch> sorted = intersector.intersect(ImmutableSortedSet.copyOf(leftMatches), ImmutableSortedSet.copyOf(rightMatches), delayedNodes);
+            Set<IndexMatch> unsorted = intersector.intersect(new HashSet<>(leftMatches), new HashSet<>(rightMatches), delayedNodes);
+            assertEquals(unsorted, new HashSet<>(sorted));
+        }
+    }
+    
+    private String[] randomDocIds(Random random) {
+        Set<String> docIds = new HashSet<>();
+        int size = random.nextInt(20);
+        for (int i = 0; i < size; i++) {
+            docIds.add("doc" + random.nextInt(40));
+        }
+        return docIds.toArray(new String[0]);
+    }
+    
+    @Test
+    public void testGallop() {
+        List<IndexMatch> matches = ImmutableSortedSet.copyOf(buildIndexMatches("FIELD", "VALUE", "doc1", "doc3", "doc5", "doc7", "doc9")).asList();
+        assertEquals(0, IndexInfo.gallop(matches, 0, "doc0"));
+        assertEquals(0, IndexInfo.gallop(matches, 0, "doc1"));
+        assertEquals(1, IndexInfo.gallop(matches, 0, "doc2"));
+        assertEquals(3, IndexInfo.gallop(matches, 1, "doc7"));
+        assertEquals(4, IndexInfo.gallop(matches, 2, "doc8"));
+        assertEquals(5, IndexInfo.gallop(matches, 0, "doc99"));
+        assertEquals(5, IndexInfo.gallop(matches, 5, "doc1"));
+    }
+    
+    /**
+     * Infos of uids are restricted to the uids common to all of them, leaving their nodes as is
+     */
+    @Test
+    public void testRetainCommonUids() {
+        IndexInfo first = new IndexInfo(buildIndexMatches("FIELD", "A", "doc1", "doc2", "doc3", "doc4"));
+        first.applyNode(JexlNodeFactory.buildEQNode("FIELD", "A"));
+        IndexInfo second = new IndexInfo(buildIndexMatches("FIELD", "B", "doc2", "doc4"));
+        IndexInfo third = new IndexInfo(buildIndexMatches("FIELD", "C", "doc0", "doc2", "doc3", "doc4", "doc5"));
+        
+        List<IndexInfo> retained = IndexInfo.retainCommonUids(Arrays.asList(first, second, third));
+        assertEquals(3, retained.size());
+        assertEquals(buildExpectedIndexMatches("FIELD", "A", "doc2", "doc4"), retained.get(0).uids());
+        assertEquals(2, retained.get(0).count());
+        assertSame(first.getNode(), retained.get(0).getNode());
+        assertSame(second, retained.get(1));
+        assertEquals(buildExpectedIndexMatches("FIELD", "C", "doc2", "doc4"), retained.get(2).uids());
+        
+        // the uids of an info survive an intersection with a count
+        List<IndexInfo> infos = Arrays.asList(first, new IndexInfo(50L));
+        assertSame(infos, IndexInfo.retainCommonUids(infos));
+    }
 }
@@ -0,0 +1,70 @@
+package datawave.query.iterator;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DecodedOptionCacheTest {
+    
+    @Before
+    public void setup() {
+        DecodedOptionCache.setMaxSize(DecodedOptionCache.DEFAULT_MAX_SIZE);
+        DecodedOptionCache.invalidateAll();
+    }
+    
+    @After
+    public void cleanup() {
+        DecodedOptionCache.setMaxSize(DecodedOptionCache.DEFAULT_MAX_SIZE);
+        DecodedOptionCache.invalidateAll();
+    }
+    
+    @Test
+    public void testDecodedOnce() throws IOException {
+        String compressed = QueryOptions.compressOption("k:v;key:value", QueryOptions.UTF8);
+        AtomicInteger decoded = new AtomicInteger();
+        DecodedOptionCache.Decoder<Map<String,Set<String>>> decoder = encoded -> {
+            decoded.incrementAndGet();
+            return QueryOptions.buildFieldDataTypeMap(QueryOptions.decompressOption(encoded, QueryOptions.UTF8));
+        };
+        
+        Map<String,Set<String>> first = DecodedOptionCache.get(QueryOptions.NON_INDEXED_DATATYPES, compressed, decoder);
+        Map<String,Set<String>> second = DecodedOptionCache.get(QueryOptions.NON_INDEXED_DATATYPES, new String(compressed), decoder);
+        
+        Assert.assertSame(first, second);
+        Assert.assertEquals(1, decoded.get());
+        Assert.assertEquals(2, first.size());
+    }
+    
+    @Test
+    public void testKeyedByNameAndPayload() throws IOException {
+        AtomicInteger decoded = new AtomicInteger();
+        DecodedOptionCache.Decoder<Integer> decoder = encoded -> decoded.incrementAndGet();
+        
+        Assert.assertEquals(Integer.valueOf(1), DecodedOptionCache.get("a", "payload", decoder));
+        Assert.assertEquals(Integer.valueOf(2), DecodedOptionCache.get("b", "payload", decoder));
+        Assert.assertEquals(Integer.valueOf(3), DecodedOptionCache.get("a", "other payload", decoder));
+        Assert.assertEquals(Integer.valueOf(1), DecodedOptionCache.get("a", "payload", decoder));
+    }
+    
+    @Test
+    public void testDisabled() throws IOException {
+        DecodedOptionCache.setMaxSize(0);
+        AtomicInteger decoded = new AtomicInteger();
+        DecodedOptionCache.Decoder<Integer> decoder = encoded -> decoded.incrementAndGet();
+        
+        DecodedOptionCache.get("a", "payload", decoder);
+        DecodedOptionCache.get("a", "payload", decoder);
+        Assert.assertEquals(2, decoded.get());
+    }
+    
+    @Test(expected = IOException.class)
+    public void testDecodingFailure() throws IOException {
+        DecodedOptionCache.get(QueryOptions.TYPE_METADATA, "not compressed", encoded -> QueryOptions.decompressOption(encoded, QueryOptions.UTF8));
+    }
+}
@@ -0,0 +1,98 @@
+package datawave.query.iterator;
+
+import com.google.common.collect.Sets;
+import datawave.query.jexl.visitors.SatisfactionVisitor;
+import org.apache.commons.jexl2.parser.ASTJexlScript;
+import org.apache.commons.jexl2.parser.ParseException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class QueryScriptCacheTest {
+    
+    @Before
+    public void setup() {
+        QueryScriptCache.setMaxSize(QueryScriptCache.DEFAULT_MAX_SIZE);
+        QueryScriptCache.invalidateAll();
+    }
+    
+    @After
+    public void cleanup() {
+        QueryScriptCache.setMaxSize(QueryScriptCache.DEFAULT_MAX_SIZE);
+        QueryScriptCache.invalidateAll();
+    }
+    
+    @Test
+    public void testSameEntry() throws ParseException {
+        long hits = QueryScriptCache.getStats().hitCount();
+        
+        QueryScriptCache.Entry entry = QueryScriptCache.get("FOO == 'bar' && BAZ == 'qux'");
+        Assert.assertSame(entry, QueryScriptCache.get("FOO == 'bar' && BAZ == 'qux'"));
+        Assert.assertNotSame(entry, QueryScriptCache.get("FOO == 'bar'"));
+        
+        Assert.assertEquals(hits + 1, QueryScriptCache.getStats().hitCount());
+    }
+    
+    @Test
+    public void testScriptsAreCopies() throws ParseException {
+        QueryScriptCache.Entry entry = QueryScriptCache.get("FOO == 'bar' && BAZ == 'qux'");
+        ASTJexlScript script = entry.getScript();
+        Assert.assertNotSame(script, entry.getScript());
+        Assert.assertEquals(script.jjtGetNumChildren(), entry.getScript().jjtGetNumChildren());
+        
+        // the evaluation script is shared
+        Assert.assertSame(entry.getEvaluationScript(), entry.getEvaluationScript());
+    }
+    
+    @Test
+    public void testSatisfactionCachedByOptions() throws ParseException {
+        QueryScriptCache.Entry entry = QueryScriptCache.get("FOO == 'bar'");
+        AtomicInteger computed = new AtomicInteger();
+        
+        SatisfactionVisitor.Configuration config = new SatisfactionVisitor.Configuration(Sets.newHashSet("FOO"), Collections.emptySet(),
+                        Collections.emptySet(), true);
+        SatisfactionVisitor.Configuration sameConfig = new SatisfactionVisitor.Configuration(Sets.newHashSet("FOO"), Collections.emptySet(),
+                        Collections.emptySet(), true);
+        SatisfactionVisitor.Configuration otherConfig = new SatisfactionVisitor.Configuration(Sets.newHashSet("BAR"), Collections.emptySet(),
+                        Collections.emptySet(), true);
+        
+        Assert.assertTrue(entry.isFullySatisfied(config, () -> computed.incrementAndGet() > 0));
+        Assert.assertTrue(entry.isFullySatisfied(sameConfig, () -> computed.incrementAndGet() < 0));
+        Assert.assertEquals(1, computed.get());
+        
+        Assert.assertFalse(entry.isFullySatisfied(otherConfig, () -> computed.incrementAndGet() < 0));
+        Assert.assertEquals(2, computed.get());
+    }
+    
+    @Test
+    public void testSatisfactionNotSharedOnHashCollision() throws ParseException {
+        QueryScriptCache.Entry entry = QueryScriptCache.get("FOO == 'bar'");
+        
+        // "Aa" and "BB" have the same hash code, so these configurations do as well
+        SatisfactionVisitor.Configuration config = new SatisfactionVisitor.Configuration(Sets.newHashSet("Aa"), Collections.emptySet(),
+                        Collections.emptySet(), true);
+        SatisfactionVisitor.Configuration collidingConfig = new SatisfactionVisitor.Configuration(Sets.newHashSet("BB"), Collections.emptySet(),
+                        Collections.emptySet(), true);
+        Assert.assertEquals(config.hashCode(), collidingConfig.hashCode());
+        Assert.assertNotEquals(config, collidingConfig);
+        
+        Assert.assertTrue(entry.isFullySatisfied(config, () -> true));
+        Assert.assertFalse(entry.isFullySatisfied(collidingConfig, () -> false));
+        Assert.assertTrue(entry.isFullySatisfied(config, () -> false));
+    }
+    
+    @Test
+    public void testDisabled() throws ParseException {
+        QueryScriptCache.setMaxSize(0);
+        Assert.assertNotSame(QueryScriptCache.get("FOO == 'bar'"), QueryScriptCache.get("FOO == 'bar'"));
+    }
+    
+    @Test(expected = ParseException.class)
+    public void testBadQuery() throws ParseException {
+        QueryScriptCache.get("FOO == 'bar' &&");
+    }
+}
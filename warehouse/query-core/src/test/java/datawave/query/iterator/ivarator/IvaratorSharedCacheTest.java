@@ -0,0 +1,213 @@
+package datawave.query.iterator.ivarator;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.FilterFileSystem;
+import org.apache.hadoop.fs.Path;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+public class IvaratorSharedCacheTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    private FileSystem fs;
+    private IvaratorCacheDirConfig config;
+    
+    @Before
+    public void setup() throws IOException {
+        fs = FileSystem.getLocal(new Configuration());
+        config = new IvaratorCacheDirConfig(temporaryFolder.getRoot().toURI().toString());
+    }
+    
+    private List<IvaratorCacheDir> createQueryDirs(String queryId, String row, boolean complete) throws IOException {
+        Path queryDir = new Path(config.getBasePathURI(), queryId + "/scan/term1");
+        Path rowDir = new Path(queryDir, row);
+        fs.mkdirs(rowDir);
+        try (FSDataOutputStream out = fs.create(new Path(rowDir, "SortedSetFile.1.0"))) {
+            out.write(1);
+        }
+        if (complete) {
+            fs.create(new Path(rowDir, "complete")).close();
+        }
+        return Collections.singletonList(new IvaratorCacheDir(config, fs, queryDir.toUri().toString()));
+    }
+    
+    @Test
+    public void testCacheKeyScope() {
+        IvaratorSharedCache cache = new IvaratorSharedCache(60000, 0, "scope1");
+        Assert.assertEquals(cache.getCacheKey("FOO =~ 'bar.*'"), cache.getCacheKey("FOO =~ 'bar.*'"));
+        Assert.assertNotEquals(cache.getCacheKey("FOO =~ 'bar.*'"), cache.getCacheKey("FOO =~ 'baz.*'"));
+        Assert.assertNotEquals(cache.getCacheKey("FOO =~ 'bar.*'"), new IvaratorSharedCache(60000, 0, "scope2").getCacheKey("FOO =~ 'bar.*'"));
+    }
+    
+    @Test
+    public void testPublishAndFind() throws IOException {
+        IvaratorSharedCache cache = new IvaratorSharedCache(60000, 0, "scope");
+        String key = cache.getCacheKey("FOO =~ 'bar.*'");
+        
+        List<IvaratorCacheDir> query1 = createQueryDirs("query1", "20200101_0", true);
+        Assert.assertNull(cache.find(query1, key, "20200101_0", "lease"));
+        
+        Assert.assertTrue(cache.publish(query1, key, "20200101_0"));
+        Assert.assertFalse(fs.exists(new Path(query1.get(0).getPathURI(), "20200101_0")));
+        
+        // another query finds the published row
+        List<IvaratorCacheDir> query2 = createQueryDirs("query2", "20200101_0", true);
+        IvaratorCacheDir shared = cache.find(query2, key, "20200101_0", "lease");
+        Assert.assertNotNull(shared);
+        Assert.assertTrue(fs.exists(new Path(new Path(shared.getPathURI(), "20200101_0"), "SortedSetFile.1.0")));
+        Assert.assertNull(cache.find(query2, key, "20200101_1", "lease"));
+        
+        // but does not replace it
+        Assert.assertFalse(cache.publish(query2, key, "20200101_0"));
+        Assert.assertTrue(fs.exists(new Path(query2.get(0).getPathURI(), "20200101_0")));
+    }
+    
+    @Test
+    public void testExpiredEntriesAreNotFound() throws IOException {
+        IvaratorSharedCache cache = new IvaratorSharedCache(1000, 0, "scope");
+        String key = cache.getCacheKey("FOO =~ 'bar.*'");
+        
+        List<IvaratorCacheDir> query1 = createQueryDirs("query1", "20200101_0", true);
+        Assert.assertTrue(cache.publish(query1, key, "20200101_0"));
+        
+        Path rowDir = new Path(IvaratorSharedCache.getKeyDir(query1.get(0), key), "20200101_0");
+        fs.setTimes(new Path(rowDir, "complete"), System.currentTimeMillis() - 5000, -1);
+        Assert.assertNull(cache.find(query1, key, "20200101_0", "lease"));
+    }
+    
+    @Test
+    public void testLeasedEntriesAreNotSwept() throws IOException {
+        IvaratorSharedCache cache = new IvaratorSharedCache(1000, 1, "scope");
+        String key = cache.getCacheKey("FOO =~ 'bar.*'");
+        
+        List<IvaratorCacheDir> query1 = createQueryDirs("query1", "20200101_0", true);
+        Assert.assertTrue(cache.publish(query1, key, "20200101_0"));
+        IvaratorCacheDir shared = cache.find(query1, key, "20200101_0", "lease1");
+        Assert.assertNotNull(shared);
+        
+        Path keyDir = IvaratorSharedCache.getKeyDir(query1.get(0), key);
+        Path rowDir = new Path(keyDir, "20200101_0");
+        long now = System.currentTimeMillis();
+        Assert.assertTrue(fs.exists(IvaratorSharedCache.getLeaseFile(rowDir, "lease1")));
+        
+        // expired and over the size limit, but still being read
+        fs.setTimes(rowDir, now - 5000, -1);
+        cache.sweep(fs, IvaratorSharedCache.getSharedDir(query1.get(0)), now);
+        Assert.assertTrue(fs.exists(new Path(rowDir, "SortedSetFile.1.0")));
+        
+        // a lease which outlived the max lease time is ignored
+        fs.setTimes(IvaratorSharedCache.getLeaseFile(rowDir, "lease1"), now - IvaratorSharedCache.MAX_LEASE_TIME - 1000, -1);
+        fs.setTimes(rowDir, now - 5000, -1);
+        cache.sweep(fs, IvaratorSharedCache.getSharedDir(query1.get(0)), now);
+        Assert.assertFalse(fs.exists(rowDir));
+    }
+    
+    @Test
+    public void testReleasedEntriesAreSwept() throws IOException {
+        IvaratorSharedCache cache = new IvaratorSharedCache(1000, 0, "scope");
+        String key = cache.getCacheKey("FOO =~ 'bar.*'");
+        
+        List<IvaratorCacheDir> query1 = createQueryDirs("query1", "20200101_0", true);
+        Assert.assertTrue(cache.publish(query1, key, "20200101_0"));
+        IvaratorCacheDir shared = cache.find(query1, key, "20200101_0", "lease1");
+        Assert.assertNotNull(shared);
+        cache.release(shared, "20200101_0", "lease1");
+        
+        Path rowDir = new Path(IvaratorSharedCache.getKeyDir(query1.get(0), key), "20200101_0");
+        Assert.assertFalse(fs.exists(IvaratorSharedCache.getLeaseFile(rowDir, "lease1")));
+        long now = System.currentTimeMillis();
+        fs.setTimes(rowDir, now - 5000, -1);
+        cache.sweep(fs, IvaratorSharedCache.getSharedDir(query1.get(0)), now);
+        Assert.assertFalse(fs.exists(rowDir));
+    }
+    
+    /**
+     * A file system which runs a hook around the rename of a complete file away to evict an entry, to interleave a find with the eviction
+     */
+    private static class InterleavingFileSystem extends FilterFileSystem {
+        private Runnable beforeEvicting;
+        private Runnable afterEvicting;
+        
+        private InterleavingFileSystem(FileSystem fs) {
+            super(fs);
+        }
+        
+        @Override
+        public boolean rename(Path src, Path dst) throws IOException {
+            boolean evicting = dst.getName().startsWith(IvaratorSharedCache.EVICTING_FILE_PREFIX);
+            if (evicting && beforeEvicting != null) {
+                beforeEvicting.run();
+            }
+            boolean renamed = super.rename(src, dst);
+            if (evicting && afterEvicting != null) {
+                afterEvicting.run();
+            }
+            return renamed;
+        }
+    }
+    
+    @Test
+    public void testFindInterleavedWithSweep() throws IOException {
+        InterleavingFileSystem interleavingFs = new InterleavingFileSystem(fs);
+        IvaratorSharedCache cache = new IvaratorSharedCache(1000, 1, "scope");
+        String key = cache.getCacheKey("FOO =~ 'bar.*'");
+        
+        List<IvaratorCacheDir> query1 = createQueryDirs("query1", "20200101_0", true);
+        Assert.assertTrue(cache.publish(query1, key, "20200101_0"));
+        
+        List<IvaratorCacheDir> query2 = Collections.singletonList(new IvaratorCacheDir(config, interleavingFs, query1.get(0).getPathURI()));
+        Path sharedDir = IvaratorSharedCache.getSharedDir(query2.get(0));
+        Path rowDir = new Path(IvaratorSharedCache.getKeyDir(query2.get(0), key), "20200101_0");
+        
+        // a query which finds the entry after the sweep listed it as unleased, but before it is evicted, keeps the entry
+        IvaratorCacheDir[] found = new IvaratorCacheDir[1];
+        interleavingFs.beforeEvicting = () -> found[0] = cache.find(query2, key, "20200101_0", "lease1");
+        cache.sweep(interleavingFs, sharedDir, System.currentTimeMillis());
+        Assert.assertNotNull(found[0]);
+        Assert.assertTrue(fs.exists(new Path(rowDir, "SortedSetFile.1.0")));
+        Assert.assertTrue(fs.exists(new Path(rowDir, "complete")));
+        
+        // once released, a query which tries to find the entry while it is evicted does not get it
+        cache.release(found[0], "20200101_0", "lease1");
+        interleavingFs.beforeEvicting = null;
+        interleavingFs.afterEvicting = () -> found[0] = cache.find(query2, key, "20200101_0", "lease2");
+        cache.sweep(interleavingFs, sharedDir, System.currentTimeMillis());
+        Assert.assertNull(found[0]);
+        Assert.assertFalse(fs.exists(rowDir));
+    }
+    
+    @Test
+    public void testSweep() throws IOException {
+        IvaratorSharedCache cache = new IvaratorSharedCache(1000, 1, "scope");
+        String key = cache.getCacheKey("FOO =~ 'bar.*'");
+        
+        for (String row : new String[] {"20200101_0", "20200101_1", "20200101_2"}) {
+            Assert.assertTrue(cache.publish(createQueryDirs("query_" + row, row, true), key, row));
+        }
+        Path keyDir = IvaratorSharedCache.getKeyDir(createQueryDirs("query", "row", false).get(0), key);
+        long now = System.currentTimeMillis();
+        
+        // expired for longer than the grace period
+        fs.setTimes(new Path(keyDir, "20200101_0"), now - 5000, -1);
+        // least recently used
+        fs.setTimes(new Path(keyDir, "20200101_1"), now - 500, -1);
+        
+        cache.sweep(fs, IvaratorSharedCache.getSharedDir(createQueryDirs("query", "row", false).get(0)), now);
+        
+        Assert.assertFalse(fs.exists(new Path(keyDir, "20200101_0")));
+        Assert.assertFalse(fs.exists(new Path(keyDir, "20200101_1")));
+        // the remaining entry fits within the size limit
+        Assert.assertTrue(fs.exists(new Path(keyDir, "20200101_2")));
+    }
+}
@@ -6,9 +6,12 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
+import java.util.TreeSet;
 
 public class AndIteratorTest {
     
@@ -292,6 +295,84 @@ public class AndIteratorTest {
         Assert.assertFalse(iterator.hasNext());
     }
     
+    @Test
+    public void testMixedDensityIncludes() {
+        List<String> dense = new ArrayList<>();
+        List<String> medium = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            dense.add(String.format("%03d", i));
+            if (i % 3 == 0) {
+                medium.add(String.format("%03d", i));
+            }
+        }
+        
+        MoveCountingItr<String> denseItr = new MoveCountingItr<>(dense);
+        Set<NestedIterator<String>> includes = new HashSet<>();
+        includes.add(denseItr);
+        includes.add(getItr(medium, false));
+        includes.add(getItr(Lists.newArrayList("100", "300", "500", "600", "900"), false));
+        
+        AndIterator iterator = new AndIterator(includes);
+        iterator.initialize();
+        
+        List<String> results = new ArrayList<>();
+        while (iterator.hasNext()) {
+            results.add((String) iterator.next());
+        }
+        Assert.assertEquals(Lists.newArrayList("300", "600", "900"), results);
+        
+        // the dense include should only be moved once it is the last include behind the most selective
+        Assert.assertTrue("dense include was moved " + denseItr.moves + " times", denseItr.moves <= 8);
+    }
+    
+    @Test
+    public void testRandomIntersections() {
+        Random random = new Random(42);
+        for (int trial = 0; trial < 20; trial++) {
+            Set<NestedIterator<String>> includes = new HashSet<>();
+            Set<String> expected = null;
+            for (int source = 0; source < 4; source++) {
+                // vary the density of each source
+                double density = random.nextDouble();
+                TreeSet<String> values = new TreeSet<>();
+                for (int i = 0; i < 500; i++) {
+                    if (random.nextDouble() < density) {
+                        values.add(String.format("%03d", i));
+                    }
+                }
+                includes.add(getItr(new ArrayList<>(values), false));
+                if (expected == null) {
+                    expected = new TreeSet<>(values);
+                } else {
+                    expected.retainAll(values);
+                }
+            }
+            
+            AndIterator iterator = new AndIterator(includes);
+            iterator.initialize();
+            
+            List<String> results = new ArrayList<>();
+            while (iterator.hasNext()) {
+                results.add((String) iterator.next());
+            }
+            Assert.assertEquals(new ArrayList<>(expected), results);
+        }
+    }
+    
+    private static class MoveCountingItr<K extends Comparable<K>> extends NegationFilterTest.Itr<K> {
+        private int moves = 0;
+        
+        public MoveCountingItr(Iterable<K> it) {
+            super(it);
+        }
+        
+        @Override
+        public K move(K minimum) {
+            moves++;
+            return super.move(minimum);
+        }
+    }
+    
     private NegationFilterTest.Itr<String> getItr(List<String> source, boolean contextRequired) {
         return new NegationFilterTest.Itr<>(source, contextRequired);
     }
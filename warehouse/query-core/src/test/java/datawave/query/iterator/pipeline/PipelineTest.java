@@ -0,0 +1,92 @@
+package datawave.query.iterator.pipeline;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.accumulo.core.data.Key;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Maps;
+
+import datawave.query.attributes.Document;
+
+public class PipelineTest {
+    
+    /**
+     * An evaluation which passes documents with an even column qualifier
+     */
+    private static class EvenEvaluation implements Iterator<Entry<Key,Document>> {
+        private final Pipeline pipeline;
+        private Entry<Key,Document> evaluated = null;
+        
+        EvenEvaluation(Pipeline pipeline) {
+            this.pipeline = pipeline;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            Entry<Key,Document> source = pipeline.getSource();
+            if (source == null || source == evaluated) {
+                return false;
+            }
+            evaluated = source;
+            return Integer.parseInt(source.getKey().getColumnQualifier().toString()) % 2 == 0;
+        }
+        
+        @Override
+        public Entry<Key,Document> next() {
+            return evaluated;
+        }
+    }
+    
+    private static Map.Entry<Key,Document> doc(int uid) {
+        return Maps.immutableEntry(new Key("row", "dt\0uid", Integer.toString(uid)), null);
+    }
+    
+    @Test
+    public void testSingleDocument() {
+        Pipeline pipeline = new Pipeline(null, null);
+        pipeline.setSourceIterator(new EvenEvaluation(pipeline));
+        
+        pipeline.setSource(doc(2));
+        pipeline.run();
+        Assert.assertEquals(1, pipeline.getBatchSize());
+        Assert.assertEquals(doc(2).getKey(), pipeline.getResult().getKey());
+        Assert.assertEquals(1, pipeline.getResults().size());
+        
+        pipeline.clear();
+        pipeline.setSource(doc(3));
+        pipeline.run();
+        Assert.assertNull(pipeline.getResult());
+        Assert.assertTrue(pipeline.getResults().isEmpty());
+    }
+    
+    @Test
+    public void testBatch() {
+        Pipeline pipeline = new Pipeline(null, null);
+        pipeline.setSourceIterator(new EvenEvaluation(pipeline));
+        
+        pipeline.setSource(doc(1));
+        for (int i = 2; i <= 6; i++) {
+            pipeline.addBatchSource(doc(i));
+        }
+        Assert.assertEquals(6, pipeline.getBatchSize());
+        pipeline.run();
+        
+        List<Entry<Key,Document>> results = pipeline.getResults();
+        Assert.assertEquals(3, results.size());
+        Assert.assertEquals(doc(2).getKey(), results.get(0).getKey());
+        Assert.assertEquals(doc(4).getKey(), results.get(1).getKey());
+        Assert.assertEquals(doc(6).getKey(), results.get(2).getKey());
+        Assert.assertEquals(doc(2).getKey(), pipeline.getResult().getKey());
+        // the source is left at the last document evaluated
+        Assert.assertEquals(doc(6).getKey(), pipeline.getSource().getKey());
+        
+        pipeline.clear();
+        Assert.assertEquals(1, pipeline.getBatchSize());
+        Assert.assertTrue(pipeline.getResults().isEmpty());
+    }
+}
@@ -0,0 +1,73 @@
+package datawave.query.jexl;
+
+import org.apache.commons.jexl2.Script;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+public class CompiledJexlScriptTest {
+    
+    private static final String[] QUERIES = {"FOO == 'bar'", "FOO != 'bar'", "'bar' == FOO", "FOO =~ 'ba.*'", "FOO !~ 'ba.*'", "NUM > 5", "NUM <= 5",
+            "FOO == 'bar' && NUM == 10", "FOO == 'baz' || NUM == 10", "!(FOO == 'bar') || (BAZ == 'x' && NUM < 20)", "MISSING == 'bar' || FOO == 'bar'",
+            "FOO == 'bar' && (NUM >= 1 && NUM <= 20)", "FOO == 'bar' && filter:includeRegex(FOO, 'b.*')",
+            "FOO == 'bar' && ((ASTDelayedPredicate = true) && (NUM == 10))", "MULTI == 'two' && MULTI =~ 'o.*'"};
+    
+    private DatawaveJexlContext createContext(String foo, int num) {
+        DatawaveJexlContext context = new DatawaveJexlContext();
+        context.set("FOO", foo);
+        context.set("NUM", num);
+        context.set("BAZ", "x");
+        context.set("MULTI", new HashSet<>(Arrays.asList("one", "two", "three")));
+        return context;
+    }
+    
+    @Test
+    public void testCompiledMatchesInterpreted() {
+        DatawaveJexlEngine engine = ArithmeticJexlEngines.getEngine(new DefaultArithmetic());
+        for (String query : QUERIES) {
+            Script script = engine.createScript(query);
+            CompiledJexlScript compiled = CompiledJexlScript.compile(engine, engine.parse(query));
+            Assert.assertNotNull(query, compiled);
+            
+            for (DatawaveJexlContext context : Arrays.asList(createContext("bar", 10), createContext("baz", 3), createContext("qux", 25))) {
+                Assert.assertEquals(query + " against " + context, DatawaveInterpreter.isMatched(script.execute(context)),
+                                DatawaveInterpreter.isMatched(compiled.execute(context)));
+            }
+        }
+    }
+    
+    @Test
+    public void testHitsMatchInterpreted() {
+        String query = "FOO == 'bar' && (NUM == 10 || FOO =~ 'ba.*')";
+        
+        HitListArithmetic interpretedArithmetic = new HitListArithmetic();
+        Script script = ArithmeticJexlEngines.getEngine(interpretedArithmetic).createScript(query);
+        Assert.assertTrue(DatawaveInterpreter.isMatched(script.execute(createContext("bar", 10))));
+        
+        HitListArithmetic compiledArithmetic = new HitListArithmetic();
+        DatawaveJexlEngine engine = ArithmeticJexlEngines.getEngine(compiledArithmetic);
+        CompiledJexlScript compiled = CompiledJexlScript.compile(engine, engine.parse(query));
+        Assert.assertTrue(DatawaveInterpreter.isMatched(compiled.execute(createContext("bar", 10))));
+        
+        Assert.assertEquals(interpretedArithmetic.getHitSet(), compiledArithmetic.getHitSet());
+    }
+    
+    @Test
+    public void testInterpretedNodes() {
+        DatawaveJexlEngine engine = ArithmeticJexlEngines.getEngine(new DefaultArithmetic());
+        
+        CompiledJexlScript compiled = CompiledJexlScript.compile(engine, engine.parse("FOO == 'bar' && NUM == 10"));
+        Assert.assertEquals(3, compiled.getCompiledNodes());
+        Assert.assertEquals(0, compiled.getInterpretedNodes());
+        
+        // the function and the bounded range are left to the interpreter
+        compiled = CompiledJexlScript.compile(engine, engine.parse("filter:includeRegex(FOO, 'b.*') || (NUM >= 1 && NUM <= 20)"));
+        Assert.assertEquals(1, compiled.getCompiledNodes());
+        Assert.assertEquals(2, compiled.getInterpretedNodes());
+        
+        // nothing to compile
+        Assert.assertNull(CompiledJexlScript.compile(engine, engine.parse("filter:includeRegex(FOO, 'b.*')")));
+    }
+}
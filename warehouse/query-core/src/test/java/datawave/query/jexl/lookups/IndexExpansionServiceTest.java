@@ -0,0 +1,69 @@
+package datawave.query.jexl.lookups;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class IndexExpansionServiceTest {
+    
+    @After
+    public void cleanup() {
+        IndexExpansionService.setThreads(IndexExpansionService.DEFAULT_THREADS);
+    }
+    
+    @Test
+    public void testSetThreads() {
+        IndexExpansionService.setThreads(5);
+        Assert.assertEquals(5, IndexExpansionService.getThreads());
+        IndexExpansionService.setThreads(40);
+        Assert.assertEquals(40, IndexExpansionService.getThreads());
+        
+        // bad values are ignored
+        IndexExpansionService.setThreads(0);
+        Assert.assertEquals(40, IndexExpansionService.getThreads());
+    }
+    
+    @Test
+    public void testLookupsOnSharedThreads() throws Exception {
+        IndexExpansionService.setThreads(2);
+        
+        List<Callable<Integer>> lookups = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final int value = i;
+            lookups.add(() -> value);
+        }
+        
+        int sum = 0;
+        for (Future<Integer> future : IndexExpansionService.getExpansionExecutor().invokeAll(lookups)) {
+            sum += future.get();
+        }
+        Assert.assertEquals(45, sum);
+    }
+    
+    @Test
+    public void testCancelledScanIsInterrupted() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        
+        Future<Boolean> future = IndexExpansionService.submitScan(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return true;
+        });
+        
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        future.cancel(true);
+        Assert.assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,116 @@
+package datawave.query.jexl.visitors;
+
+import com.google.common.collect.Sets;
+import datawave.query.config.ShardQueryConfiguration;
+import datawave.query.jexl.JexlASTHelper;
+import datawave.query.util.MetadataHelper;
+import org.apache.commons.jexl2.parser.ASTJexlScript;
+import org.easymock.EasyMock;
+import org.easymock.EasyMockSupport;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.Set;
+
+public class PushdownHighCardinalityNodesVisitorTest extends EasyMockSupport {
+    private ShardQueryConfiguration config;
+    private MetadataHelper helper;
+    
+    private final Set<String> indexedFields = Sets.newHashSet("RARE", "COMMON", "MIDDLE", "INDEX_ONLY");
+    private final Set<String> indexOnlyFields = Sets.newHashSet("INDEX_ONLY");
+    
+    @Before
+    public void setup() throws Exception {
+        config = ShardQueryConfiguration.create();
+        config.setBeginDate(new Date(0));
+        config.setEndDate(new Date());
+        config.setMaxCardinalityRatio(100);
+        
+        helper = createMock(MetadataHelper.class);
+        EasyMock.expect(helper.getTermCountsWithRootAuths()).andReturn(Collections.emptyMap()).anyTimes();
+        expectFieldCount("RARE", 10L);
+        expectFieldCount("MIDDLE", 500L);
+        expectFieldCount("COMMON", 100000L);
+        expectFieldCount("INDEX_ONLY", 100000L);
+        replayAll();
+    }
+    
+    private void expectFieldCount(String field, long count) throws Exception {
+        EasyMock.expect(helper.getCountsByFieldForDays(EasyMock.eq(field), EasyMock.anyObject(), EasyMock.anyObject(), EasyMock.anyObject()))
+                        .andReturn(count).anyTimes();
+    }
+    
+    private void test(String query, String expected, double expectedCardinality) throws Exception {
+        ASTJexlScript script = JexlASTHelper.parseJexlQuery(query);
+        script = PushdownHighCardinalityNodesVisitor.pushdownHighCardinalityTerms(script, config, helper, indexedFields, indexOnlyFields);
+        Assert.assertEquals(expected, JexlStringBuildingVisitor.buildQuery(script));
+        Assert.assertEquals(expectedCardinality, config.getEstimatedCardinality(), 0);
+    }
+    
+    @Test
+    public void testDelayCommonTerm() throws Exception {
+        test("RARE == 'a' && COMMON == 'b'", "RARE == 'a' && ((ASTDelayedPredicate = true) && (COMMON == 'b'))", 10);
+    }
+    
+    @Test
+    public void testWithinRatio() throws Exception {
+        test("RARE == 'a' && MIDDLE == 'b'", "RARE == 'a' && MIDDLE == 'b'", 10);
+    }
+    
+    @Test
+    public void testNestedDisjunction() throws Exception {
+        // the disjunction sums its terms, so it is only delayed against the rare term
+        test("RARE == 'a' && (MIDDLE == 'b' || COMMON == 'c')", "RARE == 'a' && ((ASTDelayedPredicate = true) && ((MIDDLE == 'b' || COMMON == 'c')))", 10);
+        test("MIDDLE == 'a' && (RARE == 'b' || MIDDLE == 'c')", "MIDDLE == 'a' && (RARE == 'b' || MIDDLE == 'c')", 500);
+    }
+    
+    @Test
+    public void testIndexOnlyNotDelayed() throws Exception {
+        test("RARE == 'a' && INDEX_ONLY == 'b'", "RARE == 'a' && INDEX_ONLY == 'b'", 10);
+    }
+    
+    private void testUnchanged(String query, double expectedCardinality) throws Exception {
+        test(query, JexlStringBuildingVisitor.buildQuery(JexlASTHelper.parseJexlQuery(query)), expectedCardinality);
+    }
+    
+    @Test
+    public void testIvaratorMarkersNotDelayed() throws Exception {
+        // the markers must be ivarated for their evaluation to match, so they stay in the index query however common their field is
+        String exceededValue = "((ExceededValueThresholdMarkerJexlNode = true) && (COMMON =~ 'b.*'))";
+        testUnchanged("RARE == 'a' && " + exceededValue, 10);
+        
+        String exceededOr = "((ExceededOrThresholdMarkerJexlNode = true) && ((id = 'some-id') && (field = 'COMMON') && "
+                        + "(params = '{\"values\":[\"b\",\"c\"]}')))";
+        testUnchanged("RARE == 'a' && " + exceededOr, 10);
+        testUnchanged("RARE == 'a' && " + exceededOr + " && " + exceededValue, 10);
+        
+        // nor are subtrees which contain them, while other common terms are still delayed
+        String query = "RARE == 'a' && (" + exceededOr + " || MIDDLE == 'c') && COMMON == 'd'";
+        String expected = JexlStringBuildingVisitor.buildQuery(JexlASTHelper.parseJexlQuery(query));
+        expected = expected.replace("COMMON == 'd'", "((ASTDelayedPredicate = true) && (COMMON == 'd'))");
+        test(query, expected, 10);
+    }
+    
+    @Test
+    public void testLeastCardinalNotDelayed() throws Exception {
+        // the least cardinal terms are never delayed, even when they share the least cardinality
+        test("COMMON == 'a' && COMMON == 'b'", "COMMON == 'a' && COMMON == 'b'", 100000);
+        
+        config.setMaxCardinalityRatio(1);
+        test("COMMON == 'a' && RARE == 'b' && RARE == 'c'", "((ASTDelayedPredicate = true) && (COMMON == 'a')) && RARE == 'b' && RARE == 'c'", 10);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testRatioBelowOneRejected() {
+        config.setMaxCardinalityRatio(0.5);
+    }
+    
+    @Test
+    public void testUnindexedIsUnbounded() throws Exception {
+        test("EVENT_FIELD == 'a' && COMMON == 'b'", "EVENT_FIELD == 'a' && COMMON == 'b'", 100000);
+        test("EVENT_FIELD == 'a'", "EVENT_FIELD == 'a'", PushdownHighCardinalityNodesVisitor.UNBOUNDED);
+    }
+}
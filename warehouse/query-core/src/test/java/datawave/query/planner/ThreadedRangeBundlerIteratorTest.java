@@ -0,0 +1,147 @@
+package datawave.query.planner;
+
+import datawave.query.CloseableIterable;
+import datawave.query.iterator.QueryIterator;
+import datawave.query.iterator.QueryOptions;
+import datawave.query.jexl.JexlASTHelper;
+import datawave.query.planner.comparator.DefaultQueryPlanComparator;
+import datawave.webservice.query.QueryImpl;
+import datawave.webservice.query.configuration.QueryData;
+import org.apache.accumulo.core.client.IteratorSetting;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.PartialKey;
+import org.apache.accumulo.core.data.Range;
+import org.apache.commons.jexl2.parser.ASTJexlScript;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ThreadedRangeBundlerIteratorTest {
+    
+    private static final String QUERY = "FOO == 'bar'";
+    
+    @Test
+    public void testProducerBlocksOnFullQueue() throws Exception {
+        List<Range> ranges = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ranges.add(new Range("20190101_" + i));
+        }
+        
+        ThreadedRangeBundlerIterator iterator = builder(ranges).setMaxRanges(100).setMaxRangesToBuffer(2).build();
+        try {
+            assertEquals(2, iterator.getQueueCapacity());
+            
+            int count = 0;
+            while (iterator.hasNext()) {
+                // a slow scanner should leave the range consumer waiting on the queue
+                Thread.sleep(5);
+                count += iterator.next().getRanges().size();
+            }
+            
+            assertEquals(20, count);
+            assertTrue(iterator.getMaxQueueOccupancy() <= 2);
+            assertTrue(iterator.getAverageQueueOccupancy() <= 2);
+            assertTrue(iterator.getProducerWaitMillis() > 0);
+        } finally {
+            iterator.close();
+        }
+    }
+    
+    @Test
+    public void testProducerBlocksOnFullPrioritizedQueue() throws Exception {
+        List<Range> ranges = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ranges.add(new Range("20190101_" + i));
+        }
+        
+        ThreadedRangeBundlerIterator iterator = builder(ranges).setMaxRanges(100).setMaxRangesToBuffer(2)
+                        .setQueryPlanComparators(Collections.singletonList(new DefaultQueryPlanComparator())).build();
+        try {
+            assertEquals(2, iterator.getQueueCapacity());
+            
+            int count = 0;
+            while (iterator.hasNext()) {
+                // the prioritized queue must hold the range consumer back just like the unordered one
+                Thread.sleep(5);
+                count += iterator.next().getRanges().size();
+            }
+            
+            assertEquals(20, count);
+            assertTrue(iterator.getMaxQueueOccupancy() <= 2);
+            assertTrue(iterator.getAverageQueueOccupancy() <= 2);
+            assertTrue(iterator.getProducerWaitMillis() > 0);
+        } finally {
+            iterator.close();
+        }
+    }
+    
+    @Test
+    public void testAdaptiveBundling() throws Exception {
+        List<Range> ranges = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Key start = new Key("20190101_0", "dt\0uid" + (100 + i));
+            ranges.add(new Range(start, true, start.followingKey(PartialKey.ROW_COLFAM), false));
+        }
+        
+        List<IteratorSetting> settings = new ArrayList<>();
+        settings.add(new IteratorSetting(100, QueryIterator.class));
+        
+        ThreadedRangeBundlerIterator iterator = builder(ranges).setOriginal(new QueryData(QUERY, Collections.emptyList(), settings)).setDocsToCombine(8)
+                        .setAdaptiveBundling(true).build();
+        try {
+            int count = 0;
+            while (iterator.hasNext()) {
+                QueryData data = iterator.next();
+                String batched = data.getSettings().get(0).getOptions().get(QueryOptions.BATCHED_QUERY);
+                int bundled = (batched == null ? data.getRanges().size() : Integer.parseInt(batched));
+                assertTrue(bundled <= 8);
+                count += bundled;
+                assertTrue(iterator.getBundleSize() >= 1 && iterator.getBundleSize() <= 8);
+            }
+            
+            // every range is accounted for whatever the bundle sizes were
+            assertEquals(50, count);
+        } finally {
+            iterator.close();
+        }
+    }
+    
+    private ThreadedRangeBundlerIterator.Builder builder(List<Range> ranges) throws Exception {
+        List<QueryPlan> plans = new ArrayList<>();
+        for (Range range : ranges) {
+            plans.add(new QueryPlan(JexlASTHelper.parseJexlQuery(QUERY), range));
+        }
+        
+        // @formatter:off
+        return new ThreadedRangeBundlerIterator.Builder()
+                        .setOriginal(new QueryData(QUERY, Collections.emptyList(), new ArrayList<>()))
+                        .setRanges(new PlanIterable(plans))
+                        .setMaxWaitValue(10)
+                        .setMaxWaitUnit(TimeUnit.MILLISECONDS)
+                        .setSettings(new QueryImpl());
+        // @formatter:on
+    }
+    
+    private static class PlanIterable implements CloseableIterable<QueryPlan> {
+        private final List<QueryPlan> plans;
+        
+        PlanIterable(List<QueryPlan> plans) {
+            this.plans = plans;
+        }
+        
+        @Override
+        public Iterator<QueryPlan> iterator() {
+            return plans.iterator();
+        }
+        
+        @Override
+        public void close() {}
+    }
+}
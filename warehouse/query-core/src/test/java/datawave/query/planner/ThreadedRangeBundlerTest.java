@@ -42,6 +42,8 @@ public class ThreadedRangeBundlerTest {
         assertEquals(0L, bundler.getRangeBufferTimeoutMillis());
         assertEquals(100L, bundler.getRangeBufferPollMillis());
         assertEquals(50L, bundler.getMaxRangeWaitMillis());
+        assertEquals(0, bundler.getMaxRangesToBuffer());
+        assertFalse(bundler.isAdaptiveBundling());
     }
     
     @Test
@@ -66,6 +68,8 @@ public class ThreadedRangeBundlerTest {
                         .setNumRangesToBuffer(1)
                         .setRangeBufferTimeoutMillis(10)
                         .setRangeBufferPollMillis(5)
+                        .setMaxRangesToBuffer(20)
+                        .setAdaptiveBundling(true)
                         .build();
         // @formatter:on
         
@@ -81,6 +85,8 @@ public class ThreadedRangeBundlerTest {
         assertEquals(10L, bundler.getRangeBufferTimeoutMillis());
         assertEquals(5L, bundler.getRangeBufferPollMillis());
         assertEquals(1L, bundler.getMaxRangeWaitMillis());
+        assertEquals(20, bundler.getMaxRangesToBuffer());
+        assertTrue(bundler.isAdaptiveBundling());
     }
     
     @Test
@@ -156,6 +156,35 @@ public class ScannerSessionTest {
         validate(ss);
     }
     
+    @Test
+    public void testScannerSessionCompleteOnlyWhenFullyRead() throws TableNotFoundException {
+        Set<Authorizations> auths = new HashSet<>();
+        auths.add(new Authorizations());
+        List<Range> ranges = Arrays.asList(new Range(new Text(String.valueOf(25)), true, new Text(String.valueOf(27)), false));
+        
+        ScannerSession ss = new ScannerSession("testTable", auths, resourceQueue, 5, null);
+        ss.setRanges(ranges);
+        int count = 0;
+        while (ss.hasNext()) {
+            ss.next();
+            count++;
+        }
+        Assert.assertEquals(20000, count);
+        Assert.assertTrue(ss.isComplete());
+        ss.close();
+        
+        // a session closed part way through also stops returning entries, but is not complete
+        ScannerSession closed = new ScannerSession("testTable", auths, resourceQueue, 5, null);
+        closed.setRanges(ranges);
+        Assert.assertTrue(closed.hasNext());
+        closed.next();
+        closed.close();
+        while (closed.hasNext()) {
+            closed.next();
+        }
+        Assert.assertFalse(closed.isComplete());
+    }
+    
     private void validate(ScannerSession ss) throws TableNotFoundException {
         List<Range> ranges = Arrays.asList(new Range(new Text(String.valueOf(25)), true, new Text(String.valueOf(27)), false),
                         new Range(new Text(String.valueOf(1)), true, new Text(String.valueOf(2)), false), new Range(new Text(String.valueOf(98)), true,
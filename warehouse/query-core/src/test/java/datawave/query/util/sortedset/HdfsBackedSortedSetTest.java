@@ -3,7 +3,9 @@ package datawave.query.util.sortedset;
 import com.google.common.io.Files;
 import datawave.query.iterator.ivarator.IvaratorCacheDir;
 import datawave.query.iterator.ivarator.IvaratorCacheDirConfig;
+import org.apache.accumulo.core.data.Key;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.ChecksumException;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FsStatus;
 import org.apache.hadoop.fs.LocalFileSystem;
@@ -12,6 +14,10 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -194,4 +200,150 @@ public class HdfsBackedSortedSetTest {
         compactedSortedSet.iterator().forEachRemaining(results::remove);
         Assert.assertTrue(results.isEmpty());
     }
+    
+    @Test
+    public void persistedKeySetSeekTest() throws Exception {
+        File tempDir = Files.createTempDir();
+        tempDir.deleteOnExit();
+        
+        LocalFileSystem fs = new LocalFileSystem();
+        fs.initialize(tempDir.toURI(), new Configuration());
+        
+        List<IvaratorCacheDir> ivaratorCacheDirs = Collections.singletonList(new IvaratorCacheDir(new IvaratorCacheDirConfig(tempDir.toURI().toString()), fs,
+                        tempDir.toURI().toString()));
+        
+        String uniquePath = "keys";
+        HdfsBackedSortedSet<Key> sortedSet = new HdfsBackedSortedSet<>(null, 100, ivaratorCacheDirs, uniquePath, 9999, 2, new FileSortedSet.PersistOptions(),
+                        new FileKeySortedSet.Factory(true));
+        List<Key> keys = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Key key = new Key(String.format("row%05d", i), "cf", "cq");
+            keys.add(key);
+            sortedSet.add(key);
+        }
+        sortedSet.persist();
+        
+        // reload the persisted files, which are read back through memory mapped streams on the local filesystem
+        HdfsBackedSortedSet<Key> reloadedSortedSet = new HdfsBackedSortedSet<>(null, 100, ivaratorCacheDirs, uniquePath, 9999, 2,
+                        new FileSortedSet.PersistOptions(), new FileKeySortedSet.Factory(true));
+        Assert.assertTrue(reloadedSortedSet.hasPersistedData());
+        Assert.assertEquals(1000, reloadedSortedSet.size());
+        Assert.assertEquals(keys.get(0), reloadedSortedSet.first());
+        Assert.assertTrue(reloadedSortedSet.contains(keys.get(777)));
+        Assert.assertFalse(reloadedSortedSet.contains(new Key("row00777", "cf", "cq2")));
+        
+        List<Key> tail = new ArrayList<>();
+        reloadedSortedSet.tailSet(keys.get(990)).iterator().forEachRemaining(tail::add);
+        Assert.assertEquals(keys.subList(990, 1000), tail);
+    }
+    
+    @Test
+    public void persistCompressionTest() throws Exception {
+        long uncompressed = persistCompressedKeys("none");
+        long compressed = persistCompressedKeys("gz");
+        // the keys only differ in a counter, so compressing the blocks must shrink the files
+        Assert.assertTrue("gz files (" + compressed + " bytes) were not smaller than uncompressed files (" + uncompressed + " bytes)",
+                        compressed < uncompressed);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void unsupportedCompressionTest() {
+        RFileKeyOutputStream.validateCompressionType("zip");
+    }
+    
+    /**
+     * Persist a set of keys with a compression codec and read them back
+     * 
+     * @return the total size of the persisted files
+     */
+    private long persistCompressedKeys(String compressionType) throws Exception {
+        File tempDir = Files.createTempDir();
+        tempDir.deleteOnExit();
+        
+        LocalFileSystem fs = new LocalFileSystem();
+        fs.initialize(tempDir.toURI(), new Configuration());
+        
+        List<IvaratorCacheDir> ivaratorCacheDirs = Collections.singletonList(new IvaratorCacheDir(new IvaratorCacheDirConfig(tempDir.toURI().toString()), fs,
+                        tempDir.toURI().toString()));
+        FileSortedSet.PersistOptions persistOptions = new FileSortedSet.PersistOptions(true, true, 100, compressionType);
+        
+        String uniquePath = "keys";
+        HdfsBackedSortedSet<Key> sortedSet = new HdfsBackedSortedSet<>(null, 100, ivaratorCacheDirs, uniquePath, 9999, 2, persistOptions,
+                        new FileKeySortedSet.Factory(true));
+        List<Key> keys = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            Key key = new Key("20200101_0", "datatype\u0000uid" + String.format("%08d", i), "FIELD\u0000value");
+            keys.add(key);
+            sortedSet.add(key);
+        }
+        sortedSet.persist();
+        
+        HdfsBackedSortedSet<Key> reloadedSortedSet = new HdfsBackedSortedSet<>(null, 100, ivaratorCacheDirs, uniquePath, 9999, 2, persistOptions,
+                        new FileKeySortedSet.Factory(true));
+        List<Key> results = new ArrayList<>();
+        reloadedSortedSet.iterator().forEachRemaining(results::add);
+        Assert.assertEquals(keys, results);
+        
+        long size = 0;
+        for (FileStatus status : fs.listStatus(new Path(tempDir.toURI().toString(), uniquePath))) {
+            if (status.getPath().getName().startsWith("SortedSetFile.")) {
+                size += status.getLen();
+            }
+        }
+        Assert.assertTrue(size > 0);
+        return size;
+    }
+    
+    @Test
+    public void mappedFileReuseTest() throws Exception {
+        File tempDir = Files.createTempDir();
+        tempDir.deleteOnExit();
+        
+        LocalFileSystem fs = new LocalFileSystem();
+        fs.initialize(tempDir.toURI(), new Configuration());
+        
+        Path file = new Path(tempDir.toURI().toString(), "mapped");
+        HdfsBackedSortedSet.SortedSetHdfsFileHandler handler = new HdfsBackedSortedSet.SortedSetHdfsFileHandler(fs, file, new FileSortedSet.PersistOptions());
+        try (OutputStream out = handler.getOutputStream()) {
+            out.write(new byte[] {1, 2, 3, 4});
+        }
+        
+        // the file is mapped once and the mapping shared by every stream
+        ByteBuffer mapping = handler.getMapping();
+        Assert.assertNotNull(mapping);
+        try (InputStream in = handler.getInputStream()) {
+            Assert.assertEquals(1, in.read());
+        }
+        try (InputStream in = handler.getInputStream()) {
+            Assert.assertEquals(1, in.read());
+        }
+        Assert.assertSame(mapping, handler.getMapping());
+        
+        // and released when the file is deleted
+        handler.deleteFile();
+        Assert.assertNull(handler.getMapping());
+    }
+    
+    @Test(expected = ChecksumException.class)
+    public void mappedFileChecksumTest() throws Exception {
+        File tempDir = Files.createTempDir();
+        tempDir.deleteOnExit();
+        
+        LocalFileSystem fs = new LocalFileSystem();
+        fs.initialize(tempDir.toURI(), new Configuration());
+        
+        Path file = new Path(tempDir.toURI().toString(), "corrupt");
+        HdfsBackedSortedSet.SortedSetHdfsFileHandler handler = new HdfsBackedSortedSet.SortedSetHdfsFileHandler(fs, file, new FileSortedSet.PersistOptions());
+        try (OutputStream out = handler.getOutputStream()) {
+            out.write(new byte[] {1, 2, 3, 4});
+        }
+        
+        // corrupt the file behind the checksummed filesystem's back
+        try (RandomAccessFile raf = new RandomAccessFile(fs.pathToFile(file), "rw")) {
+            raf.seek(2);
+            raf.write(9);
+        }
+        
+        handler.getInputStream();
+    }
 }
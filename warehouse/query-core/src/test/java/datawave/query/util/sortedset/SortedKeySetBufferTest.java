@@ -0,0 +1,163 @@
+package datawave.query.util.sortedset;
+
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.PartialKey;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SortedKeySetBufferTest {
+    
+    private List<Key> data = null;
+    private TreeSet<Key> expected = null;
+    
+    @Before
+    public void setUp() {
+        Random random = new Random(1234);
+        data = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            // use a small alphabet including high bytes so that we get shared prefixes and exercise unsigned comparisons
+            byte[] row = randomBytes(random, 3);
+            byte[] cf = randomBytes(random, 2);
+            byte[] cq = randomBytes(random, 200);
+            byte[] cv = (random.nextBoolean() ? new byte[0] : "A&B".getBytes());
+            data.add(new Key(row, cf, cq, cv, random.nextInt(3), random.nextInt(5) == 0, true));
+        }
+        // add some exact duplicates
+        data.addAll(data.subList(0, 50));
+        Collections.shuffle(data, random);
+        expected = new TreeSet<>(data);
+    }
+    
+    private static byte[] randomBytes(Random random, int maxLength) {
+        byte[] bytes = new byte[random.nextInt(maxLength + 1)];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (random.nextBoolean() ? 'a' + random.nextInt(2) : 0xf0 + random.nextInt(2));
+        }
+        return bytes;
+    }
+    
+    @Test
+    public void testSortOrderMatchesKey() {
+        SortedKeySetBuffer buffer = new SortedKeySetBuffer(2);
+        TreeSet<Key> added = new TreeSet<>();
+        for (Key key : data) {
+            assertEquals(added.add(key), buffer.add(key));
+        }
+        assertEquals(expected.size(), buffer.size());
+        assertEquals(new ArrayList<>(expected), new ArrayList<>(buffer));
+        assertEquals(expected.first(), buffer.first());
+        assertEquals(expected.last(), buffer.last());
+        for (Key key : data) {
+            assertTrue(buffer.contains(key));
+        }
+        assertFalse(buffer.contains(new Key("not there")));
+    }
+    
+    @Test
+    public void testSubSets() {
+        SortedKeySetBuffer buffer = new SortedKeySetBuffer();
+        buffer.addAll(data);
+        List<Key> sorted = new ArrayList<>(expected);
+        Key from = sorted.get(100);
+        Key to = sorted.get(200);
+        assertEquals(new ArrayList<>(expected.subSet(from, to)), new ArrayList<>(buffer.subSet(from, to)));
+        assertEquals(new ArrayList<>(expected.headSet(to)), new ArrayList<>(buffer.headSet(to)));
+        assertEquals(new ArrayList<>(expected.tailSet(from)), new ArrayList<>(buffer.tailSet(from)));
+        assertEquals(100, buffer.subSet(from, to).size());
+        assertEquals(from, buffer.tailSet(from).first());
+        assertEquals(1, buffer.subSet(from, from.followingKey(PartialKey.ROW_COLFAM_COLQUAL_COLVIS_TIME_DEL)).size());
+    }
+    
+    @Test
+    public void testMergeSortedRuns() {
+        // build up the set from several sorted runs as the ivarator fill threads do
+        SortedKeySetBuffer buffer = new SortedKeySetBuffer();
+        for (int i = 0; i < data.size(); i += 64) {
+            SortedKeySetBuffer run = new SortedKeySetBuffer();
+            run.addAll(data.subList(i, Math.min(i + 64, data.size())));
+            buffer.addAll(run);
+        }
+        assertEquals(expected.size(), buffer.size());
+        assertEquals(new ArrayList<>(expected), new ArrayList<>(buffer));
+        
+        // merging in a run of keys we already have is a no-op
+        assertFalse(buffer.addAll(new TreeSet<>(data.subList(0, 100))));
+        assertEquals(new ArrayList<>(expected), new ArrayList<>(buffer));
+        
+        // merging in a TreeSet run
+        SortedKeySetBuffer fromTreeSets = new SortedKeySetBuffer();
+        assertTrue(fromTreeSets.addAll(new TreeSet<>(data.subList(0, 300))));
+        assertTrue(fromTreeSets.addAll(new TreeSet<>(data.subList(200, data.size()))));
+        assertEquals(new ArrayList<>(expected), new ArrayList<>(fromTreeSets));
+    }
+    
+    @Test
+    public void testRemove() {
+        SortedKeySetBuffer buffer = new SortedKeySetBuffer();
+        buffer.addAll(data);
+        List<Key> sorted = new ArrayList<>(expected);
+        for (int i = 0; i < sorted.size(); i += 3) {
+            assertTrue(buffer.remove(sorted.get(i)));
+            expected.remove(sorted.get(i));
+        }
+        assertFalse(buffer.remove(sorted.get(0)));
+        assertEquals(new ArrayList<>(expected), new ArrayList<>(buffer));
+        
+        Iterator<Key> it = buffer.iterator();
+        while (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+        assertTrue(buffer.isEmpty());
+        assertEquals(0, buffer.getBufferSize());
+        
+        buffer.addAll(data);
+        buffer.clear();
+        assertTrue(buffer.isEmpty());
+    }
+    
+    @Test
+    public void testFileBackedSetWithEncodedBuffer() throws IOException {
+        BufferedFileBackedSortedSet<Key> set = new BufferedFileBackedSortedSet<>(null, 100, 7, 2,
+                        Collections.singletonList(new BufferedFileBackedSortedSet.SortedSetFileHandlerFactory() {
+                            @Override
+                            public FileSortedSet.SortedSetFileHandler createHandler() throws IOException {
+                                return new SortedSetTempFileHandler();
+                            }
+                            
+                            @Override
+                            public boolean isValid() {
+                                return true;
+                            }
+                        }), new FileKeySortedSet.Factory(true));
+        for (Key key : data) {
+            set.add(key);
+        }
+        assertTrue(set.hasPersistedData());
+        
+        SortedSet<Key> actual = new TreeSet<>();
+        Key last = null;
+        for (Key key : set) {
+            if (last != null) {
+                assertTrue(last.compareTo(key) < 0);
+            }
+            actual.add(key);
+            last = key;
+        }
+        assertEquals(expected, actual);
+        set.clear();
+    }
+}